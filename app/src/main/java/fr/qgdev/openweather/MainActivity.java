@@ -33,6 +33,7 @@ import com.google.android.material.bottomnavigation.BottomNavigationView;
 import java.time.Duration;
 
 import fr.qgdev.openweather.repositories.AppRepository;
+import fr.qgdev.openweather.repositories.ObservationCompactionWorker;
 import fr.qgdev.openweather.repositories.settings.SettingsManager;
 import fr.qgdev.openweather.widgets.WidgetsManager;
 
@@ -41,7 +42,8 @@ import fr.qgdev.openweather.widgets.WidgetsManager;
  * <p>
  * 	The main activity of the application.
  * 	Contains a navigation bar to navigate between the live data, the forecasts and the settings.
- * 	Also schedules a periodic work request to update the widgets.
+ * 	Also schedules a periodic work request to update the widgets
+ * 	and the daily compaction of the observation archive.
  * </p>
  *
  * @author Quentin GOMES DOS REIS
@@ -85,5 +87,8 @@ public class MainActivity extends AppCompatActivity {
 			//  Cancel all periodic work
 			widgetsManager.unscheduleWorkRequest(context);
 		}
+		
+		//  Daily compaction of the observation archive, kept as is if already scheduled
+		ObservationCompactionWorker.schedule(context);
 	}
 }
@@ -60,7 +60,9 @@ import fr.qgdev.openweather.fragment.places.PlacesViewModel;
 import fr.qgdev.openweather.metrics.AirQuality;
 import fr.qgdev.openweather.metrics.CurrentWeather;
 import fr.qgdev.openweather.repositories.FormattingService;
+import fr.qgdev.openweather.repositories.StalenessPolicy;
 import fr.qgdev.openweather.repositories.places.Place;
+import fr.qgdev.openweather.repositories.places.PlaceDatabase;
 
 /**
  * PlaceRecyclerViewAdapter
@@ -77,6 +79,7 @@ public class PlaceRecyclerViewAdapter extends RecyclerView.Adapter<PlaceRecycler
 	
 	private final Context context;
 	private final FormattingService formattingService;
+	private final StalenessPolicy stalenessPolicy;
 	private final PlacesViewModel placesViewModel;
 	private final List<String> countryNames;
 	private final List<String> countryCodes;
@@ -89,17 +92,33 @@ public class PlaceRecyclerViewAdapter extends RecyclerView.Adapter<PlaceRecycler
 	 *
 	 * @param context         Current context, only used for LayoutInflater
 	 * @param placesViewModel Reference of the parent PlacesFragment
+	 * @param stalenessPolicy Policy telling which places are shown with outdated data
 	 */
-	public PlaceRecyclerViewAdapter(Context context, PlacesViewModel placesViewModel, FormattingService formattingService) {
+	public PlaceRecyclerViewAdapter(Context context, PlacesViewModel placesViewModel, FormattingService formattingService, StalenessPolicy stalenessPolicy) {
 		super();
 		this.context = context;
 		this.placesViewModel = placesViewModel;
 		this.formattingService = formattingService;
+		this.stalenessPolicy = stalenessPolicy;
 		this.countryNames = Arrays.asList(context.getResources().getStringArray(R.array.countries_names));
 		this.countryCodes = Arrays.asList(context.getResources().getStringArray(R.array.countries_codes));
 	}
 	
 	
+	/**
+	 * isStale(Place place)
+	 * <p>
+	 *     Tell if the data shown for a place are outdated
+	 *     and are going to be refreshed.
+	 * </p>
+	 *
+	 * @param place The place
+	 * @return true if the place is stale, false otherwise
+	 */
+	public boolean isStale(@NonNull Place place) {
+		return !stalenessPolicy.isFresh(place.getProperties(), System.currentTimeMillis());
+	}
+	
 	/**
 	 * add(int position)
 	 * <p>
@@ -112,6 +131,26 @@ public class PlaceRecyclerViewAdapter extends RecyclerView.Adapter<PlaceRecycler
 		this.notifyItemInserted(position);
 	}
 	
+	/**
+	 * loadSections(Place place, Place.Section... sections)
+	 * <p>
+	 *     Load some forecast sections of a place in background
+	 *     and bind the place again once they are loaded.
+	 * </p>
+	 *
+	 * @param place    The place whose sections are needed
+	 * @param sections The sections to load
+	 */
+	public void loadSections(@NonNull Place place, @NonNull Place.Section... sections) {
+		PlaceDatabase.readExecutor.execute(() -> {
+			place.loadSections(sections);
+			((AppCompatActivity) context).runOnUiThread(() -> {
+				int position = placesViewModel.getPlaces().indexOf(place);
+				if (position >= 0) notifyItemChanged(position);
+			});
+		});
+	}
+	
 	/**
 	 * remove(int position)
 	 * <p>
@@ -906,14 +945,25 @@ public class PlaceRecyclerViewAdapter extends RecyclerView.Adapter<PlaceRecycler
 			}
 			
 			
-			hourlyForecastGraphView.initialization(place.getHourlyWeatherForecastList(), place.getDailyWeatherForecastList(), formattingService, place.getProperties().getTimeZone());
-			dailyForecastGraphView.initialization(place.getDailyWeatherForecastList(), place.getProperties().getTimeZone(), formattingService);
-			
-			hourlyForecastScrollview.scrollTo(0, 0);
-			dailyForecastScrollview.scrollTo(0, 0);
+			//	Forecasts are only read once one of their folders is open,
+			//	if they aren't loaded yet the card is bound again when they are
+			boolean[] viewStateBinary = placesViewModel.getPlaceViewType(place.getProperties().getPlaceId()).getBinaryFoldersState();
+			if (viewStateBinary[1] || viewStateBinary[2]) {
+				if (place.isSectionLoaded(Place.Section.HOURLY) && place.isSectionLoaded(Place.Section.DAILY)) {
+					hourlyForecastGraphView.initialization(place.getHourlyWeatherForecastList(), place.getHourlyForecastSeries(), formattingService, place.getProperties().getTimeZone());
+					dailyForecastGraphView.initialization(place.getDailyWeatherForecastList(), place.getDailyForecastSeries(), place.getProperties().getTimeZone(), formattingService);
+					
+					hourlyForecastScrollview.scrollTo(0, 0);
+					dailyForecastScrollview.scrollTo(0, 0);
+				} else {
+					placeRecyclerViewAdapter.loadSections(place, Place.Section.HOURLY, Place.Section.DAILY);
+				}
+			}
 			
 			
 			lastUpdateAvailableTextView.setText(String.format("%s %s", formattingService.getFormattedFullTimeHour(new Date(currentWeather.getDt()), place.getProperties().getTimeZone()), place.getProperties().getTimeZoneStringForm()));
+			//	Cached data stay shown while they are refreshed, only faded
+			lastUpdateAvailableLayout.setAlpha(placeRecyclerViewAdapter.isStale(place) ? 0.5F : 1F);
 		}
 		
 		/**
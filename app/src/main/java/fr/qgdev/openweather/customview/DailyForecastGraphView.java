@@ -43,8 +43,8 @@ import java.util.logging.Logger;
 
 import fr.qgdev.openweather.R;
 import fr.qgdev.openweather.metrics.DailyWeatherForecast;
+import fr.qgdev.openweather.metrics.ForecastSeries;
 import fr.qgdev.openweather.repositories.FormattingService;
-import fr.qgdev.openweather.utils.ParameterizedCallable;
 
 
 /**
@@ -128,17 +128,18 @@ public class DailyForecastGraphView extends ForecastView {
 	
 	
 	/**
-	 * initialization(@NonNull ArrayList<DailyWeatherForecast> dailyWeatherForecastList, TimeZone timeZone, FormattingService unitsFormattingService)
+	 * initialization(@NonNull List<DailyWeatherForecast> dailyWeatherForecastList, @NonNull ForecastSeries dailyForecastSeries, TimeZone timeZone, FormattingService unitsFormattingService)
 	 * <p>
 	 * Used to initialize attributes used to draw a view
 	 * </p>
 	 *
 	 * @param dailyWeatherForecastList ArrayList of DailyWeatherForecasts
+	 * @param dailyForecastSeries      Columns of the same daily forecasts, curves are drawn from them
 	 * @param timeZone                 TimeZone of the place
 	 * @param unitsFormattingService   FormattingService of the application to format dates
 	 */
-	public void initialization(@NonNull List<DailyWeatherForecast> dailyWeatherForecastList, @NonNull TimeZone timeZone, @NonNull FormattingService unitsFormattingService) {
-		this.width = dailyWeatherForecastList.size() * columnWidth;
+	public void initialization(@NonNull List<DailyWeatherForecast> dailyWeatherForecastList, @NonNull ForecastSeries dailyForecastSeries, @NonNull TimeZone timeZone, @NonNull FormattingService unitsFormattingService) {
+		this.width = dailyForecastSeries.size() * columnWidth;
 		this.height = dpToPx(710);
 		
 		this.dailyWeatherForecastList = dailyWeatherForecastList;
@@ -146,23 +147,26 @@ public class DailyForecastGraphView extends ForecastView {
 		this.formattingService = unitsFormattingService;
 		
 		try {
-			//  Temperatures graph
+			//  Temperatures graph, with the morning, day, evening and night temperatures of each day
 			this.temperaturesGraph = generateBitmap2CurvesGraphPath(
-					  extractTemperaturesFromDailyWeatherForecastList(dailyWeatherForecastList),
-					  extractFeelsLikeTemperaturesFromDailyWeatherForecastList(dailyWeatherForecastList),
+					  dailyForecastSeries.getTemperature(),
+					  dailyForecastSeries.getTemperatureFeelsLike(),
+					  dailyForecastSeries.getTemperatureRange(),
 					  this.width, dpToPx(50), primaryGraphPaint, secondaryGraphPaint);
 			
 			//  Wind speeds graph
 			this.windSpeedsGraph = generateBitmap2CurvesGraphPath(
-					  dailyWeatherForecastArrayToSelectedAttributeFloatArray(dailyWeatherForecastList, DailyWeatherForecast::getWindSpeed),
-					  dailyWeatherForecastArrayToSelectedAttributeFloatArray(dailyWeatherForecastList, DailyWeatherForecast::getWindGustSpeed),
+					  dailyForecastSeries.getWindSpeed(),
+					  dailyForecastSeries.getWindGustSpeed(),
+					  dailyForecastSeries.getWindSpeedRange(),
 					  this.width, dpToPx(50), primaryGraphPaint, secondaryGraphPaint);
 			
 			//  Precipitations graph
 			this.precipitationsGraph = generateBitmapPrecipitationsGraphPath(
-					  dailyWeatherForecastArrayToSelectedAttributeFloatArray(dailyWeatherForecastList, DailyWeatherForecast::getRain),
-					  dailyWeatherForecastArrayToSelectedAttributeFloatArray(dailyWeatherForecastList, DailyWeatherForecast::getSnow),
-					  dailyWeatherForecastArrayToSelectedAttributeFloatArray(dailyWeatherForecastList, DailyWeatherForecast::getPop),
+					  dailyForecastSeries.getRain(),
+					  dailyForecastSeries.getSnow(),
+					  dailyForecastSeries.getPop(),
+					  dailyForecastSeries.getPrecipitationRange(),
 					  this.width, dpToPx(50), tertiaryGraphPaint, primaryGraphPaint, popBarGraphPaint);
 		} catch (Exception e) {
 			logger.log(Level.WARNING, e.getMessage());
@@ -170,75 +174,6 @@ public class DailyForecastGraphView extends ForecastView {
 	}
 	
 	
-	/**
-	 * dailyWeatherForecastArrayToSelectedAttributeFloatArray(ArrayList<DailyWeatherForecast> dailyWeatherForecastList, String selectedAttribute) throws NoSuchFieldException, IllegalAccessException
-	 * <p>
-	 * Used to get an array of selected attribute of an ArrayList of DailyWeatherForecast objects
-	 * </p>
-	 *
-	 * @param dailyWeatherForecastList The DailyWeatherForecast arrayList
-	 * @param attributeGetter          Used to provide the needed attribute
-	 * @return The created array filled with all attributes
-	 */
-	private float[] dailyWeatherForecastArrayToSelectedAttributeFloatArray(@NonNull List<DailyWeatherForecast> dailyWeatherForecastList, @NonNull ParameterizedCallable<DailyWeatherForecast, Number> attributeGetter) {
-		float[] returnedAttributeArray = new float[dailyWeatherForecastList.size()];
-		
-		for (int index = 0; index < returnedAttributeArray.length; index++) {
-			returnedAttributeArray[index] = attributeGetter.call(dailyWeatherForecastList.get(index)).floatValue();
-		}
-		
-		return returnedAttributeArray;
-	}
-	
-	
-	/**
-	 * extractTemperaturesFromDailyWeatherForecastArrayList(ArrayList<DailyWeatherForecast> dailyWeatherForecastList)
-	 * <p>
-	 * Used to get all temperatures attributes of a DailyWeather object<br>
-	 * Sorted Day after Day, newest day first and oldest day last, day is composed of morning, day, evening and night temperatures
-	 * </p>
-	 *
-	 * @param dailyWeatherForecastList The dailyForecast arrayList
-	 * @return The created array filled with all temperature attributes
-	 */
-	private float[] extractTemperaturesFromDailyWeatherForecastList(@NonNull List<DailyWeatherForecast> dailyWeatherForecastList) {
-		float[] returnedAttributeArray = new float[dailyWeatherForecastList.size() * 4];
-		int arrayIndex = 0;
-		
-		for (DailyWeatherForecast dailyWeatherForecast : dailyWeatherForecastList) {
-			returnedAttributeArray[arrayIndex++] = dailyWeatherForecast.getTemperatureMorning();
-			returnedAttributeArray[arrayIndex++] = dailyWeatherForecast.getTemperatureDay();
-			returnedAttributeArray[arrayIndex++] = dailyWeatherForecast.getTemperatureEvening();
-			returnedAttributeArray[arrayIndex++] = dailyWeatherForecast.getTemperatureNight();
-		}
-		return returnedAttributeArray;
-	}
-	
-	
-	/**
-	 * extractFeelsLikeTemperaturesFromDailyWeatherForecastArrayList(ArrayList<DailyWeatherForecast> dailyWeatherForecastArrayList)
-	 * <p>
-	 * Used to get all FeelsLike temperatures attributes of a DailyWeather object<br>
-	 * Sorted Day after Day, newest day first and oldest day last, day is composed of morning, day, evening and night FeelsLike temperatures
-	 * </p>
-	 *
-	 * @param dailyWeatherForecastList The dailyForecast arrayList
-	 * @return The created array filled with all temperature attributes
-	 */
-	private float[] extractFeelsLikeTemperaturesFromDailyWeatherForecastList(@NonNull List<DailyWeatherForecast> dailyWeatherForecastList) {
-		float[] returnedAttributeArray = new float[dailyWeatherForecastList.size() * 4];
-		int arrayIndex = 0;
-		
-		for (DailyWeatherForecast dailyWeatherForecast : dailyWeatherForecastList) {
-			returnedAttributeArray[arrayIndex++] = dailyWeatherForecast.getTemperatureMorningFeelsLike();
-			returnedAttributeArray[arrayIndex++] = dailyWeatherForecast.getTemperatureDayFeelsLike();
-			returnedAttributeArray[arrayIndex++] = dailyWeatherForecast.getTemperatureEveningFeelsLike();
-			returnedAttributeArray[arrayIndex++] = dailyWeatherForecast.getTemperatureNightFeelsLike();
-		}
-		return returnedAttributeArray;
-	}
-	
-	
 	/**
 	 * drawStructureAndDate(@NonNull Canvas canvas, float dateFirstLineY, float dateSecondLineY, float dayPeriodStartLineY, float dayPeriodStopLineY, ArrayList<DailyWeatherForecast> dailyWeatherForecastList, TimeZone timeZone)
 	 * <p>
@@ -334,27 +269,27 @@ public class DailyForecastGraphView extends ForecastView {
 		float textY2 = top + dpToPx(25);
 		//  Temperatures
 		////    Morning
-		canvas.drawText(formattingService.getFloatFormattedTemperature(dailyWeatherForecast.getTemperatureMorning(), UNIT_BUT_NO_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedTemperature(dailyWeatherForecast.getTemperatureMorning(), UNIT_BUT_NO_SPACE),
 				  textX, textY1, this.primaryPaint);
-		canvas.drawText(formattingService.getFloatFormattedTemperature(dailyWeatherForecast.getTemperatureMorningFeelsLike(), UNIT_BUT_NO_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedTemperature(dailyWeatherForecast.getTemperatureMorningFeelsLike(), UNIT_BUT_NO_SPACE),
 				  textX, textY2, this.secondaryPaint);
 		textX += quarterColumnWidth;
 		////    Noon
-		canvas.drawText(formattingService.getFloatFormattedTemperature(dailyWeatherForecast.getTemperatureDay(), UNIT_BUT_NO_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedTemperature(dailyWeatherForecast.getTemperatureDay(), UNIT_BUT_NO_SPACE),
 				  textX, textY1, this.primaryPaint);
-		canvas.drawText(formattingService.getFloatFormattedTemperature(dailyWeatherForecast.getTemperatureDayFeelsLike(), UNIT_BUT_NO_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedTemperature(dailyWeatherForecast.getTemperatureDayFeelsLike(), UNIT_BUT_NO_SPACE),
 				  textX, textY2, this.secondaryPaint);
 		textX += quarterColumnWidth;
 		////    Evening
-		canvas.drawText(formattingService.getFloatFormattedTemperature(dailyWeatherForecast.getTemperatureEvening(), UNIT_BUT_NO_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedTemperature(dailyWeatherForecast.getTemperatureEvening(), UNIT_BUT_NO_SPACE),
 				  textX, textY1, this.primaryPaint);
-		canvas.drawText(formattingService.getFloatFormattedTemperature(dailyWeatherForecast.getTemperatureEveningFeelsLike(), UNIT_BUT_NO_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedTemperature(dailyWeatherForecast.getTemperatureEveningFeelsLike(), UNIT_BUT_NO_SPACE),
 				  textX, textY2, this.secondaryPaint);
 		textX += quarterColumnWidth;
 		////    Night
-		canvas.drawText(formattingService.getFloatFormattedTemperature(dailyWeatherForecast.getTemperatureNight(), UNIT_BUT_NO_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedTemperature(dailyWeatherForecast.getTemperatureNight(), UNIT_BUT_NO_SPACE),
 				  textX, textY1, this.primaryPaint);
-		canvas.drawText(formattingService.getFloatFormattedTemperature(dailyWeatherForecast.getTemperatureNightFeelsLike(), UNIT_BUT_NO_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedTemperature(dailyWeatherForecast.getTemperatureNightFeelsLike(), UNIT_BUT_NO_SPACE),
 				  textX, textY2, this.secondaryPaint);
 	}
 	
@@ -41,6 +41,7 @@ import java.math.BigDecimal;
 import java.util.TimeZone;
 
 import fr.qgdev.openweather.R;
+import fr.qgdev.openweather.metrics.ForecastSeries;
 import fr.qgdev.openweather.repositories.FormattingService;
 
 
@@ -133,13 +134,14 @@ public abstract class ForecastView extends View {
 	//______________________________________________________________________________________________
 	
 	/**
-	 * generateBitmap2CurvesGraphPath(float[] firstCurveData, float[] secondCurveData, int width, int height, @NonNull Paint firstCurvePaint, @NonNull Paint secondCurvePaint)
+	 * generateBitmap2CurvesGraphPath(float[] firstCurveData, float[] secondCurveData, @NonNull ForecastSeries.Range range, int width, int height, @NonNull Paint firstCurvePaint, @NonNull Paint secondCurvePaint)
 	 * <p>
 	 * Used to generate bitmap containing graph of two set of data
 	 * </p>
 	 *
 	 * @param firstCurveData   Array of numerical values that will be used to draw the first curve
 	 * @param secondCurveData  Array of numerical values that will be used to draw the second curve
+	 * @param range            Range of both curves, already computed by the forecast series
 	 * @param width            Width of the wanted graph
 	 * @param height           Height of the wanted graph
 	 * @param firstCurvePaint  Paint that will be used to draw first curve
@@ -147,23 +149,14 @@ public abstract class ForecastView extends View {
 	 * @return A Bitmap with two generated curves, with the wanted height and width and in the ARGB_8888 format
 	 * @apiNote firstCurveData & secondCurveData must have the same number of elements
 	 */
-	protected Bitmap generateBitmap2CurvesGraphPath(float[] firstCurveData, float[] secondCurveData, @Px int width, @Px int height, @NonNull Paint firstCurvePaint, @NonNull Paint secondCurvePaint) {
+	protected Bitmap generateBitmap2CurvesGraphPath(float[] firstCurveData, float[] secondCurveData, @NonNull ForecastSeries.Range range, @Px int width, @Px int height, @NonNull Paint firstCurvePaint, @NonNull Paint secondCurvePaint) {
 		
 		//  Initializing graph paths
 		Path firstCurvePath = new Path();
 		Path secondCurvePath = new Path();
 		
-		//  Searching for max and min values in arrays
-		float minValue = firstCurveData[0];
-		float maxValue = firstCurveData[0];
-		
-		for (int index = 0; index < firstCurveData.length; index++) {
-			if (firstCurveData[index] > maxValue) maxValue = firstCurveData[index];
-			if (firstCurveData[index] < minValue) minValue = firstCurveData[index];
-			
-			if (secondCurveData[index] > maxValue) maxValue = secondCurveData[index];
-			if (secondCurveData[index] < minValue) minValue = secondCurveData[index];
-		}
+		float minValue = range.getMinimum();
+		float maxValue = range.getMaximum();
 		
 		//  Find the value to adjust all values so that the minimum is 0
 		float addValueMinTo0 = minValue * (-1F);
@@ -251,7 +244,7 @@ public abstract class ForecastView extends View {
 	
 	
 	/**
-	 * generateBitmapPrecipitationsGraphPath(float[] rainData, float[] snowData, float[] popData, int width, int height, @NonNull Paint rainCurvePaint, @NonNull Paint snowCurvePaint, @NonNull Paint popCurvePaint)
+	 * generateBitmapPrecipitationsGraphPath(float[] rainData, float[] snowData, float[] popData, @NonNull ForecastSeries.Range range, int width, int height, @NonNull Paint rainCurvePaint, @NonNull Paint snowCurvePaint, @NonNull Paint popCurvePaint)
 	 * <p>
 	 * Used to generate bitmap containing graph of three set of data, rain, sno and pop
 	 * </p>
@@ -259,6 +252,7 @@ public abstract class ForecastView extends View {
 	 * @param rainData       Array of numerical values that will be used to draw the first curve
 	 * @param snowData       Array of numerical values that will be used to draw the second curve
 	 * @param popData        Array of float values between 0 and 1 that will be used to draw the bar graph
+	 * @param range          Range of rain and snow curves, already computed by the forecast series
 	 * @param width          Width of the wanted graph
 	 * @param height         Height of the wanted graph
 	 * @param rainCurvePaint Paint that will be used to draw first curve
@@ -267,24 +261,15 @@ public abstract class ForecastView extends View {
 	 * @return A Bitmap with three generated curves, with the wanted height and width and in the ARGB_8888 format
 	 * @apiNote rainData, snowData & popData must have the same number of elements
 	 */
-	protected Bitmap generateBitmapPrecipitationsGraphPath(float[] rainData, float[] snowData, float[] popData, @Px int width, @Px int height, @NonNull Paint rainCurvePaint, @NonNull Paint snowCurvePaint, @NonNull Paint popCurvePaint) {
+	protected Bitmap generateBitmapPrecipitationsGraphPath(float[] rainData, float[] snowData, float[] popData, @NonNull ForecastSeries.Range range, @Px int width, @Px int height, @NonNull Paint rainCurvePaint, @NonNull Paint snowCurvePaint, @NonNull Paint popCurvePaint) {
 		
 		//  Initializing graph paths
 		Path rainCurvePath = new Path();
 		Path snowCurvePath = new Path();
 		Path popCurvePath = new Path();
 		
-		//  Searching for max and min values in arrays
-		float minValue = rainData[0];
-		float maxValue = rainData[0];
-		
-		for (int index = 0; index < rainData.length; index++) {
-			if (rainData[index] > maxValue) maxValue = rainData[index];
-			if (rainData[index] < minValue) minValue = rainData[index];
-			
-			if (snowData[index] > maxValue) maxValue = snowData[index];
-			if (snowData[index] < minValue) minValue = snowData[index];
-		}
+		float minValue = range.getMinimum();
+		float maxValue = range.getMaximum();
 		
 		//  Find the value to adjust all values so that the minimum is 0
 		float addValueMinTo0 = minValue * (-1);
@@ -382,6 +367,23 @@ public abstract class ForecastView extends View {
 	}
 	
 	
+	/**
+	 * drawText(@NonNull Canvas canvas, @NonNull CharSequence text, float x, float y, @NonNull Paint paint)
+	 * <p>
+	 * Used to draw a text rendered by the FormattingService without turning it into a String
+	 * </p>
+	 *
+	 * @param canvas Elements will be drawn on it
+	 * @param text   That text will be drawn
+	 * @param x      Where text will be drawn on the x axis
+	 * @param y      Where text will be drawn on the y axis
+	 * @param paint  The paint that will be used on text
+	 */
+	protected void drawText(@NonNull Canvas canvas, @NonNull CharSequence text, float x, float y, @NonNull Paint paint) {
+		canvas.drawText(text, 0, text.length(), x, y, paint);
+	}
+	
+	
 	/**
 	 * drawTextWithDrawable(@NonNull Canvas canvas, @NonNull Drawable drawable, @NonNull String text, @Px float top, @Px float left, @Px float spaceBetween, @NonNull Paint paint)
 	 * <p>
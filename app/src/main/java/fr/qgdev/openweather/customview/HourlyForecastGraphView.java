@@ -36,7 +36,6 @@ import androidx.annotation.Px;
 
 import java.math.BigDecimal;
 import java.util.Calendar;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -44,10 +43,9 @@ import java.util.TimeZone;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import fr.qgdev.openweather.metrics.DailyWeatherForecast;
+import fr.qgdev.openweather.metrics.ForecastSeries;
 import fr.qgdev.openweather.metrics.HourlyWeatherForecast;
 import fr.qgdev.openweather.repositories.FormattingService;
-import fr.qgdev.openweather.utils.ParameterizedCallable;
 
 /**
  * HourlyForecastGraphView
@@ -66,6 +64,7 @@ public class HourlyForecastGraphView extends ForecastView {
 	private int columnWidth;
 	
 	private List<HourlyWeatherForecast> hourlyWeatherForecastList;
+	private long[] dt;
 	private boolean[] isDayTime;
 	
 	
@@ -97,137 +96,53 @@ public class HourlyForecastGraphView extends ForecastView {
 	
 	
 	/**
-	 * generateIsDayTimeArray(@NonNull ArrayList<HourlyWeatherForecast> hourlyWeatherForecastList, @NonNull ArrayList<DailyWeatherForecast> dailyWeatherForecastList)
-	 * <p>
-	 * Used to generate dayTime array which describe if it is day time for each hours of hourlyWeatherForecastList
-	 * </p>
-	 *
-	 * @param hourlyWeatherForecastList ArrayList of HourlyWeatherForecasts
-	 * @param dailyWeatherForecastList  ArrayList of DailyWeatherForecasts
-	 * @return The generated array
-	 */
-	private boolean[] generateIsDayTimeArray(@NonNull List<HourlyWeatherForecast> hourlyWeatherForecastList, @NonNull List<DailyWeatherForecast> dailyWeatherForecastList) {
-		
-		HourlyWeatherForecast hourlyWeatherForecast;
-		DailyWeatherForecast dailyWeatherForecast;
-		boolean[] isDayTime = new boolean[hourlyWeatherForecastList.size()];
-		long previousItemDay, currentItemDay;
-		int dayIndex = 0;
-		Calendar calendar;
-		
-		//  Start by the beginning of each arraylist
-		
-		hourlyWeatherForecast = hourlyWeatherForecastList.get(0);
-		dailyWeatherForecast = dailyWeatherForecastList.get(0);
-		
-		//  Initialization of calendar
-		calendar = Calendar.getInstance();
-		calendar.setTimeInMillis(hourlyWeatherForecast.getDt());
-		
-		/*  Initialization of the previousItemDay
-		 *       It is the ID of a day in a year, each day have an unique ID.
-		 *       The day, 21th August 2021 will doesn't have the same ID as a 21th August 2020 or 2019.
-		 *       The ID is composed of:
-		 *           YYYYDDD
-		 *               -   YYYY    :   Year of the day (2021...)
-		 *               -   DDD     :   Day number in the whole year (223 for the 21th august)
-		 * */
-		previousItemDay = calendar.get(Calendar.DAY_OF_YEAR) + calendar.get(Calendar.YEAR) * 1000L;
-		
-		
-		for (int index = 0; index < hourlyWeatherForecastList.size(); index++) {
-			
-			hourlyWeatherForecast = hourlyWeatherForecastList.get(index);
-			calendar.setTimeInMillis(hourlyWeatherForecast.getDt());
-			
-			currentItemDay = calendar.get(Calendar.DAY_OF_YEAR) + calendar.get(Calendar.YEAR) * 1000L;
-			
-			//  New day detected, switching to the new day by incrementing the counter (dayIndex) by one and updating dailyWeatherForecast variable
-			if (previousItemDay < currentItemDay) {
-				previousItemDay = currentItemDay;
-				dayIndex++;
-				dailyWeatherForecast = dailyWeatherForecastList.get(dayIndex);
-			}
-			
-			isDayTime[index] = dailyWeatherForecast.getSunriseDt() < hourlyWeatherForecast.getDt() && hourlyWeatherForecast.getDt() < dailyWeatherForecast.getSunsetDt();
-		}
-		
-		return isDayTime;
-	}
-	
-	
-	/**
-	 * hourlyWeatherForecastArrayToSelectedAttributeFloatArray(@NonNull ArrayList<HourlyWeatherForecast> hourlyWeatherForecastList, @NonNull String selectedAttribute) throws NoSuchFieldException, IllegalAccessException
-	 * <p>
-	 * Used to get an array of selected attribute of an ArrayList of HourlyWeatherForecast objects
-	 * </p>
-	 *
-	 * @param hourlyWeatherForecastList The HourlyWeatherForecast arrayList
-	 * @param attributeGetter           Used to provide the needed attribute
-	 * @return The created array filled with all attributes
-	 */
-	private float[] hourlyWeatherForecastArrayToSelectedAttributeFloatArray(@NonNull List<HourlyWeatherForecast> hourlyWeatherForecastList, ParameterizedCallable<HourlyWeatherForecast, Number> attributeGetter) {
-		float[] returnedAttributeArray = new float[hourlyWeatherForecastList.size()];
-		
-		for (int index = 0; index < returnedAttributeArray.length; index++) {
-			returnedAttributeArray[index] = attributeGetter.call(hourlyWeatherForecastList.get(index)).floatValue();
-		}
-		
-		return returnedAttributeArray;
-	}
-	
-	
-	/**
-	 * initialization(@NonNull ArrayList<HourlyWeatherForecast> hourlyWeatherForecastArrayList, @NonNull ArrayList<DailyWeatherForecast> dailyWeatherForecastArrayList, @NonNull FormattingService unitsFormattingService, @NonNull TimeZone timeZone)
+	 * initialization(@NonNull List<HourlyWeatherForecast> hourlyWeatherForecastList, @NonNull ForecastSeries hourlyForecastSeries, @NonNull FormattingService unitsFormattingService, @NonNull TimeZone timeZone)
 	 * <p>
 	 * Used to initialize attributes used to draw a view
 	 * </p>
 	 *
 	 * @param hourlyWeatherForecastList ArrayList of HourlyWeatherForecast
-	 * @param dailyWeatherForecastList  ArrayList of DailyWeatherForecasts
+	 * @param hourlyForecastSeries      Columns of the same hourly forecasts, curves and day times are read from them
 	 * @param timeZone                  TimeZone of the place
 	 * @param unitsFormattingService    FormattingService of the application to format dates
 	 */
-	public void initialization(@NonNull List<HourlyWeatherForecast> hourlyWeatherForecastList, @NonNull List<DailyWeatherForecast> dailyWeatherForecastList, @NonNull FormattingService unitsFormattingService, @NonNull TimeZone timeZone) {
+	public void initialization(@NonNull List<HourlyWeatherForecast> hourlyWeatherForecastList, @NonNull ForecastSeries hourlyForecastSeries, @NonNull FormattingService unitsFormattingService, @NonNull TimeZone timeZone) {
 		this.columnWidth = dpToPx(90);
-		float[] firstCurve, secondCurve;
 		
-		this.width = hourlyWeatherForecastList.size() * columnWidth;
+		this.width = hourlyForecastSeries.size() * columnWidth;
 		this.height = dpToPx(820);
 		
 		this.hourlyWeatherForecastList = hourlyWeatherForecastList;
+		this.dt = hourlyForecastSeries.getDt();
 		
 		formattingService = unitsFormattingService;
 		
 		this.timeZone = timeZone;
 		
-		isDayTime = generateIsDayTimeArray(hourlyWeatherForecastList, Collections.unmodifiableList(dailyWeatherForecastList));
+		isDayTime = hourlyForecastSeries.getDayTime();
 		
 		
 		try {
 			//  Temperatures graph
-			firstCurve = hourlyWeatherForecastArrayToSelectedAttributeFloatArray(hourlyWeatherForecastList, HourlyWeatherForecast::getTemperature);
-			secondCurve = hourlyWeatherForecastArrayToSelectedAttributeFloatArray(hourlyWeatherForecastList, HourlyWeatherForecast::getTemperatureFeelsLike);
-			this.temperaturesGraph = generateBitmap2CurvesGraphPath(firstCurve, secondCurve, this.width, dpToPx(50), primaryGraphPaint, secondaryGraphPaint);
+			this.temperaturesGraph = generateBitmap2CurvesGraphPath(hourlyForecastSeries.getTemperature(), hourlyForecastSeries.getTemperatureFeelsLike(),
+					  hourlyForecastSeries.getTemperatureRange(), this.width, dpToPx(50), primaryGraphPaint, secondaryGraphPaint);
 			
 			//  Humidity graph
-			firstCurve = hourlyWeatherForecastArrayToSelectedAttributeFloatArray(hourlyWeatherForecastList, HourlyWeatherForecast::getHumidity);
-			this.humidityGraph = generateBitmap1CurvesGraphPath(firstCurve, this.width, dpToPx(30), tertiaryGraphPaint);
+			this.humidityGraph = generateBitmap1CurvesGraphPath(hourlyForecastSeries.getHumidity(), hourlyForecastSeries.getHumidityRange(), this.width, dpToPx(30), tertiaryGraphPaint);
 			
 			//  Pressure graph
-			firstCurve = hourlyWeatherForecastArrayToSelectedAttributeFloatArray(hourlyWeatherForecastList, HourlyWeatherForecast::getPressure);
-			this.pressureGraph = generateBitmap1CurvesGraphPath(firstCurve, this.width, dpToPx(30), primaryGraphPaint);
+			this.pressureGraph = generateBitmap1CurvesGraphPath(hourlyForecastSeries.getPressure(), hourlyForecastSeries.getPressureRange(), this.width, dpToPx(30), primaryGraphPaint);
 			
 			//  Wind speeds graph
-			firstCurve = hourlyWeatherForecastArrayToSelectedAttributeFloatArray(hourlyWeatherForecastList, HourlyWeatherForecast::getWindSpeed);
-			secondCurve = hourlyWeatherForecastArrayToSelectedAttributeFloatArray(hourlyWeatherForecastList, HourlyWeatherForecast::getWindGustSpeed);
-			this.windSpeedsGraph = generateBitmap2CurvesGraphPath(firstCurve, secondCurve, this.width, dpToPx(50), primaryGraphPaint, secondaryGraphPaint);
+			this.windSpeedsGraph = generateBitmap2CurvesGraphPath(hourlyForecastSeries.getWindSpeed(), hourlyForecastSeries.getWindGustSpeed(),
+					  hourlyForecastSeries.getWindSpeedRange(), this.width, dpToPx(50), primaryGraphPaint, secondaryGraphPaint);
 			
 			//  Precipitations graph
 			this.precipitationsGraph = generateBitmapPrecipitationsGraphPath(
-					  hourlyWeatherForecastArrayToSelectedAttributeFloatArray(hourlyWeatherForecastList, HourlyWeatherForecast::getRain),
-					  hourlyWeatherForecastArrayToSelectedAttributeFloatArray(hourlyWeatherForecastList, HourlyWeatherForecast::getSnow),
-					  hourlyWeatherForecastArrayToSelectedAttributeFloatArray(hourlyWeatherForecastList, HourlyWeatherForecast::getPop),
+					  hourlyForecastSeries.getRain(),
+					  hourlyForecastSeries.getSnow(),
+					  hourlyForecastSeries.getPop(),
+					  hourlyForecastSeries.getPrecipitationRange(),
 					  this.width, dpToPx(40), tertiaryGraphPaint, primaryGraphPaint, popBarGraphPaint);
 			
 		} catch (Exception e) {
@@ -237,16 +152,16 @@ public class HourlyForecastGraphView extends ForecastView {
 	
 	
 	/**
-	 * drawStructureAndDate(@NonNull Canvas canvas, @NonNull List<HourlyWeatherForecast> hourlyWeatherForecastList, @NonNull TimeZone timeZone)
+	 * drawStructureAndDate(@NonNull Canvas canvas, @NonNull long[] dt, @NonNull TimeZone timeZone)
 	 * <p>
 	 * Used to draw principal elements of the view such as date, day moments and separators
 	 * </p>
 	 *
-	 * @param canvas                    Elements will be drawn on it
-	 * @param hourlyWeatherForecastList Where the name of the day will be drawn on y axis
-	 * @param timeZone                  The timeZone of the place
+	 * @param canvas   Elements will be drawn on it
+	 * @param dt       Times of the hourly forecasts
+	 * @param timeZone The timeZone of the place
 	 */
-	private void drawStructureAndDate(@NonNull Canvas canvas, @NonNull List<HourlyWeatherForecast> hourlyWeatherForecastList, @NonNull TimeZone timeZone) {
+	private void drawStructureAndDate(@NonNull Canvas canvas, @NonNull long[] dt, @NonNull TimeZone timeZone) {
 		byte previousItemDay = 0;
 		byte currentItemDay;
 		int xDiv = 0;
@@ -256,23 +171,22 @@ public class HourlyForecastGraphView extends ForecastView {
 		
 		calendar = Calendar.getInstance();
 		calendar.setTimeZone(timeZone);
-		calendar.setTimeInMillis(hourlyWeatherForecastList.get(0).getDt());
+		calendar.setTimeInMillis(dt[0]);
 		
 		dateFirstLineY = dpToPx(15);
 		dateSecondLineY = dpToPx(35);
 		hourLineY = dpToPx(60);
 		halfColumnWidth = columnWidth / 2;
 		
-		for (int index = 0; index < hourlyWeatherForecastList.size(); index++) {
-			
-			date = new Date(hourlyWeatherForecastList.get(index).getDt());
+		for (int index = 0; index < dt.length; index++) {
 			
-			calendar.setTimeInMillis(hourlyWeatherForecastList.get(index).getDt());
+			calendar.setTimeInMillis(dt[index]);
 			currentItemDay = BigDecimal.valueOf(calendar.get(Calendar.DAY_OF_MONTH)).byteValue();
 			
 			//  New day detected, draw day div and date
 			if (previousItemDay != currentItemDay) {
 				previousItemDay = currentItemDay;
+				date = new Date(dt[index]);
 				canvas.drawLine(xDiv, 0, xDiv, canvas.getHeight(), this.datePaint);
 				canvas.drawText(formattingService.getFormattedShortDayName(date, timeZone),
 						  xDiv + 10F, dateFirstLineY, this.datePaint);
@@ -284,7 +198,8 @@ public class HourlyForecastGraphView extends ForecastView {
 				canvas.drawLine(xDiv, 120, xDiv, canvas.getHeight(), this.structurePaint);
 			}
 			//  Draw hour
-			canvas.drawText(formattingService.getFormattedHour(date, timeZone), xDiv + halfColumnWidth, hourLineY, this.structurePaint);
+			canvas.drawText(formattingService.getFormattedHour(dt[index], timeZone.getOffset(dt[index]) / 1000),
+					  xDiv + halfColumnWidth, hourLineY, this.structurePaint);
 			
 			xDiv += columnWidth;
 		}
@@ -303,10 +218,10 @@ public class HourlyForecastGraphView extends ForecastView {
 	 * @param middleOfColumnX              Where temperatures will be drawn on the x axis
 	 */
 	private void drawTemperatures(@NonNull Canvas canvas, @NonNull HourlyWeatherForecast currentHourlyWeatherForecast, @Px int y, @Px int middleOfColumnX) {
-		canvas.drawText(formattingService.getFloatFormattedTemperature(currentHourlyWeatherForecast.getTemperature(), UNIT_BUT_NO_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedTemperature(currentHourlyWeatherForecast.getTemperature(), UNIT_BUT_NO_SPACE),
 				  middleOfColumnX, y, this.primaryPaint);
 		
-		canvas.drawText(formattingService.getFloatFormattedTemperature(currentHourlyWeatherForecast.getTemperatureFeelsLike(), UNIT_BUT_NO_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedTemperature(currentHourlyWeatherForecast.getTemperatureFeelsLike(), UNIT_BUT_NO_SPACE),
 				  middleOfColumnX, y + dpToPx(25), this.secondaryPaint);
 	}
 	
@@ -323,7 +238,7 @@ public class HourlyForecastGraphView extends ForecastView {
 	 * @param middleOfColumnX              Where pressure will be drawn on the x axis
 	 */
 	private void drawPressure(@NonNull Canvas canvas, @NonNull HourlyWeatherForecast currentHourlyWeatherForecast, @Px int y, @Px int middleOfColumnX) {
-		canvas.drawText(formattingService.getFormattedPressure(currentHourlyWeatherForecast.getPressure(), UNIT_BUT_NO_SPACE),
+		drawText(canvas, formattingService.renderFormattedPressure(currentHourlyWeatherForecast.getPressure(), UNIT_BUT_NO_SPACE),
 				  middleOfColumnX, y, this.primaryPaint);
 	}
 	
@@ -340,7 +255,7 @@ public class HourlyForecastGraphView extends ForecastView {
 	 * @param middleOfColumnX              Where dewPoint will be drawn on the x axis
 	 */
 	private void drawDewPoint(@NonNull Canvas canvas, @NonNull HourlyWeatherForecast currentHourlyWeatherForecast, @Px int y, @Px int middleOfColumnX) {
-		canvas.drawText(formattingService.getFloatFormattedTemperature(currentHourlyWeatherForecast.getDewPoint(), UNIT_BUT_NO_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedTemperature(currentHourlyWeatherForecast.getDewPoint(), UNIT_BUT_NO_SPACE),
 				  middleOfColumnX, y, this.primaryPaint);
 	}
 	
@@ -357,7 +272,7 @@ public class HourlyForecastGraphView extends ForecastView {
 	 * @param middleOfColumnX              Where visibility distance will be drawn on the x axis
 	 */
 	private void drawVisibility(@NonNull Canvas canvas, @NonNull HourlyWeatherForecast currentHourlyWeatherForecast, @Px int y, @Px int middleOfColumnX) {
-		canvas.drawText(formattingService.getFloatFormattedDistance(currentHourlyWeatherForecast.getVisibility(), UNIT_AND_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedDistance(currentHourlyWeatherForecast.getVisibility(), UNIT_AND_SPACE),
 				  middleOfColumnX, y, this.primaryPaint);
 	}
 	
@@ -374,10 +289,10 @@ public class HourlyForecastGraphView extends ForecastView {
 	 * @param middleOfColumnX              Where wind speed will be drawn on the x axis
 	 */
 	private void drawWindSpeed(@NonNull Canvas canvas, @NonNull HourlyWeatherForecast currentHourlyWeatherForecast, @Px int y, @Px int middleOfColumnX) {
-		canvas.drawText(formattingService.getFloatFormattedSpeed(currentHourlyWeatherForecast.getWindSpeed(), UNIT_AND_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedSpeed(currentHourlyWeatherForecast.getWindSpeed(), UNIT_AND_SPACE),
 				  middleOfColumnX, y, this.primaryPaint);
 		
-		canvas.drawText(formattingService.getFloatFormattedSpeed(currentHourlyWeatherForecast.getWindGustSpeed(), UNIT_AND_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedSpeed(currentHourlyWeatherForecast.getWindGustSpeed(), UNIT_AND_SPACE),
 				  middleOfColumnX, y + dpToPx(25), this.secondaryPaint);
 	}
 	
@@ -407,29 +322,24 @@ public class HourlyForecastGraphView extends ForecastView {
 	
 	
 	/**
-	 * generateBitmap1CurvesGraphPath(float[] curveData, @Px int width, @Px int height, @NonNull Paint curvePaint)
+	 * generateBitmap1CurvesGraphPath(float[] curveData, @NonNull ForecastSeries.Range range, @Px int width, @Px int height, @NonNull Paint curvePaint)
 	 * <p>
 	 * Used to generate bitmap containing graph of one set of data
 	 * </p>
 	 *
 	 * @param curveData  Array of numerical values that will be used to draw the curve
+	 * @param range      Range of the curve, already computed by the forecast series
 	 * @param width      Width of the wanted graph
 	 * @param height     Height of the wanted graph
 	 * @param curvePaint Paint that will be used to draw curve
 	 * @return A Bitmap with the generated curve, with the wanted height and width and in the ARGB_8888 format
 	 */
-	private Bitmap generateBitmap1CurvesGraphPath(float[] curveData, @Px int width, @Px int height, @NonNull Paint curvePaint) {
+	private Bitmap generateBitmap1CurvesGraphPath(float[] curveData, @NonNull ForecastSeries.Range range, @Px int width, @Px int height, @NonNull Paint curvePaint) {
 		//  Initializing graph path
 		Path curvePath = new Path();
 		
-		//  Searching for max and min values in array
-		float minValue = curveData[0],
-				  maxValue = curveData[0];
-		
-		for (float curveDatum : curveData) {
-			if (curveDatum > maxValue) maxValue = curveDatum;
-			if (curveDatum < minValue) minValue = curveDatum;
-		}
+		float minValue = range.getMinimum(),
+				  maxValue = range.getMaximum();
 		
 		//  Find the value to adjust all values so that the minimum is 0
 		float addValueMinTo0 = minValue * (-1F);
@@ -507,10 +417,10 @@ public class HourlyForecastGraphView extends ForecastView {
 	 * @param middleOfColumnX              Where precipitations will be drawn on the x axis
 	 */
 	private void drawPrecipitations(@NonNull Canvas canvas, @NonNull HourlyWeatherForecast currentHourlyWeatherForecast, @Px int y, @Px int middleOfColumnX) {
-		canvas.drawText(formattingService.getFloatFormattedShortDistance(currentHourlyWeatherForecast.getRain(), UNIT_AND_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedShortDistance(currentHourlyWeatherForecast.getRain(), UNIT_AND_SPACE),
 				  middleOfColumnX, y, this.tertiaryPaint);
 		
-		canvas.drawText(formattingService.getFloatFormattedShortDistance(currentHourlyWeatherForecast.getSnow(), UNIT_AND_SPACE),
+		drawText(canvas, formattingService.renderFloatFormattedShortDistance(currentHourlyWeatherForecast.getSnow(), UNIT_AND_SPACE),
 				  middleOfColumnX, y + dpToPx(25), this.primaryPaint);
 		
 		int convertedPopValue = BigDecimal.valueOf(currentHourlyWeatherForecast.getPop() * 100).intValue();
@@ -535,7 +445,7 @@ public class HourlyForecastGraphView extends ForecastView {
 		HourlyWeatherForecast currentHourlyWeatherForecast;
 		int halfWidthX = columnWidth / 2, drawableX = halfWidthX - dpToPx(25);
 		
-		drawStructureAndDate(canvas, hourlyWeatherForecastList, timeZone);
+		drawStructureAndDate(canvas, dt, timeZone);
 		
 		for (int index = 0; index < hourlyWeatherForecastList.size(); index++) {
 			currentHourlyWeatherForecast = hourlyWeatherForecastList.get(index);
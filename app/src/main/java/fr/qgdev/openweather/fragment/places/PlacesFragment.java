@@ -47,6 +47,7 @@ import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.google.android.material.snackbar.Snackbar;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import fr.qgdev.openweather.R;
@@ -54,6 +55,8 @@ import fr.qgdev.openweather.adapter.PlaceRecyclerViewAdapter;
 import fr.qgdev.openweather.dialog.AddPlaceDialog;
 import fr.qgdev.openweather.repositories.AppRepository;
 import fr.qgdev.openweather.repositories.places.Place;
+import fr.qgdev.openweather.repositories.places.PlaceChangeTracker;
+import fr.qgdev.openweather.repositories.weather.CancellationHandle;
 import fr.qgdev.openweather.repositories.weather.FetchCallback;
 import fr.qgdev.openweather.repositories.weather.RequestStatus;
 
@@ -86,8 +89,10 @@ public class PlacesFragment extends Fragment {
 	private PlaceRecyclerViewAdapter placeRecyclerViewAdapter;
 	
 	private FetchCallback fetchUpdateCallback;
+	private CancellationHandle refreshCancellationHandle;
 	
 	private AtomicInteger refreshCounter;
+	private List<Place> displayedPlaces;
 	
 	/**
 	 * Show snackbar.
@@ -102,6 +107,13 @@ public class PlacesFragment extends Fragment {
 				  .show();
 	}
 	
+	@Override
+	public void onDestroy() {
+		super.onDestroy();
+		//	Refreshes started from this fragment are not needed anymore
+		refreshCancellationHandle.cancel();
+	}
+	
 	@Override
 	public void onDetach() {
 		super.onDetach();
@@ -129,7 +141,8 @@ public class PlacesFragment extends Fragment {
 		vibrator = (Vibrator) mContext.getSystemService(Context.VIBRATOR_SERVICE);
 		appRepository = AppRepository.getInstance(context.getApplicationContext());
 		placesViewModel = PlacesViewModelFactory.getInstance();
-		placeRecyclerViewAdapter = new PlaceRecyclerViewAdapter(mContext, placesViewModel, appRepository.getFormattingService());
+		placeRecyclerViewAdapter = new PlaceRecyclerViewAdapter(mContext, placesViewModel, appRepository.getFormattingService(), appRepository.getStalenessPolicy());
+		refreshCancellationHandle = new CancellationHandle();
 		
 		//
 		appRepository.getPlacesLiveData().observeForever(places -> {
@@ -173,16 +186,26 @@ public class PlacesFragment extends Fragment {
 				return;
 			}
 			
+			//	Cached places are already shown, only the stale ones are fetched again
 			if (!placesViewModel.hasDataAlreadyBeenUpdated() && appRepository.isApiKeyValid()) {
-				appRepository.updateAllPlaces(fetchUpdateCallback);
+				appRepository.revalidatePlaces(places, fetchUpdateCallback, refreshCancellationHandle);
 				placesViewModel.dataHasBeenUpdated();
 			} else {
 				//	When the data has already been updated, we just notify the adapter that the data has changed
+				//	Only the places that changed are bound again, unless places have been added or removed
 				// View must be updated on the UI thread
+				int[] changedPositions = PlaceChangeTracker.getChangedPositions(displayedPlaces, places);
 				requireActivity().runOnUiThread(() -> {
-					placeRecyclerViewAdapter.notifyDataSetChanged();
+					if (changedPositions == null) {
+						placeRecyclerViewAdapter.notifyDataSetChanged();
+						return;
+					}
+					for (int position : changedPositions) {
+						placeRecyclerViewAdapter.notifyItemChanged(position);
+					}
 				});
 			}
+			displayedPlaces = places;
 			
 			setExistingPlacesViewState(container);
 		});
@@ -339,6 +362,10 @@ public class PlacesFragment extends Fragment {
 					case NOT_FOUND:
 						showSnackbar(container, mContext.getString(R.string.error_place_not_found));
 						break;
+					case CANCELLED:
+						//	Cancelled with the fragment, nothing to show anymore
+						if (mContext == null) return;
+						break;
 					default:
 						showSnackbar(container, mContext.getString(R.string.error_unknown_error));
 						break;
@@ -371,7 +398,7 @@ public class PlacesFragment extends Fragment {
 					  swipeRefreshLayout.setRefreshing(true);
 					  vibrator.vibrate(VibrationEffect.createOneShot(100, 50));
 					  if (appRepository.isApiKeyValid()) {
-						  appRepository.updateAllPlaces(fetchUpdateCallback);
+						  appRepository.updateAllPlaces(fetchUpdateCallback, refreshCancellationHandle);
 					  } else {
 						  swipeRefreshLayout.setRefreshing(false);
 						  showSnackbar(container, mContext.getString(R.string.error_no_api_key_registered_short));
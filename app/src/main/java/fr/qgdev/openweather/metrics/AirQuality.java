@@ -44,57 +44,113 @@ import java.util.StringJoiner;
 		  primaryKeys = {"placeId"})
 public class AirQuality {
 	@NonNull
-	private String placeId;
-	private int aqi;
-	private float co;
-	private float no;
-	private float no2;
-	private float o3;
-	private float so2;
-	private float pm2_5;
-	private float pm10;
-	private float nh3;
+	private final String placeId;
+	private final int aqi;
+	private final float co;
+	private final float no;
+	private final float no2;
+	private final float o3;
+	private final float so2;
+	private final float pm2_5;
+	private final float pm10;
+	private final float nh3;
 	
 	/**
 	 * Instantiates a new Air quality.
+	 *
+	 * @param placeId the place id
+	 * @param aqi     the Air Quality Index
+	 * @param co      the Carbon Monoxide concentration
+	 * @param no      the Nitrogen Monoxide concentration
+	 * @param no2     the Nitrogen Dioxide concentration
+	 * @param o3      the Ozone concentration
+	 * @param so2     the Sulfur Dioxide concentration
+	 * @param pm2_5   the Particulate Matter 2.5 concentration
+	 * @param pm10    the Particulate Matter 10 concentration
+	 * @param nh3     the Ammonia concentration
+	 * @throws IllegalArgumentException if a value is out of its bounds
 	 */
-	public AirQuality() {
-		this.placeId = "";
-		this.aqi = 1;
-		this.co = 0;
-		this.no = 0;
-		this.no2 = 0;
-		this.o3 = 0;
-		this.so2 = 0;
-		this.pm2_5 = 0;
-		this.pm10 = 0;
-		this.nh3 = 0;
+	public AirQuality(@NonNull String placeId, int aqi, float co, float no, float no2, float o3, float so2,
+							float pm2_5, float pm10, float nh3) {
+		this.placeId = placeId;
+		this.aqi = aqi;
+		this.co = co;
+		this.no = no;
+		this.no2 = no2;
+		this.o3 = o3;
+		this.so2 = so2;
+		this.pm2_5 = pm2_5;
+		this.pm10 = pm10;
+		this.nh3 = nh3;
+		
+		validate();
 	}
 	
 	/**
-	 * Instantiates a new Air quality with JSON from OpenWeatherMap.
+	 * Instantiates a copy of a air quality bound to another place.
+	 *
+	 * @param airQuality the air quality to copy
+	 * @param placeId    the place id of the copy
+	 */
+	@Ignore
+	public AirQuality(@NonNull AirQuality airQuality, @NonNull String placeId) {
+		this.placeId = placeId;
+		this.aqi = airQuality.aqi;
+		this.co = airQuality.co;
+		this.no = airQuality.no;
+		this.no2 = airQuality.no2;
+		this.o3 = airQuality.o3;
+		this.so2 = airQuality.so2;
+		this.pm2_5 = airQuality.pm2_5;
+		this.pm10 = airQuality.pm10;
+		this.nh3 = airQuality.nh3;
+	}
+	
+	/**
+	 * Instantiates a new Air quality with JSON from OpenWeatherMap, not bound to any place.
 	 *
 	 * @param airQuality the air quality JSON Object from OpenWeatherMap
 	 * @throws JSONException
 	 */
 	@Ignore
 	public AirQuality(JSONObject airQuality) throws JSONException {
+		this.placeId = "";
+		
 		JSONObject content = airQuality.getJSONArray("list").getJSONObject(0);
-		setAqi(content.getJSONObject("main").getInt("aqi"));
+		this.aqi = content.getJSONObject("main").getInt("aqi");
 		
 		JSONObject componentsJSON = content.getJSONObject("components");
-		setCo(BigDecimal.valueOf(componentsJSON.getDouble("co")).floatValue());
-		setNo(BigDecimal.valueOf(componentsJSON.getDouble("no")).floatValue());
-		setNo2(BigDecimal.valueOf(componentsJSON.getDouble("no2")).floatValue());
-		setO3(BigDecimal.valueOf(componentsJSON.getDouble("o3")).floatValue());
-		setSo2(BigDecimal.valueOf(componentsJSON.getDouble("so2")).floatValue());
-		setPm2_5(BigDecimal.valueOf(componentsJSON.getDouble("pm2_5")).floatValue());
-		setPm10(BigDecimal.valueOf(componentsJSON.getDouble("pm10")).floatValue());
-		setNh3(BigDecimal.valueOf(componentsJSON.getDouble("nh3")).floatValue());
+		this.co = BigDecimal.valueOf(componentsJSON.getDouble("co")).floatValue();
+		this.no = BigDecimal.valueOf(componentsJSON.getDouble("no")).floatValue();
+		this.no2 = BigDecimal.valueOf(componentsJSON.getDouble("no2")).floatValue();
+		this.o3 = BigDecimal.valueOf(componentsJSON.getDouble("o3")).floatValue();
+		this.so2 = BigDecimal.valueOf(componentsJSON.getDouble("so2")).floatValue();
+		this.pm2_5 = BigDecimal.valueOf(componentsJSON.getDouble("pm2_5")).floatValue();
+		this.pm10 = BigDecimal.valueOf(componentsJSON.getDouble("pm10")).floatValue();
+		this.nh3 = BigDecimal.valueOf(componentsJSON.getDouble("nh3")).floatValue();
+		
+		validate();
+	}
+	
+	/**
+	 * Check that every value is in its bounds
+	 *
+	 * @throws IllegalArgumentException if a value is out of its bounds
+	 */
+	private void validate() {
+		if (aqi < 1 || aqi > 5) throw new IllegalArgumentException("AQI must be between 1 and 5");
+		if (co < 0.0f) throw new IllegalArgumentException("CO must be positive");
+		if (no < 0.0f) throw new IllegalArgumentException("NO must be positive");
+		if (no2 < 0.0f) throw new IllegalArgumentException("NO2 must be positive");
+		if (o3 < 0.0f) throw new IllegalArgumentException("O3 must be positive");
+		if (so2 < 0.0f) throw new IllegalArgumentException("SO2 must be positive");
+		if (pm2_5 < 0.0f) throw new IllegalArgumentException("PM2.5 must be positive");
+		if (pm10 < 0.0f) throw new IllegalArgumentException("PM10 must be positive");
+		if (nh3 < 0.0f) throw new IllegalArgumentException("NH3 must be positive");
 	}
 	
 	/*
-	  Getters and Setters
+	  Getters
 	 */
 	
 	/**
@@ -106,15 +162,6 @@ public class AirQuality {
 		return placeId;
 	}
 	
-	/**
-	 * Sets place id.
-	 *
-	 * @param placeId the place id
-	 */
-	public void setPlaceId(String placeId) {
-		this.placeId = placeId;
-	}
-	
 	/**
 	 * Gets the Air Quality Index.
 	 *
@@ -124,18 +171,6 @@ public class AirQuality {
 		return aqi;
 	}
 	
-	/**
-	 * Sets the Air Quality Index.
-	 * Must be between 1 and 5.
-	 *
-	 * @param aqi the Air Quality Index
-	 * @throws IllegalArgumentException if the AQI is not between 1 and 5
-	 */
-	public void setAqi(int aqi) {
-		if (aqi < 1 || aqi > 5) throw new IllegalArgumentException("AQI must be between 1 and 5");
-		this.aqi = aqi;
-	}
-	
 	/**
 	 * Gets the Carbon Monoxide concentration.
 	 *
@@ -145,18 +180,6 @@ public class AirQuality {
 		return co;
 	}
 	
-	/**
-	 * Sets the Carbon Monoxide concentration.
-	 * Must be null or positive.
-	 *
-	 * @param co the Carbon Monoxide concentration
-	 * @throws IllegalArgumentException if the CO is negative
-	 */
-	public void setCo(float co) {
-		if (co < 0.0f) throw new IllegalArgumentException("CO must be positive");
-		this.co = co;
-	}
-	
 	/**
 	 * Gets the Nitrogen Monoxide concentration.
 	 *
@@ -166,18 +189,6 @@ public class AirQuality {
 		return no;
 	}
 	
-	/**
-	 * Sets the Nitrogen Monoxide concentration.
-	 * Must be null or positive.
-	 *
-	 * @param no the Nitrogen Monoxide concentration
-	 * @throws IllegalArgumentException if the NO is negative
-	 */
-	public void setNo(float no) {
-		if (no < 0.0f) throw new IllegalArgumentException("NO must be positive");
-		this.no = no;
-	}
-	
 	/**
 	 * Gets the Nitrogen Dioxide concentration.
 	 *
@@ -187,18 +198,6 @@ public class AirQuality {
 		return no2;
 	}
 	
-	/**
-	 * Sets the Nitrogen Dioxide concentration.
-	 * Must be null or positive.
-	 *
-	 * @param no2 the Nitrogen Dioxide concentration
-	 * @throws IllegalArgumentException if the NO2 is negative
-	 */
-	public void setNo2(float no2) {
-		if (no2 < 0.0f) throw new IllegalArgumentException("NO2 must be positive");
-		this.no2 = no2;
-	}
-	
 	/**
 	 * Gets the Ozone concentration.
 	 *
@@ -208,18 +207,6 @@ public class AirQuality {
 		return o3;
 	}
 	
-	/**
-	 * Sets the Ozone concentration.
-	 * Must be null or positive.
-	 *
-	 * @param o3 the Ozone concentration
-	 * @throws IllegalArgumentException if the O3 is negative
-	 */
-	public void setO3(float o3) {
-		if (o3 < 0.0f) throw new IllegalArgumentException("O3 must be positive");
-		this.o3 = o3;
-	}
-	
 	/**
 	 * Gets the Sulfur Dioxide concentration.
 	 *
@@ -229,18 +216,6 @@ public class AirQuality {
 		return so2;
 	}
 	
-	/**
-	 * Sets the Sulfur Dioxide concentration.
-	 * Must be null or positive.
-	 *
-	 * @param so2 the Sulfur Dioxide concentration
-	 * @throws IllegalArgumentException if the SO2 is negative
-	 */
-	public void setSo2(float so2) {
-		if (so2 < 0.0f) throw new IllegalArgumentException("SO2 must be positive");
-		this.so2 = so2;
-	}
-	
 	/**
 	 * Gets the Particulate Matter 2.5 concentration.
 	 *
@@ -250,18 +225,6 @@ public class AirQuality {
 		return pm2_5;
 	}
 	
-	/**
-	 * Sets the Particulate Matter 2.5 concentration.
-	 * Must be null or positive.
-	 *
-	 * @param pm2_5 the Particulate Matter 2.5 concentration
-	 * @throws IllegalArgumentException if the PM2.5 is negative
-	 */
-	public void setPm2_5(float pm2_5) {
-		if (pm2_5 < 0.0f) throw new IllegalArgumentException("PM2.5 must be positive");
-		this.pm2_5 = pm2_5;
-	}
-	
 	/**
 	 * Gets the Particulate Matter 10 concentration.
 	 *
@@ -271,18 +234,6 @@ public class AirQuality {
 		return pm10;
 	}
 	
-	/**
-	 * Sets the Particulate Matter 10 concentration.
-	 * Must be null or positive.
-	 *
-	 * @param pm10 the Particulate Matter 10 concentration
-	 * @throws IllegalArgumentException if the PM10 is negative
-	 */
-	public void setPm10(float pm10) {
-		if (pm10 < 0.0f) throw new IllegalArgumentException("PM10 must be positive");
-		this.pm10 = pm10;
-	}
-	
 	/**
 	 * Gets the Ammonia concentration.
 	 *
@@ -292,41 +243,6 @@ public class AirQuality {
 		return nh3;
 	}
 	
-	/**
-	 * Sets the Ammonia concentration.
-	 * Must be null or positive.
-	 *
-	 * @param nh3 the Ammonia concentration
-	 * @throws IllegalArgumentException if the NH3 is negative
-	 */
-	public void setNh3(float nh3) {
-		if (nh3 < 0.0f) throw new IllegalArgumentException("NH3 must be positive");
-		this.nh3 = nh3;
-	}
-	
-	/**
-	 * Clones the object.
-	 *
-	 * @return the cloned object
-	 */
-	@NonNull
-	@Override
-	public AirQuality clone() {
-		AirQuality clonedObject = new AirQuality();
-		clonedObject.setPlaceId(placeId);
-		clonedObject.setAqi(aqi);
-		clonedObject.setCo(co);
-		clonedObject.setNo(no);
-		clonedObject.setNo2(no2);
-		clonedObject.setO3(o3);
-		clonedObject.setSo2(so2);
-		clonedObject.setPm2_5(pm2_5);
-		clonedObject.setPm10(pm10);
-		clonedObject.setNh3(nh3);
-		
-		return clonedObject;
-	}
-	
 	/**
 	 * Gets the string representation of the object.
 	 *
@@ -22,10 +22,14 @@ package fr.qgdev.openweather.metrics;
 
 import androidx.annotation.NonNull;
 import androidx.room.Entity;
+import androidx.room.Ignore;
+
+import com.google.gson.stream.JsonReader;
 
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.StringJoiner;
 
@@ -45,107 +49,173 @@ import java.util.StringJoiner;
 public class CurrentWeather {
 	
 	@NonNull
-	private String placeId;
+	private final String placeId;
 	
-	private long dt;
+	private final long dt;
 	
-	private String weather;
-	private String weatherDescription;
-	private int weatherCode;
+	private final String weather;
+	private final String weatherDescription;
+	private final int weatherCode;
 	
-	private float temperature;
-	private float temperatureFeelsLike;
+	private final float temperature;
+	private final float temperatureFeelsLike;
 	
-	private int pressure;
-	private int humidity;
-	private float dewPoint;
+	private final int pressure;
+	private final int humidity;
+	private final float dewPoint;
 	
-	private int cloudiness;
-	private int uvIndex;
-	private int visibility;
+	private final int cloudiness;
+	private final int uvIndex;
+	private final int visibility;
 	
-	private long sunriseDt;
-	private long sunsetDt;
+	private final long sunriseDt;
+	private final long sunsetDt;
 	
-	private float windSpeed;
-	private float windGustSpeed;
-	private boolean isWindDirectionReadable;
-	private short windDirection;
+	private final float windSpeed;
+	private final float windGustSpeed;
+	private final boolean isWindDirectionReadable;
+	private final short windDirection;
 	
-	private float rain;
-	private float snow;
+	private final float rain;
+	private final float snow;
 	
 	/**
 	 * Instantiates a new Current weather.
-	 */
-	public CurrentWeather() {
-		this.placeId = "";
-		this.dt = 0;
+	 *
+	 * @param placeId                 the place id
+	 * @param dt                      the time of the measure
+	 * @param weather                 the weather
+	 * @param weatherDescription      the weather description
+	 * @param weatherCode             the weather code
+	 * @param temperature             the temperature
+	 * @param temperatureFeelsLike    the feels like temperature
+	 * @param pressure                the pressure
+	 * @param humidity                the humidity
+	 * @param dewPoint                the dew point
+	 * @param cloudiness              the cloudiness
+	 * @param uvIndex                 the uv index
+	 * @param visibility              the visibility
+	 * @param sunriseDt               the sunrise time
+	 * @param sunsetDt                the sunset time
+	 * @param windSpeed               the wind speed
+	 * @param windGustSpeed           the wind gust speed
+	 * @param isWindDirectionReadable true if the wind direction is readable
+	 * @param windDirection           the wind direction
+	 * @param rain                    the rain of the last hour
+	 * @param snow                    the snow of the last hour
+	 * @throws IllegalArgumentException if a value is out of its bounds
+	 */
+	public CurrentWeather(@NonNull String placeId, long dt,
+								 String weather, String weatherDescription, int weatherCode,
+								 float temperature, float temperatureFeelsLike,
+								 int pressure, int humidity, float dewPoint,
+								 int cloudiness, int uvIndex, int visibility,
+								 long sunriseDt, long sunsetDt,
+								 float windSpeed, float windGustSpeed, boolean isWindDirectionReadable, short windDirection,
+								 float rain, float snow) {
+		this.placeId = placeId;
+		this.dt = dt;
 		
-		this.weather = "";
-		this.weatherDescription = "";
-		this.weatherCode = 0;
+		this.weather = weather;
+		this.weatherDescription = weatherDescription;
+		this.weatherCode = weatherCode;
 		
-		this.temperature = 0;
-		this.temperatureFeelsLike = 0;
+		this.temperature = temperature;
+		this.temperatureFeelsLike = temperatureFeelsLike;
+		
+		this.pressure = pressure;
+		this.humidity = humidity;
+		this.dewPoint = dewPoint;
 		
-		this.pressure = 0;
-		this.humidity = 0;
-		this.dewPoint = 0;
+		this.cloudiness = cloudiness;
+		this.uvIndex = uvIndex;
+		this.visibility = visibility;
 		
-		this.cloudiness = 0;
-		this.uvIndex = 0;
-		this.visibility = 0;
+		this.sunriseDt = sunriseDt;
+		this.sunsetDt = sunsetDt;
 		
-		this.sunriseDt = 0;
-		this.sunsetDt = 0;
+		this.windSpeed = windSpeed;
+		this.windGustSpeed = windGustSpeed;
+		this.isWindDirectionReadable = isWindDirectionReadable;
+		this.windDirection = windDirection;
 		
-		this.windSpeed = 0;
-		this.windGustSpeed = 0;
-		this.isWindDirectionReadable = false;
-		this.windDirection = 0;
+		this.rain = rain;
+		this.snow = snow;
 		
-		this.rain = 0;
-		this.snow = 0;
+		validate();
 	}
 	
 	/**
-	 * Instantiates a new Current weather.
+	 * Instantiates a copy of a current weather bound to another place.
+	 *
+	 * @param currentWeather the current weather to copy
+	 * @param placeId        the place id of the copy
+	 */
+	@Ignore
+	public CurrentWeather(@NonNull CurrentWeather currentWeather, @NonNull String placeId) {
+		this.placeId = placeId;
+		this.dt = currentWeather.dt;
+		this.weather = currentWeather.weather;
+		this.weatherDescription = currentWeather.weatherDescription;
+		this.weatherCode = currentWeather.weatherCode;
+		this.temperature = currentWeather.temperature;
+		this.temperatureFeelsLike = currentWeather.temperatureFeelsLike;
+		this.pressure = currentWeather.pressure;
+		this.humidity = currentWeather.humidity;
+		this.dewPoint = currentWeather.dewPoint;
+		this.cloudiness = currentWeather.cloudiness;
+		this.uvIndex = currentWeather.uvIndex;
+		this.visibility = currentWeather.visibility;
+		this.sunriseDt = currentWeather.sunriseDt;
+		this.sunsetDt = currentWeather.sunsetDt;
+		this.windSpeed = currentWeather.windSpeed;
+		this.windGustSpeed = currentWeather.windGustSpeed;
+		this.isWindDirectionReadable = currentWeather.isWindDirectionReadable;
+		this.windDirection = currentWeather.windDirection;
+		this.rain = currentWeather.rain;
+		this.snow = currentWeather.snow;
+	}
+	
+	/**
+	 * Instantiates a new Current weather, not bound to any place.
 	 *
 	 * @param currentWeather the current weather json object from openweathermap
 	 */
+	@Ignore
 	public CurrentWeather(JSONObject currentWeather) throws JSONException {
+		this.placeId = "";
+		
 		//	Set the time
 		// Check for overflows
 		long dt = currentWeather.getLong("dt");
 		if (dt > dt * 1000)
 			throw new IllegalArgumentException("dt is too big, overflow on long");
-		setDt(currentWeather.getLong("dt") * 1000);
+		this.dt = currentWeather.getLong("dt") * 1000;
 		
 		// Weather descriptions
 		JSONObject currentWeatherDescriptionsJSON = currentWeather.getJSONArray("weather").getJSONObject(0);    //  Get only the first station
-		setWeather(currentWeatherDescriptionsJSON.getString("main"));
-		setWeatherDescription(currentWeatherDescriptionsJSON.getString("description"));
-		setWeatherCode(currentWeatherDescriptionsJSON.getInt("id"));
+		this.weather = currentWeatherDescriptionsJSON.getString("main");
+		this.weatherDescription = currentWeatherDescriptionsJSON.getString("description");
+		this.weatherCode = currentWeatherDescriptionsJSON.getInt("id");
 		
 		// Temperatures
-		setTemperature(BigDecimal.valueOf(currentWeather.getDouble("temp")).floatValue());
-		setTemperatureFeelsLike(BigDecimal.valueOf(currentWeather.getDouble("feels_like")).floatValue());
+		this.temperature = BigDecimal.valueOf(currentWeather.getDouble("temp")).floatValue();
+		this.temperatureFeelsLike = BigDecimal.valueOf(currentWeather.getDouble("feels_like")).floatValue();
 		
 		// Pressure, Humidity, dewPoint, uvIndex
-		setPressure(currentWeather.getInt("pressure"));
-		setHumidity(currentWeather.getInt("humidity"));
-		setDewPoint(BigDecimal.valueOf(currentWeather.getDouble("dew_point")).floatValue());
+		this.pressure = currentWeather.getInt("pressure");
+		this.humidity = currentWeather.getInt("humidity");
+		this.dewPoint = BigDecimal.valueOf(currentWeather.getDouble("dew_point")).floatValue();
 		
 		if (currentWeather.has("uvi")) {
-			setUvIndex(currentWeather.getInt("uvi"));
+			this.uvIndex = currentWeather.getInt("uvi");
 		} else {
-			setUvIndex(0);
+			this.uvIndex = 0;
 		}
 		
 		// Sky informations
-		setCloudiness(currentWeather.getInt("clouds"));
-		setVisibility(currentWeather.getInt("visibility"));
+		this.cloudiness = currentWeather.getInt("clouds");
+		this.visibility = currentWeather.getInt("visibility");
 		
 		// Sunrise and Sunset
 		//	Check for overflows
@@ -157,80 +227,277 @@ public class CurrentWeather {
 		if (sunset > sunset * 1000)
 			throw new IllegalArgumentException("sunset is too big, overflow on long");
 		
-		setSunriseDt(currentWeather.getLong("sunrise") * 1000);
-		setSunsetDt(currentWeather.getLong("sunset") * 1000);
+		this.sunriseDt = currentWeather.getLong("sunrise") * 1000;
+		this.sunsetDt = currentWeather.getLong("sunset") * 1000;
 		
 		// Wind informations
-		setWindSpeed(BigDecimal.valueOf(currentWeather.getDouble("wind_speed")).floatValue());
+		this.windSpeed = BigDecimal.valueOf(currentWeather.getDouble("wind_speed")).floatValue();
 		
 		////	Enough wind for a viable wind direction information
-		setWindDirectionReadable(currentWeather.has("wind_deg"));
-		if (isWindDirectionReadable()) {
-			setWindDirection(BigDecimal.valueOf(currentWeather.getInt("wind_deg")).shortValue());
+		this.isWindDirectionReadable = currentWeather.has("wind_deg");
+		if (this.isWindDirectionReadable) {
+			this.windDirection = BigDecimal.valueOf(currentWeather.getInt("wind_deg")).shortValue();
+		} else {
+			this.windDirection = 0;
 		}
 		////  Wind Gusts
 		if (currentWeather.has("wind_gust")) {
-			setWindGustSpeed(BigDecimal.valueOf(currentWeather.getDouble("wind_gust")).floatValue());
+			this.windGustSpeed = BigDecimal.valueOf(currentWeather.getDouble("wind_gust")).floatValue();
 		} else {
-			setWindGustSpeed(0);
+			this.windGustSpeed = 0;
 		}
 		
 		//	Precipitations
 		////	Rain
 		if (currentWeather.has("rain") && currentWeather.getJSONObject("rain").has("1h")) {
-			setRain(BigDecimal.valueOf(currentWeather.getJSONObject("rain").getDouble("1h")).floatValue());
+			this.rain = BigDecimal.valueOf(currentWeather.getJSONObject("rain").getDouble("1h")).floatValue();
 		} else {
-			setRain(0);
+			this.rain = 0;
 		}
 		////	Snow
 		if (currentWeather.has("snow") && currentWeather.getJSONObject("snow").has("1h")) {
-			setSnow(BigDecimal.valueOf(currentWeather.getJSONObject("snow").getDouble("1h")).floatValue());
+			this.snow = BigDecimal.valueOf(currentWeather.getJSONObject("snow").getDouble("1h")).floatValue();
 		} else {
-			setSnow(0);
+			this.snow = 0;
 		}
+		
+		validate();
 	}
 	
-	/*
-	  Getters and Setters
+	/**
+	 * Instantiates a new Current weather from a stream, not bound to any place.
+	 * Acts like the JSONObject constructor but reads values directly from the reader.
+	 *
+	 * @param reader the reader positioned on the current weather object from openweathermap
+	 * @throws IOException if the object is malformed or a required field is missing
 	 */
+	@Ignore
+	public CurrentWeather(JsonReader reader) throws IOException {
+		int requiredFound = 0;
+		
+		long dt = 0;
+		JsonReaderUtils.WeatherDescription description = null;
+		float temperature = 0;
+		float temperatureFeelsLike = 0;
+		int pressure = 0;
+		int humidity = 0;
+		float dewPoint = 0;
+		int uvIndex = 0;
+		int cloudiness = 0;
+		int visibility = 0;
+		long sunriseDt = 0;
+		long sunsetDt = 0;
+		float windSpeed = 0;
+		float windGustSpeed = 0;
+		boolean isWindDirectionReadable = false;
+		short windDirection = 0;
+		float rain = 0;
+		float snow = 0;
+		
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+			
+			//	Optional values can be null
+			if (JsonReaderUtils.skipNull(reader)) continue;
+			
+			switch (name) {
+				//	Set the time
+				case "dt":
+					dt = nextMillis(reader, name);
+					requiredFound++;
+					break;
+				
+				// Weather descriptions
+				case "weather":
+					description = JsonReaderUtils.nextWeatherDescription(reader);
+					if (description != null) requiredFound++;
+					break;
+				
+				// Temperatures
+				case "temp":
+					temperature = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				case "feels_like":
+					temperatureFeelsLike = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				
+				// Pressure, Humidity, dewPoint, uvIndex
+				case "pressure":
+					pressure = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				case "humidity":
+					humidity = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				case "dew_point":
+					dewPoint = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				case "uvi":
+					uvIndex = JsonReaderUtils.nextInt(reader);
+					break;
+				
+				// Sky informations
+				case "clouds":
+					cloudiness = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				case "visibility":
+					visibility = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				
+				// Sunrise and Sunset
+				case "sunrise":
+					sunriseDt = nextMillis(reader, name);
+					requiredFound++;
+					break;
+				case "sunset":
+					sunsetDt = nextMillis(reader, name);
+					requiredFound++;
+					break;
+				
+				// Wind informations
+				case "wind_speed":
+					windSpeed = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				case "wind_deg":
+					isWindDirectionReadable = true;
+					windDirection = (short) JsonReaderUtils.nextInt(reader);
+					break;
+				case "wind_gust":
+					windGustSpeed = JsonReaderUtils.nextFloat(reader);
+					break;
+				
+				//	Precipitations
+				case "rain":
+					rain = JsonReaderUtils.nextLastHourPrecipitation(reader);
+					break;
+				case "snow":
+					snow = JsonReaderUtils.nextLastHourPrecipitation(reader);
+					break;
+				
+				default:
+					reader.skipValue();
+			}
+		}
+		reader.endObject();
+		
+		JsonReaderUtils.checkRequired(requiredFound, 12, "current weather");
+		
+		this.placeId = "";
+		this.dt = dt;
+		
+		this.weather = description.main;
+		this.weatherDescription = description.description;
+		this.weatherCode = description.code;
+		
+		this.temperature = temperature;
+		this.temperatureFeelsLike = temperatureFeelsLike;
+		
+		this.pressure = pressure;
+		this.humidity = humidity;
+		this.dewPoint = dewPoint;
+		
+		this.cloudiness = cloudiness;
+		this.uvIndex = uvIndex;
+		this.visibility = visibility;
+		
+		this.sunriseDt = sunriseDt;
+		this.sunsetDt = sunsetDt;
+		
+		this.windSpeed = windSpeed;
+		this.windGustSpeed = windGustSpeed;
+		this.isWindDirectionReadable = isWindDirectionReadable;
+		this.windDirection = windDirection;
+		
+		this.rain = rain;
+		this.snow = snow;
+		
+		validate();
+	}
 	
 	/**
-	 * Gets place id.
+	 * Read a timestamp in seconds and convert it in milliseconds
 	 *
-	 * @return the place id
+	 * @param reader the reader positioned on the timestamp
+	 * @param name   the name of the timestamp, used in the error message
+	 * @return the timestamp in milliseconds
+	 * @throws IOException if the value cannot be read
 	 */
-	public String getPlaceId() {
-		return placeId;
+	private static long nextMillis(JsonReader reader, String name) throws IOException {
+		// Check for overflows
+		long time = reader.nextLong();
+		if (time > time * 1000)
+			throw new IllegalArgumentException(name + " is too big, overflow on long");
+		return time * 1000;
 	}
 	
 	/**
-	 * Sets place id.
+	 * Check that every value is in its bounds
 	 *
-	 * @param placeId the place id
+	 * @throws IllegalArgumentException if a value is out of its bounds
 	 */
-	public void setPlaceId(String placeId) {
-		this.placeId = placeId;
+	private void validate() {
+		if (dt < 0)
+			throw new IllegalArgumentException("dt must be positive or null");
+		if (weather == null)
+			throw new IllegalArgumentException("weather must not be null");
+		if (weatherDescription == null)
+			throw new IllegalArgumentException("weatherDescription must not be null");
+		if (weatherCode < 0)
+			throw new IllegalArgumentException("weatherCode must be positive or null");
+		if (pressure < 0)
+			throw new IllegalArgumentException("pressure must be positive or null");
+		if (humidity < 0 || humidity > 100)
+			throw new IllegalArgumentException("humidity must be between 0 and 100 (both included)");
+		if (cloudiness < 0 || cloudiness > 100)
+			throw new IllegalArgumentException("cloudiness must be between 0 and 100 (both included)");
+		if (uvIndex < 0)
+			throw new IllegalArgumentException("uvIndex must be positive or null");
+		if (visibility < 0)
+			throw new IllegalArgumentException("visibility must be positive or null");
+		if (sunriseDt < 0)
+			throw new IllegalArgumentException("sunrise must be positive or null");
+		if (sunsetDt < 0)
+			throw new IllegalArgumentException("sunset must be positive or null");
+		if (windSpeed < 0)
+			throw new IllegalArgumentException("windSpeed must be positive");
+		if (windGustSpeed < 0)
+			throw new IllegalArgumentException("windGustSpeed must be positive or null");
+		if (windDirection < 0 || windDirection > 360)
+			throw new IllegalArgumentException("windDirection must be between 0 and 360");
+		if (rain < 0)
+			throw new IllegalArgumentException("rain must be positive");
+		if (snow < 0)
+			throw new IllegalArgumentException("snow must be positive");
 	}
 	
+	/*
+	  Getters
+	 */
+	
 	/**
-	 * Gets dt.
+	 * Gets place id.
 	 *
-	 * @return the dt  (in milliseconds)
+	 * @return the place id
 	 */
-	public long getDt() {
-		return dt;
+	public String getPlaceId() {
+		return placeId;
 	}
 	
 	/**
-	 * Sets dt.
+	 * Gets dt.
 	 *
-	 * @param dt the dt (in milliseconds)
-	 *           Must be positive or zero
+	 * @return the dt  (in milliseconds)
 	 */
-	public void setDt(long dt) {
-		if (dt < 0)
-			throw new IllegalArgumentException("dt must be positive or null");
-		this.dt = dt;
+	public long getDt() {
+		return dt;
 	}
 	
 	/**
@@ -242,18 +509,6 @@ public class CurrentWeather {
 		return weather;
 	}
 	
-	/**
-	 * Sets weather.
-	 *
-	 * @param weather the weather
-	 *                Must not be null
-	 */
-	public void setWeather(String weather) {
-		if (weather == null)
-			throw new IllegalArgumentException("weather must not be null");
-		this.weather = weather;
-	}
-	
 	/**
 	 * Gets weather description.
 	 *
@@ -263,18 +518,6 @@ public class CurrentWeather {
 		return weatherDescription;
 	}
 	
-	/**
-	 * Sets weather description.
-	 *
-	 * @param weatherDescription the weather description
-	 *                           Must not be null
-	 */
-	public void setWeatherDescription(String weatherDescription) {
-		if (weatherDescription == null)
-			throw new IllegalArgumentException("weatherDescription must not be null");
-		this.weatherDescription = weatherDescription;
-	}
-	
 	/**
 	 * Gets weather code.
 	 *
@@ -284,18 +527,6 @@ public class CurrentWeather {
 		return weatherCode;
 	}
 	
-	/**
-	 * Sets weather code.
-	 *
-	 * @param weatherCode the weather code
-	 *                    Must be positive or null
-	 */
-	public void setWeatherCode(int weatherCode) {
-		if (weatherCode < 0)
-			throw new IllegalArgumentException("weatherCode must be positive or null");
-		this.weatherCode = weatherCode;
-	}
-	
 	/**
 	 * Gets temperature.
 	 *
@@ -305,15 +536,6 @@ public class CurrentWeather {
 		return temperature;
 	}
 	
-	/**
-	 * Sets temperature.
-	 *
-	 * @param temperature the temperature
-	 */
-	public void setTemperature(float temperature) {
-		this.temperature = temperature;
-	}
-	
 	/**
 	 * Gets feels like temperature
 	 *
@@ -323,15 +545,6 @@ public class CurrentWeather {
 		return temperatureFeelsLike;
 	}
 	
-	/**
-	 * Sets feels like temperature
-	 *
-	 * @param temperatureFeelsLike the feels like temperature
-	 */
-	public void setTemperatureFeelsLike(float temperatureFeelsLike) {
-		this.temperatureFeelsLike = temperatureFeelsLike;
-	}
-	
 	/**
 	 * Gets pressure.
 	 *
@@ -341,18 +554,6 @@ public class CurrentWeather {
 		return pressure;
 	}
 	
-	/**
-	 * Sets pressure.
-	 *
-	 * @param pressure the pressure
-	 *                 Must be positive or null
-	 */
-	public void setPressure(int pressure) {
-		if (pressure < 0)
-			throw new IllegalArgumentException("pressure must be positive or null");
-		this.pressure = pressure;
-	}
-	
 	/**
 	 * Gets humidity.
 	 *
@@ -362,18 +563,6 @@ public class CurrentWeather {
 		return humidity;
 	}
 	
-	/**
-	 * Sets humidity.
-	 *
-	 * @param humidity the humidity
-	 *                 Must be between 0 and 100 (both included)
-	 */
-	public void setHumidity(int humidity) {
-		if (humidity < 0 || humidity > 100)
-			throw new IllegalArgumentException("humidity must be between 0 and 100 (both included)");
-		this.humidity = humidity;
-	}
-	
 	/**
 	 * Gets dew point.
 	 *
@@ -383,15 +572,6 @@ public class CurrentWeather {
 		return dewPoint;
 	}
 	
-	/**
-	 * Sets dew point.
-	 *
-	 * @param dewPoint the dew point
-	 */
-	public void setDewPoint(float dewPoint) {
-		this.dewPoint = dewPoint;
-	}
-	
 	/**
 	 * Gets cloud coverage.
 	 *
@@ -401,18 +581,6 @@ public class CurrentWeather {
 		return cloudiness;
 	}
 	
-	/**
-	 * Sets cloud coverage.
-	 *
-	 * @param cloudiness the cloud coverage
-	 *                   Must be between 0 and 100 (both included)
-	 */
-	public void setCloudiness(int cloudiness) {
-		if (cloudiness < 0 || cloudiness > 100)
-			throw new IllegalArgumentException("cloudiness must be between 0 and 100 (both included)");
-		this.cloudiness = cloudiness;
-	}
-	
 	/**
 	 * Gets UV index.
 	 *
@@ -422,18 +590,6 @@ public class CurrentWeather {
 		return uvIndex;
 	}
 	
-	/**
-	 * Sets UV index.
-	 *
-	 * @param uvIndex the uv index
-	 *                Must be positive or null
-	 */
-	public void setUvIndex(int uvIndex) {
-		if (uvIndex < 0)
-			throw new IllegalArgumentException("uvIndex must be positive or null");
-		this.uvIndex = uvIndex;
-	}
-	
 	/**
 	 * Gets visibility distance.
 	 *
@@ -443,18 +599,6 @@ public class CurrentWeather {
 		return visibility;
 	}
 	
-	/**
-	 * Sets visibility distance.
-	 *
-	 * @param visibility the visibility distance
-	 *                   Must be positive or null
-	 */
-	public void setVisibility(int visibility) {
-		if (visibility < 0)
-			throw new IllegalArgumentException("visibility must be positive or null");
-		this.visibility = visibility;
-	}
-	
 	/**
 	 * Gets sunrise time.
 	 *
@@ -464,18 +608,6 @@ public class CurrentWeather {
 		return sunriseDt;
 	}
 	
-	/**
-	 * Sets sunrise time.
-	 *
-	 * @param sunriseDt the sunrise time (in milliseconds)
-	 *                  Must be positive or null
-	 */
-	public void setSunriseDt(long sunriseDt) {
-		if (sunriseDt < 0)
-			throw new IllegalArgumentException("sunrise must be positive or null");
-		this.sunriseDt = sunriseDt;
-	}
-	
 	/**
 	 * Gets sunset time.
 	 *
@@ -485,18 +617,6 @@ public class CurrentWeather {
 		return sunsetDt;
 	}
 	
-	/**
-	 * Sets sunset time.
-	 *
-	 * @param sunsetDt the sunset time (in milliseconds)
-	 *                 Must be positive or null
-	 */
-	public void setSunsetDt(long sunsetDt) {
-		if (sunsetDt < 0)
-			throw new IllegalArgumentException("sunset must be positive or null");
-		this.sunsetDt = sunsetDt;
-	}
-	
 	/**
 	 * Used to check if the current weather is during the day or during the night.
 	 *
@@ -515,18 +635,6 @@ public class CurrentWeather {
 		return windSpeed;
 	}
 	
-	/**
-	 * Sets wind speed.
-	 *
-	 * @param windSpeed the wind speed
-	 *                  Must be positive
-	 */
-	public void setWindSpeed(float windSpeed) {
-		if (windSpeed < 0)
-			throw new IllegalArgumentException("windSpeed must be positive");
-		this.windSpeed = windSpeed;
-	}
-	
 	/**
 	 * Gets wind gust speed.
 	 *
@@ -536,18 +644,6 @@ public class CurrentWeather {
 		return windGustSpeed;
 	}
 	
-	/**
-	 * Sets wind gust speed.
-	 *
-	 * @param windGustSpeed the wind gust speed
-	 *                      Must be positive or null
-	 */
-	public void setWindGustSpeed(float windGustSpeed) {
-		if (windGustSpeed < 0)
-			throw new IllegalArgumentException("windGustSpeed must be positive or null");
-		this.windGustSpeed = windGustSpeed;
-	}
-	
 	/**
 	 * Used to check if the wind gust speed is actually readable.
 	 *
@@ -557,15 +653,6 @@ public class CurrentWeather {
 		return isWindDirectionReadable;
 	}
 	
-	/**
-	 * Sets if the wind gust speed is readable.
-	 *
-	 * @param windDirectionReadable true if the wind gust speed is readable, false otherwise
-	 */
-	public void setWindDirectionReadable(boolean windDirectionReadable) {
-		isWindDirectionReadable = windDirectionReadable;
-	}
-	
 	/**
 	 * Gets wind direction in degrees.
 	 *
@@ -575,18 +662,6 @@ public class CurrentWeather {
 		return windDirection;
 	}
 	
-	/**
-	 * Sets wind direction in degrees.
-	 *
-	 * @param windDirection the wind direction
-	 *                      Must be between 0 and 360
-	 */
-	public void setWindDirection(short windDirection) {
-		if (windDirection < 0 || windDirection > 360)
-			throw new IllegalArgumentException("windDirection must be between 0 and 360");
-		this.windDirection = windDirection;
-	}
-	
 	/**
 	 * Gets rain volume for the last hour.
 	 *
@@ -596,18 +671,6 @@ public class CurrentWeather {
 		return rain;
 	}
 	
-	/**
-	 * Sets rain volume for the last hour.
-	 *
-	 * @param rain the rain volume for the last hour
-	 *             Must be positive
-	 */
-	public void setRain(float rain) {
-		if (rain < 0)
-			throw new IllegalArgumentException("rain must be positive");
-		this.rain = rain;
-	}
-	
 	/**
 	 * Used to check if there is rain.
 	 *
@@ -626,18 +689,6 @@ public class CurrentWeather {
 		return snow;
 	}
 	
-	/**
-	 * Sets snow volume for the last hour.
-	 *
-	 * @param snow the snow volume for the last hour
-	 *             Must be positive
-	 */
-	public void setSnow(float snow) {
-		if (snow < 0)
-			throw new IllegalArgumentException("snow must be positive");
-		this.snow = snow;
-	}
-	
 	/**
 	 * Used to check if there is snow.
 	 *
@@ -647,40 +698,6 @@ public class CurrentWeather {
 		return snow > 0;
 	}
 	
-	/**
-	 * Used to clone the current weather.
-	 *
-	 * @return a clone of the current weather
-	 */
-	@NonNull
-	public CurrentWeather clone() {
-		CurrentWeather returnedCurrentWeather = new CurrentWeather();
-		
-		returnedCurrentWeather.setPlaceId(getPlaceId());
-		returnedCurrentWeather.setDt(getDt());
-		returnedCurrentWeather.setWeather(getWeather());
-		returnedCurrentWeather.setWeatherDescription(getWeatherDescription());
-		returnedCurrentWeather.setWeatherCode(getWeatherCode());
-		returnedCurrentWeather.setTemperature(getTemperature());
-		returnedCurrentWeather.setTemperatureFeelsLike(getTemperatureFeelsLike());
-		returnedCurrentWeather.setPressure(getPressure());
-		returnedCurrentWeather.setHumidity(getHumidity());
-		returnedCurrentWeather.setDewPoint(getDewPoint());
-		returnedCurrentWeather.setCloudiness(getCloudiness());
-		returnedCurrentWeather.setUvIndex(getUvIndex());
-		returnedCurrentWeather.setVisibility(getVisibility());
-		returnedCurrentWeather.setSunriseDt(getSunriseDt());
-		returnedCurrentWeather.setSunsetDt(getSunsetDt());
-		returnedCurrentWeather.setWindSpeed(getWindSpeed());
-		returnedCurrentWeather.setWindGustSpeed(getWindGustSpeed());
-		returnedCurrentWeather.setWindDirectionReadable(isWindDirectionReadable());
-		returnedCurrentWeather.setWindDirection(getWindDirection());
-		returnedCurrentWeather.setRain(getRain());
-		returnedCurrentWeather.setSnow(getSnow());
-		
-		return returnedCurrentWeather;
-	}
-	
 	/**
 	 * Used to get the current weather as a string.
 	 *
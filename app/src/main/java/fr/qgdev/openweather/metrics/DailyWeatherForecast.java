@@ -22,10 +22,14 @@ package fr.qgdev.openweather.metrics;
 
 import androidx.annotation.NonNull;
 import androidx.room.Entity;
+import androidx.room.Ignore;
+
+import com.google.gson.stream.JsonReader;
 
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.StringJoiner;
 
@@ -44,242 +48,602 @@ import java.util.StringJoiner;
 		  primaryKeys = {"placeId", "dt"})
 public class DailyWeatherForecast {
 	@NonNull
-	private String placeId;
-	private long dt;
+	private final String placeId;
+	private final long dt;
 	
-	private String weather;
-	private String weatherDescription;
-	private int weatherCode;
+	private final String weather;
+	private final String weatherDescription;
+	private final int weatherCode;
 	
-	private float temperatureMorning;
-	private float temperatureDay;
-	private float temperatureEvening;
-	private float temperatureNight;
-	private float temperatureMinimum;
-	private float temperatureMaximum;
+	private final float temperatureMorning;
+	private final float temperatureDay;
+	private final float temperatureEvening;
+	private final float temperatureNight;
+	private final float temperatureMinimum;
+	private final float temperatureMaximum;
 	
-	private float temperatureMorningFeelsLike;
-	private float temperatureDayFeelsLike;
-	private float temperatureEveningFeelsLike;
-	private float temperatureNightFeelsLike;
+	private final float temperatureMorningFeelsLike;
+	private final float temperatureDayFeelsLike;
+	private final float temperatureEveningFeelsLike;
+	private final float temperatureNightFeelsLike;
 	
-	private int pressure;
-	private int humidity;
-	private float dewPoint;
+	private final int pressure;
+	private final int humidity;
+	private final float dewPoint;
 	
-	private int cloudiness;
-	private long sunriseDt;
-	private long sunsetDt;
-	private int uvIndex;
+	private final int cloudiness;
+	private final long sunriseDt;
+	private final long sunsetDt;
+	private final int uvIndex;
 	
-	private long moonriseDt;
-	private long moonsetDt;
-	private float moonPhase;
+	private final long moonriseDt;
+	private final long moonsetDt;
+	private final float moonPhase;
 	
-	private float windSpeed;
-	private float windGustSpeed;
-	private short windDirection;
+	private final float windSpeed;
+	private final float windGustSpeed;
+	private final short windDirection;
 	
-	private float pop;
-	private float rain;
-	private float snow;
+	private final float pop;
+	private final float rain;
+	private final float snow;
 	
 	/**
 	 * Instantiates a new Daily weather forecast.
-	 */
-	public DailyWeatherForecast() {
-		this.placeId = "";
-		this.dt = 0;
+	 *
+	 * @param placeId                     the place id
+	 * @param dt                          the time of the forecast
+	 * @param weather                     the weather
+	 * @param weatherDescription          the weather description
+	 * @param weatherCode                 the weather code
+	 * @param temperatureMorning          the morning temperature
+	 * @param temperatureDay              the day temperature
+	 * @param temperatureEvening          the evening temperature
+	 * @param temperatureNight            the night temperature
+	 * @param temperatureMinimum          the minimum temperature
+	 * @param temperatureMaximum          the maximum temperature
+	 * @param temperatureMorningFeelsLike the morning feels like temperature
+	 * @param temperatureDayFeelsLike     the day feels like temperature
+	 * @param temperatureEveningFeelsLike the evening feels like temperature
+	 * @param temperatureNightFeelsLike   the night feels like temperature
+	 * @param pressure                    the pressure
+	 * @param humidity                    the humidity
+	 * @param dewPoint                    the dew point
+	 * @param cloudiness                  the cloudiness
+	 * @param sunriseDt                   the sunrise time
+	 * @param sunsetDt                    the sunset time
+	 * @param uvIndex                     the uv index
+	 * @param moonriseDt                  the moonrise time
+	 * @param moonsetDt                   the moonset time
+	 * @param moonPhase                   the moon phase
+	 * @param windSpeed                   the wind speed
+	 * @param windGustSpeed               the wind gust speed
+	 * @param windDirection               the wind direction
+	 * @param pop                         the probability of precipitation
+	 * @param rain                        the rain
+	 * @param snow                        the snow
+	 * @throws IllegalArgumentException if a value is out of its bounds
+	 */
+	public DailyWeatherForecast(@NonNull String placeId, long dt,
+										String weather, String weatherDescription, int weatherCode,
+										float temperatureMorning, float temperatureDay, float temperatureEvening, float temperatureNight, float temperatureMinimum, float temperatureMaximum,
+										float temperatureMorningFeelsLike, float temperatureDayFeelsLike, float temperatureEveningFeelsLike, float temperatureNightFeelsLike,
+										int pressure, int humidity, float dewPoint,
+										int cloudiness, long sunriseDt, long sunsetDt, int uvIndex,
+										long moonriseDt, long moonsetDt, float moonPhase,
+										float windSpeed, float windGustSpeed, short windDirection,
+										float pop, float rain, float snow) {
+		this.placeId = placeId;
+		this.dt = dt;
 		
-		this.weather = "";
-		this.weatherDescription = "";
-		this.weatherCode = 0;
+		this.weather = weather;
+		this.weatherDescription = weatherDescription;
+		this.weatherCode = weatherCode;
 		
-		this.temperatureMorning = 0;
-		this.temperatureDay = 0;
-		this.temperatureEvening = 0;
-		this.temperatureNight = 0;
-		this.temperatureMinimum = 0;
-		this.temperatureMaximum = 0;
+		this.temperatureMorning = temperatureMorning;
+		this.temperatureDay = temperatureDay;
+		this.temperatureEvening = temperatureEvening;
+		this.temperatureNight = temperatureNight;
+		this.temperatureMinimum = temperatureMinimum;
+		this.temperatureMaximum = temperatureMaximum;
 		
-		this.temperatureMorningFeelsLike = 0;
-		this.temperatureDayFeelsLike = 0;
-		this.temperatureEveningFeelsLike = 0;
-		this.temperatureNightFeelsLike = 0;
+		this.temperatureMorningFeelsLike = temperatureMorningFeelsLike;
+		this.temperatureDayFeelsLike = temperatureDayFeelsLike;
+		this.temperatureEveningFeelsLike = temperatureEveningFeelsLike;
+		this.temperatureNightFeelsLike = temperatureNightFeelsLike;
 		
-		this.pressure = 0;
-		this.humidity = 0;
-		this.dewPoint = 0;
+		this.pressure = pressure;
+		this.humidity = humidity;
+		this.dewPoint = dewPoint;
 		
-		this.cloudiness = 0;
-		this.sunriseDt = 0;
-		this.sunsetDt = 0;
-		this.uvIndex = 0;
+		this.cloudiness = cloudiness;
+		this.sunriseDt = sunriseDt;
+		this.sunsetDt = sunsetDt;
+		this.uvIndex = uvIndex;
 		
-		this.moonriseDt = 0;
-		this.moonsetDt = 0;
-		this.moonPhase = 0;
+		this.moonriseDt = moonriseDt;
+		this.moonsetDt = moonsetDt;
+		this.moonPhase = moonPhase;
 		
-		this.windSpeed = 0;
-		this.windGustSpeed = 0;
-		this.windDirection = 0;
+		this.windSpeed = windSpeed;
+		this.windGustSpeed = windGustSpeed;
+		this.windDirection = windDirection;
+		
+		this.pop = pop;
+		this.rain = rain;
+		this.snow = snow;
 		
-		this.pop = 0;
-		this.rain = 0;
-		this.snow = 0;
+		validate();
 	}
 	
 	/**
-	 * Instantiates a new Daily weather forecast.
+	 * Instantiates a copy of a daily weather forecast bound to another place.
+	 *
+	 * @param dailyWeatherForecast the daily weather forecast to copy
+	 * @param placeId              the place id of the copy
+	 */
+	@Ignore
+	public DailyWeatherForecast(@NonNull DailyWeatherForecast dailyWeatherForecast, @NonNull String placeId) {
+		this.placeId = placeId;
+		this.dt = dailyWeatherForecast.dt;
+		this.weather = dailyWeatherForecast.weather;
+		this.weatherDescription = dailyWeatherForecast.weatherDescription;
+		this.weatherCode = dailyWeatherForecast.weatherCode;
+		this.temperatureMorning = dailyWeatherForecast.temperatureMorning;
+		this.temperatureDay = dailyWeatherForecast.temperatureDay;
+		this.temperatureEvening = dailyWeatherForecast.temperatureEvening;
+		this.temperatureNight = dailyWeatherForecast.temperatureNight;
+		this.temperatureMinimum = dailyWeatherForecast.temperatureMinimum;
+		this.temperatureMaximum = dailyWeatherForecast.temperatureMaximum;
+		this.temperatureMorningFeelsLike = dailyWeatherForecast.temperatureMorningFeelsLike;
+		this.temperatureDayFeelsLike = dailyWeatherForecast.temperatureDayFeelsLike;
+		this.temperatureEveningFeelsLike = dailyWeatherForecast.temperatureEveningFeelsLike;
+		this.temperatureNightFeelsLike = dailyWeatherForecast.temperatureNightFeelsLike;
+		this.pressure = dailyWeatherForecast.pressure;
+		this.humidity = dailyWeatherForecast.humidity;
+		this.dewPoint = dailyWeatherForecast.dewPoint;
+		this.cloudiness = dailyWeatherForecast.cloudiness;
+		this.sunriseDt = dailyWeatherForecast.sunriseDt;
+		this.sunsetDt = dailyWeatherForecast.sunsetDt;
+		this.uvIndex = dailyWeatherForecast.uvIndex;
+		this.moonriseDt = dailyWeatherForecast.moonriseDt;
+		this.moonsetDt = dailyWeatherForecast.moonsetDt;
+		this.moonPhase = dailyWeatherForecast.moonPhase;
+		this.windSpeed = dailyWeatherForecast.windSpeed;
+		this.windGustSpeed = dailyWeatherForecast.windGustSpeed;
+		this.windDirection = dailyWeatherForecast.windDirection;
+		this.pop = dailyWeatherForecast.pop;
+		this.rain = dailyWeatherForecast.rain;
+		this.snow = dailyWeatherForecast.snow;
+	}
+	
+	/**
+	 * Instantiates a new Daily weather forecast, not bound to any place.
 	 *
 	 * @param dailyWeather the daily weather json object from openweathermap
 	 */
+	@Ignore
 	public DailyWeatherForecast(JSONObject dailyWeather) throws JSONException {
+		this.placeId = "";
+		
 		//  Time
-		setDt(dailyWeather.getLong("dt") * 1000);
+		this.dt = dailyWeather.getLong("dt") * 1000;
 		
 		//    Weather descriptions
 		JSONObject dailyWeatherDescriptionsJSON = dailyWeather.getJSONArray("weather").getJSONObject(0);
-		setWeather(dailyWeatherDescriptionsJSON.getString("main"));
-		setWeatherDescription(dailyWeatherDescriptionsJSON.getString("description"));
-		setWeatherCode(dailyWeatherDescriptionsJSON.getInt("id"));
+		this.weather = dailyWeatherDescriptionsJSON.getString("main");
+		this.weatherDescription = dailyWeatherDescriptionsJSON.getString("description");
+		this.weatherCode = dailyWeatherDescriptionsJSON.getInt("id");
 		
 		//  Temperatures
 		JSONObject dailyWeatherTemperaturesJSON = dailyWeather.getJSONObject("temp");
-		setTemperatureMorning(BigDecimal.valueOf(dailyWeatherTemperaturesJSON.getDouble("morn")).floatValue());
-		setTemperatureDay(BigDecimal.valueOf(dailyWeatherTemperaturesJSON.getDouble("day")).floatValue());
-		setTemperatureEvening(BigDecimal.valueOf(dailyWeatherTemperaturesJSON.getDouble("eve")).floatValue());
-		setTemperatureNight(BigDecimal.valueOf(dailyWeatherTemperaturesJSON.getDouble("night")).floatValue());
-		setTemperatureMinimum(BigDecimal.valueOf(dailyWeatherTemperaturesJSON.getDouble("min")).floatValue());
-		setTemperatureMaximum(BigDecimal.valueOf(dailyWeatherTemperaturesJSON.getDouble("max")).floatValue());
+		this.temperatureMorning = BigDecimal.valueOf(dailyWeatherTemperaturesJSON.getDouble("morn")).floatValue();
+		this.temperatureDay = BigDecimal.valueOf(dailyWeatherTemperaturesJSON.getDouble("day")).floatValue();
+		this.temperatureEvening = BigDecimal.valueOf(dailyWeatherTemperaturesJSON.getDouble("eve")).floatValue();
+		this.temperatureNight = BigDecimal.valueOf(dailyWeatherTemperaturesJSON.getDouble("night")).floatValue();
+		this.temperatureMinimum = BigDecimal.valueOf(dailyWeatherTemperaturesJSON.getDouble("min")).floatValue();
+		this.temperatureMaximum = BigDecimal.valueOf(dailyWeatherTemperaturesJSON.getDouble("max")).floatValue();
 		
 		//  Feels Like Temperatures
 		JSONObject dailyWeatherTemperaturesFeelsLikeJSON = dailyWeather.getJSONObject("feels_like");
-		setTemperatureMorningFeelsLike(BigDecimal.valueOf(dailyWeatherTemperaturesFeelsLikeJSON.getDouble("morn")).floatValue());
-		setTemperatureDayFeelsLike(BigDecimal.valueOf(dailyWeatherTemperaturesFeelsLikeJSON.getDouble("day")).floatValue());
-		setTemperatureEveningFeelsLike(BigDecimal.valueOf(dailyWeatherTemperaturesFeelsLikeJSON.getDouble("eve")).floatValue());
-		setTemperatureNightFeelsLike(BigDecimal.valueOf(dailyWeatherTemperaturesFeelsLikeJSON.getDouble("night")).floatValue());
+		this.temperatureMorningFeelsLike = BigDecimal.valueOf(dailyWeatherTemperaturesFeelsLikeJSON.getDouble("morn")).floatValue();
+		this.temperatureDayFeelsLike = BigDecimal.valueOf(dailyWeatherTemperaturesFeelsLikeJSON.getDouble("day")).floatValue();
+		this.temperatureEveningFeelsLike = BigDecimal.valueOf(dailyWeatherTemperaturesFeelsLikeJSON.getDouble("eve")).floatValue();
+		this.temperatureNightFeelsLike = BigDecimal.valueOf(dailyWeatherTemperaturesFeelsLikeJSON.getDouble("night")).floatValue();
 		
 		//  Pressure, Humidity, dewPoint
-		setPressure(dailyWeather.getInt("pressure"));
-		setHumidity(dailyWeather.getInt("humidity"));
-		setDewPoint(BigDecimal.valueOf(dailyWeather.getDouble("dew_point")).floatValue());
+		this.pressure = dailyWeather.getInt("pressure");
+		this.humidity = dailyWeather.getInt("humidity");
+		this.dewPoint = BigDecimal.valueOf(dailyWeather.getDouble("dew_point")).floatValue();
 		
 		//  Sky
-		setCloudiness(dailyWeather.getInt("clouds"));
-		setSunriseDt(dailyWeather.getLong("sunrise") * 1000);
-		setSunsetDt(dailyWeather.getLong("sunset") * 1000);
-		setUvIndex(BigDecimal.valueOf(dailyWeather.getDouble("uvi")).intValue());
+		this.cloudiness = dailyWeather.getInt("clouds");
+		this.sunriseDt = dailyWeather.getLong("sunrise") * 1000;
+		this.sunsetDt = dailyWeather.getLong("sunset") * 1000;
+		this.uvIndex = BigDecimal.valueOf(dailyWeather.getDouble("uvi")).intValue();
 		
 		//  Moon
-		setMoonriseDt(dailyWeather.getLong("moonrise") * 1000);
-		setMoonsetDt(dailyWeather.getLong("moonset") * 1000);
-		setMoonPhase(BigDecimal.valueOf(dailyWeather.getDouble("moon_phase")).floatValue());
+		this.moonriseDt = dailyWeather.getLong("moonrise") * 1000;
+		this.moonsetDt = dailyWeather.getLong("moonset") * 1000;
+		this.moonPhase = BigDecimal.valueOf(dailyWeather.getDouble("moon_phase")).floatValue();
 		
 		//  Wind
-		setWindSpeed(BigDecimal.valueOf(dailyWeather.getDouble("wind_speed")).floatValue());
-		setWindDirection(BigDecimal.valueOf(dailyWeather.getInt("wind_deg")).shortValue());
+		this.windSpeed = BigDecimal.valueOf(dailyWeather.getDouble("wind_speed")).floatValue();
+		this.windDirection = BigDecimal.valueOf(dailyWeather.getInt("wind_deg")).shortValue();
 		////    Wind Gusts
 		if (dailyWeather.has("wind_gust")) {
-			setWindGustSpeed(BigDecimal.valueOf(dailyWeather.getDouble("wind_gust")).floatValue());
+			this.windGustSpeed = BigDecimal.valueOf(dailyWeather.getDouble("wind_gust")).floatValue();
 		} else {
-			setWindGustSpeed(0);
+			this.windGustSpeed = 0;
 		}
 		
 		//  Precipitations
 		////    PoP -   Probability of Precipitations
-		setPop(BigDecimal.valueOf(dailyWeather.getDouble("pop")).floatValue());
+		this.pop = BigDecimal.valueOf(dailyWeather.getDouble("pop")).floatValue();
 		////    Rain
 		if (dailyWeather.has("rain")) {
-			setRain(BigDecimal.valueOf(dailyWeather.getDouble("rain")).floatValue());
+			this.rain = BigDecimal.valueOf(dailyWeather.getDouble("rain")).floatValue();
 		} else {
-			setRain(0);
+			this.rain = 0;
 		}
 		////    Snow
 		if (dailyWeather.has("snow")) {
-			setSnow(BigDecimal.valueOf(dailyWeather.getDouble("snow")).floatValue());
+			this.snow = BigDecimal.valueOf(dailyWeather.getDouble("snow")).floatValue();
 		} else {
-			setSnow(0);
+			this.snow = 0;
 		}
+		
+		validate();
 	}
 	
-	/*
-	  Getters and Setters
-	 */
-	
 	/**
-	 * Gets place id.
+	 * Instantiates a new Daily weather forecast from a stream, not bound to any place.
+	 * Acts like the JSONObject constructor but reads values directly from the reader.
 	 *
-	 * @return the place id
+	 * @param reader the reader positioned on a daily forecast object from openweathermap
+	 * @throws IOException if the object is malformed or a required field is missing
 	 */
-	public String getPlaceId() {
-		return placeId;
+	@Ignore
+	public DailyWeatherForecast(JsonReader reader) throws IOException {
+		int requiredFound = 0;
+		
+		long dt = 0;
+		JsonReaderUtils.WeatherDescription description = null;
+		float[] temperatures = new float[6];
+		float[] temperaturesFeelsLike = new float[4];
+		int pressure = 0;
+		int humidity = 0;
+		float dewPoint = 0;
+		int cloudiness = 0;
+		long sunriseDt = 0;
+		long sunsetDt = 0;
+		int uvIndex = 0;
+		long moonriseDt = 0;
+		long moonsetDt = 0;
+		float moonPhase = 0;
+		float windSpeed = 0;
+		float windGustSpeed = 0;
+		short windDirection = 0;
+		float pop = 0;
+		float rain = 0;
+		float snow = 0;
+		
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+			
+			//	Optional values can be null
+			if (JsonReaderUtils.skipNull(reader)) continue;
+			
+			switch (name) {
+				//  Time
+				case "dt":
+					dt = reader.nextLong() * 1000;
+					requiredFound++;
+					break;
+				
+				//    Weather descriptions
+				case "weather":
+					description = JsonReaderUtils.nextWeatherDescription(reader);
+					if (description != null) requiredFound++;
+					break;
+				
+				//  Temperatures
+				case "temp":
+					temperatures = readTemperatures(reader);
+					requiredFound++;
+					break;
+				
+				//  Feels Like Temperatures
+				case "feels_like":
+					temperaturesFeelsLike = readTemperaturesFeelsLike(reader);
+					requiredFound++;
+					break;
+				
+				//  Pressure, Humidity, dewPoint
+				case "pressure":
+					pressure = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				case "humidity":
+					humidity = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				case "dew_point":
+					dewPoint = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				
+				//  Sky
+				case "clouds":
+					cloudiness = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				case "sunrise":
+					sunriseDt = reader.nextLong() * 1000;
+					requiredFound++;
+					break;
+				case "sunset":
+					sunsetDt = reader.nextLong() * 1000;
+					requiredFound++;
+					break;
+				case "uvi":
+					uvIndex = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				
+				//  Moon
+				case "moonrise":
+					moonriseDt = reader.nextLong() * 1000;
+					requiredFound++;
+					break;
+				case "moonset":
+					moonsetDt = reader.nextLong() * 1000;
+					requiredFound++;
+					break;
+				case "moon_phase":
+					moonPhase = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				
+				//  Wind
+				case "wind_speed":
+					windSpeed = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				case "wind_deg":
+					windDirection = (short) JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				case "wind_gust":
+					windGustSpeed = JsonReaderUtils.nextFloat(reader);
+					break;
+				
+				//  Precipitations
+				case "pop":
+					pop = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				case "rain":
+					rain = JsonReaderUtils.nextFloat(reader);
+					break;
+				case "snow":
+					snow = JsonReaderUtils.nextFloat(reader);
+					break;
+				
+				default:
+					reader.skipValue();
+			}
+		}
+		reader.endObject();
+		
+		JsonReaderUtils.checkRequired(requiredFound, 17, "daily weather forecast");
+		
+		this.placeId = "";
+		this.dt = dt;
+		
+		this.weather = description.main;
+		this.weatherDescription = description.description;
+		this.weatherCode = description.code;
+		
+		this.temperatureMorning = temperatures[0];
+		this.temperatureDay = temperatures[1];
+		this.temperatureEvening = temperatures[2];
+		this.temperatureNight = temperatures[3];
+		this.temperatureMinimum = temperatures[4];
+		this.temperatureMaximum = temperatures[5];
+		
+		this.temperatureMorningFeelsLike = temperaturesFeelsLike[0];
+		this.temperatureDayFeelsLike = temperaturesFeelsLike[1];
+		this.temperatureEveningFeelsLike = temperaturesFeelsLike[2];
+		this.temperatureNightFeelsLike = temperaturesFeelsLike[3];
+		
+		this.pressure = pressure;
+		this.humidity = humidity;
+		this.dewPoint = dewPoint;
+		
+		this.cloudiness = cloudiness;
+		this.sunriseDt = sunriseDt;
+		this.sunsetDt = sunsetDt;
+		this.uvIndex = uvIndex;
+		
+		this.moonriseDt = moonriseDt;
+		this.moonsetDt = moonsetDt;
+		this.moonPhase = moonPhase;
+		
+		this.windSpeed = windSpeed;
+		this.windGustSpeed = windGustSpeed;
+		this.windDirection = windDirection;
+		
+		this.pop = pop;
+		this.rain = rain;
+		this.snow = snow;
+		
+		validate();
 	}
 	
 	/**
-	 * Sets place id.
+	 * Read the temperatures object
 	 *
-	 * @param placeId the place id
+	 * @param reader the reader positioned on the temp object
+	 * @return the morning, day, evening, night, minimum and maximum temperatures
+	 * @throws IOException if the object is malformed or a temperature is missing
 	 */
-	public void setPlaceId(String placeId) {
-		this.placeId = placeId;
+	private static float[] readTemperatures(JsonReader reader) throws IOException {
+		float[] temperatures = new float[6];
+		int requiredFound = 0;
+		
+		reader.beginObject();
+		while (reader.hasNext()) {
+			switch (reader.nextName()) {
+				case "morn":
+					temperatures[0] = JsonReaderUtils.nextFloat(reader);
+					break;
+				case "day":
+					temperatures[1] = JsonReaderUtils.nextFloat(reader);
+					break;
+				case "eve":
+					temperatures[2] = JsonReaderUtils.nextFloat(reader);
+					break;
+				case "night":
+					temperatures[3] = JsonReaderUtils.nextFloat(reader);
+					break;
+				case "min":
+					temperatures[4] = JsonReaderUtils.nextFloat(reader);
+					break;
+				case "max":
+					temperatures[5] = JsonReaderUtils.nextFloat(reader);
+					break;
+				default:
+					reader.skipValue();
+					continue;
+			}
+			requiredFound++;
+		}
+		reader.endObject();
+		
+		JsonReaderUtils.checkRequired(requiredFound, 6, "daily temperatures");
+		return temperatures;
 	}
 	
 	/**
-	 * Gets dt.
+	 * Read the feels like temperatures object
 	 *
-	 * @return the dt
+	 * @param reader the reader positioned on the feels_like object
+	 * @return the morning, day, evening and night feels like temperatures
+	 * @throws IOException if the object is malformed or a temperature is missing
 	 */
-	public long getDt() {
-		return dt;
+	private static float[] readTemperaturesFeelsLike(JsonReader reader) throws IOException {
+		float[] temperatures = new float[4];
+		int requiredFound = 0;
+		
+		reader.beginObject();
+		while (reader.hasNext()) {
+			switch (reader.nextName()) {
+				case "morn":
+					temperatures[0] = JsonReaderUtils.nextFloat(reader);
+					break;
+				case "day":
+					temperatures[1] = JsonReaderUtils.nextFloat(reader);
+					break;
+				case "eve":
+					temperatures[2] = JsonReaderUtils.nextFloat(reader);
+					break;
+				case "night":
+					temperatures[3] = JsonReaderUtils.nextFloat(reader);
+					break;
+				default:
+					reader.skipValue();
+					continue;
+			}
+			requiredFound++;
+		}
+		reader.endObject();
+		
+		JsonReaderUtils.checkRequired(requiredFound, 4, "daily feels like temperatures");
+		return temperatures;
 	}
 	
 	/**
-	 * Sets dt.
+	 * Check that every value is in its bounds
 	 *
-	 * @param dt the dt (in milliseconds)
-	 *           Must be positive or zero
+	 * @throws IllegalArgumentException if a value is out of its bounds
 	 */
-	public void setDt(long dt) {
+	private void validate() {
 		if (dt <= 0)
 			throw new IllegalArgumentException("dt must be positive or null");
-		this.dt = dt;
+		if (weatherCode < 0)
+			throw new IllegalArgumentException("weatherCode must be positive or null");
+		if (pressure < 0)
+			throw new IllegalArgumentException("pressure must be positive or null");
+		if (humidity < 0 || humidity > 100)
+			throw new IllegalArgumentException("humidity must be between 0 and 100 (both included)");
+		if (cloudiness < 0 || cloudiness > 100)
+			throw new IllegalArgumentException("cloudiness must be between 0 and 100 (both included)");
+		if (sunriseDt < 0)
+			throw new IllegalArgumentException("sunrise must be positive or null");
+		if (sunsetDt < 0)
+			throw new IllegalArgumentException("sunset must be positive or null");
+		if (uvIndex < 0)
+			throw new IllegalArgumentException("uvIndex must be positive or null");
+		if (moonriseDt < 0)
+			throw new IllegalArgumentException("moonrise must be positive or null");
+		if (moonsetDt < 0)
+			throw new IllegalArgumentException("moonset must be positive or null");
+		if (moonPhase < 0 || moonPhase > 1)
+			throw new IllegalArgumentException("moonPhase must be between 0 and 1 (both included)");
+		if (windSpeed < 0)
+			throw new IllegalArgumentException("windSpeed must be positive or null");
+		if (windGustSpeed < 0)
+			throw new IllegalArgumentException("windGustSpeed must be positive or null");
+		if (windDirection < 0 || windDirection > 360)
+			throw new IllegalArgumentException("windDirection must be between 0 and 360 (both included)");
+		if (pop < 0 || pop > 1)
+			throw new IllegalArgumentException("pop must be between 0 and 1 (both included)");
+		if (rain < 0)
+			throw new IllegalArgumentException("rain must be positive or null");
+		if (snow < 0)
+			throw new IllegalArgumentException("snow must be positive or null");
 	}
 	
+	/*
+	  Getters
+	 */
+	
 	/**
-	 * Gets weather.
+	 * Gets place id.
 	 *
-	 * @return the weather
+	 * @return the place id
 	 */
-	public String getWeather() {
-		return weather;
+	public String getPlaceId() {
+		return placeId;
 	}
 	
 	/**
-	 * Sets weather.
+	 * Gets dt.
 	 *
-	 * @param weather the weather
+	 * @return the dt
 	 */
-	public void setWeather(String weather) {
-		this.weather = weather;
+	public long getDt() {
+		return dt;
 	}
 	
 	/**
-	 * Gets weather description.
+	 * Gets weather.
 	 *
-	 * @return the weather description
+	 * @return the weather
 	 */
-	public String getWeatherDescription() {
-		return weatherDescription;
+	public String getWeather() {
+		return weather;
 	}
 	
 	/**
-	 * Sets weather description.
+	 * Gets weather description.
 	 *
-	 * @param weatherDescription the weather description
+	 * @return the weather description
 	 */
-	public void setWeatherDescription(String weatherDescription) {
-		this.weatherDescription = weatherDescription;
+	public String getWeatherDescription() {
+		return weatherDescription;
 	}
 	
 	/**
@@ -291,18 +655,6 @@ public class DailyWeatherForecast {
 		return weatherCode;
 	}
 	
-	/**
-	 * Sets weather code.
-	 *
-	 * @param weatherCode the weather code
-	 *                    Must be positive or null
-	 */
-	public void setWeatherCode(int weatherCode) {
-		if (weatherCode < 0)
-			throw new IllegalArgumentException("weatherCode must be positive or null");
-		this.weatherCode = weatherCode;
-	}
-	
 	/**
 	 * Gets temperature for the morning.
 	 *
@@ -312,15 +664,6 @@ public class DailyWeatherForecast {
 		return temperatureMorning;
 	}
 	
-	/**
-	 * Sets temperature for the morning.
-	 *
-	 * @param temperatureMorning the temperature for the morning
-	 */
-	public void setTemperatureMorning(float temperatureMorning) {
-		this.temperatureMorning = temperatureMorning;
-	}
-	
 	/**
 	 * Gets temperature for the day.
 	 *
@@ -330,15 +673,6 @@ public class DailyWeatherForecast {
 		return temperatureDay;
 	}
 	
-	/**
-	 * Sets temperature for the day.
-	 *
-	 * @param temperatureDay the temperature for the day
-	 */
-	public void setTemperatureDay(float temperatureDay) {
-		this.temperatureDay = temperatureDay;
-	}
-	
 	/**
 	 * Gets temperature for the evening.
 	 *
@@ -348,15 +682,6 @@ public class DailyWeatherForecast {
 		return temperatureEvening;
 	}
 	
-	/**
-	 * Sets temperature for the evening.
-	 *
-	 * @param temperatureEvening the temperature for the evening
-	 */
-	public void setTemperatureEvening(float temperatureEvening) {
-		this.temperatureEvening = temperatureEvening;
-	}
-	
 	/**
 	 * Gets temperature for the night.
 	 *
@@ -366,15 +691,6 @@ public class DailyWeatherForecast {
 		return temperatureNight;
 	}
 	
-	/**
-	 * Sets temperature for the night.
-	 *
-	 * @param temperatureNight the temperature for the night
-	 */
-	public void setTemperatureNight(float temperatureNight) {
-		this.temperatureNight = temperatureNight;
-	}
-	
 	/**
 	 * Gets temperature minimum.
 	 *
@@ -384,15 +700,6 @@ public class DailyWeatherForecast {
 		return temperatureMinimum;
 	}
 	
-	/**
-	 * Sets temperature minimum.
-	 *
-	 * @param temperatureMinimum the temperature minimum
-	 */
-	public void setTemperatureMinimum(float temperatureMinimum) {
-		this.temperatureMinimum = temperatureMinimum;
-	}
-	
 	/**
 	 * Gets temperature maximum.
 	 *
@@ -402,15 +709,6 @@ public class DailyWeatherForecast {
 		return temperatureMaximum;
 	}
 	
-	/**
-	 * Sets temperature maximum.
-	 *
-	 * @param temperatureMaximum the temperature maximum
-	 */
-	public void setTemperatureMaximum(float temperatureMaximum) {
-		this.temperatureMaximum = temperatureMaximum;
-	}
-	
 	/**
 	 * Gets feels like temperature for the morning.
 	 *
@@ -420,15 +718,6 @@ public class DailyWeatherForecast {
 		return temperatureMorningFeelsLike;
 	}
 	
-	/**
-	 * Sets feels like temperature for the morning.
-	 *
-	 * @param temperatureMorningFeelsLike the feels like temperature for the morning
-	 */
-	public void setTemperatureMorningFeelsLike(float temperatureMorningFeelsLike) {
-		this.temperatureMorningFeelsLike = temperatureMorningFeelsLike;
-	}
-	
 	/**
 	 * Gets feels like temperature for the day.
 	 *
@@ -438,15 +727,6 @@ public class DailyWeatherForecast {
 		return temperatureDayFeelsLike;
 	}
 	
-	/**
-	 * Sets feels like temperature for the day.
-	 *
-	 * @param temperatureDayFeelsLike the feels like temperature for the day
-	 */
-	public void setTemperatureDayFeelsLike(float temperatureDayFeelsLike) {
-		this.temperatureDayFeelsLike = temperatureDayFeelsLike;
-	}
-	
 	/**
 	 * Gets feels like temperature for the evening.
 	 *
@@ -456,15 +736,6 @@ public class DailyWeatherForecast {
 		return temperatureEveningFeelsLike;
 	}
 	
-	/**
-	 * Sets feels like temperature for the evening.
-	 *
-	 * @param temperatureEveningFeelsLike the feels like temperature for the evening
-	 */
-	public void setTemperatureEveningFeelsLike(float temperatureEveningFeelsLike) {
-		this.temperatureEveningFeelsLike = temperatureEveningFeelsLike;
-	}
-	
 	/**
 	 * Gets feels like temperature for the night.
 	 *
@@ -474,15 +745,6 @@ public class DailyWeatherForecast {
 		return temperatureNightFeelsLike;
 	}
 	
-	/**
-	 * Sets feels like temperature for the night.
-	 *
-	 * @param temperatureNightFeelsLike the feels like temperature for the night
-	 */
-	public void setTemperatureNightFeelsLike(float temperatureNightFeelsLike) {
-		this.temperatureNightFeelsLike = temperatureNightFeelsLike;
-	}
-	
 	/**
 	 * Gets pressure value.
 	 *
@@ -492,18 +754,6 @@ public class DailyWeatherForecast {
 		return pressure;
 	}
 	
-	/**
-	 * Sets pressure value.
-	 *
-	 * @param pressure the pressure value
-	 *                 Must be positive or null
-	 */
-	public void setPressure(int pressure) {
-		if (pressure < 0)
-			throw new IllegalArgumentException("pressure must be positive or null");
-		this.pressure = pressure;
-	}
-	
 	/**
 	 * Gets humidity value.
 	 *
@@ -513,18 +763,6 @@ public class DailyWeatherForecast {
 		return humidity;
 	}
 	
-	/**
-	 * Sets humidity value.
-	 *
-	 * @param humidity the humidity value
-	 *                 Must be between 0 and 100 (both included)
-	 */
-	public void setHumidity(int humidity) {
-		if (humidity < 0 || humidity > 100)
-			throw new IllegalArgumentException("humidity must be between 0 and 100 (both included)");
-		this.humidity = humidity;
-	}
-	
 	/**
 	 * Gets wind speed value.
 	 *
@@ -534,15 +772,6 @@ public class DailyWeatherForecast {
 		return dewPoint;
 	}
 	
-	/**
-	 * Sets dew point value.
-	 *
-	 * @param dewPoint the dew point value
-	 */
-	public void setDewPoint(float dewPoint) {
-		this.dewPoint = dewPoint;
-	}
-	
 	/**
 	 * Gets cloud coverage value.
 	 *
@@ -552,18 +781,6 @@ public class DailyWeatherForecast {
 		return cloudiness;
 	}
 	
-	/**
-	 * Sets cloud coverage value.
-	 *
-	 * @param cloudiness the cloud coverage value
-	 *                   Must be between 0 and 100 (both included)
-	 */
-	public void setCloudiness(int cloudiness) {
-		if (cloudiness < 0 || cloudiness > 100)
-			throw new IllegalArgumentException("cloudiness must be between 0 and 100 (both included)");
-		this.cloudiness = cloudiness;
-	}
-	
 	/**
 	 * Gets sunrise time.
 	 *
@@ -573,18 +790,6 @@ public class DailyWeatherForecast {
 		return sunriseDt;
 	}
 	
-	/**
-	 * Sets sunrise time.
-	 *
-	 * @param sunriseDt the sunrise time (in milliseconds)
-	 *                  Must be positive or null
-	 */
-	public void setSunriseDt(long sunriseDt) {
-		if (sunriseDt < 0)
-			throw new IllegalArgumentException("sunrise must be positive or null");
-		this.sunriseDt = sunriseDt;
-	}
-	
 	/**
 	 * Gets sunset time.
 	 *
@@ -594,18 +799,6 @@ public class DailyWeatherForecast {
 		return sunsetDt;
 	}
 	
-	/**
-	 * Sets sunset time.
-	 *
-	 * @param sunsetDt the sunset time (in milliseconds)
-	 *                 Must be positive or null
-	 */
-	public void setSunsetDt(long sunsetDt) {
-		if (sunsetDt < 0)
-			throw new IllegalArgumentException("sunset must be positive or null");
-		this.sunsetDt = sunsetDt;
-	}
-	
 	/**
 	 * Gets UV index.
 	 *
@@ -615,18 +808,6 @@ public class DailyWeatherForecast {
 		return uvIndex;
 	}
 	
-	/**
-	 * Sets UV index.
-	 *
-	 * @param uvIndex the UV index
-	 *                Must be positive or null
-	 */
-	public void setUvIndex(int uvIndex) {
-		if (uvIndex < 0)
-			throw new IllegalArgumentException("uvIndex must be positive or null");
-		this.uvIndex = uvIndex;
-	}
-	
 	/**
 	 * Gets moonrise time.
 	 *
@@ -636,18 +817,6 @@ public class DailyWeatherForecast {
 		return moonriseDt;
 	}
 	
-	/**
-	 * Sets moonrise time.
-	 *
-	 * @param moonriseDt the moonrise time (in milliseconds)
-	 *                   Must be positive or null
-	 */
-	public void setMoonriseDt(long moonriseDt) {
-		if (moonriseDt < 0)
-			throw new IllegalArgumentException("moonrise must be positive or null");
-		this.moonriseDt = moonriseDt;
-	}
-	
 	/**
 	 * Gets moonset time.
 	 *
@@ -657,18 +826,6 @@ public class DailyWeatherForecast {
 		return moonsetDt;
 	}
 	
-	/**
-	 * Sets moonset time.
-	 *
-	 * @param moonsetDt the moonset time (in milliseconds)
-	 *                  Must be positive or null
-	 */
-	public void setMoonsetDt(long moonsetDt) {
-		if (moonsetDt < 0)
-			throw new IllegalArgumentException("moonset must be positive or null");
-		this.moonsetDt = moonsetDt;
-	}
-	
 	/**
 	 * Gets moon phase.
 	 *
@@ -678,18 +835,6 @@ public class DailyWeatherForecast {
 		return moonPhase;
 	}
 	
-	/**
-	 * Sets moon phase.
-	 *
-	 * @param moonPhase the moon phase
-	 *                  Must be between 0 and 1 (both included)
-	 */
-	public void setMoonPhase(float moonPhase) {
-		if (moonPhase < 0 || moonPhase > 1)
-			throw new IllegalArgumentException("moonPhase must be between 0 and 1 (both included)");
-		this.moonPhase = moonPhase;
-	}
-	
 	/**
 	 * Gets wind speed.
 	 *
@@ -699,18 +844,6 @@ public class DailyWeatherForecast {
 		return windSpeed;
 	}
 	
-	/**
-	 * Sets wind speed.
-	 *
-	 * @param windSpeed the wind speed
-	 *                  Must be positive or null
-	 */
-	public void setWindSpeed(float windSpeed) {
-		if (windSpeed < 0)
-			throw new IllegalArgumentException("windSpeed must be positive or null");
-		this.windSpeed = windSpeed;
-	}
-	
 	/**
 	 * Gets wind gust speed.
 	 *
@@ -720,18 +853,6 @@ public class DailyWeatherForecast {
 		return windGustSpeed;
 	}
 	
-	/**
-	 * Sets wind gust speed.
-	 *
-	 * @param windGustSpeed the wind gust speed
-	 *                      Must be positive or null
-	 */
-	public void setWindGustSpeed(float windGustSpeed) {
-		if (windGustSpeed < 0)
-			throw new IllegalArgumentException("windGustSpeed must be positive or null");
-		this.windGustSpeed = windGustSpeed;
-	}
-	
 	/**
 	 * Gets wind direction.
 	 *
@@ -741,18 +862,6 @@ public class DailyWeatherForecast {
 		return windDirection;
 	}
 	
-	/**
-	 * Sets wind direction.
-	 *
-	 * @param windDirection the wind direction
-	 *                      Must be between 0 and 360 (both included)
-	 */
-	public void setWindDirection(short windDirection) {
-		if (windDirection < 0 || windDirection > 360)
-			throw new IllegalArgumentException("windDirection must be between 0 and 360 (both included)");
-		this.windDirection = windDirection;
-	}
-	
 	/**
 	 * Gets probability of precipitation.
 	 *
@@ -762,18 +871,6 @@ public class DailyWeatherForecast {
 		return pop;
 	}
 	
-	/**
-	 * Sets probability of precipitation.
-	 *
-	 * @param pop the probability of precipitation value
-	 *            Must be between 0 and 1 (both included)
-	 */
-	public void setPop(float pop) {
-		if (pop < 0 || pop > 1)
-			throw new IllegalArgumentException("pop must be between 0 and 1 (both included)");
-		this.pop = pop;
-	}
-	
 	/**
 	 * Gets rain volume for the day.
 	 *
@@ -784,18 +881,6 @@ public class DailyWeatherForecast {
 	}
 	
 	
-	/**
-	 * Sets rain volume for the day.
-	 *
-	 * @param rain the rain volume
-	 *             Must be positive or null
-	 */
-	public void setRain(float rain) {
-		if (rain < 0)
-			throw new IllegalArgumentException("rain must be positive or null");
-		this.rain = rain;
-	}
-	
 	/**
 	 * Gets snow volume for the day.
 	 *
@@ -805,80 +890,6 @@ public class DailyWeatherForecast {
 		return snow;
 	}
 	
-	/**
-	 * Sets snow volume for the day.
-	 *
-	 * @param snow the snow volume
-	 *             Must be positive or null
-	 */
-	public void setSnow(float snow) {
-		if (snow < 0)
-			throw new IllegalArgumentException("snow must be positive or null");
-		this.snow = snow;
-	}
-	
-	/**
-	 * Used to clone the daily weather forecast object.
-	 *
-	 * @return a clone of the daily weather forecast object.
-	 */
-	@NonNull
-	public DailyWeatherForecast clone() {
-		DailyWeatherForecast returnedDailyWeatherForecast = new DailyWeatherForecast();
-		
-		returnedDailyWeatherForecast.setPlaceId(placeId);
-		
-		////    Time
-		returnedDailyWeatherForecast.setDt(this.dt);
-		
-		////    Weather
-		returnedDailyWeatherForecast.setWeather(this.weather);
-		returnedDailyWeatherForecast.setWeatherDescription(this.weatherDescription);
-		returnedDailyWeatherForecast.setWeatherCode(this.weatherCode);
-		
-		////    Temperatures
-		returnedDailyWeatherForecast.setTemperatureMorning(this.temperatureMorning);
-		returnedDailyWeatherForecast.setTemperatureDay(this.temperatureDay);
-		returnedDailyWeatherForecast.setTemperatureEvening(this.temperatureEvening);
-		returnedDailyWeatherForecast.setTemperatureNight(this.temperatureNight);
-		returnedDailyWeatherForecast.setTemperatureMinimum(this.temperatureMinimum);
-		returnedDailyWeatherForecast.setTemperatureMaximum(this.temperatureMaximum);
-		
-		////    Feels like
-		returnedDailyWeatherForecast.setTemperatureMorningFeelsLike(this.temperatureMorningFeelsLike);
-		returnedDailyWeatherForecast.setTemperatureDayFeelsLike(this.temperatureDayFeelsLike);
-		returnedDailyWeatherForecast.setTemperatureEveningFeelsLike(this.temperatureEveningFeelsLike);
-		returnedDailyWeatherForecast.setTemperatureNightFeelsLike(this.temperatureNightFeelsLike);
-		
-		////    Environmental Variables
-		returnedDailyWeatherForecast.setPressure(this.pressure);
-		returnedDailyWeatherForecast.setHumidity(this.humidity);
-		returnedDailyWeatherForecast.setDewPoint(this.dewPoint);
-		
-		////    Sky
-		returnedDailyWeatherForecast.setCloudiness(this.cloudiness);
-		returnedDailyWeatherForecast.setSunriseDt(this.sunriseDt);
-		returnedDailyWeatherForecast.setSunsetDt(this.sunsetDt);
-		returnedDailyWeatherForecast.setUvIndex(this.uvIndex);
-		
-		////    Moon
-		returnedDailyWeatherForecast.setMoonriseDt(this.moonriseDt);
-		returnedDailyWeatherForecast.setMoonsetDt(this.moonsetDt);
-		returnedDailyWeatherForecast.setMoonPhase(this.moonPhase);
-		
-		////    Wind
-		returnedDailyWeatherForecast.setWindSpeed(this.windSpeed);
-		returnedDailyWeatherForecast.setWindGustSpeed(this.windGustSpeed);
-		returnedDailyWeatherForecast.setWindDirection(this.windDirection);
-		
-		////    Precipitations
-		returnedDailyWeatherForecast.setPop(this.pop);
-		returnedDailyWeatherForecast.setRain(this.rain);
-		returnedDailyWeatherForecast.setSnow(this.snow);
-		
-		return returnedDailyWeatherForecast;
-	}
-	
 	/**
 	 * Used to get the daily weather forecast as a string.
 	 *
@@ -0,0 +1,371 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.metrics;
+
+import androidx.annotation.NonNull;
+
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * ForecastSeries
+ * <p>
+ *    A columnar copy of a list of forecasts, one primitive array per attribute.
+ *    Graphs read whole columns at once, so they are taken from these arrays
+ *    instead of walking the forecasts and boxing every value through a getter.
+ *    A series is built once per place snapshot and shared by every reader,
+ *    its arrays are returned without any copy and must never be modified.
+ *    Values derived from whole columns, like the ranges used to scale graphs, precipitation totals
+ *    and day time flags of hourly forecasts, are computed along with it so views never compute them again.
+ *    Daily series hold four temperatures per day, for the morning, the day, the evening and the night.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see HourlyWeatherForecast
+ * @see DailyWeatherForecast
+ */
+public final class ForecastSeries {
+	
+	public static final int DAILY_TEMPERATURES = 4;
+	
+	private final long[] dt;
+	private final float[] temperature;
+	private final float[] temperatureFeelsLike;
+	private final float[] humidity;
+	private final float[] pressure;
+	private final float[] windSpeed;
+	private final float[] windGustSpeed;
+	private final float[] pop;
+	private final float[] rain;
+	private final float[] snow;
+	private final boolean[] dayTime;
+	
+	//	Derived from the columns once they are filled
+	private Range temperatureRange;
+	private Range humidityRange;
+	private Range pressureRange;
+	private Range windSpeedRange;
+	private Range precipitationRange;
+	private float rainTotal;
+	private float snowTotal;
+	
+	/**
+	 * Instantiates an empty series
+	 *
+	 * @param size                the number of forecasts
+	 * @param temperaturesPerSlot the number of temperatures of each forecast
+	 * @param withDayTime         true to hold a day time flag per forecast
+	 */
+	private ForecastSeries(int size, int temperaturesPerSlot, boolean withDayTime) {
+		this.dt = new long[size];
+		this.temperature = new float[size * temperaturesPerSlot];
+		this.temperatureFeelsLike = new float[size * temperaturesPerSlot];
+		this.humidity = new float[size];
+		this.pressure = new float[size];
+		this.windSpeed = new float[size];
+		this.windGustSpeed = new float[size];
+		this.pop = new float[size];
+		this.rain = new float[size];
+		this.snow = new float[size];
+		this.dayTime = withDayTime ? new boolean[size] : null;
+	}
+	
+	/**
+	 * Build the series of hourly forecasts
+	 *
+	 * @param hourlyWeatherForecastList the hourly forecasts
+	 * @param dailyWeatherForecastList  the daily forecasts, giving sunrise and sunset times of each hour
+	 * @return the series with one temperature per hour
+	 */
+	@NonNull
+	public static ForecastSeries ofHourly(@NonNull List<HourlyWeatherForecast> hourlyWeatherForecastList, @NonNull List<DailyWeatherForecast> dailyWeatherForecastList) {
+		ForecastSeries series = new ForecastSeries(hourlyWeatherForecastList.size(), 1, true);
+		
+		for (int index = 0; index < series.dt.length; index++) {
+			HourlyWeatherForecast hourlyWeatherForecast = hourlyWeatherForecastList.get(index);
+			series.dt[index] = hourlyWeatherForecast.getDt();
+			series.temperature[index] = hourlyWeatherForecast.getTemperature();
+			series.temperatureFeelsLike[index] = hourlyWeatherForecast.getTemperatureFeelsLike();
+			series.humidity[index] = hourlyWeatherForecast.getHumidity();
+			series.pressure[index] = hourlyWeatherForecast.getPressure();
+			series.windSpeed[index] = hourlyWeatherForecast.getWindSpeed();
+			series.windGustSpeed[index] = hourlyWeatherForecast.getWindGustSpeed();
+			series.pop[index] = hourlyWeatherForecast.getPop();
+			series.rain[index] = hourlyWeatherForecast.getRain();
+			series.snow[index] = hourlyWeatherForecast.getSnow();
+		}
+		series.fillDayTime(dailyWeatherForecastList);
+		series.computeAggregates();
+		return series;
+	}
+	
+	/**
+	 * Build the series of daily forecasts
+	 *
+	 * @param dailyWeatherForecastList the daily forecasts
+	 * @return the series with four temperatures per day
+	 */
+	@NonNull
+	public static ForecastSeries ofDaily(@NonNull List<DailyWeatherForecast> dailyWeatherForecastList) {
+		ForecastSeries series = new ForecastSeries(dailyWeatherForecastList.size(), DAILY_TEMPERATURES, false);
+		int temperatureIndex = 0;
+		
+		for (int index = 0; index < series.dt.length; index++) {
+			DailyWeatherForecast dailyWeatherForecast = dailyWeatherForecastList.get(index);
+			series.dt[index] = dailyWeatherForecast.getDt();
+			
+			series.temperature[temperatureIndex] = dailyWeatherForecast.getTemperatureMorning();
+			series.temperatureFeelsLike[temperatureIndex++] = dailyWeatherForecast.getTemperatureMorningFeelsLike();
+			series.temperature[temperatureIndex] = dailyWeatherForecast.getTemperatureDay();
+			series.temperatureFeelsLike[temperatureIndex++] = dailyWeatherForecast.getTemperatureDayFeelsLike();
+			series.temperature[temperatureIndex] = dailyWeatherForecast.getTemperatureEvening();
+			series.temperatureFeelsLike[temperatureIndex++] = dailyWeatherForecast.getTemperatureEveningFeelsLike();
+			series.temperature[temperatureIndex] = dailyWeatherForecast.getTemperatureNight();
+			series.temperatureFeelsLike[temperatureIndex++] = dailyWeatherForecast.getTemperatureNightFeelsLike();
+			
+			series.humidity[index] = dailyWeatherForecast.getHumidity();
+			series.pressure[index] = dailyWeatherForecast.getPressure();
+			series.windSpeed[index] = dailyWeatherForecast.getWindSpeed();
+			series.windGustSpeed[index] = dailyWeatherForecast.getWindGustSpeed();
+			series.pop[index] = dailyWeatherForecast.getPop();
+			series.rain[index] = dailyWeatherForecast.getRain();
+			series.snow[index] = dailyWeatherForecast.getSnow();
+		}
+		series.computeAggregates();
+		return series;
+	}
+	
+	/**
+	 * Find for each forecast if it is in day time, between the sunrise and the sunset of its day.
+	 * Days are told apart with the calendar of the device, like the dates drawn by graphs.
+	 *
+	 * @param dailyWeatherForecastList the daily forecasts, the first one being the day of the first forecast
+	 */
+	private void fillDayTime(@NonNull List<DailyWeatherForecast> dailyWeatherForecastList) {
+		if (dt.length == 0 || dailyWeatherForecastList.isEmpty()) return;
+		
+		int dayIndex = 0;
+		DailyWeatherForecast dailyWeatherForecast = dailyWeatherForecastList.get(0);
+		Calendar calendar = Calendar.getInstance();
+		calendar.setTimeInMillis(dt[0]);
+		//	Unique ID of the day, YYYYDDD
+		long previousItemDay = calendar.get(Calendar.DAY_OF_YEAR) + calendar.get(Calendar.YEAR) * 1000L;
+		
+		for (int index = 0; index < dt.length; index++) {
+			calendar.setTimeInMillis(dt[index]);
+			long currentItemDay = calendar.get(Calendar.DAY_OF_YEAR) + calendar.get(Calendar.YEAR) * 1000L;
+			
+			//	New day, the last daily forecast is kept if there aren't enough of them
+			if (previousItemDay < currentItemDay) {
+				previousItemDay = currentItemDay;
+				if (dayIndex < dailyWeatherForecastList.size() - 1)
+					dailyWeatherForecast = dailyWeatherForecastList.get(++dayIndex);
+			}
+			
+			dayTime[index] = dailyWeatherForecast.getSunriseDt() < dt[index] && dt[index] < dailyWeatherForecast.getSunsetDt();
+		}
+	}
+	
+	/**
+	 * Compute the values derived from whole columns
+	 */
+	private void computeAggregates() {
+		temperatureRange = Range.of(temperature, temperatureFeelsLike);
+		humidityRange = Range.of(humidity, humidity);
+		pressureRange = Range.of(pressure, pressure);
+		windSpeedRange = Range.of(windSpeed, windGustSpeed);
+		precipitationRange = Range.of(rain, snow);
+		
+		for (int index = 0; index < dt.length; index++) {
+			rainTotal += rain[index];
+			snowTotal += snow[index];
+		}
+	}
+	
+	public int size() {
+		return dt.length;
+	}
+	
+	public boolean isEmpty() {
+		return dt.length == 0;
+	}
+	
+	public long[] getDt() {
+		return dt;
+	}
+	
+	public float[] getTemperature() {
+		return temperature;
+	}
+	
+	public float[] getTemperatureFeelsLike() {
+		return temperatureFeelsLike;
+	}
+	
+	public float[] getHumidity() {
+		return humidity;
+	}
+	
+	public float[] getPressure() {
+		return pressure;
+	}
+	
+	public float[] getWindSpeed() {
+		return windSpeed;
+	}
+	
+	public float[] getWindGustSpeed() {
+		return windGustSpeed;
+	}
+	
+	public float[] getPop() {
+		return pop;
+	}
+	
+	public float[] getRain() {
+		return rain;
+	}
+	
+	public float[] getSnow() {
+		return snow;
+	}
+	
+	/**
+	 * Get the day time flag of each forecast
+	 *
+	 * @return the flags, null for daily series
+	 */
+	public boolean[] getDayTime() {
+		return dayTime;
+	}
+	
+	/**
+	 * Get the range of temperatures, feels like temperatures included
+	 *
+	 * @return the range
+	 */
+	public Range getTemperatureRange() {
+		return temperatureRange;
+	}
+	
+	public Range getHumidityRange() {
+		return humidityRange;
+	}
+	
+	public Range getPressureRange() {
+		return pressureRange;
+	}
+	
+	/**
+	 * Get the range of wind speeds, gust speeds included
+	 *
+	 * @return the range
+	 */
+	public Range getWindSpeedRange() {
+		return windSpeedRange;
+	}
+	
+	/**
+	 * Get the range of rain and snow precipitations
+	 *
+	 * @return the range
+	 */
+	public Range getPrecipitationRange() {
+		return precipitationRange;
+	}
+	
+	public float getRainTotal() {
+		return rainTotal;
+	}
+	
+	public float getSnowTotal() {
+		return snowTotal;
+	}
+	
+	
+	/**
+	 * Range
+	 * <p>
+	 *    The minimum and the maximum of one or two columns, used to scale graphs.
+	 *    Both are 0 for an empty series.
+	 * </p>
+	 *
+	 * @author Quentin GOMES DOS REIS
+	 * @version 1
+	 */
+	public static final class Range {
+		
+		private final float minimum;
+		private final float maximum;
+		
+		public Range(float minimum, float maximum) {
+			if (minimum > maximum)
+				throw new IllegalArgumentException("minimum must be lower or equal to maximum !");
+			
+			this.minimum = minimum;
+			this.maximum = maximum;
+		}
+		
+		/**
+		 * Get the range of two columns of the same size
+		 *
+		 * @param firstColumn  the first column
+		 * @param secondColumn the second column
+		 * @return the range of both columns
+		 */
+		static Range of(@NonNull float[] firstColumn, @NonNull float[] secondColumn) {
+			if (firstColumn.length == 0) return new Range(0, 0);
+			
+			float minimum = firstColumn[0];
+			float maximum = firstColumn[0];
+			for (int index = 0; index < firstColumn.length; index++) {
+				minimum = Math.min(minimum, Math.min(firstColumn[index], secondColumn[index]));
+				maximum = Math.max(maximum, Math.max(firstColumn[index], secondColumn[index]));
+			}
+			return new Range(minimum, maximum);
+		}
+		
+		public float getMinimum() {
+			return minimum;
+		}
+		
+		public float getMaximum() {
+			return maximum;
+		}
+		
+		/**
+		 * Is the range a single value
+		 *
+		 * @return true if the minimum and the maximum are the same, false otherwise
+		 */
+		public boolean isFlat() {
+			return minimum == maximum;
+		}
+		
+		@NonNull
+		@Override
+		public String toString() {
+			return "Range[" + minimum + ", " + maximum + "]";
+		}
+	}
+}
@@ -22,10 +22,14 @@ package fr.qgdev.openweather.metrics;
 
 import androidx.annotation.NonNull;
 import androidx.room.Entity;
+import androidx.room.Ignore;
+
+import com.google.gson.stream.JsonReader;
 
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.StringJoiner;
 
@@ -44,61 +48,99 @@ import java.util.StringJoiner;
 		  primaryKeys = {"placeId", "dt"})
 public class HourlyWeatherForecast {
 	@NonNull
-	private String placeId;
-	private long dt;
-	
-	private String weather;
-	private String weatherDescription;
-	private int weatherCode;
-	
-	private float temperature;
-	private float temperatureFeelsLike;
-	
-	private int pressure;
-	private int humidity;
-	private float dewPoint;
-	
-	private int cloudiness;
-	private int visibility;
-	private int uvIndex;
-	
-	private float windSpeed;
-	private float windGustSpeed;
-	private short windDirection;
-	
-	private float pop;
-	private float rain;
-	private float snow;
-	
-	public HourlyWeatherForecast() {
-		this.placeId = "";
-		this.dt = 0;
+	private final String placeId;
+	private final long dt;
+	
+	private final String weather;
+	private final String weatherDescription;
+	private final int weatherCode;
+	
+	private final float temperature;
+	private final float temperatureFeelsLike;
+	
+	private final int pressure;
+	private final int humidity;
+	private final float dewPoint;
+	
+	private final int cloudiness;
+	private final int visibility;
+	private final int uvIndex;
+	
+	private final float windSpeed;
+	private final float windGustSpeed;
+	private final short windDirection;
+	
+	private final float pop;
+	private final float rain;
+	private final float snow;
+	
+	public HourlyWeatherForecast(@NonNull String placeId, long dt,
+										  String weather, String weatherDescription, int weatherCode,
+										  float temperature, float temperatureFeelsLike,
+										  int pressure, int humidity, float dewPoint,
+										  int cloudiness, int visibility, int uvIndex,
+										  float windSpeed, float windGustSpeed, short windDirection,
+										  float pop, float rain, float snow) {
+		this.placeId = placeId;
+		this.dt = dt;
 		
-		this.weather = "";
-		this.weatherDescription = "";
-		this.weatherCode = 0;
+		this.weather = weather;
+		this.weatherDescription = weatherDescription;
+		this.weatherCode = weatherCode;
 		
-		this.temperature = 0;
-		this.temperatureFeelsLike = 0;
+		this.temperature = temperature;
+		this.temperatureFeelsLike = temperatureFeelsLike;
 		
-		this.pressure = 0;
-		this.humidity = 0;
-		this.dewPoint = 0;
+		this.pressure = pressure;
+		this.humidity = humidity;
+		this.dewPoint = dewPoint;
 		
-		this.cloudiness = 0;
-		this.visibility = 0;
-		this.uvIndex = 0;
+		this.cloudiness = cloudiness;
+		this.visibility = visibility;
+		this.uvIndex = uvIndex;
 		
-		this.windSpeed = 0;
-		this.windGustSpeed = 0;
-		this.windDirection = 0;
+		this.windSpeed = windSpeed;
+		this.windGustSpeed = windGustSpeed;
+		this.windDirection = windDirection;
 		
-		this.pop = 0;
-		this.rain = 0;
-		this.snow = 0;
+		this.pop = pop;
+		this.rain = rain;
+		this.snow = snow;
 	}
 	
+	/**
+	 * Instantiates a copy of a hourly weather forecast bound to another place.
+	 *
+	 * @param hourlyWeatherForecast the hourly weather forecast to copy
+	 * @param placeId               the place id of the copy
+	 */
+	@Ignore
+	public HourlyWeatherForecast(@NonNull HourlyWeatherForecast hourlyWeatherForecast, @NonNull String placeId) {
+		this.placeId = placeId;
+		this.dt = hourlyWeatherForecast.dt;
+		this.weather = hourlyWeatherForecast.weather;
+		this.weatherDescription = hourlyWeatherForecast.weatherDescription;
+		this.weatherCode = hourlyWeatherForecast.weatherCode;
+		this.temperature = hourlyWeatherForecast.temperature;
+		this.temperatureFeelsLike = hourlyWeatherForecast.temperatureFeelsLike;
+		this.pressure = hourlyWeatherForecast.pressure;
+		this.humidity = hourlyWeatherForecast.humidity;
+		this.dewPoint = hourlyWeatherForecast.dewPoint;
+		this.cloudiness = hourlyWeatherForecast.cloudiness;
+		this.visibility = hourlyWeatherForecast.visibility;
+		this.uvIndex = hourlyWeatherForecast.uvIndex;
+		this.windSpeed = hourlyWeatherForecast.windSpeed;
+		this.windGustSpeed = hourlyWeatherForecast.windGustSpeed;
+		this.windDirection = hourlyWeatherForecast.windDirection;
+		this.pop = hourlyWeatherForecast.pop;
+		this.rain = hourlyWeatherForecast.rain;
+		this.snow = hourlyWeatherForecast.snow;
+	}
+	
+	@Ignore
 	public HourlyWeatherForecast(JSONObject hourlyWeather) throws JSONException {
+		this.placeId = "";
+		
 		//  Time
 		this.dt = hourlyWeather.getLong("dt") * 1000;
 		
@@ -147,193 +189,227 @@ public class HourlyWeatherForecast {
 		}
 	}
 	
+	/**
+	 * Instantiates a new Hourly weather forecast from a stream.
+	 * Acts like the JSONObject constructor but reads values directly from the reader.
+	 *
+	 * @param reader the reader positioned on an hourly forecast object from openweathermap
+	 * @throws IOException if the object is malformed or a required field is missing
+	 */
+	@Ignore
+	public HourlyWeatherForecast(JsonReader reader) throws IOException {
+		int requiredFound = 0;
+		
+		long dt = 0;
+		JsonReaderUtils.WeatherDescription description = null;
+		float temperature = 0;
+		float temperatureFeelsLike = 0;
+		int pressure = 0;
+		int humidity = 0;
+		float dewPoint = 0;
+		int visibility = 0;
+		int cloudiness = 0;
+		int uvIndex = 0;
+		float windSpeed = 0;
+		short windDirection = 0;
+		float windGustSpeed = 0;
+		float pop = 0;
+		float rain = 0;
+		float snow = 0;
+		
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+			
+			//	Optional values can be null
+			if (JsonReaderUtils.skipNull(reader)) continue;
+			
+			switch (name) {
+				//  Time
+				case "dt":
+					dt = reader.nextLong() * 1000;
+					requiredFound++;
+					break;
+				
+				//    Weather descriptions
+				case "weather":
+					description = JsonReaderUtils.nextWeatherDescription(reader);
+					if (description != null) requiredFound++;
+					break;
+				
+				//  Temperatures
+				case "temp":
+					temperature = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				case "feels_like":
+					temperatureFeelsLike = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				
+				//  Pressure, Humidity, Visibility, cloudiness, dewPoint and uvIndex
+				case "pressure":
+					pressure = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				case "humidity":
+					humidity = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				case "dew_point":
+					dewPoint = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				case "visibility":
+					visibility = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				case "clouds":
+					cloudiness = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				case "uvi":
+					uvIndex = JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				
+				//  Wind
+				case "wind_speed":
+					windSpeed = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				case "wind_deg":
+					windDirection = (short) JsonReaderUtils.nextInt(reader);
+					requiredFound++;
+					break;
+				case "wind_gust":
+					windGustSpeed = JsonReaderUtils.nextFloat(reader);
+					break;
+				
+				//  Precipitations
+				case "pop":
+					pop = JsonReaderUtils.nextFloat(reader);
+					requiredFound++;
+					break;
+				case "rain":
+					rain = JsonReaderUtils.nextLastHourPrecipitation(reader);
+					break;
+				case "snow":
+					snow = JsonReaderUtils.nextLastHourPrecipitation(reader);
+					break;
+				
+				default:
+					reader.skipValue();
+			}
+		}
+		reader.endObject();
+		
+		JsonReaderUtils.checkRequired(requiredFound, 13, "hourly weather forecast");
+		
+		this.placeId = "";
+		this.dt = dt;
+		
+		this.weather = description.main;
+		this.weatherDescription = description.description;
+		this.weatherCode = description.code;
+		
+		this.temperature = temperature;
+		this.temperatureFeelsLike = temperatureFeelsLike;
+		
+		this.pressure = pressure;
+		this.humidity = humidity;
+		this.dewPoint = dewPoint;
+		
+		this.cloudiness = cloudiness;
+		this.visibility = visibility;
+		this.uvIndex = uvIndex;
+		
+		this.windSpeed = windSpeed;
+		this.windGustSpeed = windGustSpeed;
+		this.windDirection = windDirection;
+		
+		this.pop = pop;
+		this.rain = rain;
+		this.snow = snow;
+	}
+	
 	//  Getter
 	public String getPlaceId() {
 		return placeId;
 	}
 	
-	//  Setter
-	public void setPlaceId(String placeId) {
-		this.placeId = placeId;
-	}
-	
 	public long getDt() {
 		return dt;
 	}
 	
-	public void setDt(long dt) {
-		this.dt = dt;
-	}
-	
 	public String getWeather() {
 		return weather;
 	}
 	
-	public void setWeather(String weather) {
-		this.weather = weather;
-	}
-	
 	public String getWeatherDescription() {
 		return weatherDescription;
 	}
 	
-	public void setWeatherDescription(String weatherDescription) {
-		this.weatherDescription = weatherDescription;
-	}
-	
 	public int getWeatherCode() {
 		return weatherCode;
 	}
 	
-	public void setWeatherCode(int weatherCode) {
-		this.weatherCode = weatherCode;
-	}
-	
 	public float getTemperature() {
 		return temperature;
 	}
 	
-	public void setTemperature(float temperature) {
-		this.temperature = temperature;
-	}
-	
 	public float getTemperatureFeelsLike() {
 		return temperatureFeelsLike;
 	}
 	
-	public void setTemperatureFeelsLike(float temperatureFeelsLike) {
-		this.temperatureFeelsLike = temperatureFeelsLike;
-	}
-	
 	public int getPressure() {
 		return pressure;
 	}
 	
-	public void setPressure(int pressure) {
-		this.pressure = pressure;
-	}
-	
 	public int getHumidity() {
 		return humidity;
 	}
 	
-	public void setHumidity(int humidity) {
-		this.humidity = humidity;
-	}
-	
 	public float getDewPoint() {
 		return dewPoint;
 	}
 	
-	public void setDewPoint(float dewPoint) {
-		this.dewPoint = dewPoint;
-	}
-	
 	public int getCloudiness() {
 		return cloudiness;
 	}
 	
-	public void setCloudiness(int cloudiness) {
-		this.cloudiness = cloudiness;
-	}
-	
 	public int getVisibility() {
 		return visibility;
 	}
 	
-	public void setVisibility(int visibility) {
-		this.visibility = visibility;
-	}
-	
 	public int getUvIndex() {
 		return uvIndex;
 	}
 	
-	public void setUvIndex(int uvIndex) {
-		this.uvIndex = uvIndex;
-	}
-	
 	public float getWindSpeed() {
 		return windSpeed;
 	}
 	
-	public void setWindSpeed(float windSpeed) {
-		this.windSpeed = windSpeed;
-	}
-	
 	public float getWindGustSpeed() {
 		return windGustSpeed;
 	}
 	
-	public void setWindGustSpeed(float windGustSpeed) {
-		this.windGustSpeed = windGustSpeed;
-	}
-	
 	public short getWindDirection() {
 		return windDirection;
 	}
 	
-	public void setWindDirection(short windDirection) {
-		this.windDirection = windDirection;
-	}
-	
 	public float getPop() {
 		return pop;
 	}
 	
-	public void setPop(float pop) {
-		this.pop = pop;
-	}
-	
 	public float getRain() {
 		return rain;
 	}
 	
-	public void setRain(float rain) {
-		this.rain = rain;
-	}
-	
 	public float getSnow() {
 		return snow;
 	}
 	
-	public void setSnow(float snow) {
-		this.snow = snow;
-	}
-	
-	
-	@NonNull
-	public HourlyWeatherForecast clone() {
-		HourlyWeatherForecast returnedHourlyWeatherForecast = new HourlyWeatherForecast();
-		
-		returnedHourlyWeatherForecast.placeId = placeId;
-		returnedHourlyWeatherForecast.dt = this.dt;
-		
-		returnedHourlyWeatherForecast.weather = this.weather;
-		returnedHourlyWeatherForecast.weatherDescription = this.weatherDescription;
-		returnedHourlyWeatherForecast.weatherCode = this.weatherCode;
-		
-		returnedHourlyWeatherForecast.temperature = this.temperature;
-		returnedHourlyWeatherForecast.temperatureFeelsLike = this.temperatureFeelsLike;
-		
-		returnedHourlyWeatherForecast.pressure = this.pressure;
-		returnedHourlyWeatherForecast.humidity = this.humidity;
-		returnedHourlyWeatherForecast.dewPoint = this.dewPoint;
-		
-		returnedHourlyWeatherForecast.cloudiness = this.cloudiness;
-		returnedHourlyWeatherForecast.visibility = this.visibility;
-		returnedHourlyWeatherForecast.uvIndex = this.uvIndex;
-		
-		returnedHourlyWeatherForecast.windSpeed = this.windSpeed;
-		returnedHourlyWeatherForecast.windGustSpeed = this.windGustSpeed;
-		returnedHourlyWeatherForecast.windDirection = this.windDirection;
-		
-		returnedHourlyWeatherForecast.pop = this.pop;
-		returnedHourlyWeatherForecast.rain = this.rain;
-		returnedHourlyWeatherForecast.snow = this.snow;
-		
-		return returnedHourlyWeatherForecast;
-	}
 	
 	
 	@NonNull
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.metrics;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.IOException;
+
+/**
+ * JsonReaderUtils
+ * <p>
+ *    Helpers shared by the streaming constructors of the metrics.
+ *    Values are read straight from the reader, without any intermediate JSONObject or BigDecimal.
+ *    Numbers are decoded as double then narrowed like the JSONObject constructors do,
+ *    so both paths give the same values.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+final class JsonReaderUtils {
+	
+	private JsonReaderUtils() {
+	}
+	
+	/**
+	 * Read the next number as a float
+	 *
+	 * @param reader the reader positioned on a number
+	 * @return the number as a float
+	 * @throws IOException if the value cannot be read
+	 */
+	static float nextFloat(@NonNull JsonReader reader) throws IOException {
+		return (float) reader.nextDouble();
+	}
+	
+	/**
+	 * Read the next number as an int, truncating decimals like JSONObject.getInt() does
+	 *
+	 * @param reader the reader positioned on a number
+	 * @return the truncated number
+	 * @throws IOException if the value cannot be read
+	 */
+	static int nextInt(@NonNull JsonReader reader) throws IOException {
+		return (int) reader.nextDouble();
+	}
+	
+	/**
+	 * Read a precipitation object like {"1h": 0.25} and get the last hour value
+	 *
+	 * @param reader the reader positioned on the precipitation object
+	 * @return the precipitation of the last hour, 0 if not present
+	 * @throws IOException if the object cannot be read
+	 */
+	static float nextLastHourPrecipitation(@NonNull JsonReader reader) throws IOException {
+		float precipitation = 0;
+		
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (reader.nextName().equals("1h")) precipitation = nextFloat(reader);
+			else reader.skipValue();
+		}
+		reader.endObject();
+		
+		return precipitation;
+	}
+	
+	/**
+	 * Read a weather descriptions array, only the first station is kept
+	 *
+	 * @param reader the reader positioned on the weather array
+	 * @return the first weather description, null if the array is empty
+	 * @throws IOException if the array cannot be read
+	 */
+	static WeatherDescription nextWeatherDescription(@NonNull JsonReader reader) throws IOException {
+		WeatherDescription weatherDescription = null;
+		
+		reader.beginArray();
+		if (reader.hasNext()) {
+			String main = "";
+			String description = "";
+			int code = 0;
+			
+			reader.beginObject();
+			while (reader.hasNext()) {
+				switch (reader.nextName()) {
+					case "main":
+						main = reader.nextString();
+						break;
+					case "description":
+						description = reader.nextString();
+						break;
+					case "id":
+						code = nextInt(reader);
+						break;
+					default:
+						reader.skipValue();
+				}
+			}
+			reader.endObject();
+			weatherDescription = new WeatherDescription(main, description, code);
+		}
+		
+		//  Get only the first station
+		while (reader.hasNext()) reader.skipValue();
+		reader.endArray();
+		
+		return weatherDescription;
+	}
+	
+	/**
+	 * Skip a null value
+	 *
+	 * @param reader the reader positioned on a value
+	 * @return true if the value was null and has been skipped, false otherwise
+	 * @throws IOException if the value cannot be read
+	 */
+	static boolean skipNull(@NonNull JsonReader reader) throws IOException {
+		if (reader.peek() != JsonToken.NULL) return false;
+		
+		reader.nextNull();
+		return true;
+	}
+	
+	/**
+	 * Check that every required field of an object has been read
+	 *
+	 * @param found    the number of required fields read
+	 * @param expected the number of required fields
+	 * @param name     the name of the object, used in the error message
+	 * @throws MalformedJsonException if some required fields are missing
+	 */
+	static void checkRequired(int found, int expected, @NonNull String name) throws MalformedJsonException {
+		if (found < expected)
+			throw new MalformedJsonException("Cannot find every required field in " + name + " JSON");
+	}
+	
+	/**
+	 * WeatherDescription
+	 * <p>
+	 *    The weather description of a forecast, read before the forecast is instantiated.
+	 * </p>
+	 *
+	 * @author Quentin GOMES DOS REIS
+	 * @version 1
+	 */
+	static final class WeatherDescription {
+		
+		final String main;
+		final String description;
+		final int code;
+		
+		WeatherDescription(@NonNull String main, @NonNull String description, int code) {
+			this.main = main;
+			this.description = description;
+			this.code = code;
+		}
+	}
+}
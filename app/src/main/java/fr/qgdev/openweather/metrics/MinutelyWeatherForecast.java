@@ -24,9 +24,12 @@ import androidx.annotation.NonNull;
 import androidx.room.Entity;
 import androidx.room.Ignore;
 
+import com.google.gson.stream.JsonReader;
+
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.StringJoiner;
 
@@ -35,6 +38,7 @@ import java.util.StringJoiner;
  * <p>
  *    A data holder class for Minutely Weather Forecast data.
  *    Unlike other weather data, it's only holds the precipitation.
+ *    It is immutable, so it can be shared by every snapshot of a place.
  * </p>
  *
  * @author Quentin GOMES DOS REIS
@@ -44,61 +48,85 @@ import java.util.StringJoiner;
 		  primaryKeys = {"placeId", "dt"})
 public class MinutelyWeatherForecast {
 	@NonNull
-	private String placeId;
-	private long dt;
-	private float precipitation;
+	private final String placeId;
+	private final long dt;
+	private final float precipitation;
 	
 	@Ignore
 	public MinutelyWeatherForecast() {
-		this.placeId = "";
-		this.dt = 0;
-		this.precipitation = 0;
+		this("", 0, 0);
 	}
 	
-	public MinutelyWeatherForecast(String placeId, long dt, float precipitation) {
+	public MinutelyWeatherForecast(@NonNull String placeId, long dt, float precipitation) {
 		this.placeId = placeId;
 		this.dt = dt;
 		this.precipitation = precipitation;
 	}
 	
+	/**
+	 * Instantiates a copy of a minutely weather forecast bound to another place.
+	 *
+	 * @param minutelyWeatherForecast the minutely weather forecast to copy
+	 * @param placeId                 the place id of the copy
+	 */
+	@Ignore
+	public MinutelyWeatherForecast(@NonNull MinutelyWeatherForecast minutelyWeatherForecast, @NonNull String placeId) {
+		this.placeId = placeId;
+		this.dt = minutelyWeatherForecast.dt;
+		this.precipitation = minutelyWeatherForecast.precipitation;
+	}
+	
 	@Ignore
 	public MinutelyWeatherForecast(JSONObject minutelyWeather) throws JSONException {
-		this.dt = minutelyWeather.getLong("dt") * 1000;
-		this.precipitation = BigDecimal.valueOf(minutelyWeather.getDouble("precipitation")).floatValue();
+		this("",
+				  minutelyWeather.getLong("dt") * 1000,
+				  BigDecimal.valueOf(minutelyWeather.getDouble("precipitation")).floatValue());
+	}
+	
+	@Ignore
+	public MinutelyWeatherForecast(JsonReader reader) throws IOException {
+		long dt = 0;
+		float precipitation = 0;
+		int requiredFound = 0;
+		
+		reader.beginObject();
+		while (reader.hasNext()) {
+			switch (reader.nextName()) {
+				case "dt":
+					dt = reader.nextLong() * 1000;
+					break;
+				case "precipitation":
+					precipitation = JsonReaderUtils.nextFloat(reader);
+					break;
+				default:
+					reader.skipValue();
+					continue;
+			}
+			requiredFound++;
+		}
+		reader.endObject();
+		
+		JsonReaderUtils.checkRequired(requiredFound, 2, "minutely weather forecast");
+		
+		this.placeId = "";
+		this.dt = dt;
+		this.precipitation = precipitation;
 	}
 	
 	//	Getter
+	@NonNull
 	public String getPlaceId() {
 		return placeId;
 	}
 	
-	public void setPlaceId(String placeId) {
-		this.placeId = placeId;
-	}
-	
 	public long getDt() {
 		return dt;
 	}
 	
-	//	Setter
-	
-	public void setDt(long dt) {
-		this.dt = dt;
-	}
-	
 	public float getPrecipitation() {
 		return precipitation;
 	}
 	
-	public void setPrecipitation(float precipitation) {
-		this.precipitation = precipitation;
-	}
-	
-	@NonNull
-	public MinutelyWeatherForecast clone() {
-		return new MinutelyWeatherForecast(placeId, dt, precipitation);
-	}
-	
 	
 	@NonNull
 	@Override
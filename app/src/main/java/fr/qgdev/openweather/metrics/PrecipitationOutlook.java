@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.metrics;
+
+import androidx.annotation.NonNull;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * PrecipitationOutlook
+ * <p>
+ *    What the minutely forecasts tell about precipitations in the next hour.
+ *    It is computed once when minutely forecasts are set and stored with the properties of the place,
+ *    so readers never walk the minutely forecasts, even when they aren't loaded.
+ *    Times are 0 when there is no precipitation in the forecasts, hasPrecipitation tells it apart.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see MinutelyWeatherForecast
+ */
+public final class PrecipitationOutlook {
+	
+	//	Outlook of places without any minutely forecast
+	public static final PrecipitationOutlook NONE = new PrecipitationOutlook(false, 0, 0, 0, 0);
+	
+	private final boolean precipitation;
+	private final long startDt;
+	private final long endDt;
+	private final float total;
+	private final float maximum;
+	
+	public PrecipitationOutlook(boolean precipitation, long startDt, long endDt, float total, float maximum) {
+		if (startDt < 0)
+			throw new IllegalArgumentException("startDt must be positive or null !");
+		if (endDt < startDt)
+			throw new IllegalArgumentException("endDt must be greater or equal to startDt !");
+		
+		this.precipitation = precipitation;
+		this.startDt = startDt;
+		this.endDt = endDt;
+		this.total = total;
+		this.maximum = maximum;
+	}
+	
+	/**
+	 * Compute the outlook of minutely forecasts
+	 *
+	 * @param minutelyWeatherForecastList the minutely forecasts, sorted by time
+	 * @return the outlook
+	 */
+	@NonNull
+	public static PrecipitationOutlook of(@NonNull List<MinutelyWeatherForecast> minutelyWeatherForecastList) {
+		boolean started = false;
+		boolean ended = false;
+		long startDt = 0;
+		long endDt = 0;
+		float total = 0;
+		float maximum = 0;
+		
+		for (MinutelyWeatherForecast minutelyWeatherForecast : minutelyWeatherForecastList) {
+			float precipitation = minutelyWeatherForecast.getPrecipitation();
+			if (precipitation <= 0) {
+				//	The first precipitation period is over
+				if (started && !ended) {
+					ended = true;
+					endDt = minutelyWeatherForecast.getDt();
+				}
+				continue;
+			}
+			
+			if (!started) {
+				started = true;
+				startDt = minutelyWeatherForecast.getDt();
+			}
+			//	Each forecast is an intensity in mm/h lasting one minute
+			total += precipitation / 60F;
+			maximum = Math.max(maximum, precipitation);
+		}
+		
+		//	Still raining at the end of the forecasts, it ends after the last one
+		if (started && !ended)
+			endDt = minutelyWeatherForecastList.get(minutelyWeatherForecastList.size() - 1).getDt() + 60000L;
+		return new PrecipitationOutlook(started, startDt, endDt, total, maximum);
+	}
+	
+	public boolean hasPrecipitation() {
+		return precipitation;
+	}
+	
+	/**
+	 * Get the time of the first minute with precipitations
+	 *
+	 * @return the time in milliseconds, 0 if there is none
+	 */
+	public long getStartDt() {
+		return startDt;
+	}
+	
+	/**
+	 * Get the time of the first minute without precipitations after they started
+	 *
+	 * @return the time in milliseconds, 0 if there is none
+	 */
+	public long getEndDt() {
+		return endDt;
+	}
+	
+	/**
+	 * Get the amount of precipitations expected over every minute
+	 *
+	 * @return the amount in mm
+	 */
+	public float getTotal() {
+		return total;
+	}
+	
+	/**
+	 * Get the highest intensity of precipitations
+	 *
+	 * @return the intensity in mm/h
+	 */
+	public float getMaximum() {
+		return maximum;
+	}
+	
+	@NonNull
+	@Override
+	public String toString() {
+		return new StringJoiner(", ", PrecipitationOutlook.class.getSimpleName() + "[", "]")
+				  .add("precipitation=" + precipitation)
+				  .add("startDt=" + startDt)
+				  .add("endDt=" + endDt)
+				  .add("total=" + total)
+				  .add("maximum=" + maximum)
+				  .toString();
+	}
+}
@@ -24,10 +24,13 @@ import androidx.annotation.NonNull;
 import androidx.room.Entity;
 import androidx.room.Ignore;
 
+import com.google.gson.stream.JsonReader;
+
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -48,75 +51,187 @@ import java.util.StringJoiner;
 		  primaryKeys = {"placeId", "sender", "startDt", "event"})
 public class WeatherAlert {
 	@NonNull
-	private String sender;
+	private final String sender;
 	@NonNull
-	private String event;
-	private long startDt;
-	private long endDt;
-	private String description;
-	private List<String> tags;
+	private final String event;
+	private final long startDt;
+	private final long endDt;
+	private final String description;
+	private final List<String> tags;
 	@NonNull
-	private String placeId;
+	private final String placeId;
 	
 	/**
 	 * Instantiates a new Weather alert.
+	 *
+	 * @param sender      the sender of the alert
+	 * @param event       the event of the alert
+	 * @param startDt     the start time of the alert
+	 * @param endDt       the end time of the alert
+	 * @param description the description of the alert
+	 * @param tags        the tags of the alert
+	 * @param placeId     the place id
+	 * @throws IllegalArgumentException if a time is negative
 	 */
-	public WeatherAlert() {
-		this.placeId = "";
-		this.sender = "";
-		this.event = "";
-		this.startDt = 0;
-		this.endDt = 0;
-		this.description = "";
-		this.tags = new ArrayList<>();
+	public WeatherAlert(@NonNull String sender, @NonNull String event, long startDt, long endDt,
+							  String description, @NonNull List<String> tags, @NonNull String placeId) {
+		this.placeId = placeId;
+		this.sender = sender;
+		this.event = event;
+		this.startDt = startDt;
+		this.endDt = endDt;
+		this.description = description;
+		this.tags = Collections.unmodifiableList(new ArrayList<>(tags));
+		
+		validate();
 	}
 	
 	/**
-	 * Instantiates a new Weather alert with JSON from OpenWeatherMap.
+	 * Instantiates a copy of a weather alert bound to another place.
+	 *
+	 * @param weatherAlert the weather alert to copy
+	 * @param placeId      the place id of the copy
+	 */
+	@Ignore
+	public WeatherAlert(@NonNull WeatherAlert weatherAlert, @NonNull String placeId) {
+		this.placeId = placeId;
+		this.sender = weatherAlert.sender;
+		this.event = weatherAlert.event;
+		this.startDt = weatherAlert.startDt;
+		this.endDt = weatherAlert.endDt;
+		this.description = weatherAlert.description;
+		this.tags = weatherAlert.tags;
+	}
+	
+	/**
+	 * Instantiates a new Weather alert with JSON from OpenWeatherMap, not bound to any place.
 	 *
 	 * @param weatherAlert the weather alert JSON from OpenWeatherMap
 	 * @throws JSONException the json exception if the JSON is not correct
 	 */
 	@Ignore
 	public WeatherAlert(JSONObject weatherAlert) throws JSONException {
-		this.placeId = null;
+		this.placeId = "";
 		
 		this.sender = weatherAlert.getString("sender_name");
 		this.event = weatherAlert.getString("event");
 		
-		setStartDt(weatherAlert.getLong("start") * 1000);
-		setEndDt(weatherAlert.getLong("end") * 1000);
-		setDescription(weatherAlert.getString("description"));
-		this.tags = new ArrayList<>();
+		this.startDt = weatherAlert.getLong("start") * 1000;
+		this.endDt = weatherAlert.getLong("end") * 1000;
+		this.description = weatherAlert.getString("description");
 		
 		List<String> tmp = new ArrayList<>();
 		JSONArray tagsJSON = weatherAlert.getJSONArray("tags");
-		if (tagsJSON.length() > 0) {
-			for (int idx = 0; idx < tagsJSON.length(); idx++) {
-				tmp.add(tagsJSON.getString(idx));
+		for (int idx = 0; idx < tagsJSON.length(); idx++) {
+			tmp.add(tagsJSON.getString(idx));
+		}
+		this.tags = distinctTags(tmp);
+		
+		validate();
+	}
+	
+	/**
+	 * Instantiates a new Weather alert from a stream of JSON from OpenWeatherMap, not bound to any place.
+	 *
+	 * @param reader the reader positioned on a weather alert object from OpenWeatherMap
+	 * @throws IOException if the object is malformed or a required field is missing
+	 */
+	@Ignore
+	public WeatherAlert(JsonReader reader) throws IOException {
+		int requiredFound = 0;
+		
+		String sender = "";
+		String event = "";
+		long startDt = 0;
+		long endDt = 0;
+		String description = "";
+		List<String> tmp = new ArrayList<>();
+		
+		reader.beginObject();
+		while (reader.hasNext()) {
+			switch (reader.nextName()) {
+				case "sender_name":
+					sender = reader.nextString();
+					break;
+				case "event":
+					event = reader.nextString();
+					break;
+				case "start":
+					startDt = reader.nextLong() * 1000;
+					break;
+				case "end":
+					endDt = reader.nextLong() * 1000;
+					break;
+				case "description":
+					description = reader.nextString();
+					break;
+				case "tags":
+					reader.beginArray();
+					while (reader.hasNext()) {
+						tmp.add(reader.nextString());
+					}
+					reader.endArray();
+					break;
+				default:
+					reader.skipValue();
+					continue;
 			}
-			setTags(tmp);
+			requiredFound++;
 		}
+		reader.endObject();
+		
+		JsonReaderUtils.checkRequired(requiredFound, 6, "weather alert");
+		
+		this.placeId = "";
+		this.sender = sender;
+		this.event = event;
+		this.startDt = startDt;
+		this.endDt = endDt;
+		this.description = description;
+		this.tags = distinctTags(tmp);
+		
+		validate();
 	}
 	
-	//  Getter
+	/**
+	 * Keep the tags until the first duplicate one
+	 *
+	 * @param tags the tags read from OpenWeatherMap
+	 * @return an unmodifiable list of the kept tags
+	 */
+	private static List<String> distinctTags(@NonNull List<String> tags) {
+		List<String> distinctTags = new ArrayList<>();
+		
+		for (String tag : tags) {
+			if (distinctTags.contains(tag)) {
+				break;
+			}
+			distinctTags.add(tag);
+		}
+		return Collections.unmodifiableList(distinctTags);
+	}
 	
 	/**
-	 * Gets place id.
+	 * Check that every value is in its bounds
 	 *
-	 * @return the place id
+	 * @throws IllegalArgumentException if a time is negative
 	 */
-	public String getPlaceId() {
-		return placeId;
+	private void validate() {
+		if (startDt < 0)
+			throw new IllegalArgumentException("startDt must be positive or null");
+		if (endDt < 0)
+			throw new IllegalArgumentException("endDt must be positive or null");
 	}
 	
+	//  Getter
+	
 	/**
-	 * Sets place id.
+	 * Gets place id.
 	 *
-	 * @param placeId the place id
+	 * @return the place id
 	 */
-	public void setPlaceId(String placeId) {
-		this.placeId = placeId;
+	public String getPlaceId() {
+		return placeId;
 	}
 	
 	/**
@@ -129,15 +244,6 @@ public class WeatherAlert {
 		return sender;
 	}
 	
-	/**
-	 * Sets sender.
-	 *
-	 * @param sender the sender to set
-	 */
-	public void setSender(@NonNull String sender) {
-		this.sender = sender;
-	}
-	
 	/**
 	 * Gets event.
 	 *
@@ -148,15 +254,6 @@ public class WeatherAlert {
 		return event;
 	}
 	
-	/**
-	 * Sets event.
-	 *
-	 * @param event the event to set
-	 */
-	public void setEvent(@NonNull String event) {
-		this.event = event;
-	}
-	
 	/**
 	 * Gets start dt.
 	 *
@@ -166,18 +263,6 @@ public class WeatherAlert {
 		return startDt;
 	}
 	
-	/**
-	 * Sets start dt.
-	 *
-	 * @param startDt the start dt to set (in milliseconds)
-	 *                Must be positive or null
-	 */
-	public void setStartDt(long startDt) {
-		if (startDt < 0)
-			throw new IllegalArgumentException("startDt must be positive or null");
-		this.startDt = startDt;
-	}
-	
 	/**
 	 * Gets end dt.
 	 *
@@ -187,18 +272,6 @@ public class WeatherAlert {
 		return endDt;
 	}
 	
-	/**
-	 * Sets end dt.
-	 *
-	 * @param endDt the end dt to set (in milliseconds)
-	 *              Must be positive or null
-	 */
-	public void setEndDt(long endDt) {
-		if (endDt < 0)
-			throw new IllegalArgumentException("endDt must be positive or null");
-		this.endDt = endDt;
-	}
-	
 	/**
 	 * Gets description.
 	 *
@@ -208,78 +281,13 @@ public class WeatherAlert {
 		return description;
 	}
 	
-	/**
-	 * Sets description.
-	 *
-	 * @param description the description to set
-	 */
-	public void setDescription(@NonNull String description) {
-		this.description = description;
-	}
-	
 	/**
 	 * Gets tags list.
 	 *
 	 * @return the list of tags
 	 */
 	public List<String> getTags() {
-		return Collections.unmodifiableList(tags);
-	}
-	
-	/**
-	 * Sets tags list.
-	 *
-	 * @param tags the list of tags to set
-	 */
-	public void setTags(@NonNull List<String> tags) {
-		//	Remove all tags and add the new ones
-		this.tags.clear();
-		
-		for (String tag : tags) {
-			if (!addTag(tag)) {
-				break;
-			}
-		}
-	}
-	
-	/**
-	 * Remove tag.
-	 *
-	 * @param tag the tag to remove
-	 * @return true if the tag was removed
-	 */
-	public boolean removeTag(@NonNull String tag) {
-		return tags.remove(tag);
-	}
-	
-	/**
-	 * Add tag.
-	 *
-	 * @param tag the tag to add
-	 * @return true if the tag was added
-	 */
-	public boolean addTag(@NonNull String tag) {
-		if (tags.contains(tag))
-			return false;
-		return tags.add(tag);
-	}
-	
-	/**
-	 * Clone weather alert.
-	 *
-	 * @return the weather alert
-	 */
-	@NonNull
-	public WeatherAlert clone() {
-		WeatherAlert clone = new WeatherAlert();
-		clone.setPlaceId(this.placeId);
-		clone.setSender(this.sender);
-		clone.setEvent(this.event);
-		clone.setStartDt(this.startDt);
-		clone.setEndDt(this.endDt);
-		clone.setDescription(this.description);
-		clone.tags = new ArrayList<>(this.tags);
-		return clone;
+		return tags;
 	}
 	
 	/**
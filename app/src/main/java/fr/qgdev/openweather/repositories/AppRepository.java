@@ -25,18 +25,25 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.LiveData;
-import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.Observer;
 
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import fr.qgdev.openweather.BuildConfig;
 import fr.qgdev.openweather.repositories.places.Geolocation;
+import fr.qgdev.openweather.repositories.places.ObservationRetentionPolicy;
 import fr.qgdev.openweather.repositories.places.Place;
 import fr.qgdev.openweather.repositories.places.PlaceDatabase;
+import fr.qgdev.openweather.repositories.places.WeatherObservation;
+import fr.qgdev.openweather.repositories.places.WidgetPlace;
 import fr.qgdev.openweather.repositories.places.dao.PlaceDAO;
 import fr.qgdev.openweather.repositories.settings.SettingsManager;
+import fr.qgdev.openweather.repositories.weather.CancellationHandle;
+import fr.qgdev.openweather.repositories.weather.ConnectivityMonitor;
 import fr.qgdev.openweather.repositories.weather.FetchCallback;
 import fr.qgdev.openweather.repositories.weather.FetchDataCallback;
 import fr.qgdev.openweather.repositories.weather.RequestStatus;
@@ -57,17 +64,27 @@ import fr.qgdev.openweather.widgets.WidgetsManager;
  */
 public class AppRepository {
 	
+	private static final String TAG = AppRepository.class.getSimpleName();
+	private static final Logger logger = Logger.getLogger(TAG);
 	private static final AtomicReference<AppRepository> instance = new AtomicReference<>(null);
+	//	OpenWeatherMap free plan allows 60 calls per minute
+	private static final int REFRESH_REQUESTS_PER_MINUTE = 60;
+	private static final int REFRESH_MAX_IN_FLIGHT = 4;
+	//	Places not refreshed after 5 minutes are cancelled so that a batch never hangs
+	private static final long REFRESH_DEADLINE = 300000;
 	private final SettingsManager settingsManager;
 	private final WidgetsManager widgetsManager;
 	
 	private final WeatherService weatherService;
+	private final StalenessPolicy stalenessPolicy;
+	private final RefreshScheduler refreshScheduler;
+	private final ObservationRetentionPolicy observationRetentionPolicy;
 	private final PlaceDatabase placeDatabase;
 	private final PlaceDAO mPlaceDao;
 	
 	private final FormattingService formattingService;
 	
-	private final MutableLiveData<List<Place>> mutableLiveDataPlaces;
+	private final LiveData<List<Place>> placesLiveData;
 	
 	/**
 	 * Instantiates a new App repository.
@@ -80,13 +97,20 @@ public class AppRepository {
 		settingsManager = SettingsManager.getInstance(context);
 		formattingService = FormattingService.getInstance(context);
 		weatherService = WeatherService.getInstance(context);
+		stalenessPolicy = new StalenessPolicy();
+		refreshScheduler = new RefreshScheduler(weatherService,
+				  ConnectivityMonitor.getInstance(context),
+				  stalenessPolicy,
+				  REFRESH_REQUESTS_PER_MINUTE,
+				  REFRESH_MAX_IN_FLIGHT);
 		widgetsManager = WidgetsManager.getInstance(context);
+		observationRetentionPolicy = new ObservationRetentionPolicy();
 		
 		PlaceDatabase db = PlaceDatabase.getDatabase(context);
 		placeDatabase = db;
 		mPlaceDao = db.placeDAO();
 		
-		mutableLiveDataPlaces = (MutableLiveData<List<Place>>) placeDatabase.getAllPlacesLiveData();
+		placesLiveData = placeDatabase.getAllPlacesLiveData();
 	}
 	
 	/**
@@ -134,26 +158,89 @@ public class AppRepository {
 		return formattingService;
 	}
 	
+	/**
+	 * Gets the staleness policy, telling which places are being revalidated.
+	 *
+	 * @return the staleness policy
+	 */
+	public StalenessPolicy getStalenessPolicy() {
+		return stalenessPolicy;
+	}
+	
+	/**
+	 * Gets the retention policy of the observation archive.
+	 *
+	 * @return the observation retention policy
+	 */
+	public ObservationRetentionPolicy getObservationRetentionPolicy() {
+		return observationRetentionPolicy;
+	}
+	
 	/**
 	 * Gets places live data.
+	 * A new immutable list is emitted each time a place changes in the database,
+	 * where places that didn't change keep the same instance.
 	 *
 	 * @return the places live data
 	 */
 	public LiveData<List<Place>> getPlacesLiveData() {
-		return mutableLiveDataPlaces;
+		return placesLiveData;
 	}
 	
 	/**
 	 * Gets places.
+	 * This method is synchronous and should not be used in the main thread
 	 *
 	 * @return the places
 	 */
 	public List<Place> getPlaces() {
-		return placeDatabase.getAllPlaces();
+		return placeDatabase.getPlaceChangeTracker().getPlaces();
+	}
+	
+	/**
+	 * Revalidate already loaded places (stale-while-revalidate).
+	 * Cached places stay shown, marked as stale following the staleness policy,
+	 * while stale places are refreshed in the background and each one is published as soon as it is stored.
+	 * Fresh places are reported to the callback without any request.
+	 *
+	 * @param places             the places to revalidate
+	 * @param callback           the callback called once per place, may be null
+	 * @param cancellationHandle the handle used to cancel the revalidation, may be null
+	 */
+	public void revalidatePlaces(@NonNull List<Place> places, @Nullable FetchCallback callback, @Nullable CancellationHandle cancellationHandle) {
+		FetchDataCallback fetchDataCallback = new FetchDataCallback() {
+			@Override
+			public void onSuccess(Place place) {
+				update(place, () -> {
+					if (callback != null) callback.onSuccess();
+				});
+			}
+			
+			@Override
+			public void onPartialSuccess(Place place, RequestStatus requestStatus) {
+				update(place, () -> {
+					if (callback != null) callback.onSuccess();
+				});
+			}
+			
+			@Override
+			public void onError(RequestStatus requestStatus) {
+				//	The cached place is kept as it is, still marked as stale
+				if (callback != null) callback.onError(requestStatus);
+			}
+			
+			@Override
+			public void onFresh(Place place) {
+				if (callback != null) callback.onSuccess();
+			}
+		};
+		
+		refreshScheduler.submit(places, fetchDataCallback, withExecutorMetrics(callback), cancellationHandle, REFRESH_DEADLINE);
 	}
 	
 	/**
 	 * Gets place live data from place id.
+	 * It is only updated when this place changes in the database.
 	 *
 	 * @param placeId the place id
 	 * @return the place live data
@@ -162,6 +249,43 @@ public class AppRepository {
 		return placeDatabase.getPlaceFromPlaceIdLiveData(placeId);
 	}
 	
+	/**
+	 * Load what widgets show of a place with a single narrow query.
+	 * The callback is called from a worker thread and only if the place exists.
+	 *
+	 * @param placeId  the place id
+	 * @param hours    the number of hourly forecasts after the current weather to load
+	 * @param callback the callback receiving the widget projection of the place
+	 */
+	public void loadWidgetPlace(String placeId, int hours, @NonNull ParameterizedRunnable<WidgetPlace> callback) {
+		PlaceDatabase.readExecutor.execute(() -> {
+			WidgetPlace widgetPlace = placeDatabase.getWidgetPlace(placeId, hours);
+			if (widgetPlace != null) callback.run(widgetPlace);
+		});
+	}
+	
+	/**
+	 * Load the archived observations of a place in a time range, in chronological order.
+	 * The callback is called from a worker thread.
+	 *
+	 * @param placeId  the place id
+	 * @param from     the start of the range in milliseconds, included
+	 * @param to       the end of the range in milliseconds, excluded
+	 * @param callback the callback receiving the observations
+	 */
+	public void loadObservations(String placeId, long from, long to, @NonNull ParameterizedRunnable<List<WeatherObservation>> callback) {
+		PlaceDatabase.readExecutor.execute(() -> callback.run(placeDatabase.getObservations(placeId, from, to)));
+	}
+	
+	/**
+	 * Compact the observation archive following the observation retention policy.
+	 *
+	 * @param callback the callback to call when the archive is compacted
+	 */
+	public void compactObservations(@Nullable Runnable callback) {
+		placeDatabase.compactObservations(observationRetentionPolicy, System.currentTimeMillis(), callback);
+	}
+	
 	/**
 	 * Gets basic listing of registered places.
 	 *
@@ -179,12 +303,6 @@ public class AppRepository {
 	 */
 	public synchronized void insert(@NonNull Place place, @Nullable ParameterizedRunnable<Place> callback) {
 		placeDatabase.insertPlace(place, p -> {
-			List<Place> places = mutableLiveDataPlaces.getValue();
-			if (places == null) return;
-			
-			places.add(p);
-			mutableLiveDataPlaces.postValue(places);
-			
 			//	Run the callback in a new thread to avoid blocking Room thread
 			if (callback != null)
 				new Thread(() -> callback.run(place)).start();
@@ -199,12 +317,6 @@ public class AppRepository {
 	 */
 	public synchronized void insert(@NonNull Place place, @Nullable Runnable callback) {
 		placeDatabase.insertPlace(place, p -> {
-			List<Place> places = mutableLiveDataPlaces.getValue();
-			if (places == null) return;
-			
-			places.add(p);
-			mutableLiveDataPlaces.postValue(places);
-			
 			//	Run the callback in a new thread to avoid blocking Room thread
 			if (callback != null)
 				new Thread(callback).start();
@@ -214,17 +326,14 @@ public class AppRepository {
 	/**
 	 * Delete an existing place.
 	 *
+	 * Its pending refreshes are cancelled so that nothing is written for it anymore.
+	 *
 	 * @param place    the place to delete
 	 * @param callback the callback to run after delete
 	 */
 	public synchronized void delete(@NonNull Place place, @Nullable ParameterizedRunnable<Place> callback) {
-		placeDatabase.deletePlace(place, position -> {
-			List<Place> places = mutableLiveDataPlaces.getValue();
-			if (places == null) return;
-			
-			places.remove(place);
-			mutableLiveDataPlaces.postValue(places);
-			
+		refreshScheduler.cancel(place.getProperties().getPlaceId());
+		placeDatabase.deletePlace(place, placeId -> {
 			//	Run the callback in a new thread to avoid blocking Room thread
 			if (callback != null)
 				new Thread(() -> callback.run(place)).start();
@@ -234,17 +343,14 @@ public class AppRepository {
 	/**
 	 * Delete an existing place.
 	 *
+	 * Its pending refreshes are cancelled so that nothing is written for it anymore.
+	 *
 	 * @param place    the place to delete
 	 * @param callback the callback to run after delete
 	 */
 	public synchronized void delete(@NonNull Place place, @Nullable Runnable callback) {
-		placeDatabase.deletePlace(place, position -> {
-			List<Place> places = mutableLiveDataPlaces.getValue();
-			if (places == null) return;
-			
-			places.remove(place);
-			mutableLiveDataPlaces.postValue(places);
-			
+		refreshScheduler.cancel(place.getProperties().getPlaceId());
+		placeDatabase.deletePlace(place, placeId -> {
 			//	Run the callback in a new thread to avoid blocking Room thread
 			if (callback != null)
 				new Thread(callback).start();
@@ -259,13 +365,6 @@ public class AppRepository {
 	 */
 	public synchronized void update(@NonNull Place place, @Nullable ParameterizedRunnable<Place> callback) {
 		placeDatabase.updatePlace(place, (Place p) -> {
-			List<Place> places = mutableLiveDataPlaces.getValue();
-			if (places == null) return;
-			if (places.size() <= p.getProperties().getOrder()) return;
-			
-			places.set(p.getProperties().getOrder(), p);
-			mutableLiveDataPlaces.postValue(places);
-			
 			//	Run the callback in a new thread to avoid blocking Room thread
 			if (callback != null)
 				new Thread(() -> callback.run(place)).start();
@@ -280,13 +379,6 @@ public class AppRepository {
 	 */
 	public synchronized void update(@NonNull Place place, @Nullable Runnable callback) {
 		placeDatabase.updatePlace(place, (Place p) -> {
-			List<Place> places = mutableLiveDataPlaces.getValue();
-			if (places == null) return;
-			if (places.size() <= p.getProperties().getOrder()) return;
-			
-			places.set(p.getProperties().getOrder(), p);
-			mutableLiveDataPlaces.postValue(places);
-			
 			//	Run the callback in a new thread to avoid blocking Room thread
 			if (callback != null)
 				new Thread(callback).start();
@@ -294,13 +386,14 @@ public class AppRepository {
 	}
 	
 	/**
-	 * Move place an existing place from crtOrder to newOrder.
+	 * Move an existing place from a position to another.
+	 * The published places are patched right away, then only the order of the moved place is written.
 	 *
-	 * @param crtOrder the crt order
-	 * @param newOrder the new order
+	 * @param crtPosition the current position of the place
+	 * @param newPosition the new position of the place
 	 */
-	public synchronized void movePlace(int crtOrder, int newOrder, @Nullable Runnable callback) {
-		placeDatabase.movePlace(crtOrder, newOrder, callback);
+	public synchronized void movePlace(int crtPosition, int newPosition, @Nullable Runnable callback) {
+		placeDatabase.movePlace(crtPosition, newPosition, callback);
 	}
 	
 	/**
@@ -383,12 +476,59 @@ public class AppRepository {
 		new Thread(runnable).start();
 	}
 	
+	/**
+	 * Wrap the progress callback of a refresh batch to log the metrics of the database executors once the batch is done.
+	 * Metrics are only logged in debug builds, the callback is returned as it is otherwise.
+	 *
+	 * @param callback the progress callback of the batch, may be null
+	 * @return the callback to give to the refresh scheduler
+	 */
+	@Nullable
+	private static FetchCallback withExecutorMetrics(@Nullable FetchCallback callback) {
+		if (!BuildConfig.DEBUG) return callback;
+		
+		return new FetchCallback() {
+			@Override
+			public void onSuccess() {
+				if (callback != null) callback.onSuccess();
+			}
+			
+			@Override
+			public void onError(RequestStatus requestStatus) {
+				if (callback != null) callback.onError(requestStatus);
+			}
+			
+			@Override
+			public void onProgress(int completed, int total) {
+				if (callback != null) callback.onProgress(completed, total);
+				if (completed < total) return;
+				
+				logger.log(Level.FINE, "Refresh batch of {0} places done, {1}, {2}",
+						new Object[]{total, PlaceDatabase.writeExecutor, PlaceDatabase.readExecutor});
+			}
+		};
+	}
+	
 	/**
 	 * Update all registered places.
+	 * Places are refreshed through the refresh scheduler to respect the API rate limit.
+	 * Only stale data is requested, places whose data is still fresh are reported as successes
+	 * without any request.
 	 *
 	 * @param callback the callback that will be called when the update is finished
 	 */
 	public void updateAllPlaces(FetchCallback callback) {
+		updateAllPlaces(callback, null);
+	}
+	
+	/**
+	 * Update all registered places until the given handle is cancelled.
+	 * Places not refreshed yet when it is cancelled, or after REFRESH_DEADLINE, are reported with CANCELLED.
+	 *
+	 * @param callback           the callback that will be called when the update is finished
+	 * @param cancellationHandle the handle used to cancel the update, may be null
+	 */
+	public void updateAllPlaces(FetchCallback callback, @Nullable CancellationHandle cancellationHandle) {
 		
 		FetchDataCallback fetchDataCallback = new FetchDataCallback() {
 			@Override
@@ -405,22 +545,16 @@ public class AppRepository {
 			public void onError(RequestStatus requestStatus) {
 				callback.onError(requestStatus);
 			}
-		};
-		
-		Observer<List<Place>> observerUpdater = new Observer<>() {
+			
 			@Override
-			public void onChanged(List<Place> places) {
-				if (places == null) return;
-				
-				for (Place place : places) {
-					weatherService.getPlaceDataOWM(place, fetchDataCallback);
-				}
-				placeDatabase.getAllPlacesLiveData().removeObserver(this);
+			public void onFresh(Place place) {
+				//	Nothing changed, no need to write it again
+				callback.onSuccess();
 			}
-			
 		};
 		
-		placeDatabase.getAllPlacesLiveData().observeForever(observerUpdater);
+		PlaceDatabase.readExecutor.execute(() ->
+				  refreshScheduler.submit(getPlaces(), fetchDataCallback, withExecutorMetrics(callback), cancellationHandle, REFRESH_DEADLINE));
 	}
 	
 	/**
@@ -433,6 +567,17 @@ public class AppRepository {
 	 * @param callback the callback
 	 */
 	public void updateAllPlacesSynchronized(FetchCallback callback) {
+		updateAllPlacesSynchronized(callback, null);
+	}
+	
+	/**
+	 * Update all registered places in a synchronized way until the given handle is cancelled.
+	 * Places not refreshed yet when it is cancelled, or after REFRESH_DEADLINE, are reported with CANCELLED.
+	 *
+	 * @param callback           the callback
+	 * @param cancellationHandle the handle used to cancel the update, may be null
+	 */
+	public void updateAllPlacesSynchronized(FetchCallback callback, @Nullable CancellationHandle cancellationHandle) {
 		
 		FetchDataCallback fetchDataCallback = new FetchDataCallback() {
 			@Override
@@ -449,13 +594,17 @@ public class AppRepository {
 			public void onError(RequestStatus requestStatus) {
 				callback.onError(requestStatus);
 			}
+			
+			@Override
+			public void onFresh(Place place) {
+				//	Nothing changed, no need to write it again
+				callback.onSuccess();
+			}
 		};
 		
-		List<Place> places = placeDatabase.getAllPlaces();
+		List<Place> places = getPlaces();
 		
-		for (Place place : places) {
-			weatherService.getPlaceDataOWM(place, fetchDataCallback);
-		}
+		refreshScheduler.submit(places, fetchDataCallback, withExecutorMetrics(callback), cancellationHandle, REFRESH_DEADLINE);
 	}
 	
 	/**
@@ -0,0 +1,223 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories;
+
+import androidx.annotation.NonNull;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+import java.time.chrono.JapaneseChronology;
+import java.time.chrono.ThaiBuddhistChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DecimalStyle;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+/**
+ * DateTimeFormatterCache
+ * <p>
+ *    A bounded cache of immutable DateTimeFormatter keyed by pattern, zone and locale.
+ *    The formatters are thread safe, they can be shared between widgets binding and views drawing.
+ *    They are built with the digits and the calendar system of the locale
+ *    to give the same output as a SimpleDateFormat of the same pattern.
+ *    The least recently used formatter is dropped when the cache is full.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+public class DateTimeFormatterCache {
+	
+	private static final int SECONDS_IN_A_DAY = 86400;
+	private static final int SECONDS_IN_AN_HOUR = 3600;
+	
+	private final Map<Key, DateTimeFormatter> formatters;
+	
+	/**
+	 * Instantiates an empty cache
+	 *
+	 * @param maximumSize the maximum number of formatters kept
+	 */
+	public DateTimeFormatterCache(int maximumSize) {
+		if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize must be positive !");
+		
+		//	Access ordered to drop the least recently used formatter first
+		this.formatters = new LinkedHashMap<>(maximumSize, 0.75F, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, DateTimeFormatter> eldest) {
+				return size() > maximumSize;
+			}
+		};
+	}
+	
+	/**
+	 * Get the zone of a time zone.
+	 * The time zones of places are SimpleTimeZone with a fixed offset and an "UTC" id,
+	 * so their zone is the offset and not the zone of their id.
+	 *
+	 * @param timeZone the time zone
+	 * @return the zone
+	 */
+	public static ZoneId toZoneId(@NonNull TimeZone timeZone) {
+		if (timeZone instanceof SimpleTimeZone && !timeZone.useDaylightTime()) {
+			return ZoneOffset.ofTotalSeconds(timeZone.getRawOffset() / 1000);
+		}
+		return timeZone.toZoneId();
+	}
+	
+	/**
+	 * Get the hour of day of a time at a given offset without any Date or Calendar
+	 *
+	 * @param time       the time in milliseconds since epoch
+	 * @param timeOffset the offset from UTC in seconds
+	 * @return the hour of day between 0 and 23
+	 */
+	public static int getHourOfDay(long time, int timeOffset) {
+		long localSeconds = Math.floorDiv(time, 1000L) + timeOffset;
+		return (int) (Math.floorMod(localSeconds, SECONDS_IN_A_DAY) / SECONDS_IN_AN_HOUR);
+	}
+	
+	/**
+	 * Format every hour of day with a pattern only depending on the hour, like "HH:00"
+	 *
+	 * @param pattern the pattern
+	 * @param locale  the locale
+	 * @return the 24 formatted hours, indexed by hour of day
+	 */
+	public static String[] formatHoursOfDay(@NonNull String pattern, @NonNull Locale locale) {
+		DateTimeFormatter dateTimeFormatter = ofPattern(pattern, locale);
+		String[] hoursOfDay = new String[24];
+		for (int hour = 0; hour < hoursOfDay.length; hour++) {
+			hoursOfDay[hour] = dateTimeFormatter.format(LocalTime.of(hour, 0));
+		}
+		return hoursOfDay;
+	}
+	
+	/**
+	 * Build a formatter like a SimpleDateFormat, with the digits and calendar system of the locale
+	 */
+	private static DateTimeFormatter ofPattern(String pattern, Locale locale) {
+		return DateTimeFormatter.ofPattern(pattern, locale)
+				  .withDecimalStyle(DecimalStyle.of(locale))
+				  .withChronology(getChronology(locale));
+	}
+	
+	/**
+	 * Get the calendar system SimpleDateFormat would use for a locale,
+	 * it doesn't only depend on the "ca" extension like Chronology.ofLocale
+	 */
+	private static Chronology getChronology(Locale locale) {
+		switch (Calendar.getInstance(locale).getCalendarType()) {
+			case "buddhist":
+				return ThaiBuddhistChronology.INSTANCE;
+			case "japanese":
+				return JapaneseChronology.INSTANCE;
+			default:
+				return IsoChronology.INSTANCE;
+		}
+	}
+	
+	/**
+	 * Get a formatter, it's built and cached on the first use
+	 *
+	 * @param pattern the pattern, as for SimpleDateFormat
+	 * @param zoneId  the zone the times are formatted in
+	 * @param locale  the locale
+	 * @return the formatter
+	 */
+	public synchronized DateTimeFormatter get(@NonNull String pattern, @NonNull ZoneId zoneId, @NonNull Locale locale) {
+		Key key = new Key(pattern, zoneId, locale);
+		DateTimeFormatter dateTimeFormatter = formatters.get(key);
+		
+		if (dateTimeFormatter == null) {
+			dateTimeFormatter = ofPattern(pattern, locale).withZone(zoneId);
+			formatters.put(key, dateTimeFormatter);
+		}
+		return dateTimeFormatter;
+	}
+	
+	/**
+	 * Format a time
+	 *
+	 * @param pattern the pattern, as for SimpleDateFormat
+	 * @param time    the time in milliseconds since epoch
+	 * @param zoneId  the zone the time is formatted in
+	 * @param locale  the locale
+	 * @return the formatted time
+	 */
+	public String format(@NonNull String pattern, long time, @NonNull ZoneId zoneId, @NonNull Locale locale) {
+		return get(pattern, zoneId, locale).format(Instant.ofEpochMilli(time));
+	}
+	
+	/**
+	 * Drop every formatter, when the formatting settings change
+	 */
+	public synchronized void clear() {
+		formatters.clear();
+	}
+	
+	public synchronized int size() {
+		return formatters.size();
+	}
+	
+	/**
+	 * Key
+	 * <p>
+	 *    Key of a formatter in the cache.
+	 * </p>
+	 */
+	private static final class Key {
+		
+		private final String pattern;
+		private final ZoneId zoneId;
+		private final Locale locale;
+		
+		private Key(String pattern, ZoneId zoneId, Locale locale) {
+			this.pattern = pattern;
+			this.zoneId = zoneId;
+			this.locale = locale;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Key key = (Key) o;
+			return pattern.equals(key.pattern) && zoneId.equals(key.zoneId) && locale.equals(key.locale);
+		}
+		
+		@Override
+		public int hashCode() {
+			int result = pattern.hashCode();
+			result = 31 * result + zoneId.hashCode();
+			return 31 * result + locale.hashCode();
+		}
+	}
+}
@@ -24,8 +24,6 @@ import android.content.Context;
 
 import androidx.annotation.NonNull;
 
-import java.math.BigDecimal;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -39,6 +37,8 @@ import fr.qgdev.openweather.repositories.settings.SettingsManager;
  * <p>
  *    A service to format any data according to the user settings.
  *    It also provides some conversion methods to convert data.
+ *    Values are formatted by precompiled UnitFormatter, the render methods return a sequence
+ *    reused by the next call on the same thread, to be drawn right away with Canvas.drawText.
  * </p>
  *
  * @author Quentin GOMES DOS REIS
@@ -47,6 +47,8 @@ import fr.qgdev.openweather.repositories.settings.SettingsManager;
 public class FormattingService {
 	
 	private static final AtomicReference<FormattingService> instance = new AtomicReference<>(null);
+	//  A few patterns for each place zone
+	private static final int DATE_TIME_FORMATTERS_CACHE_SIZE = 64;
 	private final Context context;
 	private final SettingsManager settingsManager;
 	
@@ -55,37 +57,30 @@ public class FormattingService {
 	private PressureConversion pressureConversion;
 	private DirectionConversion directionConversion;
 	
-	//  Temperature format specifier for int or float format
-	private String temperatureUnitSymbol;
-	private String temperatureFormatSpecifierInt;
-	private String temperatureFormatSpecifierFloat;
-	
-	//  Short distance format specifier for int or float format
-	private String shortDistanceUnitSymbol;
-	private String shortDistanceFormatSpecifierInt;
-	private String shortDistanceFormatSpecifierFloat;
-	
-	//  Distance format specifier for int or float format
-	private String distanceUnitSymbol;
-	private String distanceFormatSpecifierInt;
-	private String distanceFormatSpecifierFloat;
-	
-	//  Speed format specifier for int or float format
-	private String speedUnitSymbol;
-	private String speedFormatSpecifierInt;
-	private String speedFormatSpecifierFloat;
-	
-	//  Pressure format specifier
-	private String pressureUnitSymbol;
-	private String pressureFormatSpecifier;
-	
-	//  TimeHour format specifier
-	private SimpleDateFormat hourFormat;
-	private SimpleDateFormat shortHourFormat;
-	private SimpleDateFormat timeFormat;
-	private SimpleDateFormat shortDayNameFormat;
-	private SimpleDateFormat dayMonthFormat;
-	private SimpleDateFormat fullTimeHourFormat;
+	//  Precompiled formatters, their unit symbol, spacing and rounding are resolved on update
+	private UnitFormatter temperatureFormatterInt;
+	private UnitFormatter temperatureFormatterFloat;
+	private UnitFormatter shortDistanceFormatterInt;
+	private UnitFormatter shortDistanceFormatterFloat;
+	private UnitFormatter distanceFormatterInt;
+	private UnitFormatter distanceFormatterFloat;
+	private UnitFormatter speedFormatterInt;
+	private UnitFormatter speedFormatterFloat;
+	private UnitFormatter pressureFormatter;
+	
+	//  TimeHour format patterns, their formatters are cached by zone until the next update
+	private final DateTimeFormatterCache dateTimeFormatterCache = new DateTimeFormatterCache(DATE_TIME_FORMATTERS_CACHE_SIZE);
+	private Locale dateTimeLocale;
+	private String hourPattern;
+	private String shortHourPattern;
+	private String timePattern;
+	private String shortDayNamePattern;
+	private String dayMonthPattern;
+	private String fullTimeHourPattern;
+	
+	//  Hours and short hours only depend on the hour of day, they are formatted once on update
+	private String[] hoursOfDay;
+	private String[] shortHoursOfDay;
 	
 	public static FormattingService getInstance(@NonNull Context context) {
 		Context applicationContext = context.getApplicationContext();
@@ -225,100 +220,108 @@ public class FormattingService {
 		return "N/A";
 	}
 	
-	private SimpleDateFormat getSimpleDateFormatForTimeZone(SimpleDateFormat simpleDateFormat, TimeZone timeZone) {
-		SimpleDateFormat clonedSimpleDateFormat = (SimpleDateFormat) simpleDateFormat.clone();
-		clonedSimpleDateFormat.setTimeZone(timeZone);
-		return clonedSimpleDateFormat;
+	private String formatDate(String pattern, Date date, TimeZone timeZone) {
+		return dateTimeFormatterCache.format(pattern, date.getTime(), DateTimeFormatterCache.toZoneId(timeZone), dateTimeLocale);
+	}
+	
+	/**
+	 * Get a formatter for the current locale, the formatters are built for the locale at the last update
+	 * but the locale can change in between
+	 *
+	 * @param formatter the formatter built on update
+	 * @return the formatter for the current locale
+	 */
+	private UnitFormatter localized(UnitFormatter formatter) {
+		return formatter.withLocale(settingsManager.getDefaultLocale());
 	}
 	
 	//  Temperature formatting
 	////    Int
 	public String getIntFormattedTemperature(float temperature, FormattingSpec formattingSpec) {
-		return String.format(settingsManager.getDefaultLocale(),
-				  temperatureFormatSpecifierInt,
-				  BigDecimal.valueOf(convertTemperature(temperature)).intValue(),
-				  (formattingSpec.value % 2 == 1) ? " " : "",
-				  (formattingSpec.value >= 2) ? temperatureUnitSymbol : "");
+		return localized(temperatureFormatterInt).format(temperature, formattingSpec.hasSpace(), formattingSpec.hasUnit());
+	}
+	
+	public CharSequence renderIntFormattedTemperature(float temperature, FormattingSpec formattingSpec) {
+		return localized(temperatureFormatterInt).render(temperature, formattingSpec.hasSpace(), formattingSpec.hasUnit());
 	}
 	
 	////    Float
 	public String getFloatFormattedTemperature(float temperature, FormattingSpec formattingSpec) {
-		return String.format(settingsManager.getDefaultLocale(),
-				  temperatureFormatSpecifierFloat,
-				  convertTemperature(temperature),
-				  (formattingSpec.value % 2 == 1) ? " " : "",
-				  (formattingSpec.value >= 2) ? temperatureUnitSymbol : "");
+		return localized(temperatureFormatterFloat).format(temperature, formattingSpec.hasSpace(), formattingSpec.hasUnit());
+	}
+	
+	public CharSequence renderFloatFormattedTemperature(float temperature, FormattingSpec formattingSpec) {
+		return localized(temperatureFormatterFloat).render(temperature, formattingSpec.hasSpace(), formattingSpec.hasUnit());
 	}
 	
 	//  Short Distance formatting
 	////    Int
 	public String getIntFormattedShortDistance(float shortDistance, FormattingSpec formattingSpec) {
-		return String.format(settingsManager.getDefaultLocale(),
-				  shortDistanceFormatSpecifierInt,
-				  BigDecimal.valueOf(convertShortDistance(shortDistance)).intValue(),
-				  (formattingSpec.value % 2 == 1) ? " " : "",
-				  (formattingSpec.value >= 2) ? shortDistanceUnitSymbol : "");
+		return localized(shortDistanceFormatterInt).format(shortDistance, formattingSpec.hasSpace(), formattingSpec.hasUnit());
+	}
+	
+	public CharSequence renderIntFormattedShortDistance(float shortDistance, FormattingSpec formattingSpec) {
+		return localized(shortDistanceFormatterInt).render(shortDistance, formattingSpec.hasSpace(), formattingSpec.hasUnit());
 	}
 	
 	////    Float
 	public String getFloatFormattedShortDistance(float shortDistance, FormattingSpec formattingSpec) {
-		return String.format(settingsManager.getDefaultLocale(),
-				  shortDistanceFormatSpecifierFloat,
-				  convertShortDistance(shortDistance),
-				  (formattingSpec.value % 2 == 1) ? " " : "",
-				  (formattingSpec.value >= 2) ? shortDistanceUnitSymbol : "");
+		return localized(shortDistanceFormatterFloat).format(shortDistance, formattingSpec.hasSpace(), formattingSpec.hasUnit());
+	}
+	
+	public CharSequence renderFloatFormattedShortDistance(float shortDistance, FormattingSpec formattingSpec) {
+		return localized(shortDistanceFormatterFloat).render(shortDistance, formattingSpec.hasSpace(), formattingSpec.hasUnit());
 	}
 	
 	//  Distance formatting
 	////    Int
 	public String getIntFormattedDistance(float distance, FormattingSpec formattingSpec) {
-		return String.format(settingsManager.getDefaultLocale(),
-				  distanceFormatSpecifierInt,
-				  BigDecimal.valueOf(convertDistance(distance)).intValue(),
-				  (formattingSpec.value % 2 == 1) ? " " : "",
-				  (formattingSpec.value >= 2) ? distanceUnitSymbol : "");
+		return localized(distanceFormatterInt).format(distance, formattingSpec.hasSpace(), formattingSpec.hasUnit());
+	}
+	
+	public CharSequence renderIntFormattedDistance(float distance, FormattingSpec formattingSpec) {
+		return localized(distanceFormatterInt).render(distance, formattingSpec.hasSpace(), formattingSpec.hasUnit());
 	}
 	
 	////    Float
 	public String getFloatFormattedDistance(float distance, FormattingSpec formattingSpec) {
-		return String.format(settingsManager.getDefaultLocale(),
-				  distanceFormatSpecifierFloat,
-				  convertDistance(distance),
-				  (formattingSpec.value % 2 == 1) ? " " : "",
-				  (formattingSpec.value >= 2) ? distanceUnitSymbol : "");
+		return localized(distanceFormatterFloat).format(distance, formattingSpec.hasSpace(), formattingSpec.hasUnit());
+	}
+	
+	public CharSequence renderFloatFormattedDistance(float distance, FormattingSpec formattingSpec) {
+		return localized(distanceFormatterFloat).render(distance, formattingSpec.hasSpace(), formattingSpec.hasUnit());
 	}
 	
 	//  Speed formatting
 	////    Int
 	public String getIntFormattedSpeed(float speed, FormattingSpec formattingSpec) {
-		return String.format(settingsManager.getDefaultLocale(),
-				  speedFormatSpecifierInt,
-				  BigDecimal.valueOf(convertSpeed(speed)).intValue(),
-				  (formattingSpec.value % 2 == 1) ? " " : "",
-				  (formattingSpec.value >= 2) ? speedUnitSymbol : "");
+		return localized(speedFormatterInt).format(speed, formattingSpec.hasSpace(), formattingSpec.hasUnit());
+	}
+	
+	public CharSequence renderIntFormattedSpeed(float speed, FormattingSpec formattingSpec) {
+		return localized(speedFormatterInt).render(speed, formattingSpec.hasSpace(), formattingSpec.hasUnit());
 	}
 	
 	////    Float
 	public String getFloatFormattedSpeed(float speed, FormattingSpec formattingSpec) {
-		return String.format(settingsManager.getDefaultLocale(),
-				  speedFormatSpecifierFloat,
-				  convertSpeed(speed),
-				  (formattingSpec.value % 2 == 1) ? " " : "",
-				  (formattingSpec.value >= 2) ? speedUnitSymbol : "");
+		return localized(speedFormatterFloat).format(speed, formattingSpec.hasSpace(), formattingSpec.hasUnit());
+	}
+	
+	public CharSequence renderFloatFormattedSpeed(float speed, FormattingSpec formattingSpec) {
+		return localized(speedFormatterFloat).render(speed, formattingSpec.hasSpace(), formattingSpec.hasUnit());
 	}
 	
 	//  Pressure formatting
 	public String getFormattedPressure(float pressure, FormattingSpec formattingSpec) {
-		return String.format(settingsManager.getDefaultLocale(),
-				  pressureFormatSpecifier,
-				  convertPressure(pressure),
-				  (formattingSpec.value % 2 == 1) ? " " : "",
-				  (formattingSpec.value >= 2) ? pressureUnitSymbol : "");
+		return localized(pressureFormatter).format(pressure, formattingSpec.hasSpace(), formattingSpec.hasUnit());
+	}
+	
+	public CharSequence renderFormattedPressure(float pressure, FormattingSpec formattingSpec) {
+		return localized(pressureFormatter).render(pressure, formattingSpec.hasSpace(), formattingSpec.hasUnit());
 	}
 	
 	private void temperatureUnitInit() {
-		temperatureFormatSpecifierInt = "%d%s°%s";
-		temperatureFormatSpecifierFloat = "%.1f%s°%s";
+		String temperatureUnitSymbol;
 		
 		switch (settingsManager.getTemperatureSetting()) {
 			case FAHRENHEIT: {
@@ -338,6 +341,10 @@ public class FormattingService {
 				break;
 			}
 		}
+		
+		Locale defaultLocale = settingsManager.getDefaultLocale();
+		temperatureFormatterInt = UnitFormatter.ofInteger(this::convertTemperature, "°", temperatureUnitSymbol, defaultLocale);
+		temperatureFormatterFloat = UnitFormatter.ofDecimal(this::convertTemperature, 1, "°", temperatureUnitSymbol, defaultLocale);
 	}
 	
 	//  Direction formatting
@@ -363,41 +370,60 @@ public class FormattingService {
 	//  TimeHour formatting
 	////    Hour
 	public String getFormattedHour(Date date, TimeZone timeZone) {
-		return getSimpleDateFormatForTimeZone(this.hourFormat, timeZone).format(date);
+		return getFormattedHour(date.getTime(), timeZone.getOffset(date.getTime()) / 1000);
+	}
+	
+	/**
+	 * Get the formatted hour of a time without any Date or TimeZone
+	 *
+	 * @param time       the time in milliseconds since epoch
+	 * @param timeOffset the offset of the place from UTC in seconds
+	 * @return the formatted hour
+	 */
+	public String getFormattedHour(long time, int timeOffset) {
+		return hoursOfDay[DateTimeFormatterCache.getHourOfDay(time, timeOffset)];
 	}
 	
 	////    Short hour
 	public String getFormattedShortHour(Date date, TimeZone timeZone) {
-		return getSimpleDateFormatForTimeZone(this.shortHourFormat, timeZone).format(date);
+		return getFormattedShortHour(date.getTime(), timeZone.getOffset(date.getTime()) / 1000);
+	}
+	
+	/**
+	 * Get the formatted short hour of a time without any Date or TimeZone
+	 *
+	 * @param time       the time in milliseconds since epoch
+	 * @param timeOffset the offset of the place from UTC in seconds
+	 * @return the formatted short hour
+	 */
+	public String getFormattedShortHour(long time, int timeOffset) {
+		return shortHoursOfDay[DateTimeFormatterCache.getHourOfDay(time, timeOffset)];
 	}
 	
 	////    Time
 	public String getFormattedTime(Date date, TimeZone timeZone) {
-		return getSimpleDateFormatForTimeZone(this.timeFormat, timeZone).format(date);
+		return formatDate(this.timePattern, date, timeZone);
 	}
 	
 	////    Day short name formatting
 	public String getFormattedShortDayName(Date date, TimeZone timeZone) {
-		return getSimpleDateFormatForTimeZone(this.shortDayNameFormat, timeZone).format(date);
+		return formatDate(this.shortDayNamePattern, date, timeZone);
 	}
 	
 	////    Day month formatting
 	public String getFormattedDayMonth(Date date, TimeZone timeZone) {
-		return getSimpleDateFormatForTimeZone(this.dayMonthFormat, timeZone).format(date);
+		return formatDate(this.dayMonthPattern, date, timeZone);
 	}
 	
 	////    Full time hour  formatting
 	public String getFormattedFullTimeHour(Date date, TimeZone timeZone) {
-		return getSimpleDateFormatForTimeZone(this.fullTimeHourFormat, timeZone).format(date);
+		return formatDate(this.fullTimeHourPattern, date, timeZone);
 	}
 	
 	private void measureUnitInit() {
-		shortDistanceFormatSpecifierInt = "%d%s%s";
-		shortDistanceFormatSpecifierFloat = "%.2f%s%s";
-		distanceFormatSpecifierInt = "%d%s%s";
-		distanceFormatSpecifierFloat = "%.1f%s%s";
-		speedFormatSpecifierInt = "%d%s%s";
-		speedFormatSpecifierFloat = "%.1f%s%s";
+		String shortDistanceUnitSymbol;
+		String distanceUnitSymbol;
+		String speedUnitSymbol;
 		
 		switch (settingsManager.getMeasureSetting()) {
 			case IMPERIAL: {
@@ -448,37 +474,50 @@ public class FormattingService {
 				break;
 			}
 		}
+		
+		Locale defaultLocale = settingsManager.getDefaultLocale();
+		shortDistanceFormatterInt = UnitFormatter.ofInteger(this::convertShortDistance, "", shortDistanceUnitSymbol, defaultLocale);
+		shortDistanceFormatterFloat = UnitFormatter.ofDecimal(this::convertShortDistance, 2, "", shortDistanceUnitSymbol, defaultLocale);
+		distanceFormatterInt = UnitFormatter.ofInteger(this::convertDistance, "", distanceUnitSymbol, defaultLocale);
+		distanceFormatterFloat = UnitFormatter.ofDecimal(this::convertDistance, 1, "", distanceUnitSymbol, defaultLocale);
+		speedFormatterInt = UnitFormatter.ofInteger(this::convertSpeed, "", speedUnitSymbol, defaultLocale);
+		speedFormatterFloat = UnitFormatter.ofDecimal(this::convertSpeed, 1, "", speedUnitSymbol, defaultLocale);
 	}
 	
 	private void pressureUnitInit() {
+		String pressureUnitSymbol;
+		int pressureFractionDigits;
+		
 		//  Pressure
 		switch (settingsManager.getPressureSetting()) {
 			case BAROMETRIC: {
-				pressureFormatSpecifier = "%.0f%s%s";
+				pressureFractionDigits = 0;
 				pressureUnitSymbol = "mBar";
 				this.pressureConversion = this::toMbar;
 				break;
 			}
 			case POUNDS_SQUARE_INCH: {
-				pressureFormatSpecifier = "%.2f%s%s";
+				pressureFractionDigits = 2;
 				pressureUnitSymbol = "psi";
 				this.pressureConversion = this::toPsi;
 				break;
 			}
 			case INCH_MERCURY: {
-				pressureFormatSpecifier = "%.2f%s%s";
+				pressureFractionDigits = 2;
 				pressureUnitSymbol = "inHg";
 				this.pressureConversion = this::toInhg;
 				break;
 			}
 			default:    //  Default case is using pascal unit
 			case HECTOPASCAL: {
-				pressureFormatSpecifier = "%.0f%s%s";
+				pressureFractionDigits = 0;
 				pressureUnitSymbol = "hPa";
 				this.pressureConversion = this::toHpa;
 				break;
 			}
 		}
+		
+		pressureFormatter = UnitFormatter.ofDecimal(this::convertPressure, pressureFractionDigits, "", pressureUnitSymbol, settingsManager.getDefaultLocale());
 	}
 	
 	public enum FormattingSpec {
@@ -492,6 +531,14 @@ public class FormattingService {
 		FormattingSpec(int value) {
 			this.value = value;
 		}
+		
+		public boolean hasSpace() {
+			return value % 2 == 1;
+		}
+		
+		public boolean hasUnit() {
+			return value >= 2;
+		}
 	}
 	
 	private void directionUnitInit() {
@@ -515,26 +562,31 @@ public class FormattingService {
 		//  timeDate
 		switch (settingsManager.getTimeSetting()) {
 			case TWELVE_HOURS: {
-				this.hourFormat = new SimpleDateFormat("hh:00 a", defaultLocale);
-				this.shortHourFormat = new SimpleDateFormat("ha", defaultLocale);
-				this.timeFormat = new SimpleDateFormat("hh:mm a", defaultLocale);
-				this.fullTimeHourFormat = new SimpleDateFormat("dd/MM/yy hh:mm a", defaultLocale);
+				this.hourPattern = "hh:00 a";
+				this.shortHourPattern = "ha";
+				this.timePattern = "hh:mm a";
+				this.fullTimeHourPattern = "dd/MM/yy hh:mm a";
 				
 				break;
 			}
 			
 			default:    //  Default case is using 24 hours format
 			case TWENTY_FOUR_HOURS: {
-				this.hourFormat = new SimpleDateFormat("HH:00", defaultLocale);
-				this.shortHourFormat = new SimpleDateFormat("H'h'", defaultLocale);
-				this.timeFormat = new SimpleDateFormat("HH:mm", defaultLocale);
-				this.fullTimeHourFormat = new SimpleDateFormat("dd/MM/yy HH:mm", defaultLocale);
+				this.hourPattern = "HH:00";
+				this.shortHourPattern = "H'h'";
+				this.timePattern = "HH:mm";
+				this.fullTimeHourPattern = "dd/MM/yy HH:mm";
 				
 				break;
 			}
 		}
-		this.shortDayNameFormat = new SimpleDateFormat("EE", defaultLocale);
-		this.dayMonthFormat = new SimpleDateFormat("dd/MM", defaultLocale);
+		this.shortDayNamePattern = "EE";
+		this.dayMonthPattern = "dd/MM";
+		
+		this.dateTimeLocale = defaultLocale;
+		this.hoursOfDay = DateTimeFormatterCache.formatHoursOfDay(hourPattern, defaultLocale);
+		this.shortHoursOfDay = DateTimeFormatterCache.formatHoursOfDay(shortHourPattern, defaultLocale);
+		dateTimeFormatterCache.clear();
 	}
 	
 	private interface TemperatureConversion {
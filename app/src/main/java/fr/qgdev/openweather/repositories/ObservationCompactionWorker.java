@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.work.Constraints;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * ObservationCompactionWorker
+ * <p>
+ *    A worker compacting the archive of weather observations once a day.
+ *    Old hourly observations are merged into daily aggregates and the oldest aggregates are deleted,
+ *    following the observation retention policy of the repository.
+ *    It only runs when the device is idle and its battery is not low.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see Worker
+ */
+public class ObservationCompactionWorker extends Worker {
+	
+	private static final String WORKER_TASK_NAME = "observationCompaction";
+	private final AppRepository mRepository;
+	
+	/**
+	 * ObservationCompactionWorker constructor
+	 */
+	public ObservationCompactionWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
+		super(context, workerParams);
+		mRepository = AppRepository.getInstance(context.getApplicationContext());
+	}
+	
+	/**
+	 * Will schedule the daily compaction of the observation archive if it is not scheduled yet.
+	 *
+	 * @param context Use to get the WorkManager instance
+	 */
+	public static void schedule(@NonNull Context context) {
+		Constraints constraints = new Constraints.Builder()
+				  .setRequiresBatteryNotLow(true)
+				  .setRequiresDeviceIdle(true)
+				  .build();
+		
+		PeriodicWorkRequest periodicWorkRequest =
+				  new PeriodicWorkRequest.Builder(ObservationCompactionWorker.class, Duration.ofDays(1))
+							 .setConstraints(constraints)
+							 .build();
+		
+		WorkManager.getInstance(context).enqueueUniquePeriodicWork(WORKER_TASK_NAME,
+				  ExistingPeriodicWorkPolicy.KEEP,
+				  periodicWorkRequest);
+	}
+	
+	/**
+	 * Result doWork()
+	 *
+	 * <p>
+	 * Compacts the observation archive and waits for the compaction to be written.
+	 * </p>
+	 *
+	 * @return Result
+	 */
+	@NonNull
+	@Override
+	public Result doWork() {
+		CountDownLatch compacted = new CountDownLatch(1);
+		mRepository.compactObservations(compacted::countDown);
+		
+		try {
+			compacted.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Result.retry();
+		}
+		return Result.success();
+	}
+}
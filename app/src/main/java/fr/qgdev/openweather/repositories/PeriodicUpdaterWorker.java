@@ -30,6 +30,7 @@ import androidx.work.WorkerParameters;
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import fr.qgdev.openweather.repositories.weather.CancellationHandle;
 import fr.qgdev.openweather.repositories.weather.FetchCallback;
 import fr.qgdev.openweather.repositories.weather.RequestStatus;
 
@@ -50,6 +51,7 @@ public class PeriodicUpdaterWorker extends Worker {
 	private static final String TAG = PeriodicUpdaterWorker.class.getSimpleName();
 	private final Context mContext;
 	private final AppRepository mRepository;
+	private final CancellationHandle cancellationHandle;
 	
 	/**
 	 * PeriodicUpdaterWorker constructor
@@ -58,6 +60,7 @@ public class PeriodicUpdaterWorker extends Worker {
 		super(context, workerParams);
 		mContext = context.getApplicationContext();
 		mRepository = AppRepository.getInstance(mContext);
+		cancellationHandle = new CancellationHandle();
 	}
 	
 	/**
@@ -93,7 +96,7 @@ public class PeriodicUpdaterWorker extends Worker {
 			public void onError(RequestStatus requestStatus) {
 				numberOfErrors.incrementAndGet();
 			}
-		});
+		}, cancellationHandle);
 		
 		//	Wait for all places to be updated in order to update widgets
 		while (remainingPlaces.compareAndSet(0, 0)) ;
@@ -115,4 +118,14 @@ public class PeriodicUpdaterWorker extends Worker {
 		
 		return Result.success();
 	}
+	
+	/**
+	 * Called when the work is stopped by the system.
+	 * Pending refreshes are cancelled, nothing will be fetched nor written for them.
+	 */
+	@Override
+	public void onStopped() {
+		super.onStopped();
+		cancellationHandle.cancel();
+	}
 }
@@ -0,0 +1,439 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import fr.qgdev.openweather.repositories.places.Place;
+import fr.qgdev.openweather.repositories.places.Properties;
+import fr.qgdev.openweather.repositories.weather.CancellationHandle;
+import fr.qgdev.openweather.repositories.weather.ConnectivityMonitor;
+import fr.qgdev.openweather.repositories.weather.ConnectivitySource;
+import fr.qgdev.openweather.repositories.weather.FetchCallback;
+import fr.qgdev.openweather.repositories.weather.FetchDataCallback;
+import fr.qgdev.openweather.repositories.weather.PlaceFetcher;
+import fr.qgdev.openweather.repositories.weather.RequestStatus;
+import fr.qgdev.openweather.repositories.weather.WeatherService;
+
+/**
+ * RefreshScheduler
+ * <p>
+ *    Drains place refreshes through a token bucket instead of sending them all at once.
+ *    The number of refreshes in flight is capped, and when the API answers with Too Many Requests
+ *    the whole bucket is paused (until the Retry-After time when provided) and the place is queued again.
+ *    The queue is resumed automatically at the end of the pause.
+ *    Only the stale data of a place is requested, according to the staleness policy,
+ *    and places whose data is still fresh are reported without any request.
+ *    While the device is offline, the queue is paused and resumed as soon as a network is available.
+ *    Places still waiting after OFFLINE_TIMEOUT fail with NOT_CONNECTED, so every batch always ends.
+ *    Each batch and each place have their own cancellation handle, a batch can be given a deadline after which
+ *    its remaining places are cancelled. Cancelled places are reported with CANCELLED and never reported
+ *    as successes, so nothing is written for them.
+ *    Every refresh runs on a single scheduler thread so the queue doesn't need any other lock.
+ *    The fetcher, the connectivity, the scheduler thread and the clock can be given,
+ *    so that the scheduler can be driven step by step.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see TokenBucket
+ */
+public class RefreshScheduler {
+	
+	//	A full place refresh costs two API calls: onecall and air_pollution
+	private static final int TOKENS_PER_PLACE = 2;
+	static final long DEFAULT_BACKOFF = 60000;
+	static final int MAX_ATTEMPTS = 3;
+	static final long OFFLINE_TIMEOUT = 30000;
+	
+	private final PlaceFetcher placeFetcher;
+	private final ConnectivitySource connectivity;
+	private final StalenessPolicy stalenessPolicy;
+	private final TokenBucket tokenBucket;
+	private final int maxInFlight;
+	private final ScheduledExecutorService executor;
+	private final LongSupplier clock;
+	
+	private final Deque<RefreshTask> pendingTasks;
+	private final Set<RefreshTask> inFlightTasks;
+	private ScheduledFuture<?> scheduledDrain;
+	private ScheduledFuture<?> offlineTimeout;
+	
+	/**
+	 * Instantiates a new refresh scheduler
+	 *
+	 * @param weatherService      the weather service used to fetch places
+	 * @param connectivityMonitor the monitor used to pause the queue while offline
+	 * @param stalenessPolicy   the policy deciding which data of a place must be fetched
+	 * @param requestsPerMinute the number of API calls allowed per minute
+	 * @param maxInFlight       the maximum number of places fetched at the same time
+	 */
+	public RefreshScheduler(@NonNull WeatherService weatherService, @NonNull ConnectivityMonitor connectivityMonitor,
+									@NonNull StalenessPolicy stalenessPolicy, int requestsPerMinute, int maxInFlight) {
+		this(weatherService, connectivityMonitor, stalenessPolicy, requestsPerMinute, maxInFlight,
+				  Executors.newSingleThreadScheduledExecutor(), System::currentTimeMillis);
+	}
+	
+	/**
+	 * Instantiates a new refresh scheduler running on a given thread and clock
+	 *
+	 * @param placeFetcher      the fetcher used to fetch places
+	 * @param connectivity      the connectivity used to pause the queue while offline
+	 * @param stalenessPolicy   the policy deciding which data of a place must be fetched
+	 * @param requestsPerMinute the number of API calls allowed per minute
+	 * @param maxInFlight       the maximum number of places fetched at the same time
+	 * @param executor          the single thread running every refresh
+	 * @param clock             the current time in milliseconds
+	 */
+	RefreshScheduler(@NonNull PlaceFetcher placeFetcher, @NonNull ConnectivitySource connectivity,
+						  @NonNull StalenessPolicy stalenessPolicy, int requestsPerMinute, int maxInFlight,
+						  @NonNull ScheduledExecutorService executor, @NonNull LongSupplier clock) {
+		if (maxInFlight <= 0) throw new IllegalArgumentException("maxInFlight must be positive !");
+		
+		this.placeFetcher = placeFetcher;
+		this.connectivity = connectivity;
+		this.stalenessPolicy = stalenessPolicy;
+		this.tokenBucket = new TokenBucket(Math.max(requestsPerMinute, TOKENS_PER_PLACE),
+				  requestsPerMinute,
+				  clock.getAsLong());
+		this.maxInFlight = maxInFlight;
+		this.executor = executor;
+		this.clock = clock;
+		this.pendingTasks = new ArrayDeque<>();
+		this.inFlightTasks = new HashSet<>();
+		this.scheduledDrain = null;
+		this.offlineTimeout = null;
+		
+		connectivity.addListener(isConnected -> {
+			if (isConnected) executor.execute(this::onNetworkAvailable);
+		});
+	}
+	
+	/**
+	 * Queue a batch of places to refresh.
+	 * Each place will reach placeCallback exactly once and the progress of the batch is reported
+	 * to progressCallback after each place.
+	 *
+	 * @param places           the places to refresh
+	 * @param placeCallback    the callback of each place refresh
+	 * @param progressCallback the callback used to report the batch progress
+	 */
+	public void submit(@NonNull List<Place> places, @NonNull FetchDataCallback placeCallback, @Nullable FetchCallback progressCallback) {
+		submit(places, placeCallback, progressCallback, null, 0);
+	}
+	
+	/**
+	 * Queue a batch of places to refresh until it is cancelled or its deadline is reached.
+	 * Places that are not handled yet when the batch is cancelled reach placeCallback with CANCELLED.
+	 *
+	 * @param places             the places to refresh
+	 * @param placeCallback      the callback of each place refresh
+	 * @param progressCallback   the callback used to report the batch progress
+	 * @param cancellationHandle the handle used to cancel the batch, may be null
+	 * @param deadline           the time in milliseconds given to the batch, 0 for no deadline
+	 */
+	public void submit(@NonNull List<Place> places, @NonNull FetchDataCallback placeCallback, @Nullable FetchCallback progressCallback,
+							 @Nullable CancellationHandle cancellationHandle, long deadline) {
+		if (places.isEmpty()) return;
+		if (deadline < 0) throw new IllegalArgumentException("deadline must be positive or null !");
+		
+		Batch batch = new Batch(places.size(), progressCallback, new CancellationHandle(cancellationHandle));
+		executor.execute(() -> {
+			for (Place place : places) {
+				pendingTasks.add(new RefreshTask(place, placeCallback, batch));
+			}
+			
+			if (deadline > 0) batch.deadline = executor.schedule(batch.cancellationHandle::cancel, deadline, TimeUnit.MILLISECONDS);
+			batch.cancellationHandle.addOnCancelListener(() -> executor.execute(this::dropCancelledTasks));
+			drain();
+		});
+	}
+	
+	/**
+	 * Cancel every refresh of a place, pending or in flight.
+	 * Used when a place is deleted so that its data isn't fetched nor written anymore.
+	 *
+	 * @param placeId the id of the place
+	 */
+	public void cancel(@NonNull String placeId) {
+		executor.execute(() -> {
+			for (RefreshTask task : pendingTasks) {
+				if (task.isOfPlace(placeId)) task.cancellationHandle.cancel();
+			}
+			//	In flight ones are reported once their fetch has been cancelled
+			for (RefreshTask task : inFlightTasks) {
+				if (task.isOfPlace(placeId)) task.cancellationHandle.cancel();
+			}
+			dropCancelledTasks();
+		});
+	}
+	
+	/**
+	 * Send as many pending refreshes as allowed by the bucket and the in flight limit.
+	 * When the bucket is empty or paused, a new drain is scheduled for when it will be available.
+	 * Must be run on the scheduler thread.
+	 */
+	private void drain() {
+		while (inFlightTasks.size() < maxInFlight && !pendingTasks.isEmpty()) {
+			long now = clock.getAsLong();
+			RefreshTask task = pendingTasks.peek();
+			
+			if (task.cancellationHandle.isCancelled()) {
+				pendingTasks.poll();
+				task.placeCallback.onError(RequestStatus.CANCELLED);
+				task.batch.onPlaceHandled();
+				continue;
+			}
+			
+			//	Staleness is checked when the place is sent, it may have been queued for a while
+			Properties properties = task.place.getProperties();
+			boolean fetchWeather = stalenessPolicy.isWeatherStale(properties, now);
+			boolean fetchAirQuality = stalenessPolicy.isAirQualityStale(properties, now);
+			
+			if (!fetchWeather && !fetchAirQuality) {
+				pendingTasks.poll();
+				task.placeCallback.onFresh(task.place);
+				task.batch.onPlaceHandled();
+				continue;
+			}
+			
+			//	Wait for a network instead of failing
+			if (!connectivity.isConnected()) {
+				waitForNetwork();
+				return;
+			}
+			
+			int tokens = (fetchWeather ? 1 : 0) + (fetchAirQuality ? 1 : 0);
+			if (!tokenBucket.tryAcquire(tokens, now)) {
+				scheduleDrain(tokenBucket.getWaitTime(tokens, now));
+				return;
+			}
+			
+			pendingTasks.poll();
+			inFlightTasks.add(task);
+			task.attempts++;
+			placeFetcher.getPlaceDataOWM(task.place, fetchWeather, fetchAirQuality, task.cancellationHandle, new FetchDataCallback() {
+				@Override
+				public void onSuccess(Place place) {
+					executor.execute(() -> onTaskDone(task, () -> task.placeCallback.onSuccess(place)));
+				}
+				
+				@Override
+				public void onPartialSuccess(Place place, RequestStatus requestStatus) {
+					executor.execute(() -> onTaskDone(task, () -> task.placeCallback.onPartialSuccess(place, requestStatus)));
+				}
+				
+				@Override
+				public void onError(RequestStatus requestStatus) {
+					executor.execute(() -> onTaskError(task, requestStatus));
+				}
+			});
+		}
+	}
+	
+	/**
+	 * Schedule a drain of the queue after a delay, unless one is already scheduled
+	 *
+	 * @param delay the delay in milliseconds
+	 */
+	private void scheduleDrain(long delay) {
+		if (scheduledDrain != null) return;
+		
+		scheduledDrain = executor.schedule(() -> {
+			scheduledDrain = null;
+			drain();
+		}, Math.max(delay, 1), TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Pause the queue until a network is available.
+	 * If no network is available after OFFLINE_TIMEOUT, pending places fail with NOT_CONNECTED.
+	 * Must be run on the scheduler thread.
+	 */
+	private void waitForNetwork() {
+		if (offlineTimeout != null) return;
+		
+		offlineTimeout = executor.schedule(() -> {
+			offlineTimeout = null;
+			if (connectivity.isConnected()) {
+				drain();
+				return;
+			}
+			
+			while (!pendingTasks.isEmpty()) {
+				RefreshTask task = pendingTasks.poll();
+				task.placeCallback.onError(RequestStatus.NOT_CONNECTED);
+				task.batch.onPlaceHandled();
+			}
+		}, OFFLINE_TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Report the pending places that have been cancelled without waiting for their turn.
+	 * Must be run on the scheduler thread.
+	 */
+	private void dropCancelledTasks() {
+		Iterator<RefreshTask> iterator = pendingTasks.iterator();
+		while (iterator.hasNext()) {
+			RefreshTask task = iterator.next();
+			if (!task.cancellationHandle.isCancelled()) continue;
+			
+			iterator.remove();
+			task.placeCallback.onError(RequestStatus.CANCELLED);
+			task.batch.onPlaceHandled();
+		}
+	}
+	
+	/**
+	 * Resume the queue once a network is available.
+	 * Must be run on the scheduler thread.
+	 */
+	private void onNetworkAvailable() {
+		if (offlineTimeout != null) {
+			offlineTimeout.cancel(false);
+			offlineTimeout = null;
+		}
+		drain();
+	}
+	
+	/**
+	 * Handle the error of a refresh.
+	 * On Too Many Requests, the bucket is paused and the place is put back in front of the queue
+	 * until it has been attempted MAX_ATTEMPTS times.
+	 * When the network was lost just before the request, the place is put back in front of the queue
+	 * to wait for a network.
+	 * A cancelled place is never queued again.
+	 * Must be run on the scheduler thread.
+	 *
+	 * @param task          the failed task
+	 * @param requestStatus the error cause
+	 */
+	private void onTaskError(@NonNull RefreshTask task, @NonNull RequestStatus requestStatus) {
+		if (task.cancellationHandle.isCancelled()) {
+			onTaskDone(task, () -> task.placeCallback.onError(RequestStatus.CANCELLED));
+			return;
+		}
+		
+		if (requestStatus == RequestStatus.NOT_CONNECTED && task.attempts < MAX_ATTEMPTS) {
+			inFlightTasks.remove(task);
+			pendingTasks.addFirst(task);
+			drain();
+			return;
+		}
+		
+		if (requestStatus != RequestStatus.TOO_MANY_REQUESTS || task.attempts >= MAX_ATTEMPTS) {
+			onTaskDone(task, () -> task.placeCallback.onError(requestStatus));
+			return;
+		}
+		
+		long now = clock.getAsLong();
+		long retryAfterTime = placeFetcher.getRetryAfterTime();
+		if (retryAfterTime <= now) retryAfterTime = now + DEFAULT_BACKOFF * task.attempts;
+		
+		tokenBucket.pauseUntil(retryAfterTime);
+		inFlightTasks.remove(task);
+		pendingTasks.addFirst(task);
+		scheduleDrain(retryAfterTime - now);
+	}
+	
+	/**
+	 * Report the outcome of a refresh and send the next ones.
+	 * A place cancelled while its outcome was being delivered is reported as cancelled instead.
+	 * Must be run on the scheduler thread.
+	 *
+	 * @param task    the finished task
+	 * @param outcome the report of the outcome to the place callback
+	 */
+	private void onTaskDone(@NonNull RefreshTask task, @NonNull Runnable outcome) {
+		inFlightTasks.remove(task);
+		if (task.cancellationHandle.isCancelled()) task.placeCallback.onError(RequestStatus.CANCELLED);
+		else outcome.run();
+		task.batch.onPlaceHandled();
+		drain();
+	}
+	
+	/**
+	 * A batch of places submitted together, used to report the progress and to cancel them together
+	 */
+	private static class Batch {
+		private final int total;
+		private final AtomicInteger completed;
+		private final FetchCallback progressCallback;
+		private final CancellationHandle cancellationHandle;
+		private ScheduledFuture<?> deadline;
+		
+		Batch(int total, @Nullable FetchCallback progressCallback, @NonNull CancellationHandle cancellationHandle) {
+			this.total = total;
+			this.completed = new AtomicInteger(0);
+			this.progressCallback = progressCallback;
+			this.cancellationHandle = cancellationHandle;
+			this.deadline = null;
+		}
+		
+		void onPlaceHandled() {
+			int crtCompleted = completed.incrementAndGet();
+			if (progressCallback != null) progressCallback.onProgress(crtCompleted, total);
+			
+			//	Every place has been handled, the deadline and the handle of the caller are not needed anymore
+			if (crtCompleted == total) {
+				if (deadline != null) deadline.cancel(false);
+				cancellationHandle.release();
+			}
+		}
+	}
+	
+	/**
+	 * The refresh of one place
+	 */
+	private static class RefreshTask {
+		private final Place place;
+		private final FetchDataCallback placeCallback;
+		private final Batch batch;
+		private final CancellationHandle cancellationHandle;
+		private int attempts;
+		
+		RefreshTask(Place place, FetchDataCallback placeCallback, Batch batch) {
+			this.place = place;
+			this.placeCallback = placeCallback;
+			this.batch = batch;
+			this.cancellationHandle = new CancellationHandle(batch.cancellationHandle);
+			this.attempts = 0;
+		}
+		
+		boolean isOfPlace(@NonNull String placeId) {
+			return placeId.equals(place.getProperties().getPlaceId());
+		}
+	}
+}
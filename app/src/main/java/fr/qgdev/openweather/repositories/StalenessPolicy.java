@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories;
+
+import androidx.annotation.NonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import fr.qgdev.openweather.repositories.places.Properties;
+
+/**
+ * StalenessPolicy
+ * <p>
+ *    Decides which data of a place is stale and has to be fetched again.
+ *    Each kind of data has its own time to live, counted from its last successful update.
+ *    Current weather, minutely, hourly and daily forecasts all come from the same onecall request
+ *    and share the same update time, so the weather request is needed as soon as one of them is stale.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+public class StalenessPolicy {
+	
+	private final Map<DataKind, Long> timesToLive;
+	
+	/**
+	 * Instantiates a new staleness policy with default times to live
+	 */
+	public StalenessPolicy() {
+		this.timesToLive = new EnumMap<>(DataKind.class);
+		for (DataKind dataKind : DataKind.values()) {
+			timesToLive.put(dataKind, dataKind.defaultTimeToLive);
+		}
+	}
+	
+	/**
+	 * Gets the time to live of a kind of data
+	 *
+	 * @param dataKind the kind of data
+	 * @return the time to live in milliseconds
+	 */
+	public long getTimeToLive(@NonNull DataKind dataKind) {
+		//	Every kind is set in the constructor
+		//noinspection ConstantConditions
+		return timesToLive.get(dataKind);
+	}
+	
+	/**
+	 * Sets the time to live of a kind of data
+	 *
+	 * @param dataKind   the kind of data
+	 * @param timeToLive the time to live in milliseconds
+	 */
+	public void setTimeToLive(@NonNull DataKind dataKind, long timeToLive) {
+		if (timeToLive < 0)
+			throw new IllegalArgumentException("timeToLive must be positive or null !");
+		
+		timesToLive.put(dataKind, timeToLive);
+	}
+	
+	/**
+	 * Is a kind of data of a place stale
+	 *
+	 * @param properties the properties of the place
+	 * @param dataKind   the kind of data
+	 * @param now        the current time in milliseconds
+	 * @return true if the data must be fetched again, false otherwise
+	 */
+	public boolean isStale(@NonNull Properties properties, @NonNull DataKind dataKind, long now) {
+		long lastUpdateTime;
+		if (dataKind == DataKind.AIR_QUALITY)
+			lastUpdateTime = properties.getLastSuccessfulAirQualityUpdateTime();
+		else lastUpdateTime = properties.getLastSuccessfulWeatherUpdateTime();
+		
+		//	Never updated, or updated in the future meaning that the clock has been changed
+		if (lastUpdateTime <= 0 || lastUpdateTime > now) return true;
+		
+		return now - lastUpdateTime >= getTimeToLive(dataKind);
+	}
+	
+	/**
+	 * Is the weather request needed for a place
+	 *
+	 * @param properties the properties of the place
+	 * @param now        the current time in milliseconds
+	 * @return true if at least one of the weather data is stale
+	 */
+	public boolean isWeatherStale(@NonNull Properties properties, long now) {
+		return isStale(properties, DataKind.CURRENT_WEATHER, now) ||
+				  isStale(properties, DataKind.MINUTELY_FORECAST, now) ||
+				  isStale(properties, DataKind.HOURLY_FORECAST, now) ||
+				  isStale(properties, DataKind.DAILY_FORECAST, now);
+	}
+	
+	/**
+	 * Is the air quality request needed for a place
+	 *
+	 * @param properties the properties of the place
+	 * @param now        the current time in milliseconds
+	 * @return true if the air quality data is stale
+	 */
+	public boolean isAirQualityStale(@NonNull Properties properties, long now) {
+		return isStale(properties, DataKind.AIR_QUALITY, now);
+	}
+	
+	/**
+	 * Is every data of a place fresh
+	 *
+	 * @param properties the properties of the place
+	 * @param now        the current time in milliseconds
+	 * @return true if no request is needed for this place
+	 */
+	public boolean isFresh(@NonNull Properties properties, long now) {
+		return !isWeatherStale(properties, now) && !isAirQualityStale(properties, now);
+	}
+	
+	/**
+	 * The kinds of data of a place
+	 */
+	public enum DataKind {
+		CURRENT_WEATHER(600000),       //	10 minutes
+		MINUTELY_FORECAST(600000),     //	10 minutes
+		HOURLY_FORECAST(3600000),      //	1 hour
+		DAILY_FORECAST(21600000),      //	6 hours
+		AIR_QUALITY(3600000);          //	1 hour
+		
+		private final long defaultTimeToLive;
+		
+		DataKind(long defaultTimeToLive) {
+			this.defaultTimeToLive = defaultTimeToLive;
+		}
+	}
+}
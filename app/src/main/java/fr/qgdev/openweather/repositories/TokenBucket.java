@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories;
+
+/**
+ * TokenBucket
+ * <p>
+ *    A token bucket used to rate limit requests.
+ *    The bucket is refilled continuously up to its capacity at a given rate per minute.
+ *    It can be paused until a given time, during which no token can be acquired,
+ *    and it restarts empty after a pause to avoid bursts on resume.
+ *    Times are given by the caller in milliseconds.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+public class TokenBucket {
+	
+	private static final long ONE_MINUTE = 60000;
+	
+	private final int capacity;
+	private final double tokensPerMillisecond;
+	
+	private double tokens;
+	private long lastRefillTime;
+	private long pausedUntil;
+	
+	/**
+	 * Instantiates a new full token bucket
+	 *
+	 * @param capacity          the maximum number of tokens that can be stored
+	 * @param requestsPerMinute the number of tokens added every minute
+	 * @param now               the current time in milliseconds
+	 */
+	public TokenBucket(int capacity, int requestsPerMinute, long now) {
+		if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive !");
+		if (requestsPerMinute <= 0)
+			throw new IllegalArgumentException("requestsPerMinute must be positive !");
+		
+		this.capacity = capacity;
+		this.tokensPerMillisecond = (double) requestsPerMinute / ONE_MINUTE;
+		this.tokens = capacity;
+		this.lastRefillTime = now;
+		this.pausedUntil = 0;
+	}
+	
+	/**
+	 * Refill the bucket according to the elapsed time
+	 *
+	 * @param now the current time in milliseconds
+	 */
+	private void refill(long now) {
+		if (now <= lastRefillTime) return;
+		tokens = Math.min(capacity, tokens + (now - lastRefillTime) * tokensPerMillisecond);
+		lastRefillTime = now;
+	}
+	
+	/**
+	 * Try to acquire some tokens
+	 *
+	 * @param count the number of tokens to acquire
+	 * @param now   the current time in milliseconds
+	 * @return true if the tokens have been acquired, false otherwise
+	 */
+	public synchronized boolean tryAcquire(int count, long now) {
+		if (count > capacity)
+			throw new IllegalArgumentException("count must not be greater than the capacity !");
+		if (now < pausedUntil) return false;
+		
+		refill(now);
+		if (tokens < count) return false;
+		
+		tokens -= count;
+		return true;
+	}
+	
+	/**
+	 * Get the time to wait before some tokens can be acquired
+	 *
+	 * @param count the number of tokens to acquire
+	 * @param now   the current time in milliseconds
+	 * @return the time to wait in milliseconds, 0 if they can be acquired now
+	 */
+	public synchronized long getWaitTime(int count, long now) {
+		if (now < pausedUntil) return pausedUntil - now;
+		
+		refill(now);
+		if (tokens >= count) return 0;
+		
+		return (long) Math.ceil((count - tokens) / tokensPerMillisecond);
+	}
+	
+	/**
+	 * Pause the bucket until a given time.
+	 * The bucket is emptied and will only start to refill at the end of the pause.
+	 * A pause never shortens a pause already in progress.
+	 *
+	 * @param time the end of the pause in milliseconds
+	 */
+	public synchronized void pauseUntil(long time) {
+		if (time <= pausedUntil) return;
+		
+		pausedUntil = time;
+		tokens = 0;
+		lastRefillTime = time;
+	}
+	
+	/**
+	 * Is the bucket paused
+	 *
+	 * @param now the current time in milliseconds
+	 * @return true if the bucket is paused, false otherwise
+	 */
+	public synchronized boolean isPaused(long now) {
+		return now < pausedUntil;
+	}
+}
@@ -0,0 +1,268 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories;
+
+import androidx.annotation.NonNull;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * UnitFormatter
+ * <p>
+ *    A precompiled formatter for a value followed by an optional space and unit symbol.
+ *    The unit symbol, the spacing and the rounding are resolved once at construction,
+ *    so formatting a value only writes its digits and one of the precomputed suffixes.
+ *    The output is the same as String.format with "%d%s%s" (truncated value) or "%.nf%s%s" patterns,
+ *    values out of the range of exact integer arithmetic are formatted with String.format.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+public final class UnitFormatter {
+	
+	//	Above this magnitude, the digits printed by String.format may not be the exact ones anymore
+	private static final float FAST_PATH_LIMIT = 1e9F;
+	private static final long[] POWERS_OF_TEN = {1, 10, 100, 1000};
+	private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(16));
+	
+	private final Conversion conversion;
+	private final int fractionDigits;
+	private final String unitPrefix;
+	private final String unitSymbol;
+	private final Locale locale;
+	private final char zeroDigit;
+	private final char decimalSeparator;
+	private final String pattern;
+	//	Suffixes indexed by (space ? 1 : 0) + (unit ? 2 : 0), like the FormattingSpec values
+	private final String[] suffixes;
+	
+	private UnitFormatter(Conversion conversion, int fractionDigits, String unitPrefix, String unitSymbol, Locale locale) {
+		if (fractionDigits < -1 || fractionDigits >= POWERS_OF_TEN.length)
+			throw new IllegalArgumentException("fractionDigits must be between 0 and " + (POWERS_OF_TEN.length - 1) + " !");
+		
+		this.conversion = conversion;
+		this.fractionDigits = fractionDigits;
+		this.unitPrefix = unitPrefix;
+		this.unitSymbol = unitSymbol;
+		this.locale = locale;
+		
+		//	Same symbols as java.util.Formatter
+		if (locale.equals(Locale.US)) {
+			this.zeroDigit = '0';
+			this.decimalSeparator = '.';
+		} else {
+			DecimalFormatSymbols decimalFormatSymbols = DecimalFormatSymbols.getInstance(locale);
+			this.zeroDigit = decimalFormatSymbols.getZeroDigit();
+			this.decimalSeparator = decimalFormatSymbols.getDecimalSeparator();
+		}
+		
+		this.pattern = (fractionDigits < 0 ? "%d" : "%." + fractionDigits + "f") + "%s" + unitPrefix + "%s";
+		this.suffixes = new String[]{
+				  unitPrefix,
+				  " " + unitPrefix,
+				  unitPrefix + unitSymbol,
+				  " " + unitPrefix + unitSymbol};
+	}
+	
+	/**
+	 * Instantiates a formatter truncating the converted value to an integer, like "%d%s%s"
+	 *
+	 * @param conversion the conversion applied to the value before formatting
+	 * @param unitPrefix the text always written after the spacing, like a degree sign
+	 * @param unitSymbol the unit symbol written after the prefix if asked
+	 * @param locale     the locale used for the digits
+	 * @return the formatter
+	 */
+	public static UnitFormatter ofInteger(@NonNull Conversion conversion, @NonNull String unitPrefix, @NonNull String unitSymbol, @NonNull Locale locale) {
+		return new UnitFormatter(conversion, -1, unitPrefix, unitSymbol, locale);
+	}
+	
+	/**
+	 * Instantiates a formatter rounding half up the converted value to some fraction digits, like "%.nf%s%s"
+	 *
+	 * @param conversion     the conversion applied to the value before formatting
+	 * @param fractionDigits the number of fraction digits, between 0 and 3
+	 * @param unitPrefix     the text always written after the spacing, like a degree sign
+	 * @param unitSymbol     the unit symbol written after the prefix if asked
+	 * @param locale         the locale used for the digits and the decimal separator
+	 * @return the formatter
+	 */
+	public static UnitFormatter ofDecimal(@NonNull Conversion conversion, int fractionDigits, @NonNull String unitPrefix, @NonNull String unitSymbol, @NonNull Locale locale) {
+		if (fractionDigits < 0)
+			throw new IllegalArgumentException("fractionDigits must be positive or null !");
+		return new UnitFormatter(conversion, fractionDigits, unitPrefix, unitSymbol, locale);
+	}
+	
+	/**
+	 * Get the same formatter for another locale
+	 *
+	 * @param locale the locale
+	 * @return this formatter if the locale is the same, a new one otherwise
+	 */
+	public UnitFormatter withLocale(@NonNull Locale locale) {
+		if (this.locale.equals(locale)) return this;
+		return new UnitFormatter(conversion, fractionDigits, unitPrefix, unitSymbol, locale);
+	}
+	
+	public Locale getLocale() {
+		return locale;
+	}
+	
+	public String getUnitSymbol() {
+		return unitSymbol;
+	}
+	
+	/**
+	 * Append a formatted value to a string builder
+	 *
+	 * @param stringBuilder the string builder, reused by the caller
+	 * @param value         the value before conversion
+	 * @param space         add a space before the unit prefix
+	 * @param unit          add the unit symbol
+	 * @return the string builder
+	 */
+	public StringBuilder append(@NonNull StringBuilder stringBuilder, float value, boolean space, boolean unit) {
+		float convertedValue = conversion.convert(value);
+		
+		if (!(Math.abs(convertedValue) < FAST_PATH_LIMIT)) {
+			return stringBuilder.append(formatWithPattern(convertedValue, space, unit));
+		}
+		
+		if (fractionDigits < 0) appendInteger(stringBuilder, (int) convertedValue);
+		else appendDecimal(stringBuilder, convertedValue);
+		
+		return stringBuilder.append(suffixes[(space ? 1 : 0) + (unit ? 2 : 0)]);
+	}
+	
+	/**
+	 * Format a value in a buffer reused by every call on the same thread.
+	 * The returned sequence is only valid until the next call, it's meant to be drawn right away with Canvas.drawText.
+	 *
+	 * @param value the value before conversion
+	 * @param space add a space before the unit prefix
+	 * @param unit  add the unit symbol
+	 * @return the formatted value
+	 */
+	public CharSequence render(float value, boolean space, boolean unit) {
+		StringBuilder stringBuilder = BUFFER.get();
+		stringBuilder.setLength(0);
+		return append(stringBuilder, value, space, unit);
+	}
+	
+	/**
+	 * Format a value
+	 *
+	 * @param value the value before conversion
+	 * @param space add a space before the unit prefix
+	 * @param unit  add the unit symbol
+	 * @return the formatted value
+	 */
+	public String format(float value, boolean space, boolean unit) {
+		return render(value, space, unit).toString();
+	}
+	
+	/**
+	 * Format a value like before with String.format, only used out of the fast path
+	 */
+	private String formatWithPattern(float convertedValue, boolean space, boolean unit) {
+		//	Boxed separately, a conditional expression would promote the int to a float
+		Object formattedValue;
+		if (fractionDigits < 0) formattedValue = BigDecimal.valueOf(convertedValue).intValue();
+		else formattedValue = convertedValue;
+		
+		return String.format(locale, pattern,
+				  formattedValue,
+				  space ? " " : "",
+				  unit ? unitSymbol : "");
+	}
+	
+	private void appendInteger(StringBuilder stringBuilder, int value) {
+		if (value < 0) {
+			stringBuilder.append('-');
+			value = -value;
+		}
+		appendDigits(stringBuilder, value, 1);
+	}
+	
+	/**
+	 * Append a value rounded half up, the rounding is done on the exact binary value of the float
+	 * which gives the same digits as String.format in the fast path range
+	 */
+	private void appendDecimal(StringBuilder stringBuilder, float value) {
+		int bits = Float.floatToRawIntBits(value);
+		int exponent = (bits >>> 23) & 0xFF;
+		long mantissa = bits & 0x7FFFFF;
+		if (exponent == 0) exponent = 1;
+		else mantissa |= 0x800000;
+		
+		//	value = mantissa * 2^shift, so value * 10^fractionDigits is computed without any rounding error
+		int shift = exponent - 150;
+		long scaledMantissa = mantissa * POWERS_OF_TEN[fractionDigits];
+		long units;
+		if (shift >= 0) {
+			units = scaledMantissa << shift;
+		} else if (shift > -63) {
+			units = scaledMantissa >> -shift;
+			long remainder = scaledMantissa - (units << -shift);
+			if (remainder >= 1L << (-shift - 1)) units++;
+		} else {
+			units = 0;
+		}
+		
+		//	Like String.format, the sign is kept even when the rounded value is zero
+		if (bits < 0) stringBuilder.append('-');
+		
+		long divisor = POWERS_OF_TEN[fractionDigits];
+		appendDigits(stringBuilder, units / divisor, 1);
+		if (fractionDigits > 0) {
+			stringBuilder.append(decimalSeparator);
+			appendDigits(stringBuilder, units % divisor, fractionDigits);
+		}
+	}
+	
+	private void appendDigits(StringBuilder stringBuilder, long value, int minimumDigits) {
+		int digits = 1;
+		long divisor = 1;
+		while (divisor <= value / 10) {
+			divisor *= 10;
+			digits++;
+		}
+		for (; digits < minimumDigits; digits++) stringBuilder.append(zeroDigit);
+		
+		for (; divisor > 0; divisor /= 10) {
+			stringBuilder.append((char) (zeroDigit + (value / divisor) % 10));
+		}
+	}
+	
+	/**
+	 * Conversion
+	 * <p>
+	 *    Conversion of a value to the unit of the formatter.
+	 * </p>
+	 */
+	public interface Conversion {
+		float convert(float value);
+	}
+}
@@ -31,8 +31,8 @@ package fr.qgdev.openweather.repositories.places;
  * @version 1
  */
 public class Coordinates {
-	private double latitude;
-	private double longitude;
+	private final double latitude;
+	private final double longitude;
 	
 	public Coordinates(double latitude, double longitude) {
 		if (!isCorrectForLatitude(latitude))
@@ -57,21 +57,7 @@ public class Coordinates {
 		return latitude;
 	}
 	
-	public void setLatitude(double latitude) {
-		if (!isCorrectForLatitude(latitude))
-			throw new IllegalArgumentException("Latitude must be included in [-90°; 90°] !");
-		
-		this.latitude = latitude;
-	}
-	
 	public double getLongitude() {
 		return longitude;
 	}
-	
-	public void setLongitude(double longitude) {
-		if (!isCorrectForLongitude(longitude))
-			throw new IllegalArgumentException("Longitude must be included in [-180°; 180°] !");
-		
-		this.longitude = longitude;
-	}
 }
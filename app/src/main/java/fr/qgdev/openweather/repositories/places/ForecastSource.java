@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import fr.qgdev.openweather.repositories.places.dao.DailyWeatherForecastDAO;
+import fr.qgdev.openweather.repositories.places.dao.HourlyWeatherForecastDAO;
+import fr.qgdev.openweather.repositories.places.dao.MinutelyWeatherForecastDAO;
+
+/**
+ * ForecastSource
+ * <p>
+ *    Where forecasts of a place loaded without them are read from on first access.
+ *    It's implemented by PlaceDatabase, so that Place doesn't depend on Room's runtime
+ *    and can still be used outside of Android, like in benchmarks.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see PlaceDatabase
+ */
+public interface ForecastSource {
+	
+	MinutelyWeatherForecastDAO minutelyWeatherForecastDAO();
+	
+	HourlyWeatherForecastDAO hourlyWeatherForecastDAO();
+	
+	DailyWeatherForecastDAO dailyWeatherForecastDAO();
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.places;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+import java.util.StringJoiner;
+
+/**
+ * GeocodingCacheEntry
+ * <p>
+ *    A data holder class for the result of a city and country code lookup.
+ *    It stores the canonical name, the coordinates and the time offset of the place found,
+ *    along with the time it was cached and the time it was last used.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+@Entity(tableName = "geocoding_cache",
+		  indices = {@Index(value = {"cachedTime"}),
+					 @Index(value = {"lastAccessTime"})})
+public class GeocodingCacheEntry {
+	
+	@NonNull
+	@PrimaryKey(autoGenerate = false)
+	private final String queryKey;
+	@NonNull
+	private final String city;
+	@NonNull
+	private final String countryCode;
+	private final double latitude;
+	private final double longitude;
+	private final int timeOffset;
+	private final long cachedTime;
+	private final long lastAccessTime;
+	
+	public GeocodingCacheEntry(@NonNull String queryKey, @NonNull String city, @NonNull String countryCode, double latitude, double longitude, int timeOffset, long cachedTime, long lastAccessTime) {
+		this.queryKey = queryKey;
+		this.city = city;
+		this.countryCode = countryCode;
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.timeOffset = timeOffset;
+		this.cachedTime = cachedTime;
+		this.lastAccessTime = lastAccessTime;
+	}
+	
+	@NonNull
+	public String getQueryKey() {
+		return queryKey;
+	}
+	
+	@NonNull
+	public String getCity() {
+		return city;
+	}
+	
+	@NonNull
+	public String getCountryCode() {
+		return countryCode;
+	}
+	
+	public double getLatitude() {
+		return latitude;
+	}
+	
+	public double getLongitude() {
+		return longitude;
+	}
+	
+	public int getTimeOffset() {
+		return timeOffset;
+	}
+	
+	public long getCachedTime() {
+		return cachedTime;
+	}
+	
+	public long getLastAccessTime() {
+		return lastAccessTime;
+	}
+	
+	/**
+	 * Build a new place without any weather data from this entry
+	 *
+	 * @param placeId      the id of the new place
+	 * @param creationTime the creation time of the new place in milliseconds
+	 * @return the new place
+	 */
+	public Place toPlace(String placeId, long creationTime) {
+		return new Place(new Geolocation(placeId, city, countryCode, new Coordinates(latitude, longitude)),
+				  new Properties(creationTime, timeOffset, -1, placeId));
+	}
+	
+	@NonNull
+	@Override
+	public String toString() {
+		return new StringJoiner(", ", GeocodingCacheEntry.class.getSimpleName() + "[", "]")
+				  .add("queryKey='" + queryKey + "'")
+				  .add("city='" + city + "'")
+				  .add("countryCode='" + countryCode + "'")
+				  .add("latitude=" + latitude)
+				  .add("longitude=" + longitude)
+				  .add("timeOffset=" + timeOffset)
+				  .add("cachedTime=" + cachedTime)
+				  .add("lastAccessTime=" + lastAccessTime)
+				  .toString();
+	}
+}
@@ -24,6 +24,7 @@ import androidx.annotation.NonNull;
 import androidx.room.Embedded;
 import androidx.room.Entity;
 import androidx.room.Ignore;
+import androidx.room.Index;
 
 import java.util.StringJoiner;
 
@@ -39,20 +40,23 @@ import java.util.StringJoiner;
  * @version 1
  */
 @Entity(tableName = "geolocation",
-		  primaryKeys = {"placeId"})
+		  primaryKeys = {"placeId"},
+		  indices = {@Index(value = {"countryCode", "city"})})
 public class Geolocation {
 	
 	@NonNull
 	private final String placeId;
-	private String city;
-	private String countryCode;
+	private final String city;
+	private final String countryCode;
 	
 	@Embedded
-	private Coordinates coordinates;
+	private final Coordinates coordinates;
 	
 	@Ignore
 	public Geolocation(String placeId, @NonNull Coordinates coordinates) {
 		this.placeId = placeId;
+		this.city = null;
+		this.countryCode = null;
 		this.coordinates = coordinates;
 	}
 	
@@ -71,26 +75,14 @@ public class Geolocation {
 		return city;
 	}
 	
-	public void setCity(@NonNull String city) {
-		this.city = city;
-	}
-	
 	public String getCountryCode() {
 		return countryCode;
 	}
 	
-	public void setCountryCode(@NonNull String countryCode) {
-		this.countryCode = countryCode;
-	}
-	
 	public Coordinates getCoordinates() {
 		return coordinates;
 	}
 	
-	public void setCoordinates(@NonNull Coordinates coordinates) {
-		this.coordinates = coordinates;
-	}
-	
 	
 	@NonNull
 	@Override
@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MeteredExecutor
+ * <p>
+ *    A fixed pool of threads that measures how it is used.
+ *    It keeps the number of tasks waiting in its queue, the time spent by tasks
+ *    waiting for a thread and the time spent running them.
+ *    Times are given in milliseconds.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+public class MeteredExecutor implements Executor {
+	
+	private final String name;
+	private final ThreadPoolExecutor threadPoolExecutor;
+	
+	private final AtomicInteger queueDepth;
+	private final AtomicInteger maxQueueDepth;
+	private final AtomicLong completedTasks;
+	private final AtomicLong totalWaitTime;
+	private final AtomicLong maxWaitTime;
+	private final AtomicLong totalRunTime;
+	private final AtomicLong maxRunTime;
+	
+	/**
+	 * Instantiates a new metered executor
+	 *
+	 * @param name    the name of the executor, used to name its threads
+	 * @param threads the number of threads of the pool
+	 */
+	public MeteredExecutor(@NonNull String name, int threads) {
+		if (threads <= 0) throw new IllegalArgumentException("threads must be positive !");
+		
+		AtomicInteger threadCount = new AtomicInteger(0);
+		this.name = name;
+		this.threadPoolExecutor = new ThreadPoolExecutor(threads, threads,
+				  0L, TimeUnit.MILLISECONDS,
+				  new LinkedBlockingQueue<>(),
+				  runnable -> {
+					  Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+					  thread.setDaemon(true);
+					  return thread;
+				  });
+		this.queueDepth = new AtomicInteger(0);
+		this.maxQueueDepth = new AtomicInteger(0);
+		this.completedTasks = new AtomicLong(0);
+		this.totalWaitTime = new AtomicLong(0);
+		this.maxWaitTime = new AtomicLong(0);
+		this.totalRunTime = new AtomicLong(0);
+		this.maxRunTime = new AtomicLong(0);
+	}
+	
+	/**
+	 * Run a task on one of the threads of the pool
+	 *
+	 * @param runnable the task to run
+	 */
+	@Override
+	public void execute(@NonNull Runnable runnable) {
+		long queuedTime = System.nanoTime();
+		maxQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+		
+		threadPoolExecutor.execute(() -> {
+			long startTime = System.nanoTime();
+			queueDepth.decrementAndGet();
+			long waitTime = TimeUnit.NANOSECONDS.toMillis(startTime - queuedTime);
+			totalWaitTime.addAndGet(waitTime);
+			maxWaitTime.accumulateAndGet(waitTime, Math::max);
+			
+			try {
+				runnable.run();
+			} finally {
+				long runTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+				totalRunTime.addAndGet(runTime);
+				maxRunTime.accumulateAndGet(runTime, Math::max);
+				completedTasks.incrementAndGet();
+			}
+		});
+	}
+	
+	/**
+	 * Gets the name of the executor
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+	
+	/**
+	 * Gets the number of tasks waiting for a thread
+	 *
+	 * @return the queue depth
+	 */
+	public int getQueueDepth() {
+		return queueDepth.get();
+	}
+	
+	/**
+	 * Gets the highest number of tasks that waited for a thread at the same time
+	 *
+	 * @return the max queue depth
+	 */
+	public int getMaxQueueDepth() {
+		return maxQueueDepth.get();
+	}
+	
+	/**
+	 * Gets the number of tasks that have been run
+	 *
+	 * @return the number of completed tasks
+	 */
+	public long getCompletedTaskCount() {
+		return completedTasks.get();
+	}
+	
+	/**
+	 * Gets the average time spent by completed tasks waiting for a thread
+	 *
+	 * @return the average wait time in milliseconds
+	 */
+	public long getAverageWaitTime() {
+		long count = completedTasks.get();
+		return count == 0 ? 0 : totalWaitTime.get() / count;
+	}
+	
+	/**
+	 * Gets the longest time spent by a task waiting for a thread
+	 *
+	 * @return the max wait time in milliseconds
+	 */
+	public long getMaxWaitTime() {
+		return maxWaitTime.get();
+	}
+	
+	/**
+	 * Gets the average time spent running completed tasks
+	 *
+	 * @return the average run time in milliseconds
+	 */
+	public long getAverageRunTime() {
+		long count = completedTasks.get();
+		return count == 0 ? 0 : totalRunTime.get() / count;
+	}
+	
+	/**
+	 * Gets the longest time spent running a task
+	 *
+	 * @return the max run time in milliseconds
+	 */
+	public long getMaxRunTime() {
+		return maxRunTime.get();
+	}
+	
+	@NonNull
+	@Override
+	public String toString() {
+		return name + " {queueDepth=" + getQueueDepth() +
+				  ", maxQueueDepth=" + getMaxQueueDepth() +
+				  ", completedTasks=" + getCompletedTaskCount() +
+				  ", averageWaitTime=" + getAverageWaitTime() + "ms" +
+				  ", maxWaitTime=" + getMaxWaitTime() + "ms" +
+				  ", averageRunTime=" + getAverageRunTime() + "ms" +
+				  ", maxRunTime=" + getMaxRunTime() + "ms}";
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+/**
+ * ObservationRetentionPolicy
+ * <p>
+ *    Decides how long archived weather observations are kept.
+ *    Hourly observations older than the hourly retention are compacted into daily aggregates,
+ *    and daily aggregates older than the daily retention are deleted,
+ *    so the archive of a place never holds more than a bounded number of rows.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+public class ObservationRetentionPolicy {
+	
+	private static final long DEFAULT_HOURLY_RETENTION = 7 * WeatherObservation.DAY;      //	1 week
+	private static final long DEFAULT_DAILY_RETENTION = 365 * WeatherObservation.DAY;     //	1 year
+	
+	private long hourlyRetention;
+	private long dailyRetention;
+	
+	/**
+	 * Instantiates a new retention policy with default retentions
+	 */
+	public ObservationRetentionPolicy() {
+		this.hourlyRetention = DEFAULT_HOURLY_RETENTION;
+		this.dailyRetention = DEFAULT_DAILY_RETENTION;
+	}
+	
+	/**
+	 * Gets how long hourly observations are kept before being compacted
+	 *
+	 * @return the hourly retention in milliseconds
+	 */
+	public long getHourlyRetention() {
+		return hourlyRetention;
+	}
+	
+	/**
+	 * Sets how long hourly observations are kept before being compacted
+	 *
+	 * @param hourlyRetention the hourly retention in milliseconds
+	 */
+	public void setHourlyRetention(long hourlyRetention) {
+		if (hourlyRetention < 0)
+			throw new IllegalArgumentException("hourlyRetention must be positive or null !");
+		
+		this.hourlyRetention = hourlyRetention;
+	}
+	
+	/**
+	 * Gets how long daily aggregates are kept before being deleted
+	 *
+	 * @return the daily retention in milliseconds
+	 */
+	public long getDailyRetention() {
+		return dailyRetention;
+	}
+	
+	/**
+	 * Sets how long daily aggregates are kept before being deleted
+	 *
+	 * @param dailyRetention the daily retention in milliseconds
+	 */
+	public void setDailyRetention(long dailyRetention) {
+		if (dailyRetention < 0)
+			throw new IllegalArgumentException("dailyRetention must be positive or null !");
+		
+		this.dailyRetention = dailyRetention;
+	}
+	
+	/**
+	 * Gets the time before which hourly observations are compacted
+	 *
+	 * @param now the current time in milliseconds
+	 * @return the compaction limit in milliseconds
+	 */
+	public long getHourlyLimit(long now) {
+		return now - hourlyRetention;
+	}
+	
+	/**
+	 * Gets the time before which daily aggregates are deleted
+	 *
+	 * @param now the current time in milliseconds
+	 * @return the deletion limit in milliseconds
+	 */
+	public long getDailyLimit(long now) {
+		return now - dailyRetention;
+	}
+}
@@ -18,9 +18,11 @@
  *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
  */
 
+
 package fr.qgdev.openweather.repositories.places;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
 import androidx.room.Embedded;
 import androidx.room.Ignore;
 
@@ -33,24 +35,39 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import fr.qgdev.openweather.metrics.AirQuality;
 import fr.qgdev.openweather.metrics.CurrentWeather;
 import fr.qgdev.openweather.metrics.DailyWeatherForecast;
+import fr.qgdev.openweather.metrics.ForecastSeries;
 import fr.qgdev.openweather.metrics.HourlyWeatherForecast;
 import fr.qgdev.openweather.metrics.MinutelyWeatherForecast;
+import fr.qgdev.openweather.metrics.PrecipitationOutlook;
 import fr.qgdev.openweather.metrics.WeatherAlert;
+import fr.qgdev.openweather.repositories.weather.OneCallData;
 
 /**
  * Place
  * <p>
- *    A data holder class for Place data.
- *    It's used to store all weather data of a place.
+ *    An immutable snapshot of every weather data of a place.
  *    It uses Geolocation class to store geographical data.
+ *    Readers share the same instance and get its data without any copy,
+ *    so the metrics it holds must be treated as read-only once attached to it.
+ *    Updates go through a Builder which produces a new snapshot,
+ *    reusing every section of the previous one that didn't change.
+ *    Forecasts of a place loaded without them are read from the database on first access
+ *    and kept afterwards, so they must then be accessed from a worker thread.
+ *    Graphs read forecasts as columnar series, built on first access or when their section
+ *    is loaded, and shared by every snapshot with the same forecasts.
+ *    The precipitation outlook is computed once when minutely forecasts are set
+ *    and kept in the properties, so it never needs the minutely forecasts to be loaded.
  * </p>
  *
  * @author Quentin GOMES DOS REIS
  * @version 1
+ * @see Builder
  */
 public class Place {
 	
@@ -59,12 +76,33 @@ public class Place {
 	@Embedded
 	private final Properties properties;
 	
-	private CurrentWeather currentWeather;
-	private AirQuality airQuality;
-	private List<MinutelyWeatherForecast> minutelyWeatherForecastList;
-	private List<HourlyWeatherForecast> hourlyWeatherForecastList;
-	private List<DailyWeatherForecast> dailyWeatherForecastList;
-	private List<WeatherAlert> weatherAlertsList;
+	private final CurrentWeather currentWeather;
+	private final AirQuality airQuality;
+	//	Null until loaded for places read without their forecasts, then never changed
+	//	Volatile so that readers check them without locking while another thread loads them
+	private volatile List<MinutelyWeatherForecast> minutelyWeatherForecastList;
+	private volatile List<HourlyWeatherForecast> hourlyWeatherForecastList;
+	private volatile List<DailyWeatherForecast> dailyWeatherForecastList;
+	private final List<WeatherAlert> weatherAlertsList;
+	
+	//	Null when every forecast is already loaded
+	@Ignore
+	private final ForecastSource sectionsSource;
+	//	Null until first access
+	@Ignore
+	private volatile ForecastSeries hourlyForecastSeries;
+	@Ignore
+	private volatile ForecastSeries dailyForecastSeries;
+	
+	
+	/**
+	 * The forecast sections of a place that can be loaded on demand
+	 */
+	public enum Section {
+		MINUTELY,
+		HOURLY,
+		DAILY
+	}
 	
 	
 	public Place(@NonNull Geolocation geolocation,
@@ -79,12 +117,91 @@ public class Place {
 		this.properties = properties;
 		this.currentWeather = currentWeather;
 		this.airQuality = airQuality;
-		this.minutelyWeatherForecastList = minutelyWeatherForecastList;
-		this.hourlyWeatherForecastList = hourlyWeatherForecastList;
-		this.dailyWeatherForecastList = dailyWeatherForecastList;
+		this.minutelyWeatherForecastList = Collections.unmodifiableList(minutelyWeatherForecastList);
+		this.hourlyWeatherForecastList = Collections.unmodifiableList(hourlyWeatherForecastList);
+		this.dailyWeatherForecastList = Collections.unmodifiableList(dailyWeatherForecastList);
 		
-		if (weatherAlertsList == null) this.weatherAlertsList = new ArrayList<>();
-		else this.weatherAlertsList = weatherAlertsList;
+		if (weatherAlertsList == null) this.weatherAlertsList = Collections.emptyList();
+		else this.weatherAlertsList = Collections.unmodifiableList(weatherAlertsList);
+		this.sectionsSource = null;
+	}
+	
+	/**
+	 * Instantiates a place whose forecasts will be loaded from the database on first access
+	 *
+	 * @param geolocation       the geolocation of the place
+	 * @param properties        the properties of the place
+	 * @param currentWeather    the current weather of the place
+	 * @param airQuality        the air quality of the place
+	 * @param weatherAlertsList the weather alerts of the place
+	 * @param sectionsSource    where to load forecasts from, the database
+	 */
+	@Ignore
+	Place(@NonNull Geolocation geolocation,
+		  @NonNull Properties properties,
+		  CurrentWeather currentWeather,
+		  AirQuality airQuality,
+		  @NonNull List<WeatherAlert> weatherAlertsList,
+		  @NonNull ForecastSource sectionsSource) {
+		this.geolocation = geolocation;
+		this.properties = properties;
+		this.currentWeather = currentWeather;
+		this.airQuality = airQuality;
+		this.minutelyWeatherForecastList = null;
+		this.hourlyWeatherForecastList = null;
+		this.dailyWeatherForecastList = null;
+		this.weatherAlertsList = Collections.unmodifiableList(weatherAlertsList);
+		this.sectionsSource = sectionsSource;
+	}
+	
+	/**
+	 * Instantiates a new place without any weather data yet
+	 *
+	 * @param geolocation the geolocation of the place
+	 * @param properties  the properties of the place
+	 */
+	@Ignore
+	public Place(@NonNull Geolocation geolocation, @NonNull Properties properties) {
+		this.geolocation = geolocation;
+		this.properties = properties;
+		this.currentWeather = null;
+		this.airQuality = null;
+		this.minutelyWeatherForecastList = Collections.emptyList();
+		this.hourlyWeatherForecastList = Collections.emptyList();
+		this.dailyWeatherForecastList = Collections.emptyList();
+		this.weatherAlertsList = Collections.emptyList();
+		this.sectionsSource = null;
+	}
+	
+	/**
+	 * Instantiates a new snapshot from a builder
+	 *
+	 * @param builder the builder holding the data of the snapshot
+	 */
+	private Place(@NonNull Builder builder) {
+		this.geolocation = builder.geolocation;
+		this.properties = builder.properties;
+		this.currentWeather = builder.currentWeather;
+		this.airQuality = builder.airQuality;
+		this.minutelyWeatherForecastList = builder.minutelyWeatherForecastList;
+		this.hourlyWeatherForecastList = builder.hourlyWeatherForecastList;
+		this.dailyWeatherForecastList = builder.dailyWeatherForecastList;
+		this.weatherAlertsList = builder.weatherAlertsList;
+		this.sectionsSource = builder.sectionsSource;
+		
+		//	Series of unchanged forecasts are shared with the previous snapshot
+		if (builder.source != null) {
+			synchronized (builder.source) {
+				boolean sameHourly = hourlyWeatherForecastList == builder.source.hourlyWeatherForecastList;
+				boolean sameDaily = dailyWeatherForecastList == builder.source.dailyWeatherForecastList;
+				
+				//	Day time flags of hours depend on days too
+				if (sameHourly && sameDaily)
+					this.hourlyForecastSeries = builder.source.hourlyForecastSeries;
+				if (sameDaily)
+					this.dailyForecastSeries = builder.source.dailyForecastSeries;
+			}
+		}
 	}
 	
 	@Ignore
@@ -92,10 +209,11 @@ public class Place {
 		
 		this.currentWeather = null;
 		this.airQuality = null;
-		this.minutelyWeatherForecastList = new ArrayList<>();
-		this.hourlyWeatherForecastList = new ArrayList<>();
-		this.dailyWeatherForecastList = new ArrayList<>();
-		this.weatherAlertsList = new ArrayList<>();
+		this.minutelyWeatherForecastList = Collections.emptyList();
+		this.hourlyWeatherForecastList = Collections.emptyList();
+		this.dailyWeatherForecastList = Collections.emptyList();
+		this.weatherAlertsList = Collections.emptyList();
+		this.sectionsSource = null;
 		
 		//  Retrieve and set place properties
 		int timeOffset = 0;
@@ -135,10 +253,11 @@ public class Place {
 		
 		this.currentWeather = null;
 		this.airQuality = null;
-		this.minutelyWeatherForecastList = new ArrayList<>();
-		this.hourlyWeatherForecastList = new ArrayList<>();
-		this.dailyWeatherForecastList = new ArrayList<>();
-		this.weatherAlertsList = new ArrayList<>();
+		this.minutelyWeatherForecastList = Collections.emptyList();
+		this.hourlyWeatherForecastList = Collections.emptyList();
+		this.dailyWeatherForecastList = Collections.emptyList();
+		this.weatherAlertsList = Collections.emptyList();
+		this.sectionsSource = null;
 		
 		//	Retrieve timezone data and define properties
 		//________________________________________________________________
@@ -175,159 +294,14 @@ public class Place {
 		}
 	}
 	
-	public void updateWithOWMWeatherData(JSONObject placeJSON) throws JSONException {
-		
-		//	Smart way to update weather data, will not affect object state if error occurs
-		long tmpLastUpdateAttemptTime = new Date().getTime();
-		long tmpLastAvailableDataTime;
-		
-		CurrentWeather tmpCurrentWeather;
-		List<MinutelyWeatherForecast> tmpMinutelyWeatherForecasts = new ArrayList<>();
-		List<HourlyWeatherForecast> tmpHourlyWeatherForecasts = new ArrayList<>();
-		List<DailyWeatherForecast> tmpDailyWeatherForecasts = new ArrayList<>();
-		List<WeatherAlert> tmpWeatherAlerts = new ArrayList<>();
-		
-		//  Properties data set
-		//________________________________________________________________
-		//
-		properties.setLastWeatherUpdateAttemptTime(tmpLastUpdateAttemptTime);
-		
-		
-		//  Current Weather data set
-		//________________________________________________________________
-		//	Current weather also contains lastAvailableDataTime value
-		if (!placeJSON.has("current"))
-			throw new JSONException("Cannot find current weather data in PlaceObjectJSON");
-		
-		JSONObject crtWeatherJSON = placeJSON.optJSONObject("current");
-		tmpLastAvailableDataTime = crtWeatherJSON.getLong("dt");
-		tmpCurrentWeather = new CurrentWeather(crtWeatherJSON);
-		tmpCurrentWeather.setPlaceId(properties.getPlaceId());
-		
-		
-		//  Minutely Weather Forecast
-		//________________________________________________________________
-		//
-		//  Minutely weather forecast arraylist can be empty
-		if (placeJSON.has("minutely")) {
-			JSONArray minutelyWeatherJSON = placeJSON.optJSONArray("minutely");
-			MinutelyWeatherForecast minutelyWeatherForecast;
-			
-			for (int i = 0; i < minutelyWeatherJSON.length(); i++) {
-				minutelyWeatherForecast = new MinutelyWeatherForecast(minutelyWeatherJSON.getJSONObject(i));
-				minutelyWeatherForecast.setPlaceId(properties.getPlaceId());
-				tmpMinutelyWeatherForecasts.add(i, minutelyWeatherForecast);
-			}
-		}
-		
-		
-		//  Hourly Weather Forecast
-		//________________________________________________________________
-		//
-		
-		if (!placeJSON.has("hourly"))
-			throw new JSONException("Cannot find hourly weather forecast data in PlaceObjectJSON");
-		
-		JSONArray hourlyWeatherJSON = placeJSON.getJSONArray("hourly");
-		HourlyWeatherForecast hourlyWeatherForecast;
-		
-		for (int i = 0; i < hourlyWeatherJSON.length(); i++) {
-			hourlyWeatherForecast = new HourlyWeatherForecast(hourlyWeatherJSON.getJSONObject(i));
-			hourlyWeatherForecast.setPlaceId(properties.getPlaceId());
-			tmpHourlyWeatherForecasts.add(i, hourlyWeatherForecast);
-		}
-		
-		
-		//  Daily Weather Forecast
-		//________________________________________________________________
-		//
-		
-		if (!placeJSON.has("daily"))
-			throw new JSONException("Cannot find daily weather forecast data in PlaceObjectJSON");
-		
-		JSONArray dailyWeatherJSON = placeJSON.getJSONArray("daily");
-		DailyWeatherForecast dailyWeatherForecast;
-		
-		for (int i = 0; i < dailyWeatherJSON.length(); i++) {
-			dailyWeatherForecast = new DailyWeatherForecast(dailyWeatherJSON.getJSONObject(i));
-			dailyWeatherForecast.setPlaceId(properties.getPlaceId());
-			tmpDailyWeatherForecasts.add(i, dailyWeatherForecast);
-		}
-		
-		
-		//  Weather Alerts
-		//________________________________________________________________
-		//
-		
-		if (placeJSON.has("alerts")) {
-			JSONArray weatherAlertJSON = placeJSON.optJSONArray("alerts");
-			WeatherAlert weatherAlert;
-			for (int i = 0; i < weatherAlertJSON.length(); i++) {
-				weatherAlert = new WeatherAlert(weatherAlertJSON.getJSONObject(i));
-				weatherAlert.setPlaceId(properties.getPlaceId());
-				tmpWeatherAlerts.add(i, weatherAlert);
-			}
-		}
-		
-		
-		//  Commit phase - Every new values will be set in the object
-		//________________________________________________________________
-		//
-		
-		//	Save weather information
-		currentWeather = tmpCurrentWeather;
-		minutelyWeatherForecastList = tmpMinutelyWeatherForecasts;
-		hourlyWeatherForecastList = tmpHourlyWeatherForecasts;
-		dailyWeatherForecastList = tmpDailyWeatherForecasts;
-		weatherAlertsList = tmpWeatherAlerts;
-		
-		//	Save statistics or properties
-		properties.setLastAvailableWeatherDataTime(tmpLastAvailableDataTime);
-		properties.setLastSuccessfulWeatherUpdateTime(tmpLastUpdateAttemptTime);
-	}
-	
 	
-	public void updateWithOWMAirQualityData(JSONObject aqJsonObject) throws JSONException {
-		
-		//	Smart way to update weather data, will not affect object state if error occurs
-		long tmpLastUpdateAttemptTime = new Date().getTime();
-		long tmpLastAvailableDataTime;
-		
-		AirQuality tmpAirQuality;
-		
-		//	Register new attempt timestamp in object
-		properties.setLastAirQualityUpdateAttemptTime(tmpLastUpdateAttemptTime);
-		
-		//  Properties data set
-		//________________________________________________________________
-		//
-		if (aqJsonObject.has("list") && aqJsonObject.getJSONArray("list").length() == 1) {
-			JSONObject subObject = aqJsonObject.getJSONArray("list").getJSONObject(0);
-			
-			//	Extract temporal information
-			if (subObject.has("dt")) {
-				tmpLastAvailableDataTime = aqJsonObject.getJSONArray("list")
-						  .getJSONObject(0)
-						  .getLong("dt");
-			} else throw new JSONException("Cannot find update data in Air Quality JSON Object");
-			
-			//	Extract Air Quality data
-			if (subObject.has("main") && subObject.has("components")) {
-				tmpAirQuality = new AirQuality(aqJsonObject);
-				tmpAirQuality.setPlaceId(properties.getPlaceId());
-			} else throw new JSONException("Cannot find air quality data in Air Quality JSON Object");
-		} else throw new JSONException("Cannot find data in in Air Quality JSON Object");
-		
-		//  Commit phase - Every new values will be set in the object
-		//________________________________________________________________
-		//
-		
-		//	Save air quality information
-		airQuality = tmpAirQuality;
-		
-		//	Save statistics or properties
-		properties.setLastAvailableAirQualityDataTime(tmpLastAvailableDataTime);
-		properties.setLastSuccessfulAirQualityUpdateTime(tmpLastUpdateAttemptTime);
+	/**
+	 * Get a builder starting from this snapshot
+	 *
+	 * @return a new builder sharing every section of this place
+	 */
+	public Builder toBuilder() {
+		return new Builder(this);
 	}
 	
 	public Geolocation getGeolocation() {
@@ -339,83 +313,138 @@ public class Place {
 	}
 	
 	public CurrentWeather getCurrentWeather() {
-		return this.currentWeather.clone();
-	}
-	
-	public void setCurrentWeather(CurrentWeather currentWeather) {
-		this.currentWeather = currentWeather.clone();
-		this.currentWeather.setPlaceId(properties.getPlaceId());
+		return this.currentWeather;
 	}
 	
 	public AirQuality getAirQuality() {
-		return this.airQuality.clone();
+		return this.airQuality;
 	}
 	
-	public void setAirQuality(AirQuality airQuality) {
-		this.airQuality = airQuality.clone();
-		this.airQuality.setPlaceId(properties.getPlaceId());
+	/**
+	 * Get the minutely forecasts, loading them from the database on first access.
+	 * The query runs without holding the place, only publishing the result does,
+	 * so the first list published is kept if two threads load it at the same time.
+	 *
+	 * @return the minutely forecasts
+	 */
+	private List<MinutelyWeatherForecast> loadMinutelyWeatherForecastList() {
+		List<MinutelyWeatherForecast> list = this.minutelyWeatherForecastList;
+		if (list != null) return list;
+		
+		list = Collections.unmodifiableList(sectionsSource.minutelyWeatherForecastDAO().getFromPlaceID(properties.getPlaceId()));
+		synchronized (this) {
+			if (this.minutelyWeatherForecastList == null) this.minutelyWeatherForecastList = list;
+			return this.minutelyWeatherForecastList;
+		}
 	}
 	
 	public List<MinutelyWeatherForecast> getMinutelyWeatherForecastList() {
-		return Collections.unmodifiableList(this.minutelyWeatherForecastList);
+		return loadMinutelyWeatherForecastList();
 	}
 	
-	public void setMinutelyWeatherForecastList(List<MinutelyWeatherForecast> minutelyWeatherForecastList) {
-		this.minutelyWeatherForecastList = Collections.unmodifiableList(minutelyWeatherForecastList);
-		for (MinutelyWeatherForecast minutelyWeatherForecast : this.minutelyWeatherForecastList) {
-			minutelyWeatherForecast.setPlaceId(properties.getPlaceId());
+	/**
+	 * Get the hourly forecasts, loading them from the database on first access
+	 *
+	 * @return the hourly forecasts
+	 * @see #loadMinutelyWeatherForecastList()
+	 */
+	private List<HourlyWeatherForecast> loadHourlyWeatherForecastList() {
+		List<HourlyWeatherForecast> list = this.hourlyWeatherForecastList;
+		if (list != null) return list;
+		
+		list = Collections.unmodifiableList(sectionsSource.hourlyWeatherForecastDAO().getFromPlaceID(properties.getPlaceId()));
+		synchronized (this) {
+			if (this.hourlyWeatherForecastList == null) this.hourlyWeatherForecastList = list;
+			return this.hourlyWeatherForecastList;
 		}
 	}
 	
 	public List<HourlyWeatherForecast> getHourlyWeatherForecastList() {
-		return Collections.unmodifiableList(this.hourlyWeatherForecastList);
+		return loadHourlyWeatherForecastList();
 	}
 	
-	public void setHourlyWeatherForecastList(List<HourlyWeatherForecast> hourlyWeatherForecastList) {
-		this.hourlyWeatherForecastList = Collections.unmodifiableList(hourlyWeatherForecastList);
-		for (HourlyWeatherForecast hourlyWeatherForecast : this.hourlyWeatherForecastList) {
-			hourlyWeatherForecast.setPlaceId(properties.getPlaceId());
+	/**
+	 * Get the daily forecasts, loading them from the database on first access
+	 *
+	 * @return the daily forecasts
+	 * @see #loadMinutelyWeatherForecastList()
+	 */
+	private List<DailyWeatherForecast> loadDailyWeatherForecastList() {
+		List<DailyWeatherForecast> list = this.dailyWeatherForecastList;
+		if (list != null) return list;
+		
+		list = Collections.unmodifiableList(sectionsSource.dailyWeatherForecastDAO().getFromPlaceID(properties.getPlaceId()));
+		synchronized (this) {
+			if (this.dailyWeatherForecastList == null) this.dailyWeatherForecastList = list;
+			return this.dailyWeatherForecastList;
 		}
 	}
 	
 	public List<DailyWeatherForecast> getDailyWeatherForecastList() {
-		return Collections.unmodifiableList(this.dailyWeatherForecastList);
+		return loadDailyWeatherForecastList();
 	}
 	
-	public void setDailyWeatherForecastList(List<DailyWeatherForecast> dailyWeatherForecastList) {
-		this.dailyWeatherForecastList = Collections.unmodifiableList(dailyWeatherForecastList);
-		for (DailyWeatherForecast dailyWeatherForecast : this.dailyWeatherForecastList) {
-			dailyWeatherForecast.setPlaceId(properties.getPlaceId());
-		}
+	public List<WeatherAlert> getWeatherAlertsList() {
+		return this.weatherAlertsList;
 	}
 	
-	public List<WeatherAlert> getWeatherAlertsList() {
-		return Collections.unmodifiableList(this.weatherAlertsList);
+	/**
+	 * Get what minutely forecasts tell about precipitations
+	 *
+	 * @return the precipitation outlook, computed when the minutely forecasts were set
+	 */
+	public PrecipitationOutlook getPrecipitationOutlook() {
+		return properties.getPrecipitationOutlook();
 	}
 	
-	public void setWeatherAlertsList(List<WeatherAlert> weatherAlertsList) {
-		this.weatherAlertsList = Collections.unmodifiableList(weatherAlertsList);
-		for (WeatherAlert weatherAlert : this.weatherAlertsList) {
-			weatherAlert.setPlaceId(properties.getPlaceId());
+	/**
+	 * Get the hourly forecasts as columns, building them on first access.
+	 * Daily forecasts are loaded too since they give day time flags of hours.
+	 * Like forecasts, the series is built without holding the place.
+	 *
+	 * @return the hourly forecast series
+	 */
+	public ForecastSeries getHourlyForecastSeries() {
+		ForecastSeries series = hourlyForecastSeries;
+		if (series != null) return series;
+		
+		series = ForecastSeries.ofHourly(loadHourlyWeatherForecastList(), loadDailyWeatherForecastList());
+		synchronized (this) {
+			if (hourlyForecastSeries == null) hourlyForecastSeries = series;
+			return hourlyForecastSeries;
 		}
 	}
 	
-	public MinutelyWeatherForecast getMinutelyWeatherForecast(int minute) {
-		return minutelyWeatherForecastList.get(minute).clone();
+	/**
+	 * Get the daily forecasts as columns, building them on first access
+	 *
+	 * @return the daily forecast series
+	 */
+	public ForecastSeries getDailyForecastSeries() {
+		ForecastSeries series = dailyForecastSeries;
+		if (series != null) return series;
+		
+		series = ForecastSeries.ofDaily(loadDailyWeatherForecastList());
+		synchronized (this) {
+			if (dailyForecastSeries == null) dailyForecastSeries = series;
+			return dailyForecastSeries;
+		}
 	}
 	
+	public MinutelyWeatherForecast getMinutelyWeatherForecast(int minute) {
+		return loadMinutelyWeatherForecastList().get(minute);
+	}
 	
 	public HourlyWeatherForecast getHourlyWeatherForecast(int hour) {
-		
-		return hourlyWeatherForecastList.get(hour).clone();
+		return loadHourlyWeatherForecastList().get(hour);
 	}
 	
 	public DailyWeatherForecast getDailyWeatherForecast(int day) {
-		return dailyWeatherForecastList.get(day).clone();
+		return loadDailyWeatherForecastList().get(day);
 	}
 	
 	public WeatherAlert getWeatherAlert(int index) {
-		return weatherAlertsList.get(index).clone();
+		return weatherAlertsList.get(index);
 	}
 	
 	public int getWeatherAlertCount() {
@@ -426,6 +455,48 @@ public class Place {
 		return !weatherAlertsList.isEmpty();
 	}
 	
+	/**
+	 * Is a forecast section already in memory
+	 *
+	 * @param section the section to check
+	 * @return true if the section can be read without querying the database, false otherwise
+	 */
+	public boolean isSectionLoaded(@NonNull Section section) {
+		switch (section) {
+			case MINUTELY:
+				return minutelyWeatherForecastList != null;
+			case HOURLY:
+				return hourlyWeatherForecastList != null;
+			case DAILY:
+			default:
+				return dailyWeatherForecastList != null;
+		}
+	}
+	
+	/**
+	 * Load some forecast sections from the database if they aren't already loaded,
+	 * along with their series
+	 *
+	 * @param sections the sections to load
+	 */
+	@WorkerThread
+	public void loadSections(@NonNull Section... sections) {
+		for (Section section : sections) {
+			switch (section) {
+				case MINUTELY:
+					loadMinutelyWeatherForecastList();
+					break;
+				case HOURLY:
+					getHourlyForecastSeries();
+					break;
+				case DAILY:
+				default:
+					getDailyForecastSeries();
+					break;
+			}
+		}
+	}
+	
 	
 	@NonNull
 	@Override
@@ -441,4 +512,353 @@ public class Place {
 				  .add("weatherAlertsList=" + weatherAlertsList)
 				  .toString();
 	}
-}
\ No newline at end of file
+	
+	
+	/**
+	 * Builder
+	 * <p>
+	 *    Builds a new snapshot of a place.
+	 *    When it starts from a snapshot, every section is shared with it until it is replaced,
+	 *    sections that weren't loaded yet will be loaded by the new snapshot on first access.
+	 *    Properties are copied so that the previous snapshot is never changed.
+ *    Setting minutely forecasts computes the precipitation outlook along with them.
+	 *    A builder isn't thread-safe and should not be shared.
+	 * </p>
+	 *
+	 * @author Quentin GOMES DOS REIS
+	 * @version 1
+	 */
+	public static class Builder {
+		
+		private final Geolocation geolocation;
+		private Properties properties;
+		private CurrentWeather currentWeather;
+		private AirQuality airQuality;
+		private List<MinutelyWeatherForecast> minutelyWeatherForecastList;
+		private List<HourlyWeatherForecast> hourlyWeatherForecastList;
+		private List<DailyWeatherForecast> dailyWeatherForecastList;
+		private List<WeatherAlert> weatherAlertsList;
+		private final ForecastSource sectionsSource;
+		//	The snapshot it started from, null for a new place
+		private final Place source;
+		
+		/**
+		 * Instantiates a new builder for a place without any weather data yet
+		 *
+		 * @param geolocation the geolocation of the place
+		 * @param properties  the properties of the place
+		 */
+		public Builder(@NonNull Geolocation geolocation, @NonNull Properties properties) {
+			this.geolocation = geolocation;
+			this.properties = properties;
+			this.currentWeather = null;
+			this.airQuality = null;
+			this.minutelyWeatherForecastList = Collections.emptyList();
+			this.hourlyWeatherForecastList = Collections.emptyList();
+			this.dailyWeatherForecastList = Collections.emptyList();
+			this.weatherAlertsList = Collections.emptyList();
+			this.sectionsSource = null;
+			this.source = null;
+		}
+		
+		/**
+		 * Instantiates a new builder starting from a snapshot
+		 *
+		 * @param place the snapshot to start from
+		 */
+		public Builder(@NonNull Place place) {
+			this.geolocation = place.geolocation;
+			this.properties = place.properties;
+			this.currentWeather = place.currentWeather;
+			this.airQuality = place.airQuality;
+			//	Sections may be loaded concurrently by readers of the snapshot
+			synchronized (place) {
+				this.minutelyWeatherForecastList = place.minutelyWeatherForecastList;
+				this.hourlyWeatherForecastList = place.hourlyWeatherForecastList;
+				this.dailyWeatherForecastList = place.dailyWeatherForecastList;
+			}
+			this.weatherAlertsList = place.weatherAlertsList;
+			this.sectionsSource = place.sectionsSource;
+			this.source = place;
+		}
+		
+		/**
+		 * Replace the properties of the place
+		 *
+		 * @param properties the new properties, with the same place id
+		 * @return this builder
+		 */
+		public Builder setProperties(@NonNull Properties properties) {
+			if (!properties.getPlaceId().equals(this.properties.getPlaceId()))
+				throw new IllegalArgumentException("properties must belong to the same place !");
+			
+			this.properties = properties;
+			return this;
+		}
+		
+		/**
+		 * Set the order of the place
+		 *
+		 * @param order the new order
+		 * @return this builder
+		 */
+		public Builder setOrder(int order) {
+			properties = properties.withOrder(order);
+			return this;
+		}
+		
+		public Builder setCurrentWeather(@NonNull CurrentWeather currentWeather) {
+			String placeId = properties.getPlaceId();
+			this.currentWeather = placeId.equals(currentWeather.getPlaceId()) ? currentWeather : new CurrentWeather(currentWeather, placeId);
+			return this;
+		}
+		
+		public Builder setAirQuality(@NonNull AirQuality airQuality) {
+			String placeId = properties.getPlaceId();
+			this.airQuality = placeId.equals(airQuality.getPlaceId()) ? airQuality : new AirQuality(airQuality, placeId);
+			return this;
+		}
+		
+		public Builder setMinutelyWeatherForecastList(@NonNull List<MinutelyWeatherForecast> minutelyWeatherForecastList) {
+			this.minutelyWeatherForecastList = bindToPlace(minutelyWeatherForecastList, MinutelyWeatherForecast::getPlaceId, MinutelyWeatherForecast::new);
+			properties = properties.withPrecipitationOutlook(PrecipitationOutlook.of(this.minutelyWeatherForecastList));
+			return this;
+		}
+		
+		public Builder setHourlyWeatherForecastList(@NonNull List<HourlyWeatherForecast> hourlyWeatherForecastList) {
+			this.hourlyWeatherForecastList = bindToPlace(hourlyWeatherForecastList, HourlyWeatherForecast::getPlaceId, HourlyWeatherForecast::new);
+			return this;
+		}
+		
+		public Builder setDailyWeatherForecastList(@NonNull List<DailyWeatherForecast> dailyWeatherForecastList) {
+			this.dailyWeatherForecastList = bindToPlace(dailyWeatherForecastList, DailyWeatherForecast::getPlaceId, DailyWeatherForecast::new);
+			return this;
+		}
+		
+		public Builder setWeatherAlertsList(@NonNull List<WeatherAlert> weatherAlertsList) {
+			this.weatherAlertsList = bindToPlace(weatherAlertsList, WeatherAlert::getPlaceId, WeatherAlert::new);
+			return this;
+		}
+		
+		/**
+		 * Bind entities to this place without changing them.
+		 * Entities already bound to this place are shared, others are copied with the place id.
+		 *
+		 * @param entities      the entities to bind
+		 * @param placeIdGetter the place id getter of the entities
+		 * @param copy          the copy constructor of the entities
+		 * @param <T>           the type of the entities
+		 * @return an unmodifiable list of entities bound to this place
+		 */
+		private <T> List<T> bindToPlace(@NonNull List<T> entities, @NonNull Function<T, String> placeIdGetter, @NonNull BiFunction<T, String, T> copy) {
+			String placeId = properties.getPlaceId();
+			List<T> boundEntities = new ArrayList<>(entities.size());
+			for (T entity : entities) {
+				boundEntities.add(placeId.equals(placeIdGetter.apply(entity)) ? entity : copy.apply(entity, placeId));
+			}
+			return Collections.unmodifiableList(boundEntities);
+		}
+		
+		/**
+		 * Update weather data with a onecall response.
+		 * Nothing but the update attempt time is changed if the response is malformed.
+		 *
+		 * @param placeJSON the onecall response
+		 * @return this builder
+		 * @throws JSONException if the response is malformed
+		 */
+		public Builder updateWithOWMWeatherData(JSONObject placeJSON) throws JSONException {
+			
+			//	Smart way to update weather data, will not affect object state if error occurs
+			long tmpLastUpdateAttemptTime = new Date().getTime();
+			long tmpLastAvailableDataTime;
+			
+			CurrentWeather tmpCurrentWeather;
+			List<MinutelyWeatherForecast> tmpMinutelyWeatherForecasts = new ArrayList<>();
+			List<HourlyWeatherForecast> tmpHourlyWeatherForecasts = new ArrayList<>();
+			List<DailyWeatherForecast> tmpDailyWeatherForecasts = new ArrayList<>();
+			List<WeatherAlert> tmpWeatherAlerts = new ArrayList<>();
+			
+			//  Properties data set
+			//________________________________________________________________
+			//
+			properties = properties.withWeatherUpdateAttempt(tmpLastUpdateAttemptTime);
+			
+			
+			//  Current Weather data set
+			//________________________________________________________________
+			//	Current weather also contains lastAvailableDataTime value
+			if (!placeJSON.has("current"))
+				throw new JSONException("Cannot find current weather data in PlaceObjectJSON");
+			
+			JSONObject crtWeatherJSON = placeJSON.optJSONObject("current");
+			tmpLastAvailableDataTime = crtWeatherJSON.getLong("dt");
+			tmpCurrentWeather = new CurrentWeather(crtWeatherJSON);
+			
+			
+			//  Minutely Weather Forecast
+			//________________________________________________________________
+			//
+			//  Minutely weather forecast arraylist can be empty
+			if (placeJSON.has("minutely")) {
+				JSONArray minutelyWeatherJSON = placeJSON.optJSONArray("minutely");
+				MinutelyWeatherForecast minutelyWeatherForecast;
+				
+				for (int i = 0; i < minutelyWeatherJSON.length(); i++) {
+					minutelyWeatherForecast = new MinutelyWeatherForecast(minutelyWeatherJSON.getJSONObject(i));
+					tmpMinutelyWeatherForecasts.add(i, minutelyWeatherForecast);
+				}
+			}
+			
+			
+			//  Hourly Weather Forecast
+			//________________________________________________________________
+			//
+			
+			if (!placeJSON.has("hourly"))
+				throw new JSONException("Cannot find hourly weather forecast data in PlaceObjectJSON");
+			
+			JSONArray hourlyWeatherJSON = placeJSON.getJSONArray("hourly");
+			HourlyWeatherForecast hourlyWeatherForecast;
+			
+			for (int i = 0; i < hourlyWeatherJSON.length(); i++) {
+				hourlyWeatherForecast = new HourlyWeatherForecast(hourlyWeatherJSON.getJSONObject(i));
+				tmpHourlyWeatherForecasts.add(i, hourlyWeatherForecast);
+			}
+			
+			
+			//  Daily Weather Forecast
+			//________________________________________________________________
+			//
+			
+			if (!placeJSON.has("daily"))
+				throw new JSONException("Cannot find daily weather forecast data in PlaceObjectJSON");
+			
+			JSONArray dailyWeatherJSON = placeJSON.getJSONArray("daily");
+			DailyWeatherForecast dailyWeatherForecast;
+			
+			for (int i = 0; i < dailyWeatherJSON.length(); i++) {
+				dailyWeatherForecast = new DailyWeatherForecast(dailyWeatherJSON.getJSONObject(i));
+				tmpDailyWeatherForecasts.add(i, dailyWeatherForecast);
+			}
+			
+			
+			//  Weather Alerts
+			//________________________________________________________________
+			//
+			
+			if (placeJSON.has("alerts")) {
+				JSONArray weatherAlertJSON = placeJSON.optJSONArray("alerts");
+				WeatherAlert weatherAlert;
+				for (int i = 0; i < weatherAlertJSON.length(); i++) {
+					weatherAlert = new WeatherAlert(weatherAlertJSON.getJSONObject(i));
+					tmpWeatherAlerts.add(i, weatherAlert);
+				}
+			}
+			
+			
+			//  Commit phase - Every new values will be set in the object
+			//________________________________________________________________
+			//
+			
+			//	Save weather information, entities are bound to this place by the setters
+			setCurrentWeather(tmpCurrentWeather);
+			setMinutelyWeatherForecastList(tmpMinutelyWeatherForecasts);
+			setHourlyWeatherForecastList(tmpHourlyWeatherForecasts);
+			setDailyWeatherForecastList(tmpDailyWeatherForecasts);
+			setWeatherAlertsList(tmpWeatherAlerts);
+			
+			//	Save statistics or properties
+			properties = properties.withWeatherUpdate(tmpLastUpdateAttemptTime, tmpLastAvailableDataTime);
+			return this;
+		}
+		
+		/**
+		 * Update weather data with a onecall response already decoded from a stream.
+		 * Acts like updateWithOWMWeatherData(JSONObject) without walking a JSONObject.
+		 * The response can be shared by places at the same coordinates, so its entities are copied for this place and never changed.
+		 *
+		 * @param oneCallData the decoded onecall response
+		 * @return this builder
+		 */
+		public Builder updateWithOWMWeatherData(OneCallData oneCallData) {
+			long tmpLastUpdateAttemptTime = new Date().getTime();
+			
+			properties = properties.withWeatherUpdateAttempt(tmpLastUpdateAttemptTime);
+			
+			//  Commit phase - Every new values will be set in the object
+			//________________________________________________________________
+			//
+			
+			//	Save weather information
+			setCurrentWeather(oneCallData.getCurrentWeather());
+			setMinutelyWeatherForecastList(oneCallData.getMinutelyWeatherForecastList());
+			setHourlyWeatherForecastList(oneCallData.getHourlyWeatherForecastList());
+			setDailyWeatherForecastList(oneCallData.getDailyWeatherForecastList());
+			setWeatherAlertsList(oneCallData.getWeatherAlertsList());
+			
+			//	Save statistics or properties
+			properties = properties.withWeatherUpdate(tmpLastUpdateAttemptTime, oneCallData.getLastAvailableDataTime());
+			return this;
+		}
+		
+		/**
+		 * Update air quality data with an air_pollution response.
+		 * Nothing but the update attempt time is changed if the response is malformed.
+		 *
+		 * @param aqJsonObject the air_pollution response
+		 * @return this builder
+		 * @throws JSONException if the response is malformed
+		 */
+		public Builder updateWithOWMAirQualityData(JSONObject aqJsonObject) throws JSONException {
+			
+			//	Smart way to update weather data, will not affect object state if error occurs
+			long tmpLastUpdateAttemptTime = new Date().getTime();
+			long tmpLastAvailableDataTime;
+			
+			AirQuality tmpAirQuality;
+			
+			//	Register new attempt timestamp in object
+			properties = properties.withAirQualityUpdateAttempt(tmpLastUpdateAttemptTime);
+			
+			//  Properties data set
+			//________________________________________________________________
+			//
+			if (aqJsonObject.has("list") && aqJsonObject.getJSONArray("list").length() == 1) {
+				JSONObject subObject = aqJsonObject.getJSONArray("list").getJSONObject(0);
+				
+				//	Extract temporal information
+				if (subObject.has("dt")) {
+					tmpLastAvailableDataTime = aqJsonObject.getJSONArray("list")
+							  .getJSONObject(0)
+							  .getLong("dt");
+				} else throw new JSONException("Cannot find update data in Air Quality JSON Object");
+				
+				//	Extract Air Quality data
+				if (subObject.has("main") && subObject.has("components")) {
+					tmpAirQuality = new AirQuality(aqJsonObject);
+				} else throw new JSONException("Cannot find air quality data in Air Quality JSON Object");
+			} else throw new JSONException("Cannot find data in in Air Quality JSON Object");
+			
+			//  Commit phase - Every new values will be set in the object
+			//________________________________________________________________
+			//
+			
+			//	Save air quality information, it is bound to this place by the setter
+			setAirQuality(tmpAirQuality);
+			
+			//	Save statistics or properties
+			properties = properties.withAirQualityUpdate(tmpLastUpdateAttemptTime, tmpLastAvailableDataTime);
+			return this;
+		}
+		
+		/**
+		 * Build the snapshot
+		 *
+		 * @return a new place
+		 */
+		public Place build() {
+			return new Place(this);
+		}
+	}
+}
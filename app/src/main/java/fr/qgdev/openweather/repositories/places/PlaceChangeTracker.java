@@ -0,0 +1,422 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.places;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.MainThread;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.room.InvalidationTracker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * PlaceChangeTracker
+ * <p>
+ *    Keeps an in-memory snapshot of every place up to date with the database.
+ *    It listens to Room's InvalidationTracker and, when a place table is written, only reloads
+ *    the places whose properties row changed. Every write done through PlaceDatabase updates
+ *    the properties of the place (update attempt times), so it is used as its version.
+ *    A place that was only moved isn't reloaded and keeps its instance, its position in the snapshot
+ *    is its order, so the order in its properties may be outdated.
+ *    Moves done through PlaceDatabase are patched in the snapshot before they are written,
+ *    refreshes keep the order of the snapshot until they are.
+ *    The list stream emits an immutable list where unchanged places keep the same instance,
+ *    so observers find the places to bind again with getChangedPositions.
+ *    Each place also has its own stream only emitting when this place changes. Only streams
+ *    with observers are kept by the tracker, so streams nobody observes anymore can be collected.
+ *    Places are loaded without their forecasts, observers load the sections they show on demand.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+public class PlaceChangeTracker {
+	
+	private static final String[] PLACE_TABLES = {"properties",
+			  "geolocation",
+			  "current_weather",
+			  "air_quality",
+			  "minutely_weather_forecasts",
+			  "hourly_weather_forecasts",
+			  "daily_weather_forecasts",
+			  "weather_alerts"};
+	
+	private final PlaceDatabase placeDatabase;
+	private final Executor executor;
+	private final InvalidationTracker.Observer invalidationObserver;
+	private final MutableLiveData<List<Place>> placesLiveData;
+	//	Streams of places that have at least one observer
+	private final Set<PlaceLiveData> activePlaceLiveDataSet;
+	private final Object refreshLock;
+	
+	private boolean started;
+	private List<Place> places;
+	private Map<String, String> versions;
+	private int pendingMoves;
+	private long moveCount;
+	
+	/**
+	 * Instantiates a new place change tracker.
+	 * Nothing is read before a stream or the places are requested.
+	 *
+	 * @param placeDatabase the database to track
+	 * @param executor      the executor used to reload places after an invalidation
+	 */
+	PlaceChangeTracker(@NonNull PlaceDatabase placeDatabase, @NonNull Executor executor) {
+		this.placeDatabase = placeDatabase;
+		this.executor = executor;
+		this.invalidationObserver = new InvalidationTracker.Observer(PLACE_TABLES) {
+			@Override
+			public void onInvalidated(@NonNull Set<String> tables) {
+				executor.execute(PlaceChangeTracker.this::refresh);
+			}
+		};
+		this.placesLiveData = new MutableLiveData<>(null);
+		this.activePlaceLiveDataSet = ConcurrentHashMap.newKeySet();
+		this.refreshLock = new Object();
+		this.started = false;
+		this.places = null;
+		this.versions = new HashMap<>();
+		this.pendingMoves = 0;
+		this.moveCount = 0;
+	}
+	
+	/**
+	 * Get the version of a place from its properties.
+	 * The order isn't part of it since moving a place doesn't change its data.
+	 *
+	 * @param properties the properties of the place
+	 * @return a string that changes each time the data of the place is written
+	 */
+	private static String getVersion(@NonNull Properties properties) {
+		return properties.getTimeOffset() + ":" +
+				  properties.getLastWeatherUpdateAttemptTime() + ":" +
+				  properties.getLastAirQualityUpdateAttemptTime() + ":" +
+				  properties.getLastSuccessfulWeatherUpdateTime() + ":" +
+				  properties.getLastSuccessfulAirQualityUpdateTime() + ":" +
+				  properties.getLastAvailableWeatherDataTime() + ":" +
+				  properties.getLastAvailableAirQualityDataTime();
+	}
+	
+	/**
+	 * Get the positions of the places that changed between two lists emitted by the tracker.
+	 * A place changed when its instance is different in both lists.
+	 *
+	 * @param previous the previous list, may be null
+	 * @param current  the current list
+	 * @return the positions in the current list of changed places,
+	 * or null if places have been added or removed
+	 */
+	@Nullable
+	public static int[] getChangedPositions(@Nullable List<Place> previous, @NonNull List<Place> current) {
+		if (previous == null || previous.size() != current.size()) return null;
+		
+		Map<String, Place> previousPlaces = new HashMap<>();
+		for (Place place : previous) {
+			previousPlaces.put(place.getProperties().getPlaceId(), place);
+		}
+		
+		int[] positions = new int[current.size()];
+		int count = 0;
+		for (int i = 0; i < current.size(); i++) {
+			Place place = current.get(i);
+			if (!previousPlaces.containsKey(place.getProperties().getPlaceId())) return null;
+			if (previousPlaces.get(place.getProperties().getPlaceId()) != place)
+				positions[count++] = i;
+		}
+		
+		int[] changedPositions = new int[count];
+		System.arraycopy(positions, 0, changedPositions, 0, count);
+		return changedPositions;
+	}
+	
+	/**
+	 * Start listening to the database and load places for the first time
+	 */
+	private synchronized void start() {
+		if (started) return;
+		started = true;
+		
+		//	Adding an observer creates Room triggers, it must not be done on the main thread
+		executor.execute(() -> {
+			placeDatabase.getInvalidationTracker().addObserver(invalidationObserver);
+			refresh();
+		});
+	}
+	
+	/**
+	 * Gets the live data of every place, ordered by their order.
+	 * A new list is emitted only when at least one place changed.
+	 *
+	 * @return the places live data
+	 */
+	public LiveData<List<Place>> getPlacesLiveData() {
+		start();
+		return placesLiveData;
+	}
+	
+	/**
+	 * Gets the live data of a place.
+	 * It emits the place of the current snapshot once observed, then only when this place changes,
+	 * and null when it is deleted. It is only kept by the tracker while it has observers.
+	 *
+	 * @param placeId the id of the place
+	 * @return the place live data
+	 */
+	public LiveData<Place> getPlaceLiveData(@NonNull String placeId) {
+		return new PlaceLiveData(placeId);
+	}
+	
+	/**
+	 * Get a place of the current snapshot
+	 *
+	 * @param placeId the id of the place
+	 * @return the place, or null if it isn't in the snapshot or the snapshot isn't loaded yet
+	 */
+	@Nullable
+	private synchronized Place findPlace(@NonNull String placeId) {
+		if (places == null) return null;
+		
+		for (Place place : places) {
+			if (place.getProperties().getPlaceId().equals(placeId)) return place;
+		}
+		return null;
+	}
+	
+	/**
+	 * Gets the current snapshot of places, loading it if it has never been loaded.
+	 *
+	 * @return the immutable list of places
+	 */
+	@WorkerThread
+	public List<Place> getPlaces() {
+		start();
+		synchronized (this) {
+			if (places != null) return places;
+		}
+		refresh();
+		synchronized (this) {
+			return places;
+		}
+	}
+	
+	/**
+	 * Move a place in the snapshot before the move is written.
+	 * The moved snapshot keeps every instance, so no place is bound again,
+	 * and refreshes keep its order until {@link #onMoveWritten()} is called.
+	 * It only holds the snapshot for a list copy, so it can be called from the main thread.
+	 *
+	 * @param crtPosition the current position of the place
+	 * @param newPosition the new position of the place
+	 */
+	synchronized void movePlace(int crtPosition, int newPosition) {
+		pendingMoves++;
+		moveCount++;
+		if (places == null || crtPosition >= places.size() || newPosition >= places.size()) return;
+		
+		List<Place> newPlaces = new ArrayList<>(places);
+		newPlaces.add(newPosition, newPlaces.remove(crtPosition));
+		places = Collections.unmodifiableList(newPlaces);
+		placesLiveData.postValue(places);
+	}
+	
+	/**
+	 * Tell that a move patched by {@link #movePlace(int, int)} is committed or failed,
+	 * refreshes follow the order of the database again once every move is.
+	 */
+	synchronized void onMoveWritten() {
+		pendingMoves--;
+	}
+	
+	/**
+	 * Get the ids of places in the order of a snapshot.
+	 * Places that aren't in the snapshot yet are put after, in the order of the database.
+	 *
+	 * @param snapshot       the snapshot whose order is kept
+	 * @param propertiesList the properties of every place, in the order of the database
+	 * @return the ordered ids of every place
+	 */
+	private static List<String> getPlaceIdsInSnapshotOrder(@NonNull List<Place> snapshot, @NonNull List<Properties> propertiesList) {
+		Set<String> placeIds = new HashSet<>();
+		for (Properties properties : propertiesList) {
+			placeIds.add(properties.getPlaceId());
+		}
+		
+		List<String> orderedPlaceIds = new ArrayList<>(propertiesList.size());
+		for (Place place : snapshot) {
+			if (placeIds.remove(place.getProperties().getPlaceId()))
+				orderedPlaceIds.add(place.getProperties().getPlaceId());
+		}
+		for (Properties properties : propertiesList) {
+			if (placeIds.contains(properties.getPlaceId())) orderedPlaceIds.add(properties.getPlaceId());
+		}
+		return orderedPlaceIds;
+	}
+	
+	/**
+	 * Reload the places that changed since the last refresh and publish them.
+	 * Costs one query on properties when nothing changed,
+	 * and one query per table for all changed places otherwise.
+	 * It isn't run in a transaction so it never waits for the writer: a write committed while places
+	 * are loaded invalidates the tables again and the places it changed are reloaded by the next refresh.
+	 * The snapshot itself is only held to swap it, never during queries.
+	 */
+	@WorkerThread
+	void refresh() {
+		synchronized (refreshLock) {
+			List<Place> previousList;
+			Map<String, String> previousVersions;
+			long previousMoveCount;
+			synchronized (this) {
+				previousList = places;
+				previousVersions = versions;
+				previousMoveCount = moveCount;
+			}
+			
+			List<Properties> propertiesList = placeDatabase.propertiesDAO().getProperties();
+			
+			Map<String, Place> previousPlaces = new HashMap<>();
+			if (previousList != null) {
+				for (Place place : previousList) {
+					previousPlaces.put(place.getProperties().getPlaceId(), place);
+				}
+			}
+			
+			Map<String, String> newVersions = new HashMap<>();
+			List<Properties> changedProperties = new ArrayList<>();
+			for (Properties properties : propertiesList) {
+				String version = getVersion(properties);
+				newVersions.put(properties.getPlaceId(), version);
+				if (!previousPlaces.containsKey(properties.getPlaceId()) || !version.equals(previousVersions.get(properties.getPlaceId())))
+					changedProperties.add(properties);
+			}
+			
+			Set<String> removedPlaceIds = new HashSet<>(previousPlaces.keySet());
+			removedPlaceIds.removeAll(newVersions.keySet());
+			
+			Map<String, Place> changedPlaces = new HashMap<>();
+			for (Place place : placeDatabase.loadPlacesWithoutForecasts(changedProperties)) {
+				changedPlaces.put(place.getProperties().getPlaceId(), place);
+			}
+			
+			synchronized (this) {
+				List<String> placeIds;
+				//	A move not written yet, or written while places were read, isn't in the properties read
+				if (places != null && (pendingMoves > 0 || moveCount != previousMoveCount)) {
+					placeIds = getPlaceIdsInSnapshotOrder(places, propertiesList);
+				} else {
+					placeIds = new ArrayList<>(propertiesList.size());
+					for (Properties properties : propertiesList) {
+						placeIds.add(properties.getPlaceId());
+					}
+				}
+				
+				List<Place> newPlaces = new ArrayList<>(placeIds.size());
+				for (String placeId : placeIds) {
+					Place place = changedPlaces.get(placeId);
+					if (place == null) place = previousPlaces.get(placeId);
+					//	Deleted after its properties were read, the next refresh removes it
+					if (place == null || place.getGeolocation() == null) continue;
+					newPlaces.add(place);
+				}
+				
+				versions = newVersions;
+				//	Nothing changed since the last refresh
+				if (places != null && isSameSnapshot(places, newPlaces)) return;
+				
+				places = Collections.unmodifiableList(newPlaces);
+				placesLiveData.postValue(places);
+			}
+			
+			for (PlaceLiveData placeLiveData : activePlaceLiveDataSet) {
+				Place place = changedPlaces.get(placeLiveData.placeId);
+				if (place != null) placeLiveData.postValue(place);
+				else if (removedPlaceIds.contains(placeLiveData.placeId)) placeLiveData.postValue(null);
+			}
+		}
+	}
+	
+	/**
+	 * Tell if two snapshots hold the same instances in the same order
+	 *
+	 * @param previous the previous snapshot
+	 * @param current  the current snapshot
+	 * @return true if nothing has to be published
+	 */
+	private static boolean isSameSnapshot(@NonNull List<Place> previous, @NonNull List<Place> current) {
+		if (previous.size() != current.size()) return false;
+		for (int i = 0; i < current.size(); i++) {
+			if (previous.get(i) != current.get(i)) return false;
+		}
+		return true;
+	}
+	
+	
+	/**
+	 * PlaceLiveData
+	 * <p>
+	 *    The stream of a single place.
+	 *    It registers itself to the tracker when it gets its first observer and unregisters
+	 *    when it loses its last one, so the tracker never holds a stream nobody observes.
+	 * </p>
+	 *
+	 * @author Quentin GOMES DOS REIS
+	 * @version 1
+	 */
+	private class PlaceLiveData extends MutableLiveData<Place> {
+		
+		private final String placeId;
+		
+		PlaceLiveData(@NonNull String placeId) {
+			super(null);
+			this.placeId = placeId;
+		}
+		
+		@MainThread
+		@Override
+		protected void onActive() {
+			activePlaceLiveDataSet.add(this);
+			start();
+			
+			//	Changes published while it wasn't observed are caught up from the snapshot,
+			//	a snapshot not loaded yet is published by its first refresh
+			Place place = findPlace(placeId);
+			if (place != null && place != getValue()) setValue(place);
+		}
+		
+		@MainThread
+		@Override
+		protected void onInactive() {
+			activePlaceLiveDataSet.remove(this);
+		}
+	}
+}
@@ -36,11 +36,16 @@ import androidx.room.migration.Migration;
 import androidx.sqlite.db.SupportSQLiteDatabase;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import fr.qgdev.openweather.metrics.AirQuality;
 import fr.qgdev.openweather.metrics.CurrentWeather;
@@ -51,12 +56,15 @@ import fr.qgdev.openweather.metrics.WeatherAlert;
 import fr.qgdev.openweather.repositories.places.dao.AirQualityDAO;
 import fr.qgdev.openweather.repositories.places.dao.CurrentWeatherDAO;
 import fr.qgdev.openweather.repositories.places.dao.DailyWeatherForecastDAO;
+import fr.qgdev.openweather.repositories.places.dao.GeocodingCacheDAO;
 import fr.qgdev.openweather.repositories.places.dao.GeolocationDAO;
 import fr.qgdev.openweather.repositories.places.dao.HourlyWeatherForecastDAO;
 import fr.qgdev.openweather.repositories.places.dao.MinutelyWeatherForecastDAO;
 import fr.qgdev.openweather.repositories.places.dao.PlaceDAO;
 import fr.qgdev.openweather.repositories.places.dao.PropertiesDAO;
 import fr.qgdev.openweather.repositories.places.dao.WeatherAlertDAO;
+import fr.qgdev.openweather.repositories.places.dao.WeatherObservationDAO;
+import fr.qgdev.openweather.repositories.places.dao.WidgetPlaceDAO;
 import fr.qgdev.openweather.utils.ParameterizedRunnable;
 
 /**
@@ -71,7 +79,7 @@ import fr.qgdev.openweather.utils.ParameterizedRunnable;
  * @author Quentin GOMES DOS REIS
  * @version 1
  */
-@Database(version = 5,
+@Database(version = 9,
 		  entities = {Geolocation.class,
 					 Properties.class,
 					 AirQuality.class,
@@ -79,7 +87,9 @@ import fr.qgdev.openweather.utils.ParameterizedRunnable;
 					 DailyWeatherForecast.class,
 					 HourlyWeatherForecast.class,
 					 MinutelyWeatherForecast.class,
-					 WeatherAlert.class}, exportSchema = false)
+					 WeatherAlert.class,
+					 GeocodingCacheEntry.class,
+					 WeatherObservation.class}, exportSchema = false)
 @TypeConverters({StringListTypeConverter.class})
 
 /**
@@ -88,15 +98,40 @@ import fr.qgdev.openweather.utils.ParameterizedRunnable;
  * Stores all the registered places by the user.
  */
 @Dao
-public abstract class PlaceDatabase extends RoomDatabase {
+public abstract class PlaceDatabase extends RoomDatabase implements ForecastSource {
 	
-	private static final int NUMBER_OF_THREADS = 4;
-	public static final ExecutorService databaseExecutor =
-			  Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+	private static final int NUMBER_OF_READER_THREADS = 3;
+	//	SQLite refuses more than 999 bound parameters in a query on older versions
+	private static final int MAX_PLACE_IDS_PER_QUERY = 500;
+	//	Checkpoint the WAL file every 500 pages (~2 MB) and truncate it back to 1 MB afterwards
+	private static final int WAL_AUTOCHECKPOINT_PAGES = 500;
+	private static final long WAL_SIZE_LIMIT = 1048576;
+	//	Places are ordered by sparse keys, so a place can be moved between two others by writing its own order only
+	//	16 moves between the same two places are possible before there is no room left and places are renumbered
+	static final int ORDER_GAP = 65536;
+	
+	//	Every write goes through a single thread, so transactions never wait for each other
+	//	and reads done in the reader pool can run on WAL snapshots while a write is in progress
+	public static final MeteredExecutor writeExecutor = new MeteredExecutor("place-db-writer", 1);
+	public static final MeteredExecutor readExecutor = new MeteredExecutor("place-db-reader", NUMBER_OF_READER_THREADS);
 	private static final AtomicReference<PlaceDatabase> instance = new AtomicReference<>(null);
 	
-	private static final MutableLiveData<List<Place>> allPlacesMutableLiveData = new MutableLiveData<>(null);
+	private final AtomicReference<PlaceChangeTracker> placeChangeTracker = new AtomicReference<>(null);
+	
 	
+	/**
+	 * Piece of code used to set the checkpoint policy of the WAL file each time the database is opened
+	 * - Checkpoint automatically once the WAL file reaches WAL_AUTOCHECKPOINT_PAGES pages
+	 * - Truncate the WAL file to WAL_SIZE_LIMIT bytes after a checkpoint
+	 */
+	private static final Callback walCheckpointCallback = new Callback() {
+		@Override
+		public void onOpen(@NonNull SupportSQLiteDatabase database) {
+			//	These pragmas return a row, so they have to be run as queries
+			database.query("PRAGMA wal_autocheckpoint = " + WAL_AUTOCHECKPOINT_PAGES).close();
+			database.query("PRAGMA journal_size_limit = " + WAL_SIZE_LIMIT).close();
+		}
+	};
 	
 	/**
 	 * Piece of code used to migrate from version 1 to version 2
@@ -233,6 +268,61 @@ public abstract class PlaceDatabase extends RoomDatabase {
 		}
 	};
 	
+	/**
+	 * Piece of code used to migrate from version 5 to version 6
+	 * - Adding geocoding_cache table
+	 */
+	private static final Migration migration5_6 = new Migration(5, 6) {
+		@Override
+		public void migrate(@NonNull SupportSQLiteDatabase database) {
+			database.execSQL("CREATE TABLE IF NOT EXISTS `geocoding_cache` (`queryKey` TEXT NOT NULL, `city` TEXT NOT NULL, `countryCode` TEXT NOT NULL, `latitude` REAL NOT NULL, `longitude` REAL NOT NULL, `timeOffset` INTEGER NOT NULL, `cachedTime` INTEGER NOT NULL, `lastAccessTime` INTEGER NOT NULL, PRIMARY KEY(`queryKey`))");
+		}
+	};
+	
+	/**
+	 * Piece of code used to migrate from version 6 to version 7
+	 * - Adding an index on order in properties table
+	 * - Adding an index on countryCode and city in geolocation table
+	 * - Adding indices on cachedTime and lastAccessTime in geocoding_cache table
+	 */
+	private static final Migration migration6_7 = new Migration(6, 7) {
+		@Override
+		public void migrate(@NonNull SupportSQLiteDatabase database) {
+			database.execSQL("CREATE INDEX IF NOT EXISTS `index_properties_order` ON `properties` (`order`)");
+			database.execSQL("CREATE INDEX IF NOT EXISTS `index_geolocation_countryCode_city` ON `geolocation` (`countryCode`, `city`)");
+			database.execSQL("CREATE INDEX IF NOT EXISTS `index_geocoding_cache_cachedTime` ON `geocoding_cache` (`cachedTime`)");
+			database.execSQL("CREATE INDEX IF NOT EXISTS `index_geocoding_cache_lastAccessTime` ON `geocoding_cache` (`lastAccessTime`)");
+		}
+	};
+	
+	/**
+	 * Piece of code used to migrate from version 7 to version 8
+	 * - Adding weather_observations table
+	 * - Adding an index on period and dt in weather_observations table
+	 */
+	private static final Migration migration7_8 = new Migration(7, 8) {
+		@Override
+		public void migrate(@NonNull SupportSQLiteDatabase database) {
+			database.execSQL("CREATE TABLE IF NOT EXISTS `weather_observations` (`placeId` TEXT NOT NULL, `dt` INTEGER NOT NULL, `period` INTEGER NOT NULL, `samples` INTEGER NOT NULL, `temperature` REAL NOT NULL, `temperatureMinimum` REAL NOT NULL, `temperatureMaximum` REAL NOT NULL, `temperatureFeelsLike` REAL NOT NULL, `humidity` REAL NOT NULL, `pressure` REAL NOT NULL, `windSpeed` REAL NOT NULL, `weatherCode` INTEGER NOT NULL, `aqi` INTEGER, `pm2_5` REAL, `pm10` REAL, PRIMARY KEY(`placeId`, `dt`))");
+			database.execSQL("CREATE INDEX IF NOT EXISTS `index_weather_observations_period_dt` ON `weather_observations` (`period`, `dt`)");
+		}
+	};
+	
+	/**
+	 * Piece of code used to migrate from version 8 to version 9
+	 * - Adding precipitation outlook columns in properties table
+	 */
+	private static final Migration migration8_9 = new Migration(8, 9) {
+		@Override
+		public void migrate(@NonNull SupportSQLiteDatabase database) {
+			database.execSQL("ALTER TABLE properties ADD COLUMN `outlook_precipitation` INTEGER NOT NULL DEFAULT 0");
+			database.execSQL("ALTER TABLE properties ADD COLUMN `outlook_startDt` INTEGER NOT NULL DEFAULT 0");
+			database.execSQL("ALTER TABLE properties ADD COLUMN `outlook_endDt` INTEGER NOT NULL DEFAULT 0");
+			database.execSQL("ALTER TABLE properties ADD COLUMN `outlook_total` REAL NOT NULL DEFAULT 0");
+			database.execSQL("ALTER TABLE properties ADD COLUMN `outlook_maximum` REAL NOT NULL DEFAULT 0");
+		}
+	};
+	
 	/**
 	 * Get the database instance
 	 *
@@ -245,7 +335,11 @@ public abstract class PlaceDatabase extends RoomDatabase {
 				instance.compareAndSet(null,
 						  Room.databaseBuilder(context.getApplicationContext(),
 												PlaceDatabase.class, "appDB")
-									 .addMigrations(migration1_2, migration2_3, migration3_4, migration4_5)
+									 .addMigrations(migration1_2, migration2_3, migration3_4, migration4_5, migration5_6, migration6_7, migration7_8, migration8_9)
+									 .setJournalMode(JournalMode.WRITE_AHEAD_LOGGING)
+									 .setQueryExecutor(readExecutor)
+									 .setTransactionExecutor(writeExecutor)
+									 .addCallback(walCheckpointCallback)
 									 .build());
 				
 			}
@@ -325,154 +419,469 @@ public abstract class PlaceDatabase extends RoomDatabase {
 	public abstract WeatherAlertDAO weatherAlertDAO();
 	
 	/**
-	 * Used to get the list of all places but not as a LiveData.
-	 * This method is synchronous and should not be used in the main thread
+	 * Gets the GeocodingCacheDAO
+	 * Will be automatically generated by ROOM
 	 *
-	 * @return the list of all places
+	 * @return the GeocodingCacheDAO
 	 */
-	public List<Place> getAllPlaces() {
-		List<Properties> properties = propertiesDAO().getProperties();
-		List<Place> placeList = new ArrayList<>();
+	public abstract GeocodingCacheDAO geocodingCacheDAO();
+	
+	/**
+	 * Gets the WidgetPlaceDAO
+	 * Will be automatically generated by ROOM
+	 *
+	 * @return the WidgetPlaceDAO
+	 */
+	public abstract WidgetPlaceDAO widgetPlaceDAO();
+	
+	/**
+	 * Gets the WeatherObservationDAO
+	 * Will be automatically generated by ROOM
+	 *
+	 * @return the WeatherObservationDAO
+	 */
+	public abstract WeatherObservationDAO weatherObservationDAO();
+	
+	/**
+	 * Split a list of place ids in chunks small enough to be bound in a single query
+	 *
+	 * @param placeIds the list of place ids
+	 * @return the list of chunks
+	 */
+	private static List<List<String>> chunkPlaceIds(@NonNull List<String> placeIds) {
+		List<List<String>> chunks = new ArrayList<>();
+		for (int i = 0; i < placeIds.size(); i += MAX_PLACE_IDS_PER_QUERY) {
+			chunks.add(placeIds.subList(i, Math.min(i + MAX_PLACE_IDS_PER_QUERY, placeIds.size())));
+		}
+		return chunks;
+	}
+	
+	/**
+	 * Group rows by place id, keeping their order
+	 *
+	 * @param rows       the rows to group
+	 * @param getPlaceId the function giving the place id of a row
+	 * @param groups     the map in which rows are added
+	 * @param <T>        the type of rows
+	 */
+	private static <T> void groupByPlaceId(@NonNull List<T> rows, @NonNull Function<T, String> getPlaceId, @NonNull Map<String, List<T>> groups) {
+		for (T row : rows) {
+			String placeId = getPlaceId.apply(row);
+			List<T> group = groups.get(placeId);
+			if (group == null) {
+				group = new ArrayList<>();
+				groups.put(placeId, group);
+			}
+			group.add(row);
+		}
+	}
+	
+	/**
+	 * Load every data of some places and assemble them.
+	 * Each table is queried once for all places instead of once per place,
+	 * so loading n places costs 7 queries instead of 7 * n.
+	 * Called in a transaction it gets a consistent view of the database, but transactions share the
+	 * writer connection. Called outside of one, it runs alongside writes on a WAL snapshot per query,
+	 * so a write committed between two queries can be partly seen until the next invalidation.
+	 *
+	 * @param propertiesList the properties of the places to load
+	 * @return the list of places in the same order as their properties
+	 */
+	List<Place> loadPlaces(@NonNull List<Properties> propertiesList) {
+		return loadPlaces(propertiesList, true);
+	}
+	
+	/**
+	 * Load some places without their minutely, hourly and daily forecasts,
+	 * which are the largest part of a place and only needed when shown.
+	 * Forecasts are loaded from the database on first access.
+	 * Loading n places costs 5 queries.
+	 *
+	 * @param propertiesList the properties of the places to load
+	 * @return the list of places in the same order as their properties
+	 * @see Place#loadSections(Place.Section...)
+	 */
+	List<Place> loadPlacesWithoutForecasts(@NonNull List<Properties> propertiesList) {
+		return loadPlaces(propertiesList, false);
+	}
+	
+	/**
+	 * Load some places with or without their forecasts
+	 *
+	 * @param propertiesList the properties of the places to load
+	 * @param withForecasts  true to load forecasts now, false to load them on first access
+	 * @return the list of places in the same order as their properties
+	 */
+	private List<Place> loadPlaces(@NonNull List<Properties> propertiesList, boolean withForecasts) {
+		List<Place> placeList = new ArrayList<>(propertiesList.size());
+		if (propertiesList.isEmpty()) return placeList;
 		
-		if (!properties.isEmpty()) {
-			for (Properties p : properties) {
-				String id = p.getPlaceId();
-				Place place = new Place(geolocationDAO().getFromPlaceID(id),
-						  p,
-						  currentWeatherDAO().getFromPlaceID(id),
-						  airQualityDAO().getFromPlaceID(id),
-						  minutelyWeatherForecastDAO().getFromPlaceID(id),
-						  hourlyWeatherForecastDAO().getFromPlaceID(id),
-						  dailyWeatherForecastDAO().getFromPlaceID(id),
-						  weatherAlertDAO().getFromPlaceID(id));
-				placeList.add(place);
+		List<String> placeIds = new ArrayList<>(propertiesList.size());
+		for (Properties properties : propertiesList) {
+			placeIds.add(properties.getPlaceId());
+		}
+		
+		Map<String, Geolocation> geolocations = new HashMap<>();
+		Map<String, CurrentWeather> currentWeathers = new HashMap<>();
+		Map<String, AirQuality> airQualities = new HashMap<>();
+		Map<String, List<MinutelyWeatherForecast>> minutelyWeatherForecasts = new HashMap<>();
+		Map<String, List<HourlyWeatherForecast>> hourlyWeatherForecasts = new HashMap<>();
+		Map<String, List<DailyWeatherForecast>> dailyWeatherForecasts = new HashMap<>();
+		Map<String, List<WeatherAlert>> weatherAlerts = new HashMap<>();
+		
+		for (List<String> chunk : chunkPlaceIds(placeIds)) {
+			for (Geolocation geolocation : geolocationDAO().getFromPlaceIDs(chunk)) {
+				geolocations.put(geolocation.getPlaceId(), geolocation);
+			}
+			for (CurrentWeather currentWeather : currentWeatherDAO().getFromPlaceIDs(chunk)) {
+				currentWeathers.put(currentWeather.getPlaceId(), currentWeather);
 			}
+			for (AirQuality airQuality : airQualityDAO().getFromPlaceIDs(chunk)) {
+				airQualities.put(airQuality.getPlaceId(), airQuality);
+			}
+			if (withForecasts) {
+				groupByPlaceId(minutelyWeatherForecastDAO().getFromPlaceIDs(chunk), MinutelyWeatherForecast::getPlaceId, minutelyWeatherForecasts);
+				groupByPlaceId(hourlyWeatherForecastDAO().getFromPlaceIDs(chunk), HourlyWeatherForecast::getPlaceId, hourlyWeatherForecasts);
+				groupByPlaceId(dailyWeatherForecastDAO().getFromPlaceIDs(chunk), DailyWeatherForecast::getPlaceId, dailyWeatherForecasts);
+			}
+			groupByPlaceId(weatherAlertDAO().getFromPlaceIDs(chunk), WeatherAlert::getPlaceId, weatherAlerts);
+		}
+		
+		for (Properties properties : propertiesList) {
+			String id = properties.getPlaceId();
+			if (!withForecasts) {
+				placeList.add(new Place(geolocations.get(id),
+						  properties,
+						  currentWeathers.get(id),
+						  airQualities.get(id),
+						  getOrEmpty(weatherAlerts, id),
+						  this));
+				continue;
+			}
+			placeList.add(new Place(geolocations.get(id),
+					  properties,
+					  currentWeathers.get(id),
+					  airQualities.get(id),
+					  getOrEmpty(minutelyWeatherForecasts, id),
+					  getOrEmpty(hourlyWeatherForecasts, id),
+					  getOrEmpty(dailyWeatherForecasts, id),
+					  getOrEmpty(weatherAlerts, id)));
 		}
 		return placeList;
 	}
 	
 	/**
-	 * Used to get a LiveData that will be updated when the database is updated
+	 * Get the rows of a place or an empty list if it has none, like a query would
+	 *
+	 * @param groups  the rows grouped by place id
+	 * @param placeId the id of the place
+	 * @param <T>     the type of rows
+	 * @return the rows of the place
+	 */
+	private static <T> List<T> getOrEmpty(@NonNull Map<String, List<T>> groups, String placeId) {
+		List<T> group = groups.get(placeId);
+		return group == null ? new ArrayList<>() : group;
+	}
+	
+	/**
+	 * Load a place and all its data
+	 *
+	 * @param properties the properties of the place, null if it doesn't exist
+	 * @return the place or null if it doesn't exist
+	 */
+	@Nullable
+	private Place loadPlace(@Nullable Properties properties) {
+		if (properties == null) return null;
+		return loadPlaces(Collections.singletonList(properties)).get(0);
+	}
+	
+	/**
+	 * Used to get the list of all places but not as a LiveData.
+	 * This method is synchronous and should not be used in the main thread
+	 *
+	 * @return the list of all places
+	 */
+	public List<Place> getAllPlaces() {
+		return runInTransaction(() -> loadPlaces(propertiesDAO().getProperties()));
+	}
+	
+	/**
+	 * Used to get what widgets show of a place with a single narrow query.
+	 * This method is synchronous and should not be used in the main thread
+	 *
+	 * @param id    the id of the place
+	 * @param hours the number of hourly forecasts after the current weather to get
+	 * @return the widget projection of the place or null if it doesn't exist
+	 */
+	@Nullable
+	public WidgetPlace getWidgetPlace(String id, int hours) {
+		return WidgetPlace.fromRows(widgetPlaceDAO().getFromPlaceID(id, hours));
+	}
+	
+	/**
+	 * Used to get the archived observations of a place in a time range, in chronological order.
+	 * Hourly observations and daily aggregates are both returned, their period tells them apart.
+	 * This method is synchronous and should not be used in the main thread
+	 *
+	 * @param id   the id of the place
+	 * @param from the start of the range in milliseconds, included
+	 * @param to   the end of the range in milliseconds, excluded
+	 * @return the observations of the place in the range
+	 */
+	public List<WeatherObservation> getObservations(String id, long from, long to) {
+		return weatherObservationDAO().getFromPlaceIDBetween(id, from, to);
+	}
+	
+	/**
+	 * Gets the tracker keeping places up to date with the database
+	 *
+	 * @return the place change tracker
+	 */
+	public PlaceChangeTracker getPlaceChangeTracker() {
+		if (placeChangeTracker.get() == null)
+			placeChangeTracker.compareAndSet(null, new PlaceChangeTracker(this, readExecutor));
+		return placeChangeTracker.get();
+	}
+	
+	/**
+	 * Used to get a LiveData that will be updated when the database is updated.
+	 * Only places that changed are reloaded, unchanged places keep the same instance.
 	 *
 	 * @return the LiveData that will contains the list of all places
 	 */
 	public LiveData<List<Place>> getAllPlacesLiveData() {
-		databaseExecutor.execute(() -> allPlacesMutableLiveData.postValue(getAllPlaces()));
-		return allPlacesMutableLiveData;
+		return getPlaceChangeTracker().getPlacesLiveData();
 	}
 	
 	/**
-	 * Used to get a LiveData of a place with a specific order
+	 * Used to get a LiveData of a place at a specific position
 	 *
 	 * @return the LiveData containing the place
 	 * @apiNote The provided livedata will first be set to null and then to the requested place
 	 */
-	public LiveData<Place> getPlaceFromOrderLiveData(int order) {
+	public LiveData<Place> getPlaceFromPositionLiveData(int position) {
 		MutableLiveData<Place> mutableLiveData = new MutableLiveData<>(null);
-		databaseExecutor.execute(() -> {
-			String id = propertiesDAO().getIDFromPlaceOrder(order);
-			Place place = new Place(geolocationDAO().getFromPlaceID(id),
-					  propertiesDAO().getFromPlaceId(id),
-					  currentWeatherDAO().getFromPlaceID(id),
-					  airQualityDAO().getFromPlaceID(id),
-					  minutelyWeatherForecastDAO().getFromPlaceID(id),
-					  hourlyWeatherForecastDAO().getFromPlaceID(id),
-					  dailyWeatherForecastDAO().getFromPlaceID(id),
-					  weatherAlertDAO().getFromPlaceID(id));
-			mutableLiveData.postValue(place);
-		});
+		readExecutor.execute(() -> mutableLiveData.postValue(loadPlace(propertiesDAO().getFromPlacePosition(position))));
 		return mutableLiveData;
 	}
 	
 	/**
-	 * Used to get a LiveData of a place with a specific placeId
+	 * Used to get a LiveData of a place with a specific placeId.
+	 * It is only updated when this place changes, and set to null when it is deleted.
 	 *
 	 * @return the LiveData containing the requested place
 	 * @apiNote The provided livedata will first be set to null and then to the requested place
 	 */
 	public LiveData<Place> getPlaceFromPlaceIdLiveData(String id) {
-		MutableLiveData<Place> mutableLiveData = new MutableLiveData<>(null);
-		databaseExecutor.execute(() -> {
-			Place place = new Place(geolocationDAO().getFromPlaceID(id),
-					  propertiesDAO().getFromPlaceId(id),
-					  currentWeatherDAO().getFromPlaceID(id),
-					  airQualityDAO().getFromPlaceID(id),
-					  minutelyWeatherForecastDAO().getFromPlaceID(id),
-					  hourlyWeatherForecastDAO().getFromPlaceID(id),
-					  dailyWeatherForecastDAO().getFromPlaceID(id),
-					  weatherAlertDAO().getFromPlaceID(id));
-			mutableLiveData.postValue(place);
+		return getPlaceChangeTracker().getPlaceLiveData(id);
+	}
+	
+	/**
+	 * Insert a place in the database
+	 *
+	 * @param place    the place to insert
+	 * @param callback the callback to call when the place is inserted
+	 */
+	public void insertPlace(@NonNull Place place, @Nullable ParameterizedRunnable<Place> callback) {
+		writeExecutor.execute(() -> {
+			boolean crowded = runInTransaction(() -> insertPlaceRows(place, callback));
+			if (crowded) renumberPlacesLater();
 		});
-		return mutableLiveData;
 	}
 	
 	/**
-	 * Insert minutely weather forecasts in the database
+	 * Write every row of a new place after the last one.
+	 * It has to be called in a transaction.
 	 *
-	 * @param minutelyWeatherForecasts the list of minutely weather forecasts to insert
+	 * @param place    the place to insert
+	 * @param callback the callback to call when the place is inserted
+	 * @return true if there is no room left after the inserted place
 	 */
-	private void insertMinutelyWeatherForecasts(@NonNull List<MinutelyWeatherForecast> minutelyWeatherForecasts) {
-		for (MinutelyWeatherForecast minutelyWeatherForecast : minutelyWeatherForecasts) {
-			minutelyWeatherForecastDAO().insert(minutelyWeatherForecast);
+	private boolean insertPlaceRows(@NonNull Place place, @Nullable ParameterizedRunnable<Place> callback) {
+		Integer order = getOrderBetween(propertiesDAO().getMaxOrder(), null);
+		if (order == null) {
+			renumberPlaces();
+			order = getOrderBetween(propertiesDAO().getMaxOrder(), null);
 		}
+		Place insertedPlace = place.toBuilder().setOrder(order).build();
+		
+		propertiesDAO().insert(insertedPlace.getProperties());
+		geolocationDAO().insert(place.getGeolocation());
+		currentWeatherDAO().insert(place.getCurrentWeather());
+		airQualityDAO().insert(place.getAirQuality());
+		
+		minutelyWeatherForecastDAO().insertAll(place.getMinutelyWeatherForecastList());
+		hourlyWeatherForecastDAO().insertAll(place.getHourlyWeatherForecastList());
+		dailyWeatherForecastDAO().insertAll(place.getDailyWeatherForecastList());
+		weatherAlertDAO().insertAll(place.getWeatherAlertsList());
+		
+		archiveObservation(place);
+		
+		if (callback != null) callback.run(insertedPlace);
+		return getOrderBetween(order, null) == null;
 	}
 	
 	/**
-	 * Insert hourly weather forecasts in the database
+	 * Update the forecasts and alerts of a place by only writing what differs from the database.
+	 * Rows whose key still exists are updated, new time slots are inserted and only the slots
+	 * that rolled out of the forecast window are deleted.
+	 * Sections that were never loaded can't have changed, so they aren't written.
+	 * It has to be called in a transaction.
 	 *
-	 * @param hourlyWeatherForecasts the list of hourly weather forecasts to insert
+	 * @param place the place whose forecasts and alerts are written
 	 */
-	private void insertHourlyWeatherForecasts(@NonNull List<HourlyWeatherForecast> hourlyWeatherForecasts) {
-		for (HourlyWeatherForecast hourlyWeatherForecast : hourlyWeatherForecasts) {
-			hourlyWeatherForecastDAO().insert(hourlyWeatherForecast);
+	void upsertForecasts(@NonNull Place place) {
+		String placeID = place.getProperties().getPlaceId();
+		
+		//	An empty list of dts gives NOT IN (), which SQLite evaluates to true for every row
+		if (place.isSectionLoaded(Place.Section.MINUTELY)) {
+			List<MinutelyWeatherForecast> minutelyWeatherForecasts = place.getMinutelyWeatherForecastList();
+			List<Long> minutelyDts = new ArrayList<>(minutelyWeatherForecasts.size());
+			for (MinutelyWeatherForecast minutelyWeatherForecast : minutelyWeatherForecasts) {
+				minutelyDts.add(minutelyWeatherForecast.getDt());
+			}
+			minutelyWeatherForecastDAO().deleteFromPlaceIDExcept(placeID, minutelyDts);
+			minutelyWeatherForecastDAO().upsertAll(minutelyWeatherForecasts);
 		}
+		
+		if (place.isSectionLoaded(Place.Section.HOURLY)) {
+			List<HourlyWeatherForecast> hourlyWeatherForecasts = place.getHourlyWeatherForecastList();
+			List<Long> hourlyDts = new ArrayList<>(hourlyWeatherForecasts.size());
+			for (HourlyWeatherForecast hourlyWeatherForecast : hourlyWeatherForecasts) {
+				hourlyDts.add(hourlyWeatherForecast.getDt());
+			}
+			hourlyWeatherForecastDAO().deleteFromPlaceIDExcept(placeID, hourlyDts);
+			hourlyWeatherForecastDAO().upsertAll(hourlyWeatherForecasts);
+		}
+		
+		if (place.isSectionLoaded(Place.Section.DAILY)) {
+			List<DailyWeatherForecast> dailyWeatherForecasts = place.getDailyWeatherForecastList();
+			List<Long> dailyDts = new ArrayList<>(dailyWeatherForecasts.size());
+			for (DailyWeatherForecast dailyWeatherForecast : dailyWeatherForecasts) {
+				dailyDts.add(dailyWeatherForecast.getDt());
+			}
+			dailyWeatherForecastDAO().deleteFromPlaceIDExcept(placeID, dailyDts);
+			dailyWeatherForecastDAO().upsertAll(dailyWeatherForecasts);
+		}
+		
+		//	Alerts have a composite key that can't be filtered in a single query,
+		//	but a place only has a few of them so they are compared in memory
+		List<WeatherAlert> weatherAlerts = place.getWeatherAlertsList();
+		Set<String> weatherAlertKeys = new HashSet<>();
+		for (WeatherAlert weatherAlert : weatherAlerts) {
+			weatherAlertKeys.add(getWeatherAlertKey(weatherAlert));
+		}
+		List<WeatherAlert> outdatedWeatherAlerts = new ArrayList<>();
+		for (WeatherAlert weatherAlert : weatherAlertDAO().getFromPlaceID(placeID)) {
+			if (!weatherAlertKeys.contains(getWeatherAlertKey(weatherAlert)))
+				outdatedWeatherAlerts.add(weatherAlert);
+		}
+		if (!outdatedWeatherAlerts.isEmpty()) weatherAlertDAO().deleteAll(outdatedWeatherAlerts);
+		weatherAlertDAO().upsertAll(weatherAlerts);
 	}
 	
 	/**
-	 * Insert daily weather forecasts in the database
+	 * Get the primary key of a weather alert without its place id
 	 *
-	 * @param dailyWeatherForecasts the list of daily weather forecasts to insert
+	 * @param weatherAlert the weather alert
+	 * @return the key of the weather alert
 	 */
-	private void insertDailyWeatherForecasts(@NonNull List<DailyWeatherForecast> dailyWeatherForecasts) {
-		for (DailyWeatherForecast dailyWeatherForecast : dailyWeatherForecasts) {
-			dailyWeatherForecastDAO().insert(dailyWeatherForecast);
-		}
+	private static String getWeatherAlertKey(@NonNull WeatherAlert weatherAlert) {
+		return weatherAlert.getSender() + '\0' + weatherAlert.getStartDt() + '\0' + weatherAlert.getEvent();
 	}
 	
 	/**
-	 * Insert weather alerts in the database
+	 * Archive the current weather and air quality of a place as the observation of their hour.
+	 * A newer snapshot of the same hour replaces the previous one.
+	 * It has to be called in a transaction.
 	 *
-	 * @param weatherAlerts the list of weather alerts to insert
+	 * @param place the place whose current weather is archived
 	 */
-	private void insertWeatherAlerts(@NonNull List<WeatherAlert> weatherAlerts) {
-		for (WeatherAlert weatherAlert : weatherAlerts) {
-			weatherAlertDAO().insert(weatherAlert);
-		}
+	void archiveObservation(@NonNull Place place) {
+		CurrentWeather currentWeather = place.getCurrentWeather();
+		//	Never fetched, there is nothing to archive
+		if (currentWeather.getDt() <= 0) return;
+		
+		weatherObservationDAO().upsert(WeatherObservation.fromSnapshot(place.getProperties().getPlaceId(),
+				  currentWeather,
+				  place.getAirQuality()));
 	}
 	
 	/**
-	 * Insert a place in the database
+	 * Compact the archive of observations following a retention policy.
+	 * Hourly observations of local days that ended before the hourly limit are merged
+	 * into a daily aggregate, with the aggregate of that day if there is already one.
+	 * Days that are not over yet are left as they are until a later compaction.
+	 * Daily aggregates before the daily limit are then deleted.
 	 *
-	 * @param place    the place to insert
-	 * @param callback the callback to call when the place is inserted
+	 * @param policy   the retention policy
+	 * @param now      the current time in milliseconds
+	 * @param callback the callback to call when the compaction is over, even if it failed
 	 */
-	public void insertPlace(@NonNull Place place, @Nullable ParameterizedRunnable<Place> callback) {
-		databaseExecutor.execute(() -> runInTransaction(() -> {
-			int order = placeDAO().getPlacesCount();
-			place.getProperties().setOrder(order);
-			
-			propertiesDAO().insert(place.getProperties());
-			geolocationDAO().insert(place.getGeolocation());
-			currentWeatherDAO().insert(place.getCurrentWeather());
-			airQualityDAO().insert(place.getAirQuality());
-			
-			insertMinutelyWeatherForecasts(place.getMinutelyWeatherForecastList());
-			insertHourlyWeatherForecasts(place.getHourlyWeatherForecastList());
-			insertDailyWeatherForecasts(place.getDailyWeatherForecastList());
-			insertWeatherAlerts(place.getWeatherAlertsList());
+	public void compactObservations(@NonNull ObservationRetentionPolicy policy, long now, @Nullable Runnable callback) {
+		writeExecutor.execute(() -> {
+			//	The callback is always called so that nobody waits forever for a failed compaction
+			try {
+				runInTransaction(() -> compactObservations(policy, now));
+			} finally {
+				if (callback != null) callback.run();
+			}
+		});
+	}
+	
+	/**
+	 * Compact the archive of observations following a retention policy.
+	 * It has to be called in a transaction.
+	 *
+	 * @param policy the retention policy
+	 * @param now    the current time in milliseconds
+	 */
+	void compactObservations(@NonNull ObservationRetentionPolicy policy, long now) {
+		long hourlyLimit = policy.getHourlyLimit(now);
+		
+		Map<String, List<WeatherObservation>> hourlyObservationsByPlace = new HashMap<>();
+		groupByPlaceId(weatherObservationDAO().getWithPeriodBefore(WeatherObservation.HOUR, hourlyLimit),
+				  WeatherObservation::getPlaceId,
+				  hourlyObservationsByPlace);
+		
+		if (!hourlyObservationsByPlace.isEmpty()) {
+			Map<String, Integer> timeOffsets = new HashMap<>();
+			for (Properties properties : propertiesDAO().getProperties()) {
+				timeOffsets.put(properties.getPlaceId(), properties.getTimeOffset());
+			}
 			
-			if (callback != null) callback.run(place);
-		}));
+			for (Map.Entry<String, List<WeatherObservation>> entry : hourlyObservationsByPlace.entrySet()) {
+				String placeId = entry.getKey();
+				Integer timeOffset = timeOffsets.get(placeId);
+				
+				//	Observations are in chronological order, so are the days
+				Map<Long, List<WeatherObservation>> observationsByDay = new LinkedHashMap<>();
+				for (WeatherObservation observation : entry.getValue()) {
+					long dayStart = WeatherObservation.getDayStart(observation.getDt(), timeOffset == null ? 0 : timeOffset);
+					List<WeatherObservation> dayObservations = observationsByDay.get(dayStart);
+					if (dayObservations == null) {
+						dayObservations = new ArrayList<>();
+						observationsByDay.put(dayStart, dayObservations);
+					}
+					dayObservations.add(observation);
+				}
+				
+				for (Map.Entry<Long, List<WeatherObservation>> day : observationsByDay.entrySet()) {
+					long dayStart = day.getKey();
+					long dayEnd = dayStart + WeatherObservation.DAY;
+					if (dayEnd > hourlyLimit) continue;
+					
+					List<WeatherObservation> dayObservations = new ArrayList<>(weatherObservationDAO().getFromPlaceIDWithPeriodBetween(placeId, WeatherObservation.DAY, dayStart, dayEnd));
+					dayObservations.addAll(day.getValue());
+					
+					//	The daily aggregate can have the same key as the first hour of the day, so hours go first
+					weatherObservationDAO().deleteFromPlaceIDWithPeriodBetween(placeId, WeatherObservation.HOUR, dayStart, dayEnd);
+					weatherObservationDAO().upsert(WeatherObservation.aggregate(placeId, dayStart, dayObservations));
+				}
+			}
+		}
+		
+		weatherObservationDAO().deleteWithPeriodBefore(WeatherObservation.DAY, policy.getDailyLimit(now));
 	}
 	
 	/**
@@ -482,50 +891,67 @@ public abstract class PlaceDatabase extends RoomDatabase {
 	 * @param callback the callback to call when the place is updated
 	 */
 	public void updatePlace(@NonNull Place place, @Nullable ParameterizedRunnable<Place> callback) {
-		databaseExecutor.execute(() -> runInTransaction(() -> {
-			propertiesDAO().update(place.getProperties());
-			geolocationDAO().update(place.getGeolocation());
-			currentWeatherDAO().update(place.getCurrentWeather());
-			airQualityDAO().update(place.getAirQuality());
-			
-			String placeID = place.getProperties().getPlaceId();
-			
-			minutelyWeatherForecastDAO().deleteFromPlaceID(placeID);
-			hourlyWeatherForecastDAO().deleteFromPlaceID(placeID);
-			dailyWeatherForecastDAO().deleteFromPlaceID(placeID);
-			weatherAlertDAO().deleteFromPlaceID(placeID);
-			
-			insertMinutelyWeatherForecasts(place.getMinutelyWeatherForecastList());
-			insertHourlyWeatherForecasts(place.getHourlyWeatherForecastList());
-			insertDailyWeatherForecasts(place.getDailyWeatherForecastList());
-			insertWeatherAlerts(place.getWeatherAlertsList());
-			
-			if (callback != null) callback.run(place);
+		writeExecutor.execute(() -> runInTransaction(() -> {
+			if (updatePlaceRows(place) && callback != null) callback.run(place);
 		}));
 	}
 	
+	/**
+	 * Write every row of an existing place.
+	 * Nothing is written if the place has been deleted since it was read.
+	 * It has to be called in a transaction.
+	 *
+	 * @param place the place to update
+	 * @return true if the place still exists and has been updated
+	 */
+	boolean updatePlaceRows(@NonNull Place place) {
+		//	The place may have been moved since it was read, its order in memory can't be trusted
+		Properties properties = place.getProperties();
+		Integer order = propertiesDAO().getOrderFromPlaceID(properties.getPlaceId());
+		if (order == null) return false;
+		
+		if (order != properties.getOrder()) properties = properties.withOrder(order);
+		propertiesDAO().update(properties);
+		geolocationDAO().update(place.getGeolocation());
+		currentWeatherDAO().update(place.getCurrentWeather());
+		airQualityDAO().update(place.getAirQuality());
+		
+		upsertForecasts(place);
+		archiveObservation(place);
+		return true;
+	}
+	
+	/**
+	 * Delete every row of a place.
+	 * Other places keep their order, gaps in orders don't matter.
+	 * It has to be called in a transaction.
+	 *
+	 * @param placeID the id of the place to delete
+	 */
+	private void deletePlaceFromID(String placeID) {
+		propertiesDAO().deleteFromPlaceID(placeID);
+		geolocationDAO().deleteFromPlaceID(placeID);
+		currentWeatherDAO().deleteFromPlaceID(placeID);
+		airQualityDAO().deleteFromPlaceID(placeID);
+		minutelyWeatherForecastDAO().deleteFromPlaceID(placeID);
+		hourlyWeatherForecastDAO().deleteFromPlaceID(placeID);
+		dailyWeatherForecastDAO().deleteFromPlaceID(placeID);
+		weatherAlertDAO().deleteFromPlaceID(placeID);
+		weatherObservationDAO().deleteFromPlaceID(placeID);
+	}
+	
 	/**
 	 * Delete a place in the database
 	 *
-	 * @param order    the order of the place to delete
+	 * @param position the position of the place to delete
 	 * @param callback the callback to call when the place is deleted
 	 */
-	public void deletePlace(int order, @Nullable ParameterizedRunnable<Integer> callback) {
-		databaseExecutor.execute(() -> runInTransaction(() -> {
-			String placeID = propertiesDAO().getIDFromPlaceOrder(order);
-			
-			propertiesDAO().deleteFromPlaceID(placeID);
-			geolocationDAO().deleteFromPlaceID(placeID);
-			currentWeatherDAO().deleteFromPlaceID(placeID);
-			airQualityDAO().deleteFromPlaceID(placeID);
-			minutelyWeatherForecastDAO().deleteFromPlaceID(placeID);
-			hourlyWeatherForecastDAO().deleteFromPlaceID(placeID);
-			dailyWeatherForecastDAO().deleteFromPlaceID(placeID);
-			weatherAlertDAO().deleteFromPlaceID(placeID);
+	public void deletePlace(int position, @Nullable ParameterizedRunnable<Integer> callback) {
+		writeExecutor.execute(() -> runInTransaction(() -> {
+			String placeID = propertiesDAO().getIDFromPlacePosition(position);
+			if (placeID != null) deletePlaceFromID(placeID);
 			
-			propertiesDAO().updatePlaceOrdersAfterDeletion(order);
-			
-			if (callback != null) callback.run(order);
+			if (callback != null) callback.run(position);
 		}));
 	}
 	
@@ -533,54 +959,163 @@ public abstract class PlaceDatabase extends RoomDatabase {
 	 * Delete a place in the database
 	 *
 	 * @param place    the place to delete
-	 * @param callback the callback to call when the place is deleted
+	 * @param callback the callback to call with the id of the place when it is deleted
 	 */
-	public void deletePlace(@NonNull Place place, @Nullable ParameterizedRunnable<Integer> callback) {
-		deletePlace(place.getProperties().getOrder(), callback);
+	public void deletePlace(@NonNull Place place, @Nullable ParameterizedRunnable<String> callback) {
+		String placeID = place.getProperties().getPlaceId();
+		writeExecutor.execute(() -> runInTransaction(() -> {
+			deletePlaceFromID(placeID);
+			
+			if (callback != null) callback.run(placeID);
+		}));
+	}
+	
+	/**
+	 * Get an order between two others, as far as possible from both
+	 *
+	 * @param lower the order before, null if there is none
+	 * @param upper the order after, null if there is none
+	 * @return the order or null if there is no room left between both orders
+	 */
+	@Nullable
+	static Integer getOrderBetween(@Nullable Integer lower, @Nullable Integer upper) {
+		long order;
+		if (lower == null && upper == null) order = 0;
+		else if (lower == null) order = (long) upper - ORDER_GAP;
+		else if (upper == null) order = (long) lower + ORDER_GAP;
+		else if ((long) upper - lower < 2) return null;
+		else order = ((long) lower + upper) / 2;
+		
+		if (order < Integer.MIN_VALUE || order > Integer.MAX_VALUE) return null;
+		return (int) order;
 	}
 	
 	/**
-	 * Move a place to a new order
+	 * Get the orders of the places surrounding a place once moved to a new position.
+	 * It has to be called in a transaction.
 	 *
-	 * @param crtOrder the current order of the place
-	 * @param newOrder the new order of the place
+	 * @param crtPosition the current position of the place
+	 * @param newPosition the new position of the place
+	 * @return the orders before and after the new position, null when there is no place on this side
 	 */
-	public void movePlace(int crtOrder, int newOrder, @Nullable Runnable callback) {
+	@NonNull
+	private Integer[] getSurroundingOrders(int crtPosition, int newPosition) {
+		//	Positions of the places surrounding the new position, in the list still holding the moved place
+		int lowerPosition = crtPosition < newPosition ? newPosition : newPosition - 1;
+		List<Integer> orders = propertiesDAO().getOrdersFromPlacePosition(Math.max(lowerPosition, 0), 2);
+		
+		if (lowerPosition < 0) return new Integer[]{null, orders.get(0)};
+		return new Integer[]{orders.get(0), orders.size() > 1 ? orders.get(1) : null};
+	}
+	
+	/**
+	 * Spread the orders of every place again with a full gap between each of them.
+	 * Writes are renumbering places in their own transaction as soon as there is no room left next
+	 * to a place they ordered, so moves and insertions only do it when one was queued before it ran.
+	 * It has to be called in a transaction.
+	 */
+	void renumberPlaces() {
+		List<String> placeIDs = propertiesDAO().getAllIDs();
+		for (int i = 0; i < placeIDs.size(); i++) {
+			propertiesDAO().updateOrderFromPlaceID(placeIDs.get(i), i * ORDER_GAP);
+		}
+	}
+	
+	/**
+	 * Renumber places in a transaction of its own,
+	 * run by the writer after the write that asked for it is committed.
+	 */
+	private void renumberPlacesLater() {
+		writeExecutor.execute(() -> runInTransaction(this::renumberPlaces));
+	}
+	
+	/**
+	 * Tell if there is no room left on one side of an order
+	 *
+	 * @param lower the order before, null if there is none
+	 * @param order the order
+	 * @param upper the order after, null if there is none
+	 * @return true if places have to be renumbered before another place can be put next to this order
+	 */
+	static boolean isCrowded(@Nullable Integer lower, int order, @Nullable Integer upper) {
+		return getOrderBetween(lower, order) == null || getOrderBetween(order, upper) == null;
+	}
+	
+	/**
+	 * Move a place to a new position.
+	 * The snapshot of the place change tracker is patched right away,
+	 * then only the order of the moved place is written.
+	 *
+	 * @param crtPosition the current position of the place
+	 * @param newPosition the new position of the place
+	 */
+	public void movePlace(int crtPosition, int newPosition, @Nullable Runnable callback) {
 		//  Nothing to be done in this case
-		if (crtOrder == newOrder) return;
+		if (crtPosition == newPosition) return;
 		
-		databaseExecutor.execute(() -> runInTransaction(() -> {
-			int nbOfPlaces = placeDAO().getPlacesCount();
-			if (crtOrder >= nbOfPlaces)
-				throw new IllegalArgumentException("Given current order number doesn't exist");
-			if (newOrder >= nbOfPlaces)
-				throw new IllegalArgumentException("Given new order number doesn't exist");
-			
-			String placeID = propertiesDAO().getIDFromPlaceOrder(crtOrder);
-			
-			if (crtOrder < newOrder) propertiesDAO().updatePlaceOrdersMvEnd(crtOrder, newOrder);
-			else propertiesDAO().updatePlaceOrdersMvBgn(crtOrder, newOrder);
-			
-			propertiesDAO().updateOrderFromPlaceID(placeID, newOrder);
-			
-			if (callback != null)
-				new Thread(callback).start();
-		}));
+		PlaceChangeTracker tracker = placeChangeTracker.get();
+		if (tracker != null) tracker.movePlace(crtPosition, newPosition);
+		
+		writeExecutor.execute(() -> {
+			try {
+				boolean crowded = runInTransaction(() -> {
+					boolean needsRenumbering = movePlaceOrder(crtPosition, newPosition);
+					
+					if (callback != null)
+						new Thread(callback).start();
+					return needsRenumbering;
+				});
+				if (crowded) renumberPlacesLater();
+			} finally {
+				if (tracker != null) tracker.onMoveWritten();
+			}
+		});
+	}
+	
+	/**
+	 * Give a place the order of its new position.
+	 * It has to be called in a transaction.
+	 *
+	 * @param crtPosition the current position of the place
+	 * @param newPosition the new position of the place
+	 * @return true if there is no room left next to the moved place
+	 */
+	boolean movePlaceOrder(int crtPosition, int newPosition) {
+		int nbOfPlaces = placeDAO().getPlacesCount();
+		if (crtPosition >= nbOfPlaces)
+			throw new IllegalArgumentException("Given current position doesn't exist");
+		if (newPosition >= nbOfPlaces)
+			throw new IllegalArgumentException("Given new position doesn't exist");
+		
+		String placeID = propertiesDAO().getIDFromPlacePosition(crtPosition);
+		
+		Integer[] surroundingOrders = getSurroundingOrders(crtPosition, newPosition);
+		Integer newOrder = getOrderBetween(surroundingOrders[0], surroundingOrders[1]);
+		if (newOrder == null) {
+			renumberPlaces();
+			surroundingOrders = getSurroundingOrders(crtPosition, newPosition);
+			newOrder = getOrderBetween(surroundingOrders[0], surroundingOrders[1]);
+		}
+		
+		propertiesDAO().updateOrderFromPlaceID(placeID, newOrder);
+		return isCrowded(surroundingOrders[0], newOrder, surroundingOrders[1]);
 	}
 	
 	/**
-	 * Swap the places of two orders
+	 * Swap the places of two positions
 	 *
-	 * @param placeOrderA the order of the first place
-	 * @param placeOrderB the order of the second place
+	 * @param placePositionA the position of the first place
+	 * @param placePositionB the position of the second place
 	 */
-	public void swapPlaces(int placeOrderA, int placeOrderB) {
-		databaseExecutor.execute(() -> runInTransaction(() -> {
-			String placeAId = propertiesDAO().getIDFromPlaceOrder(placeOrderA);
-			String placeBId = propertiesDAO().getIDFromPlaceOrder(placeOrderB);
+	public void swapPlaces(int placePositionA, int placePositionB) {
+		writeExecutor.execute(() -> runInTransaction(() -> {
+			String placeAId = propertiesDAO().getIDFromPlacePosition(placePositionA);
+			String placeBId = propertiesDAO().getIDFromPlacePosition(placePositionB);
+			int placeAOrder = propertiesDAO().getOrderFromPlaceID(placeAId);
+			int placeBOrder = propertiesDAO().getOrderFromPlaceID(placeBId);
 			
-			propertiesDAO().updateOrderFromPlaceID(placeAId, placeOrderB);
-			propertiesDAO().updateOrderFromPlaceID(placeBId, placeOrderA);
+			propertiesDAO().updateOrderFromPlaceID(placeAId, placeBOrder);
+			propertiesDAO().updateOrderFromPlaceID(placeBId, placeAOrder);
 		}));
 	}
 }
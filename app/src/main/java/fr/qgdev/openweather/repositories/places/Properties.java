@@ -21,26 +21,32 @@
 package fr.qgdev.openweather.repositories.places;
 
 import androidx.annotation.NonNull;
+import androidx.room.Embedded;
 import androidx.room.Entity;
 import androidx.room.Ignore;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
 import java.util.Locale;
 import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 
+import fr.qgdev.openweather.metrics.PrecipitationOutlook;
+
 /**
  * Properties
  * <p>
  *    A data holder class for Properties data.
  *    It's used to store the properties of a place.
  *    Like everything related to the last update, the creation time, the time offset and the order.
+ *    It also keeps the precipitation outlook of the place, so it is read without the minutely forecasts.
  * </p>
  *
  * @author Quentin GOMES DOS REIS
  * @version 1
  */
-@Entity(tableName = "properties")
+@Entity(tableName = "properties",
+		  indices = {@Index(value = {"order"})})
 public class Properties {
 	
 	private final long creationTime;
@@ -48,15 +54,18 @@ public class Properties {
 	@NonNull
 	@PrimaryKey(autoGenerate = false)
 	private final String placeId;
-	private long lastSuccessfulWeatherUpdateTime;
-	private long lastSuccessfulAirQualityUpdateTime;
-	private long lastWeatherUpdateAttemptTime;
-	private long lastAirQualityUpdateAttemptTime;
-	private long lastAvailableWeatherDataTime;
-	private long lastAvailableAirQualityDataTime;
-	private int order;
-	
-	public Properties(long lastSuccessfulWeatherUpdateTime, long lastSuccessfulAirQualityUpdateTime, long lastWeatherUpdateAttemptTime, long lastAirQualityUpdateAttemptTime, long creationTime, long lastAvailableWeatherDataTime, long lastAvailableAirQualityDataTime, int timeOffset, int order, String placeId) {
+	private final long lastSuccessfulWeatherUpdateTime;
+	private final long lastSuccessfulAirQualityUpdateTime;
+	private final long lastWeatherUpdateAttemptTime;
+	private final long lastAirQualityUpdateAttemptTime;
+	private final long lastAvailableWeatherDataTime;
+	private final long lastAvailableAirQualityDataTime;
+	private final int order;
+	@NonNull
+	@Embedded(prefix = "outlook_")
+	private final PrecipitationOutlook precipitationOutlook;
+	
+	public Properties(long lastSuccessfulWeatherUpdateTime, long lastSuccessfulAirQualityUpdateTime, long lastWeatherUpdateAttemptTime, long lastAirQualityUpdateAttemptTime, long creationTime, long lastAvailableWeatherDataTime, long lastAvailableAirQualityDataTime, int timeOffset, int order, String placeId, @NonNull PrecipitationOutlook precipitationOutlook) {
 		
 		if (lastSuccessfulWeatherUpdateTime < 0)
 			throw new IllegalArgumentException("lastSuccessfulWeatherUpdateTime must be positive or null !");
@@ -87,6 +96,7 @@ public class Properties {
 		this.timeOffset = timeOffset;
 		this.order = order;
 		this.placeId = placeId;
+		this.precipitationOutlook = precipitationOutlook;
 	}
 	
 	@Ignore
@@ -105,52 +115,25 @@ public class Properties {
 		this.timeOffset = timeOffset;
 		this.order = order;
 		this.placeId = placeId;
+		this.precipitationOutlook = PrecipitationOutlook.NONE;
 	}
 	
 	public long getLastSuccessfulWeatherUpdateTime() {
 		return lastSuccessfulWeatherUpdateTime;
 	}
 	
-	public void setLastSuccessfulWeatherUpdateTime(long lastSuccessfulWeatherUpdateTime) {
-		if (lastSuccessfulWeatherUpdateTime < 0)
-			throw new IllegalArgumentException("lastSuccessfulWeatherUpdateTime must be positive or null !");
-		
-		this.lastSuccessfulWeatherUpdateTime = lastSuccessfulWeatherUpdateTime;
-	}
-	
 	public long getLastSuccessfulAirQualityUpdateTime() {
 		return lastSuccessfulAirQualityUpdateTime;
 	}
 	
-	public void setLastSuccessfulAirQualityUpdateTime(long lastSuccessfulAirQualityUpdateTime) {
-		if (lastSuccessfulAirQualityUpdateTime < 0)
-			throw new IllegalArgumentException("lastSuccessfulAirQualityUpdateTime must be positive or null !");
-		
-		this.lastSuccessfulAirQualityUpdateTime = lastSuccessfulAirQualityUpdateTime;
-	}
-	
 	public long getLastWeatherUpdateAttemptTime() {
 		return lastWeatherUpdateAttemptTime;
 	}
 	
-	public void setLastWeatherUpdateAttemptTime(long lastWeatherUpdateAttemptTime) {
-		if (lastWeatherUpdateAttemptTime < 0)
-			throw new IllegalArgumentException("lastWeatherUpdateAttemptTime must be positive or null !");
-		
-		this.lastWeatherUpdateAttemptTime = lastWeatherUpdateAttemptTime;
-	}
-	
 	public long getLastAirQualityUpdateAttemptTime() {
 		return lastAirQualityUpdateAttemptTime;
 	}
 	
-	public void setLastAirQualityUpdateAttemptTime(long lastAirQualityUpdateAttemptTime) {
-		if (lastAirQualityUpdateAttemptTime < 0)
-			throw new IllegalArgumentException("lastAirQualityUpdateAttemptTime must be positive or null !");
-		
-		this.lastAirQualityUpdateAttemptTime = lastAirQualityUpdateAttemptTime;
-	}
-	
 	public long getCreationTime() {
 		return creationTime;
 	}
@@ -159,24 +142,10 @@ public class Properties {
 		return lastAvailableWeatherDataTime;
 	}
 	
-	public void setLastAvailableWeatherDataTime(long lastAvailableWeatherDataTime) {
-		if (lastAvailableWeatherDataTime < 0)
-			throw new IllegalArgumentException("lastAvailableWeatherDataTime must be positive or null !");
-		
-		this.lastAvailableWeatherDataTime = lastAvailableWeatherDataTime;
-	}
-	
 	public long getLastAvailableAirQualityDataTime() {
 		return lastAvailableAirQualityDataTime;
 	}
 	
-	public void setLastAvailableAirQualityDataTime(long lastAvailableAirQualityDataTime) {
-		if (lastAvailableAirQualityDataTime < 0)
-			throw new IllegalArgumentException("lastAvailableAirQualityDataTime must be positive or null !");
-		
-		this.lastAvailableAirQualityDataTime = lastAvailableAirQualityDataTime;
-	}
-	
 	public int getTimeOffset() {
 		return timeOffset;
 	}
@@ -194,14 +163,76 @@ public class Properties {
 		return order;
 	}
 	
-	public void setOrder(int order) {
-		this.order = order;
-	}
-	
 	public String getPlaceId() {
 		return placeId;
 	}
 	
+	@NonNull
+	public PrecipitationOutlook getPrecipitationOutlook() {
+		return precipitationOutlook;
+	}
+	
+	/**
+	 * Copy the properties with another order
+	 *
+	 * @param order the order of the copy
+	 * @return the copy
+	 */
+	public Properties withOrder(int order) {
+		return new Properties(lastSuccessfulWeatherUpdateTime, lastSuccessfulAirQualityUpdateTime, lastWeatherUpdateAttemptTime, lastAirQualityUpdateAttemptTime, creationTime, lastAvailableWeatherDataTime, lastAvailableAirQualityDataTime, timeOffset, order, placeId, precipitationOutlook);
+	}
+	
+	/**
+	 * Copy the properties with a new weather update attempt
+	 *
+	 * @param lastWeatherUpdateAttemptTime the time of the attempt
+	 * @return the copy
+	 */
+	public Properties withWeatherUpdateAttempt(long lastWeatherUpdateAttemptTime) {
+		return new Properties(lastSuccessfulWeatherUpdateTime, lastSuccessfulAirQualityUpdateTime, lastWeatherUpdateAttemptTime, lastAirQualityUpdateAttemptTime, creationTime, lastAvailableWeatherDataTime, lastAvailableAirQualityDataTime, timeOffset, order, placeId, precipitationOutlook);
+	}
+	
+	/**
+	 * Copy the properties with a new successful weather update
+	 *
+	 * @param lastSuccessfulWeatherUpdateTime the time of the update
+	 * @param lastAvailableWeatherDataTime    the time of the received data
+	 * @return the copy
+	 */
+	public Properties withWeatherUpdate(long lastSuccessfulWeatherUpdateTime, long lastAvailableWeatherDataTime) {
+		return new Properties(lastSuccessfulWeatherUpdateTime, lastSuccessfulAirQualityUpdateTime, lastWeatherUpdateAttemptTime, lastAirQualityUpdateAttemptTime, creationTime, lastAvailableWeatherDataTime, lastAvailableAirQualityDataTime, timeOffset, order, placeId, precipitationOutlook);
+	}
+	
+	/**
+	 * Copy the properties with a new air quality update attempt
+	 *
+	 * @param lastAirQualityUpdateAttemptTime the time of the attempt
+	 * @return the copy
+	 */
+	public Properties withAirQualityUpdateAttempt(long lastAirQualityUpdateAttemptTime) {
+		return new Properties(lastSuccessfulWeatherUpdateTime, lastSuccessfulAirQualityUpdateTime, lastWeatherUpdateAttemptTime, lastAirQualityUpdateAttemptTime, creationTime, lastAvailableWeatherDataTime, lastAvailableAirQualityDataTime, timeOffset, order, placeId, precipitationOutlook);
+	}
+	
+	/**
+	 * Copy the properties with a new successful air quality update
+	 *
+	 * @param lastSuccessfulAirQualityUpdateTime the time of the update
+	 * @param lastAvailableAirQualityDataTime    the time of the received data
+	 * @return the copy
+	 */
+	public Properties withAirQualityUpdate(long lastSuccessfulAirQualityUpdateTime, long lastAvailableAirQualityDataTime) {
+		return new Properties(lastSuccessfulWeatherUpdateTime, lastSuccessfulAirQualityUpdateTime, lastWeatherUpdateAttemptTime, lastAirQualityUpdateAttemptTime, creationTime, lastAvailableWeatherDataTime, lastAvailableAirQualityDataTime, timeOffset, order, placeId, precipitationOutlook);
+	}
+	
+	/**
+	 * Copy the properties with another precipitation outlook
+	 *
+	 * @param precipitationOutlook the precipitation outlook of the copy
+	 * @return the copy
+	 */
+	public Properties withPrecipitationOutlook(@NonNull PrecipitationOutlook precipitationOutlook) {
+		return new Properties(lastSuccessfulWeatherUpdateTime, lastSuccessfulAirQualityUpdateTime, lastWeatherUpdateAttemptTime, lastAirQualityUpdateAttemptTime, creationTime, lastAvailableWeatherDataTime, lastAvailableAirQualityDataTime, timeOffset, order, placeId, precipitationOutlook);
+	}
 	
 	@NonNull
 	@Override
@@ -217,6 +248,7 @@ public class Properties {
 				  ", timeOffset=" + timeOffset +
 				  ", order=" + order +
 				  ", id=" + placeId +
+				  ", precipitationOutlook=" + precipitationOutlook +
 				  '}';
 	}
 }
@@ -0,0 +1,305 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.Entity;
+import androidx.room.Index;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import fr.qgdev.openweather.metrics.AirQuality;
+import fr.qgdev.openweather.metrics.CurrentWeather;
+
+/**
+ * WeatherObservation
+ * <p>
+ *    An archived observation of the weather of a place.
+ *    Recent observations are kept hourly, only the last snapshot of each hour is stored.
+ *    Older ones are compacted into daily aggregates holding the mean values of the day,
+ *    its extreme temperatures and the number of hourly samples they were made from.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see fr.qgdev.openweather.repositories.places.dao.WeatherObservationDAO
+ */
+@Entity(tableName = "weather_observations",
+		  primaryKeys = {"placeId", "dt"},
+		  indices = {@Index(value = {"period", "dt"})})
+public class WeatherObservation {
+	
+	public static final long HOUR = 3600000;
+	public static final long DAY = 86400000;
+	
+	@NonNull
+	private final String placeId;
+	private final long dt;
+	private final long period;
+	private final int samples;
+	private final float temperature;
+	private final float temperatureMinimum;
+	private final float temperatureMaximum;
+	private final float temperatureFeelsLike;
+	private final float humidity;
+	private final float pressure;
+	private final float windSpeed;
+	private final int weatherCode;
+	@Nullable
+	private final Integer aqi;
+	@Nullable
+	private final Float pm2_5;
+	@Nullable
+	private final Float pm10;
+	
+	public WeatherObservation(@NonNull String placeId, long dt, long period, int samples, float temperature, float temperatureMinimum, float temperatureMaximum, float temperatureFeelsLike, float humidity, float pressure, float windSpeed, int weatherCode, @Nullable Integer aqi, @Nullable Float pm2_5, @Nullable Float pm10) {
+		this.placeId = placeId;
+		this.dt = dt;
+		this.period = period;
+		this.samples = samples;
+		this.temperature = temperature;
+		this.temperatureMinimum = temperatureMinimum;
+		this.temperatureMaximum = temperatureMaximum;
+		this.temperatureFeelsLike = temperatureFeelsLike;
+		this.humidity = humidity;
+		this.pressure = pressure;
+		this.windSpeed = windSpeed;
+		this.weatherCode = weatherCode;
+		this.aqi = aqi;
+		this.pm2_5 = pm2_5;
+		this.pm10 = pm10;
+	}
+	
+	/**
+	 * Build the hourly observation of a snapshot of the current weather and air quality
+	 *
+	 * @param placeId        the id of the place
+	 * @param currentWeather the current weather of the place
+	 * @param airQuality     the air quality of the place, null if unknown
+	 * @return the observation of the hour the current weather belongs to
+	 */
+	@NonNull
+	public static WeatherObservation fromSnapshot(@NonNull String placeId, @NonNull CurrentWeather currentWeather, @Nullable AirQuality airQuality) {
+		long dt = currentWeather.getDt();
+		float temperature = currentWeather.getTemperature();
+		//	AQI is between 1 and 5, anything else means that the air quality was never fetched
+		boolean hasAirQuality = airQuality != null && airQuality.getAqi() > 0;
+		
+		return new WeatherObservation(placeId,
+				  dt - Math.floorMod(dt, HOUR),
+				  HOUR,
+				  1,
+				  temperature,
+				  temperature,
+				  temperature,
+				  currentWeather.getTemperatureFeelsLike(),
+				  currentWeather.getHumidity(),
+				  currentWeather.getPressure(),
+				  currentWeather.getWindSpeed(),
+				  currentWeather.getWeatherCode(),
+				  hasAirQuality ? airQuality.getAqi() : null,
+				  hasAirQuality ? airQuality.getPm2_5() : null,
+				  hasAirQuality ? airQuality.getPm10() : null);
+	}
+	
+	/**
+	 * Get the start of the local day an instant belongs to
+	 *
+	 * @param dt         the instant in milliseconds
+	 * @param timeOffset the time offset of the place in seconds
+	 * @return the start of the local day in milliseconds
+	 */
+	public static long getDayStart(long dt, int timeOffset) {
+		long offset = timeOffset * 1000L;
+		return dt - Math.floorMod(dt + offset, DAY);
+	}
+	
+	/**
+	 * Aggregate observations into a single daily observation.
+	 * Means are weighted by the number of samples of each observation,
+	 * so hourly observations can be merged with a daily aggregate made before.
+	 * The worst AQI of the day is kept and the weather code is the most observed one,
+	 * a tie going to the first code observed.
+	 *
+	 * @param placeId      the id of the place
+	 * @param dayStart     the start of the local day in milliseconds
+	 * @param observations the observations of the day, at least one
+	 * @return the daily observation
+	 */
+	@NonNull
+	public static WeatherObservation aggregate(@NonNull String placeId, long dayStart, @NonNull List<WeatherObservation> observations) {
+		if (observations.isEmpty())
+			throw new IllegalArgumentException("observations must not be empty !");
+		
+		int samples = 0;
+		int airQualitySamples = 0;
+		double temperature = 0;
+		double temperatureFeelsLike = 0;
+		double humidity = 0;
+		double pressure = 0;
+		double windSpeed = 0;
+		double pm2_5 = 0;
+		double pm10 = 0;
+		float temperatureMinimum = Float.POSITIVE_INFINITY;
+		float temperatureMaximum = Float.NEGATIVE_INFINITY;
+		Integer aqi = null;
+		//	Codes are kept in the order they were first observed
+		Map<Integer, Integer> weatherCodeSamples = new LinkedHashMap<>();
+		
+		for (WeatherObservation observation : observations) {
+			int weight = observation.samples;
+			samples += weight;
+			temperature += (double) observation.temperature * weight;
+			temperatureFeelsLike += (double) observation.temperatureFeelsLike * weight;
+			humidity += (double) observation.humidity * weight;
+			pressure += (double) observation.pressure * weight;
+			windSpeed += (double) observation.windSpeed * weight;
+			temperatureMinimum = Math.min(temperatureMinimum, observation.temperatureMinimum);
+			temperatureMaximum = Math.max(temperatureMaximum, observation.temperatureMaximum);
+			
+			if (observation.aqi != null) {
+				aqi = aqi == null ? observation.aqi : Math.max(aqi, observation.aqi);
+				airQualitySamples += weight;
+				if (observation.pm2_5 != null) pm2_5 += (double) observation.pm2_5 * weight;
+				if (observation.pm10 != null) pm10 += (double) observation.pm10 * weight;
+			}
+			
+			weatherCodeSamples.merge(observation.weatherCode, weight, Integer::sum);
+		}
+		
+		//	A tie goes to the first code observed
+		int weatherCode = 0;
+		int weatherCodeMaxSamples = 0;
+		for (Map.Entry<Integer, Integer> entry : weatherCodeSamples.entrySet()) {
+			if (entry.getValue() > weatherCodeMaxSamples) {
+				weatherCodeMaxSamples = entry.getValue();
+				weatherCode = entry.getKey();
+			}
+		}
+		
+		return new WeatherObservation(placeId,
+				  dayStart,
+				  DAY,
+				  samples,
+				  (float) (temperature / samples),
+				  temperatureMinimum,
+				  temperatureMaximum,
+				  (float) (temperatureFeelsLike / samples),
+				  (float) (humidity / samples),
+				  (float) (pressure / samples),
+				  (float) (windSpeed / samples),
+				  weatherCode,
+				  aqi,
+				  airQualitySamples > 0 ? (float) (pm2_5 / airQualitySamples) : null,
+				  airQualitySamples > 0 ? (float) (pm10 / airQualitySamples) : null);
+	}
+	
+	@NonNull
+	public String getPlaceId() {
+		return placeId;
+	}
+	
+	public long getDt() {
+		return dt;
+	}
+	
+	public long getPeriod() {
+		return period;
+	}
+	
+	public int getSamples() {
+		return samples;
+	}
+	
+	public float getTemperature() {
+		return temperature;
+	}
+	
+	public float getTemperatureMinimum() {
+		return temperatureMinimum;
+	}
+	
+	public float getTemperatureMaximum() {
+		return temperatureMaximum;
+	}
+	
+	public float getTemperatureFeelsLike() {
+		return temperatureFeelsLike;
+	}
+	
+	public float getHumidity() {
+		return humidity;
+	}
+	
+	public float getPressure() {
+		return pressure;
+	}
+	
+	public float getWindSpeed() {
+		return windSpeed;
+	}
+	
+	public int getWeatherCode() {
+		return weatherCode;
+	}
+	
+	@Nullable
+	public Integer getAqi() {
+		return aqi;
+	}
+	
+	@Nullable
+	public Float getPm2_5() {
+		return pm2_5;
+	}
+	
+	@Nullable
+	public Float getPm10() {
+		return pm10;
+	}
+	
+	@NonNull
+	@Override
+	public String toString() {
+		return new StringJoiner(", ", WeatherObservation.class.getSimpleName() + "[", "]")
+				  .add("placeId='" + placeId + "'")
+				  .add("dt=" + dt)
+				  .add("period=" + period)
+				  .add("samples=" + samples)
+				  .add("temperature=" + temperature)
+				  .add("temperatureMinimum=" + temperatureMinimum)
+				  .add("temperatureMaximum=" + temperatureMaximum)
+				  .add("temperatureFeelsLike=" + temperatureFeelsLike)
+				  .add("humidity=" + humidity)
+				  .add("pressure=" + pressure)
+				  .add("windSpeed=" + windSpeed)
+				  .add("weatherCode=" + weatherCode)
+				  .add("aqi=" + aqi)
+				  .add("pm2_5=" + pm2_5)
+				  .add("pm10=" + pm10)
+				  .toString();
+	}
+}
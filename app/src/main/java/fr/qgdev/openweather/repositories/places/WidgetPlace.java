@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+/**
+ * WidgetPlace
+ * <p>
+ *    A projection of a place holding only what widgets show:
+ *    the city, the current weather with sunrise and sunset, today's temperatures
+ *    and the next hourly forecasts.
+ *    It's read with a single query instead of loading a whole place.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see fr.qgdev.openweather.repositories.places.dao.WidgetPlaceDAO
+ */
+public class WidgetPlace {
+	
+	private final String placeId;
+	private final String city;
+	private final String countryCode;
+	private final int timeOffset;
+	private final long dt;
+	private final float temperature;
+	private final int weatherCode;
+	private final String weatherDescription;
+	private final long sunriseDt;
+	private final long sunsetDt;
+	private final Float temperatureMinimum;
+	private final Float temperatureMaximum;
+	private final List<HourlySlot> hourlySlots;
+	
+	/**
+	 * Instantiates a new widget place from the first row of a projection
+	 *
+	 * @param row         the first row of the projection
+	 * @param hourlySlots the next hourly forecasts
+	 */
+	private WidgetPlace(@NonNull Row row, @NonNull List<HourlySlot> hourlySlots) {
+		this.placeId = row.placeId;
+		this.city = row.city;
+		this.countryCode = row.countryCode;
+		this.timeOffset = row.timeOffset;
+		this.dt = row.dt;
+		this.temperature = row.temperature;
+		this.weatherCode = row.weatherCode;
+		this.weatherDescription = row.weatherDescription;
+		this.sunriseDt = row.sunriseDt;
+		this.sunsetDt = row.sunsetDt;
+		this.temperatureMinimum = row.temperatureMinimum;
+		this.temperatureMaximum = row.temperatureMaximum;
+		this.hourlySlots = Collections.unmodifiableList(hourlySlots);
+	}
+	
+	/**
+	 * Assemble a widget place from the rows of its projection.
+	 * Place data is repeated on every row, each row holding one hourly forecast.
+	 *
+	 * @param rows the rows returned by the projection query
+	 * @return the widget place or null if the place doesn't exist
+	 */
+	@Nullable
+	public static WidgetPlace fromRows(@NonNull List<Row> rows) {
+		if (rows.isEmpty()) return null;
+		
+		List<HourlySlot> hourlySlots = new ArrayList<>(rows.size());
+		for (Row row : rows) {
+			//	A place without any hourly forecast left still gives one row
+			if (row.hourlyDt == null) continue;
+			hourlySlots.add(new HourlySlot(row.hourlyDt,
+					  row.hourlyTemperature == null ? 0 : row.hourlyTemperature,
+					  row.hourlyWeatherCode == null ? 0 : row.hourlyWeatherCode));
+		}
+		return new WidgetPlace(rows.get(0), hourlySlots);
+	}
+	
+	public String getPlaceId() {
+		return placeId;
+	}
+	
+	public String getCity() {
+		return city;
+	}
+	
+	public String getCountryCode() {
+		return countryCode;
+	}
+	
+	public int getTimeOffset() {
+		return timeOffset;
+	}
+	
+	public TimeZone getTimeZone() {
+		return new SimpleTimeZone(this.timeOffset * 1000, "UTC");
+	}
+	
+	public long getDt() {
+		return dt;
+	}
+	
+	public float getTemperature() {
+		return temperature;
+	}
+	
+	public int getWeatherCode() {
+		return weatherCode;
+	}
+	
+	public String getWeatherDescription() {
+		return weatherDescription;
+	}
+	
+	public long getSunriseDt() {
+		return sunriseDt;
+	}
+	
+	public long getSunsetDt() {
+		return sunsetDt;
+	}
+	
+	public boolean isDaytime() {
+		return dt > sunriseDt && dt < sunsetDt;
+	}
+	
+	/**
+	 * Is there a daily forecast for today
+	 *
+	 * @return true if today's minimum and maximum temperatures are known, false otherwise
+	 */
+	public boolean hasDailyTemperatures() {
+		return temperatureMinimum != null && temperatureMaximum != null;
+	}
+	
+	public float getTemperatureMinimum() {
+		return temperatureMinimum == null ? 0 : temperatureMinimum;
+	}
+	
+	public float getTemperatureMaximum() {
+		return temperatureMaximum == null ? 0 : temperatureMaximum;
+	}
+	
+	/**
+	 * Gets the next hourly forecasts, after the current weather
+	 *
+	 * @return the hourly slots in chronological order
+	 */
+	public List<HourlySlot> getHourlySlots() {
+		return hourlySlots;
+	}
+	
+	/**
+	 * HourlySlot
+	 * <p>
+	 *    The part of an hourly forecast shown by widgets
+	 * </p>
+	 */
+	public static class HourlySlot {
+		
+		private final long dt;
+		private final float temperature;
+		private final int weatherCode;
+		
+		public HourlySlot(long dt, float temperature, int weatherCode) {
+			this.dt = dt;
+			this.temperature = temperature;
+			this.weatherCode = weatherCode;
+		}
+		
+		public long getDt() {
+			return dt;
+		}
+		
+		public float getTemperature() {
+			return temperature;
+		}
+		
+		public int getWeatherCode() {
+			return weatherCode;
+		}
+	}
+	
+	/**
+	 * Row
+	 * <p>
+	 *    A row of the projection query, built by Room from the column names.
+	 *    Daily and hourly columns are null when the place has no such forecast.
+	 * </p>
+	 */
+	public static class Row {
+		
+		private final String placeId;
+		private final String city;
+		private final String countryCode;
+		private final int timeOffset;
+		private final long dt;
+		private final float temperature;
+		private final int weatherCode;
+		private final String weatherDescription;
+		private final long sunriseDt;
+		private final long sunsetDt;
+		private final Float temperatureMinimum;
+		private final Float temperatureMaximum;
+		private final Long hourlyDt;
+		private final Float hourlyTemperature;
+		private final Integer hourlyWeatherCode;
+		
+		public Row(String placeId, String city, String countryCode, int timeOffset,
+					  long dt, float temperature, int weatherCode, String weatherDescription,
+					  long sunriseDt, long sunsetDt,
+					  Float temperatureMinimum, Float temperatureMaximum,
+					  Long hourlyDt, Float hourlyTemperature, Integer hourlyWeatherCode) {
+			this.placeId = placeId;
+			this.city = city;
+			this.countryCode = countryCode;
+			this.timeOffset = timeOffset;
+			this.dt = dt;
+			this.temperature = temperature;
+			this.weatherCode = weatherCode;
+			this.weatherDescription = weatherDescription;
+			this.sunriseDt = sunriseDt;
+			this.sunsetDt = sunsetDt;
+			this.temperatureMinimum = temperatureMinimum;
+			this.temperatureMaximum = temperatureMaximum;
+			this.hourlyDt = hourlyDt;
+			this.hourlyTemperature = hourlyTemperature;
+			this.hourlyWeatherCode = hourlyWeatherCode;
+		}
+	}
+}
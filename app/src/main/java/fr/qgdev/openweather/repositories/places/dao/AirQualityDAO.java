@@ -27,6 +27,8 @@ import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
 import androidx.room.Update;
 
+import java.util.List;
+
 import fr.qgdev.openweather.metrics.AirQuality;
 
 /**
@@ -45,6 +47,9 @@ public interface AirQualityDAO {
     @Query("SELECT * FROM air_quality WHERE placeId = :id")
     AirQuality getFromPlaceID(String id);
     
+    @Query("SELECT * FROM air_quality WHERE placeId IN (:ids)")
+    List<AirQuality> getFromPlaceIDs(List<String> ids);
+    
     @Query("DELETE FROM air_quality WHERE placeId = :id")
     void deleteFromPlaceID(String id);
     
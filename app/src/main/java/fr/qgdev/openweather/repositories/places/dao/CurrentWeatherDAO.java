@@ -27,6 +27,8 @@ import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
 import androidx.room.Update;
 
+import java.util.List;
+
 import fr.qgdev.openweather.metrics.CurrentWeather;
 
 /**
@@ -45,6 +47,9 @@ public interface CurrentWeatherDAO {
 	@Query("SELECT * FROM current_weather WHERE placeId = :id")
 	CurrentWeather getFromPlaceID(String id);
 	
+	@Query("SELECT * FROM current_weather WHERE placeId IN (:ids)")
+	List<CurrentWeather> getFromPlaceIDs(List<String> ids);
+	
 	@Query("DELETE FROM current_weather WHERE placeId = :id")
 	void deleteFromPlaceID(String id);
 	
@@ -26,6 +26,7 @@ import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
 import androidx.room.Update;
+import androidx.room.Upsert;
 
 import java.util.List;
 
@@ -47,12 +48,24 @@ public interface DailyWeatherForecastDAO {
 	@Query("SELECT * FROM daily_weather_forecasts WHERE placeId = :id ORDER BY dt ASC")
 	List<DailyWeatherForecast> getFromPlaceID(String id);
 	
+	@Query("SELECT * FROM daily_weather_forecasts WHERE placeId IN (:ids) ORDER BY dt ASC")
+	List<DailyWeatherForecast> getFromPlaceIDs(List<String> ids);
+	
 	@Query("DELETE FROM daily_weather_forecasts WHERE placeId = :id")
 	void deleteFromPlaceID(String id);
 	
+	@Query("DELETE FROM daily_weather_forecasts WHERE placeId = :id AND dt NOT IN (:dts)")
+	void deleteFromPlaceIDExcept(String id, List<Long> dts);
+	
 	@Insert(onConflict = OnConflictStrategy.ABORT)
 	void insert(DailyWeatherForecast dailyWeatherForecast);
 	
+	@Insert(onConflict = OnConflictStrategy.ABORT)
+	void insertAll(List<DailyWeatherForecast> dailyWeatherForecasts);
+	
+	@Upsert
+	void upsertAll(List<DailyWeatherForecast> dailyWeatherForecasts);
+	
 	@Delete
 	void delete(DailyWeatherForecast dailyWeatherForecast);
 	
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.places.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+import androidx.room.Transaction;
+
+import fr.qgdev.openweather.repositories.places.GeocodingCacheEntry;
+
+/**
+ * GeocodingCacheDAO
+ * <p>
+ *    DAO for the GeocodingCacheEntry class.
+ *    It's used to access the database.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+@Dao
+public interface GeocodingCacheDAO {
+	
+	@Query("SELECT * FROM geocoding_cache WHERE queryKey = :queryKey")
+	GeocodingCacheEntry getFromQueryKey(String queryKey);
+	
+	@Query("UPDATE geocoding_cache SET lastAccessTime = :lastAccessTime WHERE queryKey = :queryKey")
+	void updateLastAccessTime(String queryKey, long lastAccessTime);
+	
+	@Query("DELETE FROM geocoding_cache WHERE cachedTime < :oldestCachedTime")
+	void deleteCachedBefore(long oldestCachedTime);
+	
+	@Query("DELETE FROM geocoding_cache WHERE cachedTime > :now")
+	void deleteCachedAfter(long now);
+	
+	//	Ties on the access time are broken by the key so that exactly maxEntries entries are kept
+	@Query("DELETE FROM geocoding_cache WHERE queryKey NOT IN (SELECT queryKey FROM geocoding_cache ORDER BY lastAccessTime DESC, queryKey DESC LIMIT :maxEntries)")
+	void deleteLeastRecentlyUsed(int maxEntries);
+	
+	@Insert(onConflict = OnConflictStrategy.REPLACE)
+	void insert(GeocodingCacheEntry geocodingCacheEntry);
+	
+	/**
+	 * Insert an entry and remove expired and least recently used entries in one transaction
+	 *
+	 * @param geocodingCacheEntry the entry to insert
+	 * @param oldestCachedTime    the oldest cached time of the entries kept
+	 * @param now                 the current time in milliseconds
+	 * @param maxEntries          the maximum number of entries kept
+	 */
+	@Transaction
+	default void insertAndEvict(GeocodingCacheEntry geocodingCacheEntry, long oldestCachedTime, long now, int maxEntries) {
+		insert(geocodingCacheEntry);
+		deleteCachedBefore(oldestCachedTime);
+		//	Entries cached in the future mean that the clock has been changed
+		deleteCachedAfter(now);
+		deleteLeastRecentlyUsed(maxEntries);
+	}
+}
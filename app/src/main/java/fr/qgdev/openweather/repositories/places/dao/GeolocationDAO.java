@@ -48,6 +48,9 @@ public interface GeolocationDAO {
 	@Query("SELECT * FROM geolocation WHERE placeId = :id")
 	Geolocation getFromPlaceID(String id);
 	
+	@Query("SELECT * FROM geolocation WHERE placeId IN (:ids)")
+	List<Geolocation> getFromPlaceIDs(List<String> ids);
+	
 	@Query("SELECT * FROM geolocation WHERE city LIKE :city AND countryCode = :countryCode")
 	LiveData<List<Geolocation>> getSimilarPlaces(String city, String countryCode);
 	
@@ -26,6 +26,7 @@ import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
 import androidx.room.Update;
+import androidx.room.Upsert;
 
 import java.util.List;
 
@@ -47,12 +48,24 @@ public interface HourlyWeatherForecastDAO {
 	@Query("SELECT * FROM hourly_weather_forecasts WHERE placeId = :id ORDER BY dt ASC")
 	List<HourlyWeatherForecast> getFromPlaceID(String id);
 	
+	@Query("SELECT * FROM hourly_weather_forecasts WHERE placeId IN (:ids) ORDER BY dt ASC")
+	List<HourlyWeatherForecast> getFromPlaceIDs(List<String> ids);
+	
 	@Query("DELETE FROM hourly_weather_forecasts WHERE placeId = :id")
 	void deleteFromPlaceID(String id);
 	
+	@Query("DELETE FROM hourly_weather_forecasts WHERE placeId = :id AND dt NOT IN (:dts)")
+	void deleteFromPlaceIDExcept(String id, List<Long> dts);
+	
 	@Insert(onConflict = OnConflictStrategy.ABORT)
 	void insert(HourlyWeatherForecast hourlyWeatherForecast);
 	
+	@Insert(onConflict = OnConflictStrategy.ABORT)
+	void insertAll(List<HourlyWeatherForecast> hourlyWeatherForecasts);
+	
+	@Upsert
+	void upsertAll(List<HourlyWeatherForecast> hourlyWeatherForecasts);
+	
 	@Delete
 	void delete(HourlyWeatherForecast hourlyWeatherForecast);
 	
@@ -36,6 +36,7 @@ import fr.qgdev.openweather.repositories.places.Properties;
  * <p>
  *    DAO for the Properties class.
  *    It's used to access the database.
+ *    The order of a place is a sparse sort key, its position is its index once places are sorted by order.
  * </p>
  *
  * @author Quentin GOMES DOS REIS
@@ -52,23 +53,26 @@ public interface PropertiesDAO {
 	@Query("SELECT * FROM properties ORDER BY `order` ASC")
 	List<Properties> getProperties();
 	
-	@Query("SELECT placeId FROM properties WHERE `order` = :order")
-	String getIDFromPlaceOrder(int order);
+	@Query("SELECT placeId FROM properties ORDER BY `order` ASC LIMIT 1 OFFSET :position")
+	String getIDFromPlacePosition(int position);
 	
 	@Query("SELECT * FROM properties WHERE placeId = :placeID")
 	Properties getFromPlaceId(String placeID);
 	
-	@Query("UPDATE properties SET `order` = :newOrder WHERE placeId = :placeID")
-	void updateOrderFromPlaceID(String placeID, int newOrder);
+	@Query("SELECT * FROM properties ORDER BY `order` ASC LIMIT 1 OFFSET :position")
+	Properties getFromPlacePosition(int position);
+	
+	@Query("SELECT `order` FROM properties WHERE placeId = :placeID")
+	Integer getOrderFromPlaceID(String placeID);
 	
-	@Query("UPDATE properties SET `order` = `order` - 1 WHERE `order` >= :crtOrder AND `order` <= :newOrder")
-	void updatePlaceOrdersMvEnd(int crtOrder, int newOrder);
+	@Query("SELECT `order` FROM properties ORDER BY `order` ASC LIMIT :count OFFSET :position")
+	List<Integer> getOrdersFromPlacePosition(int position, int count);
 	
-	@Query("UPDATE properties SET `order` = `order` + 1 WHERE `order` >= :newOrder AND `order` <= :crtOrder")
-	void updatePlaceOrdersMvBgn(int crtOrder, int newOrder);
+	@Query("SELECT MAX(`order`) FROM properties")
+	Integer getMaxOrder();
 	
-	@Query("UPDATE properties SET `order` = `order` - 1 WHERE `order` > :order")
-	void updatePlaceOrdersAfterDeletion(int order);
+	@Query("UPDATE properties SET `order` = :newOrder WHERE placeId = :placeID")
+	void updateOrderFromPlaceID(String placeID, int newOrder);
 	
 	@Query("DELETE FROM properties WHERE placeId = :id")
 	void deleteFromPlaceID(String id);
@@ -26,6 +26,7 @@ import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
 import androidx.room.Update;
+import androidx.room.Upsert;
 
 import java.util.List;
 
@@ -47,15 +48,27 @@ public interface WeatherAlertDAO {
 	@Query("SELECT * FROM weather_alerts WHERE placeId = :id ORDER BY startDt ASC")
 	List<WeatherAlert> getFromPlaceID(String id);
 	
+	@Query("SELECT * FROM weather_alerts WHERE placeId IN (:ids) ORDER BY startDt ASC")
+	List<WeatherAlert> getFromPlaceIDs(List<String> ids);
+	
 	@Query("DELETE FROM weather_alerts WHERE placeId = :id")
 	void deleteFromPlaceID(String id);
 	
 	@Insert(onConflict = OnConflictStrategy.ABORT)
 	void insert(WeatherAlert weatherAlert);
 	
+	@Insert(onConflict = OnConflictStrategy.ABORT)
+	void insertAll(List<WeatherAlert> weatherAlerts);
+	
+	@Upsert
+	void upsertAll(List<WeatherAlert> weatherAlerts);
+	
 	@Delete
 	void delete(WeatherAlert weatherAlert);
 	
+	@Delete
+	void deleteAll(List<WeatherAlert> weatherAlerts);
+	
 	@Update()
 	void update(WeatherAlert weatherAlert);
 }
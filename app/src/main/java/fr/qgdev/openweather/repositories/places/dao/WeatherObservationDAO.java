@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places.dao;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+import androidx.room.Upsert;
+
+import java.util.List;
+
+import fr.qgdev.openweather.repositories.places.WeatherObservation;
+
+/**
+ * WeatherObservationDAO
+ * <p>
+ *    DAO for the WeatherObservation class.
+ *    It's used to access the database.
+ *    Ranges are half-open, from is included and to is excluded.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+@Dao
+public interface WeatherObservationDAO {
+	
+	@Query("SELECT * FROM weather_observations WHERE placeId = :id AND dt >= :from AND dt < :to ORDER BY dt ASC")
+	List<WeatherObservation> getFromPlaceIDBetween(String id, long from, long to);
+	
+	@Query("SELECT * FROM weather_observations WHERE placeId = :id AND period = :period AND dt >= :from AND dt < :to ORDER BY dt ASC")
+	List<WeatherObservation> getFromPlaceIDWithPeriodBetween(String id, long period, long from, long to);
+	
+	@Query("SELECT * FROM weather_observations WHERE period = :period AND dt < :before ORDER BY dt ASC")
+	List<WeatherObservation> getWithPeriodBefore(long period, long before);
+	
+	@Query("SELECT COUNT(*) FROM weather_observations WHERE placeId = :id")
+	int countFromPlaceID(String id);
+	
+	@Query("DELETE FROM weather_observations WHERE placeId = :id")
+	void deleteFromPlaceID(String id);
+	
+	@Query("DELETE FROM weather_observations WHERE placeId = :id AND period = :period AND dt >= :from AND dt < :to")
+	void deleteFromPlaceIDWithPeriodBetween(String id, long period, long from, long to);
+	
+	@Query("DELETE FROM weather_observations WHERE period = :period AND dt < :before")
+	void deleteWithPeriodBefore(long period, long before);
+	
+	@Upsert
+	void upsert(WeatherObservation weatherObservation);
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places.dao;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import java.util.List;
+
+import fr.qgdev.openweather.repositories.places.WidgetPlace;
+
+/**
+ * WidgetPlaceDAO
+ * <p>
+ *    DAO for the WidgetPlace projection.
+ *    It reads only the columns shown by widgets, in a single query.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+@Dao
+public interface WidgetPlaceDAO {
+	
+	//	One row per next hourly forecast, today's forecast is the daily forecast with the lowest dt
+	@Query("SELECT g.placeId, g.city, g.countryCode, p.timeOffset, c.dt, c.temperature, c.weatherCode, c.weatherDescription, c.sunriseDt, c.sunsetDt, d.temperatureMinimum, d.temperatureMaximum, h.dt AS hourlyDt, h.temperature AS hourlyTemperature, h.weatherCode AS hourlyWeatherCode FROM geolocation AS g INNER JOIN properties AS p ON p.placeId = g.placeId INNER JOIN current_weather AS c ON c.placeId = g.placeId LEFT JOIN daily_weather_forecasts AS d ON d.placeId = g.placeId AND d.dt = (SELECT MIN(dt) FROM daily_weather_forecasts WHERE placeId = g.placeId) LEFT JOIN hourly_weather_forecasts AS h ON h.placeId = g.placeId AND h.dt > c.dt WHERE g.placeId = :id ORDER BY h.dt ASC LIMIT :hours")
+	List<WidgetPlace.Row> getFromPlaceID(String id, int hours);
+}
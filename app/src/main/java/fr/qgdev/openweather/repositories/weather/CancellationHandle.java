@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.weather;
+
+import androidx.annotation.GuardedBy;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CancellationHandle
+ * <p>
+ *    A handle used to cancel pending work cooperatively.
+ *    The work registers listeners that are run once when the handle is cancelled,
+ *    and checks isCancelled before doing anything costly like parsing a response or writing in the database.
+ *    A handle can be bound to a parent: cancelling the parent cancels every child,
+ *    like a batch of places and the refresh of each of them.
+ *    Once its work is done, a child should be released so that a long lived parent doesn't keep it.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+public class CancellationHandle {
+	
+	@Nullable
+	private final CancellationHandle parent;
+	private final Runnable cancelFromParent;
+	
+	@GuardedBy("this")
+	private final List<Runnable> onCancelListeners;
+	@GuardedBy("this")
+	private boolean cancelled;
+	
+	/**
+	 * Instantiates a new handle without any parent
+	 */
+	public CancellationHandle() {
+		this(null);
+	}
+	
+	/**
+	 * Instantiates a new handle cancelled with its parent
+	 *
+	 * @param parent the parent handle, may be null
+	 */
+	public CancellationHandle(@Nullable CancellationHandle parent) {
+		this.parent = parent;
+		this.cancelFromParent = this::cancel;
+		this.onCancelListeners = new ArrayList<>();
+		this.cancelled = false;
+		
+		if (parent != null) parent.addOnCancelListener(cancelFromParent);
+	}
+	
+	/**
+	 * Cancel the work bound to this handle and to its children.
+	 * Listeners are run on the calling thread, cancelling twice has no effect.
+	 */
+	public void cancel() {
+		List<Runnable> listeners;
+		synchronized (this) {
+			if (cancelled) return;
+			cancelled = true;
+			listeners = new ArrayList<>(onCancelListeners);
+			onCancelListeners.clear();
+		}
+		
+		//	Listeners are run outside of the lock, they may use other handles
+		for (Runnable listener : listeners) {
+			listener.run();
+		}
+	}
+	
+	/**
+	 * Is the handle cancelled
+	 *
+	 * @return true if the work must be dropped
+	 */
+	public synchronized boolean isCancelled() {
+		return cancelled;
+	}
+	
+	/**
+	 * Add a listener run when the handle is cancelled.
+	 * If the handle is already cancelled, the listener is run right away.
+	 *
+	 * @param listener the listener to run
+	 */
+	public void addOnCancelListener(@NonNull Runnable listener) {
+		synchronized (this) {
+			if (!cancelled) {
+				onCancelListeners.add(listener);
+				return;
+			}
+		}
+		listener.run();
+	}
+	
+	/**
+	 * Remove a listener that is not needed anymore
+	 *
+	 * @param listener the listener to remove
+	 */
+	public synchronized void removeOnCancelListener(@NonNull Runnable listener) {
+		onCancelListeners.remove(listener);
+	}
+	
+	/**
+	 * Release the handle from its parent once its work is done.
+	 * The handle can still be cancelled directly, but not by its parent anymore.
+	 */
+	public void release() {
+		if (parent != null) parent.removeOnCancelListener(cancelFromParent);
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.weather;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ConnectivityMonitor
+ * <p>
+ *    Keeps a snapshot of the state of the default network, updated by a network callback
+ *    registered once, so the connectivity can be checked before each request without querying
+ *    the ConnectivityManager again.
+ *    Listeners are notified when the device gets connected or disconnected.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+public class ConnectivityMonitor implements ConnectivitySource {
+	
+	private static final AtomicReference<ConnectivityMonitor> instance = new AtomicReference<>(null);
+	
+	private final List<OnConnectivityChangedListener> listeners;
+	private volatile Snapshot snapshot;
+	
+	private ConnectivityMonitor(@NonNull Context context) {
+		this.listeners = new CopyOnWriteArrayList<>();
+		
+		ConnectivityManager connectivityManager = context.getSystemService(ConnectivityManager.class);
+		
+		//	Initial state, then only updated by the callback
+		this.snapshot = new Snapshot(connectivityManager.getNetworkCapabilities(connectivityManager.getActiveNetwork()));
+		
+		connectivityManager.registerDefaultNetworkCallback(new ConnectivityManager.NetworkCallback() {
+			@Override
+			public void onCapabilitiesChanged(@NonNull Network network, @NonNull NetworkCapabilities networkCapabilities) {
+				update(new Snapshot(networkCapabilities));
+			}
+			
+			@Override
+			public void onLost(@NonNull Network network) {
+				update(new Snapshot(null));
+			}
+		});
+	}
+	
+	public static ConnectivityMonitor getInstance(@NonNull Context context) {
+		Context applicationContext = context.getApplicationContext();
+		
+		if (instance.get() == null) {
+			synchronized (ConnectivityMonitor.class) {
+				instance.compareAndSet(null, new ConnectivityMonitor(applicationContext));
+			}
+		}
+		return instance.get();
+	}
+	
+	/**
+	 * Replace the snapshot and notify listeners if the device got connected or disconnected
+	 *
+	 * @param newSnapshot the new state of the default network
+	 */
+	private void update(@NonNull Snapshot newSnapshot) {
+		boolean wasConnected = snapshot.isConnected();
+		snapshot = newSnapshot;
+		
+		if (wasConnected == newSnapshot.isConnected()) return;
+		for (OnConnectivityChangedListener listener : listeners) {
+			listener.onConnectivityChanged(newSnapshot.isConnected());
+		}
+	}
+	
+	/**
+	 * Gets the last known state of the default network
+	 *
+	 * @return the snapshot of the default network
+	 */
+	@NonNull
+	public Snapshot getSnapshot() {
+		return snapshot;
+	}
+	
+	/**
+	 * Is the device connected to an INTERNET capable network
+	 *
+	 * @return true if requests can be sent, false otherwise
+	 */
+	@Override
+	public boolean isConnected() {
+		return snapshot.isConnected();
+	}
+	
+	/**
+	 * Add a listener notified when the device gets connected or disconnected.
+	 * Listeners are called on a ConnectivityManager thread.
+	 *
+	 * @param listener the listener to add
+	 */
+	@Override
+	public void addListener(@NonNull OnConnectivityChangedListener listener) {
+		listeners.add(listener);
+	}
+	
+	/**
+	 * Remove a listener
+	 *
+	 * @param listener the listener to remove
+	 */
+	public void removeListener(@NonNull OnConnectivityChangedListener listener) {
+		listeners.remove(listener);
+	}
+	
+	/**
+	 * A listener of the connectivity changes
+	 */
+	public interface OnConnectivityChangedListener {
+		void onConnectivityChanged(boolean isConnected);
+	}
+	
+	/**
+	 * An immutable state of the default network
+	 */
+	public static final class Snapshot {
+		private final boolean hasInternet;
+		private final boolean isNotRestricted;
+		private final boolean isUnmetered;
+		
+		Snapshot(@Nullable NetworkCapabilities networkCapabilities) {
+			this.hasInternet = networkCapabilities != null &&
+					  networkCapabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET);
+			this.isNotRestricted = networkCapabilities != null &&
+					  networkCapabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_NOT_RESTRICTED);
+			this.isUnmetered = networkCapabilities != null &&
+					  networkCapabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_NOT_METERED);
+		}
+		
+		public boolean hasInternet() {
+			return hasInternet;
+		}
+		
+		public boolean isNotRestricted() {
+			return isNotRestricted;
+		}
+		
+		public boolean isUnmetered() {
+			return isUnmetered;
+		}
+		
+		public boolean isConnected() {
+			return hasInternet && isNotRestricted;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.weather;
+
+import androidx.annotation.NonNull;
+
+/**
+ * ConnectivitySource
+ * <p>
+ *    Tells if requests can be sent and when it changes.
+ *    It's implemented by ConnectivityMonitor.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see ConnectivityMonitor
+ */
+public interface ConnectivitySource {
+	
+	/**
+	 * Is the device connected to an INTERNET capable network
+	 *
+	 * @return true if requests can be sent, false otherwise
+	 */
+	boolean isConnected();
+	
+	/**
+	 * Add a listener notified when the device gets connected or disconnected
+	 *
+	 * @param listener the listener to add
+	 */
+	void addListener(@NonNull ConnectivityMonitor.OnConnectivityChangedListener listener);
+}
@@ -33,4 +33,13 @@ public interface FetchCallback {
     void onSuccess();
     
     void onError(RequestStatus requestStatus);
+    
+    /**
+     * On progress of a batch of places, called once each place has been handled
+     *
+     * @param completed the number of places already handled
+     * @param total     the number of places of the batch
+     */
+    default void onProgress(int completed, int total) {
+    }
 }
@@ -58,4 +58,14 @@ public interface FetchDataCallback {
 	 * @param requestStatus The error cause of the weather request
 	 */
 	void onError(RequestStatus requestStatus);
+	
+	/**
+	 * On a place whose data is still fresh, no request has been sent.
+	 * By default, it is handled as a success.
+	 *
+	 * @param place The unchanged place
+	 */
+	default void onFresh(Place place) {
+		onSuccess(place);
+	}
 }
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.weather;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+import fr.qgdev.openweather.repositories.places.Geolocation;
+import fr.qgdev.openweather.repositories.places.GeocodingCacheEntry;
+import fr.qgdev.openweather.repositories.places.Place;
+import fr.qgdev.openweather.repositories.places.dao.GeocodingCacheDAO;
+
+/**
+ * GeocodingCache
+ * <p>
+ *    A persistent cache of city and country code lookups.
+ *    Lookups are keyed by the normalized city name and country code, so "paris, fr" and "Paris ,FR"
+ *    share the same entry, and hold what the weather endpoint returned for them.
+ *    Entries expire after a time to live, mainly because the time offset changes with daylight saving time,
+ *    and the least recently used entries are evicted once the cache holds more than maxEntries.
+ *    Reads are synchronous and must be done on a worker thread, writes are sent to the given executor.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see GeocodingCacheEntry
+ */
+public class GeocodingCache {
+	
+	private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+	
+	private final GeocodingCacheDAO geocodingCacheDAO;
+	private final Executor writeExecutor;
+	private final long timeToLive;
+	private final int maxEntries;
+	
+	/**
+	 * Instantiates a new geocoding cache
+	 *
+	 * @param geocodingCacheDAO the DAO of the cache table
+	 * @param writeExecutor     the executor used to write in the cache table
+	 * @param timeToLive        the time to live of an entry in milliseconds
+	 * @param maxEntries        the maximum number of entries kept
+	 */
+	public GeocodingCache(@NonNull GeocodingCacheDAO geocodingCacheDAO, @NonNull Executor writeExecutor, long timeToLive, int maxEntries) {
+		if (timeToLive < 0) throw new IllegalArgumentException("timeToLive must be positive or null !");
+		if (maxEntries <= 0) throw new IllegalArgumentException("maxEntries must be positive !");
+		
+		this.geocodingCacheDAO = geocodingCacheDAO;
+		this.writeExecutor = writeExecutor;
+		this.timeToLive = timeToLive;
+		this.maxEntries = maxEntries;
+	}
+	
+	/**
+	 * Get the key of a lookup.
+	 * The city name is trimmed, its whitespaces collapsed and lower cased, the country code is trimmed and upper cased.
+	 *
+	 * @param city        the city name
+	 * @param countryCode the country code
+	 * @return the key of the lookup
+	 */
+	public static String getKey(@NonNull String city, @NonNull String countryCode) {
+		return WHITESPACES.matcher(city.trim()).replaceAll(" ").toLowerCase(Locale.ROOT) +
+				  ',' + countryCode.trim().toUpperCase(Locale.ROOT);
+	}
+	
+	/**
+	 * Look up a city and a country code in the cache
+	 *
+	 * @param city        the city name
+	 * @param countryCode the country code
+	 * @param now         the current time in milliseconds
+	 * @return the cached entry, null if there is none or if it expired
+	 */
+	@Nullable
+	@WorkerThread
+	public GeocodingCacheEntry get(@NonNull String city, @NonNull String countryCode, long now) {
+		String key = getKey(city, countryCode);
+		GeocodingCacheEntry entry = geocodingCacheDAO.getFromQueryKey(key);
+		
+		if (entry == null || isExpired(entry, now)) return null;
+		
+		writeExecutor.execute(() -> geocodingCacheDAO.updateLastAccessTime(key, now));
+		return entry;
+	}
+	
+	/**
+	 * Store the place found for a city and a country code.
+	 * Places without a city name or a country code are not stored.
+	 * Expired and least recently used entries are removed in the same transaction.
+	 *
+	 * @param city        the city name that was looked up
+	 * @param countryCode the country code that was looked up
+	 * @param place       the place found
+	 * @param now         the current time in milliseconds
+	 */
+	public void put(@NonNull String city, @NonNull String countryCode, @NonNull Place place, long now) {
+		Geolocation geolocation = place.getGeolocation();
+		if (geolocation.getCity() == null || geolocation.getCountryCode() == null) return;
+		
+		GeocodingCacheEntry entry = new GeocodingCacheEntry(getKey(city, countryCode),
+				  geolocation.getCity(),
+				  geolocation.getCountryCode(),
+				  geolocation.getCoordinates().getLatitude(),
+				  geolocation.getCoordinates().getLongitude(),
+				  place.getProperties().getTimeOffset(),
+				  now,
+				  now);
+		
+		writeExecutor.execute(() -> geocodingCacheDAO.insertAndEvict(entry, now - timeToLive, now, maxEntries));
+	}
+	
+	/**
+	 * Is an entry expired
+	 *
+	 * @param entry the entry
+	 * @param now   the current time in milliseconds
+	 * @return true if the entry is too old, or cached in the future meaning that the clock has been changed
+	 */
+	private boolean isExpired(@NonNull GeocodingCacheEntry entry, long now) {
+		return entry.getCachedTime() > now || now - entry.getCachedTime() >= timeToLive;
+	}
+}
@@ -0,0 +1,250 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.weather;
+
+import androidx.annotation.NonNull;
+
+import com.android.volley.Request;
+import com.android.volley.Response;
+import com.android.volley.VolleyError;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import fr.qgdev.openweather.repositories.places.Coordinates;
+
+/**
+ * InFlightRequests
+ * <p>
+ *    A table of pending requests keyed by endpoint and rounded coordinates.
+ *    The first caller for a key has to send the request, the next ones are attached to it
+ *    and every attached listener receives the shared response or error.
+ *    A key is released as soon as its response is dispatched.
+ *    A caller can detach itself before the response, the request is cancelled
+ *    when no other caller is waiting for it anymore.
+ * </p>
+ *
+ * @param <T> the type of the response
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+class InFlightRequests<T> {
+	
+	private final Map<String, PendingRequest<T>> pendingRequests;
+	
+	/**
+	 * Instantiates a new empty in-flight table
+	 */
+	InFlightRequests() {
+		this.pendingRequests = new HashMap<>();
+	}
+	
+	/**
+	 * Build the key of a request for an endpoint and some coordinates.
+	 * Coordinates are rounded to 4 decimals (about 11 meters) so that slightly different values
+	 * for the same place share the same request.
+	 *
+	 * @param endpoint    the endpoint of the request
+	 * @param coordinates the coordinates of the request
+	 * @return the key of the request
+	 */
+	static String getKey(@NonNull String endpoint, @NonNull Coordinates coordinates) {
+		return String.format(Locale.ROOT, "%s@%.4f,%.4f",
+				  endpoint,
+				  coordinates.getLatitude(),
+				  coordinates.getLongitude());
+	}
+	
+	/**
+	 * Attach listeners to the request of a key
+	 *
+	 * @param key              the key of the request
+	 * @param responseListener the listener to call with the shared response
+	 * @param errorListener    the listener to call with the shared error
+	 * @return true if no request was pending for this key and the caller must send it, false otherwise
+	 */
+	boolean attach(@NonNull String key,
+						@NonNull Response.Listener<T> responseListener,
+						@NonNull Response.ErrorListener errorListener) {
+		return attach(key, responseListener, responseListener, errorListener);
+	}
+	
+	/**
+	 * Attach listeners to the request of a key on behalf of an owner, used to detach them later
+	 *
+	 * @param key              the key of the request
+	 * @param owner            the owner of the listeners
+	 * @param responseListener the listener to call with the shared response
+	 * @param errorListener    the listener to call with the shared error
+	 * @return true if no request was pending for this key and the caller must send it, false otherwise
+	 */
+	synchronized boolean attach(@NonNull String key,
+										 @NonNull Object owner,
+										 @NonNull Response.Listener<T> responseListener,
+										 @NonNull Response.ErrorListener errorListener) {
+		PendingRequest<T> pendingRequest = pendingRequests.get(key);
+		boolean isFirst = pendingRequest == null;
+		
+		if (isFirst) {
+			pendingRequest = new PendingRequest<>();
+			pendingRequests.put(key, pendingRequest);
+		}
+		pendingRequest.listeners.add(new PendingListener<>(owner, responseListener, errorListener));
+		
+		return isFirst;
+	}
+	
+	/**
+	 * Bind the request sent for a key, so that it can be cancelled.
+	 * Must be called by the caller that has to send the request, before sending it.
+	 *
+	 * @param key     the key of the request
+	 * @param request the request sent
+	 */
+	synchronized void bind(@NonNull String key, @NonNull Request<?> request) {
+		PendingRequest<T> pendingRequest = pendingRequests.get(key);
+		if (pendingRequest != null) pendingRequest.request = request;
+	}
+	
+	/**
+	 * Detach the listeners of an owner from the request of a key.
+	 * They won't be called anymore, and the request is cancelled if nobody else is waiting for it.
+	 *
+	 * @param key   the key of the request
+	 * @param owner the owner of the listeners
+	 */
+	void detach(@NonNull String key, @NonNull Object owner) {
+		Request<?> requestToCancel = null;
+		
+		synchronized (this) {
+			PendingRequest<T> pendingRequest = pendingRequests.get(key);
+			if (pendingRequest == null) return;
+			
+			Iterator<PendingListener<T>> iterator = pendingRequest.listeners.iterator();
+			while (iterator.hasNext()) {
+				if (iterator.next().owner == owner) iterator.remove();
+			}
+			
+			if (pendingRequest.listeners.isEmpty()) {
+				pendingRequests.remove(key);
+				requestToCancel = pendingRequest.request;
+			}
+		}
+		
+		if (requestToCancel != null) requestToCancel.cancel();
+	}
+	
+	/**
+	 * Cancel every pending request.
+	 * Cancelled requests are never delivered by Volley, so the given error is dispatched to every listener.
+	 *
+	 * @param error the error to dispatch
+	 */
+	void cancelAll(@NonNull VolleyError error) {
+		List<PendingRequest<T>> cancelledRequests;
+		synchronized (this) {
+			cancelledRequests = new ArrayList<>(pendingRequests.values());
+			pendingRequests.clear();
+		}
+		
+		for (PendingRequest<T> pendingRequest : cancelledRequests) {
+			if (pendingRequest.request != null) pendingRequest.request.cancel();
+			for (PendingListener<T> listener : pendingRequest.listeners) {
+				listener.errorListener.onErrorResponse(error);
+			}
+		}
+	}
+	
+	/**
+	 * Count the number of requests currently pending
+	 *
+	 * @return the number of pending requests
+	 */
+	synchronized int size() {
+		return pendingRequests.size();
+	}
+	
+	/**
+	 * Release a key and get its attached listeners
+	 *
+	 * @param key the key of the request
+	 * @return the attached listeners, empty if none
+	 */
+	private synchronized List<PendingListener<T>> release(@NonNull String key) {
+		PendingRequest<T> pendingRequest = pendingRequests.remove(key);
+		if (pendingRequest == null) return new ArrayList<>();
+		return pendingRequest.listeners;
+	}
+	
+	/**
+	 * Dispatch a response to every listener attached to a key
+	 *
+	 * @param key      the key of the request
+	 * @param response the shared response
+	 */
+	void dispatchResponse(@NonNull String key, T response) {
+		//	Listeners are called outside of the lock, they may attach new requests
+		for (PendingListener<T> listener : release(key)) {
+			listener.responseListener.onResponse(response);
+		}
+	}
+	
+	/**
+	 * Dispatch an error to every listener attached to a key
+	 *
+	 * @param key   the key of the request
+	 * @param error the shared error
+	 */
+	void dispatchError(@NonNull String key, VolleyError error) {
+		//	Listeners are called outside of the lock, they may attach new requests
+		for (PendingListener<T> listener : release(key)) {
+			listener.errorListener.onErrorResponse(error);
+		}
+	}
+	
+	/**
+	 * A pending request and the listeners attached to it
+	 */
+	private static class PendingRequest<T> {
+		private final List<PendingListener<T>> listeners = new ArrayList<>();
+		private Request<?> request;
+	}
+	
+	/**
+	 * A couple of listeners attached to a pending request
+	 */
+	private static class PendingListener<T> {
+		private final Object owner;
+		private final Response.Listener<T> responseListener;
+		private final Response.ErrorListener errorListener;
+		
+		PendingListener(Object owner, Response.Listener<T> responseListener, Response.ErrorListener errorListener) {
+			this.owner = owner;
+			this.responseListener = responseListener;
+			this.errorListener = errorListener;
+		}
+	}
+}
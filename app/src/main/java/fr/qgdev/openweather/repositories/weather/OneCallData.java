@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.weather;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import fr.qgdev.openweather.metrics.CurrentWeather;
+import fr.qgdev.openweather.metrics.DailyWeatherForecast;
+import fr.qgdev.openweather.metrics.HourlyWeatherForecast;
+import fr.qgdev.openweather.metrics.MinutelyWeatherForecast;
+import fr.qgdev.openweather.metrics.WeatherAlert;
+
+/**
+ * OneCallData
+ * <p>
+ *    The weather data of a onecall response, decoded in a single pass from a stream.
+ *    Each object of the response is read straight into its metrics entity,
+ *    without building a JSONObject of the whole response first.
+ *    Entities are not bound to a place yet, their place id is set when the data is applied to a place.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see fr.qgdev.openweather.repositories.places.Place.Builder#updateWithOWMWeatherData(OneCallData)
+ */
+public class OneCallData {
+	
+	private final CurrentWeather currentWeather;
+	private final List<MinutelyWeatherForecast> minutelyWeatherForecastList;
+	private final List<HourlyWeatherForecast> hourlyWeatherForecastList;
+	private final List<DailyWeatherForecast> dailyWeatherForecastList;
+	private final List<WeatherAlert> weatherAlertsList;
+	
+	private OneCallData(CurrentWeather currentWeather,
+							  List<MinutelyWeatherForecast> minutelyWeatherForecastList,
+							  List<HourlyWeatherForecast> hourlyWeatherForecastList,
+							  List<DailyWeatherForecast> dailyWeatherForecastList,
+							  List<WeatherAlert> weatherAlertsList) {
+		this.currentWeather = currentWeather;
+		this.minutelyWeatherForecastList = Collections.unmodifiableList(minutelyWeatherForecastList);
+		this.hourlyWeatherForecastList = Collections.unmodifiableList(hourlyWeatherForecastList);
+		this.dailyWeatherForecastList = Collections.unmodifiableList(dailyWeatherForecastList);
+		this.weatherAlertsList = Collections.unmodifiableList(weatherAlertsList);
+	}
+	
+	/**
+	 * Decode a onecall response from a stream
+	 *
+	 * @param reader the reader positioned at the beginning of the response
+	 * @return the decoded weather data
+	 * @throws IOException if the response is malformed or some required data is missing
+	 */
+	@NonNull
+	public static OneCallData parse(@NonNull JsonReader reader) throws IOException {
+		CurrentWeather currentWeather = null;
+		List<MinutelyWeatherForecast> minutelyWeatherForecasts = new ArrayList<>();
+		List<HourlyWeatherForecast> hourlyWeatherForecasts = null;
+		List<DailyWeatherForecast> dailyWeatherForecasts = null;
+		List<WeatherAlert> weatherAlerts = new ArrayList<>();
+		
+		reader.beginObject();
+		while (reader.hasNext()) {
+			switch (reader.nextName()) {
+				case "current":
+					currentWeather = new CurrentWeather(reader);
+					break;
+				
+				//  Minutely weather forecast arraylist can be empty
+				case "minutely":
+					reader.beginArray();
+					while (reader.hasNext()) {
+						minutelyWeatherForecasts.add(new MinutelyWeatherForecast(reader));
+					}
+					reader.endArray();
+					break;
+				
+				case "hourly":
+					//	OpenWeatherMap sends 48 hourly forecasts
+					hourlyWeatherForecasts = new ArrayList<>(48);
+					reader.beginArray();
+					while (reader.hasNext()) {
+						hourlyWeatherForecasts.add(new HourlyWeatherForecast(reader));
+					}
+					reader.endArray();
+					break;
+				
+				case "daily":
+					//	OpenWeatherMap sends 8 daily forecasts
+					dailyWeatherForecasts = new ArrayList<>(8);
+					reader.beginArray();
+					while (reader.hasNext()) {
+						dailyWeatherForecasts.add(new DailyWeatherForecast(reader));
+					}
+					reader.endArray();
+					break;
+				
+				case "alerts":
+					reader.beginArray();
+					while (reader.hasNext()) {
+						weatherAlerts.add(new WeatherAlert(reader));
+					}
+					reader.endArray();
+					break;
+				
+				default:
+					reader.skipValue();
+			}
+		}
+		reader.endObject();
+		
+		if (currentWeather == null)
+			throw new MalformedJsonException("Cannot find current weather data in PlaceObjectJSON");
+		if (hourlyWeatherForecasts == null)
+			throw new MalformedJsonException("Cannot find hourly weather forecast data in PlaceObjectJSON");
+		if (dailyWeatherForecasts == null)
+			throw new MalformedJsonException("Cannot find daily weather forecast data in PlaceObjectJSON");
+		
+		return new OneCallData(currentWeather,
+				  minutelyWeatherForecasts,
+				  hourlyWeatherForecasts,
+				  dailyWeatherForecasts,
+				  weatherAlerts);
+	}
+	
+	public CurrentWeather getCurrentWeather() {
+		return currentWeather;
+	}
+	
+	public List<MinutelyWeatherForecast> getMinutelyWeatherForecastList() {
+		return minutelyWeatherForecastList;
+	}
+	
+	public List<HourlyWeatherForecast> getHourlyWeatherForecastList() {
+		return hourlyWeatherForecastList;
+	}
+	
+	public List<DailyWeatherForecast> getDailyWeatherForecastList() {
+		return dailyWeatherForecastList;
+	}
+	
+	public List<WeatherAlert> getWeatherAlertsList() {
+		return weatherAlertsList;
+	}
+	
+	/**
+	 * Gets the time of the data, given by the current weather
+	 *
+	 * @return the time of the data in seconds like OpenWeatherMap gives it
+	 */
+	public long getLastAvailableDataTime() {
+		return currentWeather.getDt() / 1000;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.weather;
+
+import androidx.annotation.GuardedBy;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.android.volley.NetworkResponse;
+import com.android.volley.ParseError;
+import com.android.volley.Request;
+import com.android.volley.Response;
+import com.android.volley.toolbox.HttpHeaderParser;
+import com.google.gson.stream.JsonReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+/**
+ * OneCallRequest
+ * <p>
+ *    A Volley request for the onecall endpoint that decodes the response on the network dispatcher thread.
+ *    The response bytes are streamed into a OneCallData, so the main thread only receives
+ *    the ready to use entities instead of a JSONObject to walk.
+ *    A request cancelled before its response is received skips the decoding.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see OneCallData
+ */
+class OneCallRequest extends Request<OneCallData> {
+	
+	private static final String DEFAULT_CHARSET = "UTF-8";
+	
+	private final Object lock = new Object();
+	
+	@Nullable
+	@GuardedBy("lock")
+	private Response.Listener<OneCallData> listener;
+	
+	/**
+	 * Instantiates a new onecall request
+	 *
+	 * @param url           the url of the request
+	 * @param listener      the listener that will receive the decoded data
+	 * @param errorListener the listener that will receive the error, a ParseError if the response cannot be decoded
+	 */
+	OneCallRequest(@NonNull String url,
+						@NonNull Response.Listener<OneCallData> listener,
+						@NonNull Response.ErrorListener errorListener) {
+		super(Method.GET, url, errorListener);
+		this.listener = listener;
+	}
+	
+	@Override
+	public void cancel() {
+		super.cancel();
+		synchronized (lock) {
+			listener = null;
+		}
+	}
+	
+	@Override
+	protected Response<OneCallData> parseNetworkResponse(NetworkResponse response) {
+		//	Nobody is waiting for it anymore, the response will be dropped by Volley anyway
+		if (isCanceled()) return Response.error(new RequestCancelledError());
+		
+		try (JsonReader reader = new JsonReader(new InputStreamReader(
+				  new ByteArrayInputStream(response.data),
+				  HttpHeaderParser.parseCharset(response.headers, DEFAULT_CHARSET)))) {
+			
+			return Response.success(OneCallData.parse(reader), HttpHeaderParser.parseCacheHeaders(response));
+		}
+		//	Malformed stream, unexpected token or invalid value
+		catch (IOException | IllegalStateException | IllegalArgumentException e) {
+			return Response.error(new ParseError(e));
+		}
+	}
+	
+	@Override
+	protected void deliverResponse(OneCallData response) {
+		Response.Listener<OneCallData> crtListener;
+		synchronized (lock) {
+			crtListener = listener;
+		}
+		if (crtListener != null) crtListener.onResponse(response);
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.weather;
+
+import androidx.annotation.NonNull;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import fr.qgdev.openweather.repositories.places.Place;
+
+/**
+ * PlaceDataJoiner
+ * <p>
+ *    Joins the weather and air quality responses of a place fetched in parallel.
+ *    Both responses are merged into the place once they are all received
+ *    and only one callback is then fired, with the same semantics as a serial fetch:
+ *    an error when the weather request fails, a partial success when only the air quality request fails
+ *    and a success when both succeed.
+ *    A cancelled joiner reports CANCELLED right away and ignores the responses received later.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see FetchDataCallback
+ */
+class PlaceDataJoiner {
+	
+	private static final Logger logger = Logger.getLogger(PlaceDataJoiner.class.getSimpleName());
+	
+	private final Place place;
+	private final FetchDataCallback callback;
+	
+	private boolean weatherReceived;
+	private OneCallData weatherResponse;
+	private RequestStatus weatherError;
+	
+	private boolean airQualityReceived;
+	private JSONObject airQualityResponse;
+	private RequestStatus airQualityError;
+	
+	private boolean delivered;
+	
+	/**
+	 * Instantiates a new joiner for a place
+	 *
+	 * @param place    the place that will be updated with both responses
+	 * @param callback the callback to call once both responses are merged
+	 */
+	PlaceDataJoiner(@NonNull Place place, @NonNull FetchDataCallback callback) {
+		this(place, callback, true, true);
+	}
+	
+	/**
+	 * Instantiates a new joiner for a place where only some requests are sent.
+	 * A request that isn't sent is considered as received and its data is left untouched in the place.
+	 *
+	 * @param place             the place that will be updated with the responses
+	 * @param callback          the callback to call once the responses are merged
+	 * @param expectsWeather    true if the onecall request is sent
+	 * @param expectsAirQuality true if the air_pollution request is sent
+	 */
+	PlaceDataJoiner(@NonNull Place place, @NonNull FetchDataCallback callback, boolean expectsWeather, boolean expectsAirQuality) {
+		this.place = place;
+		this.callback = callback;
+		this.weatherReceived = !expectsWeather;
+		this.airQualityReceived = !expectsAirQuality;
+		this.delivered = false;
+	}
+	
+	/**
+	 * On weather data received
+	 *
+	 * @param response the decoded onecall response
+	 */
+	synchronized void onWeatherResponse(@NonNull OneCallData response) {
+		weatherResponse = response;
+		weatherReceived = true;
+		join();
+	}
+	
+	/**
+	 * On weather request failure
+	 *
+	 * @param requestStatus the error cause of the weather request
+	 */
+	synchronized void onWeatherError(@NonNull RequestStatus requestStatus) {
+		weatherError = requestStatus;
+		weatherReceived = true;
+		join();
+	}
+	
+	/**
+	 * On air quality data received
+	 *
+	 * @param response the air_pollution response
+	 */
+	synchronized void onAirQualityResponse(@NonNull JSONObject response) {
+		airQualityResponse = response;
+		airQualityReceived = true;
+		join();
+	}
+	
+	/**
+	 * On air quality request failure
+	 *
+	 * @param requestStatus the error cause of the air quality request
+	 */
+	synchronized void onAirQualityError(@NonNull RequestStatus requestStatus) {
+		airQualityError = requestStatus;
+		airQualityReceived = true;
+		join();
+	}
+	
+	/**
+	 * Cancel the join.
+	 * The callback is told right away unless it has already been called,
+	 * responses received later are not merged into the place.
+	 */
+	synchronized void cancel() {
+		if (delivered) return;
+		delivered = true;
+		callback.onError(RequestStatus.CANCELLED);
+	}
+	
+	/**
+	 * Merge responses into the place and fire the callback when possible.
+	 * A failed weather request is reported without waiting for the air quality one.
+	 */
+	private void join() {
+		if (delivered) return;
+		
+		//	The weather request failed, the air quality response is not needed anymore
+		if (weatherReceived && weatherError != null) {
+			delivered = true;
+			callback.onError(weatherError);
+			return;
+		}
+		
+		if (!weatherReceived || !airQualityReceived) return;
+		delivered = true;
+		
+		//	No response without error means that the request wasn't sent
+		//	The onecall response is already decoded, malformed ones are reported as errors by the request
+		//	The place snapshot is never changed, responses are merged into a new one sharing what they don't replace
+		Place.Builder builder = place.toBuilder();
+		if (weatherResponse != null) builder.updateWithOWMWeatherData(weatherResponse);
+		
+		if (airQualityError != null) {
+			callback.onPartialSuccess(builder.build(), airQualityError);
+			return;
+		}
+		
+		try {
+			if (airQualityResponse != null) builder.updateWithOWMAirQualityData(airQualityResponse);
+			callback.onSuccess(builder.build());
+		} catch (JSONException e) {
+			logger.log(Level.WARNING, e.getMessage());
+			callback.onPartialSuccess(builder.build(), RequestStatus.UNKNOWN_ERROR);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.weather;
+
+import androidx.annotation.Nullable;
+
+import fr.qgdev.openweather.repositories.places.Place;
+
+/**
+ * PlaceFetcher
+ * <p>
+ *    What the refresh scheduler needs to fetch the data of a place.
+ *    It's implemented by WeatherService.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ * @see WeatherService
+ */
+public interface PlaceFetcher {
+	
+	/**
+	 * Fetch only some data of a place, until the given handle is cancelled
+	 *
+	 * @param place              the place to update
+	 * @param fetchWeather       true to fetch weather data with the onecall request
+	 * @param fetchAirQuality    true to fetch air quality data with the air_pollution request
+	 * @param cancellationHandle the handle used to cancel the fetch, may be null
+	 * @param callback           the callback to call once the requests are done
+	 */
+	void getPlaceDataOWM(Place place, boolean fetchWeather, boolean fetchAirQuality,
+								@Nullable CancellationHandle cancellationHandle, FetchDataCallback callback);
+	
+	/**
+	 * Get the time until which the API asked not to send requests anymore
+	 *
+	 * @return the time in milliseconds, 0 or a past time if no delay is known
+	 */
+	long getRetryAfterTime();
+}
@@ -36,5 +36,6 @@ public enum RequestStatus {
 	ALREADY_PRESENT,
 	AUTH_FAILED,
 	NOT_CONNECTED,
+	CANCELLED,
 	UNKNOWN_ERROR
 }
@@ -21,19 +21,22 @@
 package fr.qgdev.openweather.repositories.weather;
 
 import android.content.Context;
-import android.net.ConnectivityManager;
-import android.net.Network;
-import android.net.NetworkCapabilities;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.WorkerThread;
 
+import com.android.volley.NetworkResponse;
+import com.android.volley.ParseError;
 import com.android.volley.Request;
 import com.android.volley.RequestQueue;
+import com.android.volley.VolleyError;
+import com.android.volley.toolbox.HttpHeaderParser;
 import com.android.volley.toolbox.JsonObjectRequest;
 import com.android.volley.toolbox.Volley;
 
 import org.json.JSONException;
+import org.json.JSONObject;
 
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
@@ -42,8 +45,11 @@ import java.util.regex.Pattern;
 
 import fr.qgdev.openweather.R;
 import fr.qgdev.openweather.repositories.places.Coordinates;
+import fr.qgdev.openweather.repositories.places.GeocodingCacheEntry;
 import fr.qgdev.openweather.repositories.places.Place;
+import fr.qgdev.openweather.repositories.places.PlaceDatabase;
 import fr.qgdev.openweather.repositories.settings.SettingsManager;
+import fr.qgdev.openweather.utils.ParameterizedRunnable;
 
 /**
  * WeatherService
@@ -56,19 +62,39 @@ import fr.qgdev.openweather.repositories.settings.SettingsManager;
  * @author Quentin GOMES DOS REIS
  * @version 1
  */
-public class WeatherService {
+public class WeatherService implements PlaceFetcher {
 	
 	private static final String TAG = WeatherService.class.getSimpleName();
+	private static final String ENDPOINT_WEATHER_DATA = "onecall";
+	private static final String ENDPOINT_AIR_QUALITY_DATA = "air_pollution";
+	//	Kept short because the time offset of a place changes with daylight saving time
+	private static final long GEOCODING_TIME_TO_LIVE = 86400000;
+	private static final int GEOCODING_MAX_ENTRIES = 256;
 	private static final AtomicReference<WeatherService> instance = new AtomicReference<>(null);
 	private final SettingsManager settingsManager;
 	private final Logger logger = Logger.getLogger(TAG);
 	private final Context context;
 	private final RequestQueue queue;
+	private final ConnectivityMonitor connectivityMonitor;
+	private final InFlightRequests<JSONObject> lookupInFlightRequests;
+	private final InFlightRequests<OneCallData> weatherInFlightRequests;
+	private final InFlightRequests<JSONObject> airQualityInFlightRequests;
+	private final GeocodingCache geocodingCache;
+	private volatile long retryAfterTime;
 	
 	private WeatherService(Context context, @NonNull SettingsManager settingsManager) {
 		this.context = context;
 		this.queue = Volley.newRequestQueue(context);
+		this.connectivityMonitor = ConnectivityMonitor.getInstance(context);
 		this.settingsManager = settingsManager;
+		this.lookupInFlightRequests = new InFlightRequests<>();
+		this.weatherInFlightRequests = new InFlightRequests<>();
+		this.airQualityInFlightRequests = new InFlightRequests<>();
+		this.geocodingCache = new GeocodingCache(PlaceDatabase.getDatabase(context).geocodingCacheDAO(),
+				  PlaceDatabase.writeExecutor,
+				  GEOCODING_TIME_TO_LIVE,
+				  GEOCODING_MAX_ENTRIES);
+		this.retryAfterTime = 0;
 	}
 	
 	public static WeatherService getInstance(@NonNull Context context) {
@@ -83,8 +109,24 @@ public class WeatherService {
 		return instance.get();
 	}
 	
+	/**
+	 * Find a place from its city name and country code and fetch its data.
+	 * The geocoding cache is consulted first, the lookup request is only sent when the place isn't cached.
+	 *
+	 * @param placeID     the id of the new place
+	 * @param city        the city name
+	 * @param countryCode the country code
+	 * @param callback    the callback to call once the place data is fetched
+	 */
 	@WorkerThread
 	public void searchAndBuildPlace(String placeID, @NonNull String city, @NonNull String countryCode, @NonNull FetchDataCallback callback) {
+		long now = System.currentTimeMillis();
+		
+		GeocodingCacheEntry geocodingCacheEntry = geocodingCache.get(city, countryCode, now);
+		if (geocodingCacheEntry != null) {
+			getPlaceDataOWM(geocodingCacheEntry.toPlace(placeID, now), callback);
+			return;
+		}
 		
 		//  Setting up important variables and objects for weather data request
 		String url = String.format(context.getString(R.string.url_owm_properties_name),
@@ -93,7 +135,7 @@ public class WeatherService {
 				  settingsManager.getApiKey(),
 				  settingsManager.getDefaultLocale().getLanguage());
 		
-		searchAndBuildPlace(placeID, url, callback);
+		lookupAndBuildPlace(placeID, url, place -> geocodingCache.put(city, countryCode, place, System.currentTimeMillis()), callback);
 	}
 	
 	@WorkerThread
@@ -106,51 +148,34 @@ public class WeatherService {
 				  settingsManager.getApiKey(),
 				  settingsManager.getDefaultLocale().getLanguage());
 		
-		searchAndBuildPlace(placeID, url, callback);
+		lookupAndBuildPlace(placeID, url, null, callback);
 	}
 	
-	private void searchAndBuildPlace(String placeID, @NonNull String url, @NonNull FetchDataCallback callback) {
+	private void lookupAndBuildPlace(String placeID, @NonNull String url, @Nullable ParameterizedRunnable<Place> onPlaceFound, @NonNull FetchDataCallback callback) {
 		//  Before launching request, we must have to verify that if the device is connected to a network
 		//  The device is connected to an INTERNET capable network
 		if (this.deviceIsConnected()) {
-			JsonObjectRequest weatherRequest = new JsonObjectRequest
-					  (Request.Method.GET, url, null,
-								 response -> {
-									 try {
-										 Place place = new Place(placeID, -1, response);
-										 getPlaceDataOWM(place, callback);
-										 
-									 } catch (JSONException e) {
-										 logger.log(Level.WARNING, e.getMessage());
-										 callback.onError(RequestStatus.UNKNOWN_ERROR);
-									 }
-								 },
-								 error -> {
-									 //  no server response (NO INTERNET or SERVER DOWN)
-									 if (error.networkResponse == null) {
-										 callback.onError(RequestStatus.NO_ANSWER);
-									 }
-									 //  Server response
-									 else {
-										 switch (error.networkResponse.statusCode) {
-											 case 429:   //  Too many requests
-												 callback.onError(RequestStatus.TOO_MANY_REQUESTS);
-												 break;
-											 case 404:   //  Place not found
-												 callback.onError(RequestStatus.NOT_FOUND);
-												 break;
-											 case 401:   //  Unknown or wrong API key
-												 callback.onError(RequestStatus.AUTH_FAILED);
-												 break;
-											 default:    //  Unknown error
-												 callback.onError(RequestStatus.UNKNOWN_ERROR);
-												 logger.log(Level.WARNING, error.getMessage());
-												 break;
-										 }
-									 }
-								 });
+			if (!lookupInFlightRequests.attach(url,
+					  response -> {
+						  try {
+							  Place place = new Place(placeID, -1, response);
+							  if (onPlaceFound != null) onPlaceFound.run(place);
+							  getPlaceDataOWM(place, callback);
+							  
+						  } catch (JSONException e) {
+							  logger.log(Level.WARNING, e.getMessage());
+							  callback.onError(RequestStatus.UNKNOWN_ERROR);
+						  }
+					  },
+					  error -> callback.onError(getRequestStatus(error)))) return;
 			
-			queue.add(weatherRequest);
+			JsonObjectRequest lookupRequest = new JsonObjectRequest(Request.Method.GET, url, null,
+					  response -> lookupInFlightRequests.dispatchResponse(url, response),
+					  error -> lookupInFlightRequests.dispatchError(url, error));
+			lookupRequest.setTag(TAG);
+			lookupInFlightRequests.bind(url, lookupRequest);
+			
+			queue.add(lookupRequest);
 		}
 		
 		//  The device isn't connected to an INTERNET capable network
@@ -159,129 +184,209 @@ public class WeatherService {
 		}
 	}
 	
+	/**
+	 * Fetch weather and air quality data of a place.
+	 * Both requests are sent together and their responses are merged into the place
+	 * before the callback is called once.
+	 *
+	 * @param place    the place to update
+	 * @param callback the callback to call once both requests are done
+	 */
 	@WorkerThread
 	public void getPlaceDataOWM(Place place, FetchDataCallback callback) {
+		getPlaceDataOWM(place, true, true, callback);
+	}
+	
+	/**
+	 * Fetch only some data of a place.
+	 * Data that isn't fetched is left untouched in the place, so a place with only stale air quality data
+	 * costs a single air_pollution request.
+	 *
+	 * @param place           the place to update
+	 * @param fetchWeather    true to fetch weather data with the onecall request
+	 * @param fetchAirQuality true to fetch air quality data with the air_pollution request
+	 * @param callback        the callback to call once the requests are done
+	 */
+	@WorkerThread
+	public void getPlaceDataOWM(Place place, boolean fetchWeather, boolean fetchAirQuality, FetchDataCallback callback) {
+		getPlaceDataOWM(place, fetchWeather, fetchAirQuality, null, callback);
+	}
+	
+	/**
+	 * Fetch only some data of a place, until the given handle is cancelled.
+	 * Once cancelled, the callback gets CANCELLED right away and the responses are dropped without being decoded
+	 * or merged into the place. Requests that no other place is waiting for are cancelled.
+	 *
+	 * @param place              the place to update
+	 * @param fetchWeather       true to fetch weather data with the onecall request
+	 * @param fetchAirQuality    true to fetch air quality data with the air_pollution request
+	 * @param cancellationHandle the handle used to cancel the fetch, may be null
+	 * @param callback           the callback to call once the requests are done
+	 */
+	@Override
+	@WorkerThread
+	public void getPlaceDataOWM(Place place, boolean fetchWeather, boolean fetchAirQuality,
+										 @Nullable CancellationHandle cancellationHandle, FetchDataCallback callback) {
+		if (!fetchWeather && !fetchAirQuality)
+			throw new IllegalArgumentException("At least one kind of data must be fetched !");
 		
-		//  Setting up important variables and objects for weather data request
-		String url = String.format(context.getString(R.string.url_owm_weather_data),
-				  place.getGeolocation().getCoordinates().getLatitude(),
-				  place.getGeolocation().getCoordinates().getLongitude(),
-				  settingsManager.getApiKey(),
-				  settingsManager.getDefaultLocale().getLanguage());
-		
-		//  Before launching request, we must have to verify that if the device is connected to a network
-		//  The device is connected to an INTERNET capable network
-		if (this.deviceIsConnected()) {
-			JsonObjectRequest weatherRequest = new JsonObjectRequest
-					  (Request.Method.GET, url, null,
-								 response -> {
-									 try {
-										 place.updateWithOWMWeatherData(response);
-										 getAirQualityDataOWM(place, callback);
-										 
-									 } catch (JSONException e) {
-										 logger.log(Level.WARNING, e.getMessage());
-										 callback.onError(RequestStatus.UNKNOWN_ERROR);
-									 }
-								 },
-								 error -> {
-									 //  no server response (NO INTERNET or SERVER DOWN)
-									 if (error.networkResponse == null) {
-										 callback.onError(RequestStatus.NO_ANSWER);
-									 }
-									 //  Server response
-									 else {
-										 switch (error.networkResponse.statusCode) {
-											 case 429:   //  Too many requests
-												 callback.onError(RequestStatus.TOO_MANY_REQUESTS);
-												 break;
-											 case 404:   //  Place not found
-												 callback.onError(RequestStatus.NOT_FOUND);
-												 break;
-											 case 401:   //  Unknown or wrong API key
-												 callback.onError(RequestStatus.AUTH_FAILED);
-												 break;
-											 default:    //  Unknown error
-												 callback.onError(RequestStatus.UNKNOWN_ERROR);
-												 logger.log(Level.WARNING, error.getMessage());
-												 break;
-										 }
-									 }
-								 });
-			
-			queue.add(weatherRequest);
+		if (cancellationHandle != null && cancellationHandle.isCancelled()) {
+			callback.onError(RequestStatus.CANCELLED);
+			return;
 		}
 		
+		//  Before launching request, we must have to verify that if the device is connected to a network
 		//  The device isn't connected to an INTERNET capable network
-		else {
+		if (!this.deviceIsConnected()) {
 			callback.onError(RequestStatus.NOT_CONNECTED);
+			return;
 		}
+		
+		//  The device is connected to an INTERNET capable network
+		//  Requests are sent at once and joined when their responses are received
+		PlaceDataJoiner joiner = new PlaceDataJoiner(place, callback, fetchWeather, fetchAirQuality);
+		String weatherKey = fetchWeather ? addWeatherDataRequest(place, joiner) : null;
+		String airQualityKey = fetchAirQuality ? addAirQualityDataRequest(place, joiner) : null;
+		
+		if (cancellationHandle == null) return;
+		cancellationHandle.addOnCancelListener(() -> {
+			if (weatherKey != null) weatherInFlightRequests.detach(weatherKey, joiner);
+			if (airQualityKey != null) airQualityInFlightRequests.detach(airQualityKey, joiner);
+			joiner.cancel();
+		});
 	}
 	
-	
-	@WorkerThread
-	private void getAirQualityDataOWM(Place place, FetchDataCallback callback) {
+	/**
+	 * Send the onecall request of a place unless the same one is already pending.
+	 * The response is decoded on the network dispatcher thread by a OneCallRequest.
+	 * A pending onecall request is shared by every place at the same coordinates,
+	 * each place copies the decoded entities when they are applied to it.
+	 *
+	 * @param place  the place to fetch
+	 * @param joiner the joiner that will receive the response
+	 * @return the key of the request, used to detach the joiner from it
+	 */
+	private String addWeatherDataRequest(Place place, PlaceDataJoiner joiner) {
+		Coordinates coordinates = place.getGeolocation().getCoordinates();
+		String key = InFlightRequests.getKey(ENDPOINT_WEATHER_DATA, coordinates);
+		
+		if (!weatherInFlightRequests.attach(key, joiner, joiner::onWeatherResponse,
+				  error -> joiner.onWeatherError(getRequestStatus(error)))) return key;
 		
 		//  Setting up important variables and objects for weather data request
+		String url = String.format(context.getString(R.string.url_owm_weather_data),
+				  coordinates.getLatitude(),
+				  coordinates.getLongitude(),
+				  settingsManager.getApiKey(),
+				  settingsManager.getDefaultLocale().getLanguage());
+		
+		OneCallRequest weatherRequest = new OneCallRequest(url,
+				  response -> weatherInFlightRequests.dispatchResponse(key, response),
+				  error -> weatherInFlightRequests.dispatchError(key, error));
+		weatherRequest.setTag(TAG);
+		weatherInFlightRequests.bind(key, weatherRequest);
+		
+		queue.add(weatherRequest);
+		return key;
+	}
+	
+	/**
+	 * Send the air_pollution request of a place unless the same one is already pending.
+	 * When a request with the same key is in flight, the joiner is attached to it
+	 * and receives its response instead of sending a duplicate.
+	 *
+	 * @param place  the place to fetch
+	 * @param joiner the joiner that will receive the response
+	 * @return the key of the request, used to detach the joiner from it
+	 */
+	private String addAirQualityDataRequest(Place place, PlaceDataJoiner joiner) {
+		Coordinates coordinates = place.getGeolocation().getCoordinates();
+		String key = InFlightRequests.getKey(ENDPOINT_AIR_QUALITY_DATA, coordinates);
+		
+		if (!airQualityInFlightRequests.attach(key, joiner, joiner::onAirQualityResponse,
+				  error -> joiner.onAirQualityError(getRequestStatus(error)))) return key;
+		
+		//  Setting up important variables and objects for air quality data request
 		String url = String.format(context.getString(R.string.url_owm_airquality_data),
-				  place.getGeolocation().getCoordinates().getLatitude(),
-				  place.getGeolocation().getCoordinates().getLongitude(),
+				  coordinates.getLatitude(),
+				  coordinates.getLongitude(),
 				  settingsManager.getApiKey());
 		
-		//  Before launching request, we must have to verify that if the device is connected to a network
-		//  The device is connected to an INTERNET capable network
-		if (this.deviceIsConnected()) {
-			JsonObjectRequest airQualityRequest = new JsonObjectRequest
-					  (Request.Method.GET, url, null,
-								 response -> {
-									 try {
-										 place.updateWithOWMAirQualityData(response);
-										 callback.onSuccess(place);
-									 } catch (JSONException e) {
-										 logger.log(Level.WARNING, e.getMessage());
-										 callback.onPartialSuccess(place, RequestStatus.UNKNOWN_ERROR);
-									 }
-								 },
-								 error -> {
-									 //  no server response (NO INTERNET or SERVER DOWN)
-									 if (error.networkResponse == null) {
-										 callback.onPartialSuccess(place, RequestStatus.NO_ANSWER);
-									 }
-									 //  Server response
-									 else {
-										 switch (error.networkResponse.statusCode) {
-											 case 429:   //  Too many requests
-												 callback.onPartialSuccess(place, RequestStatus.TOO_MANY_REQUESTS);
-												 break;
-											 case 404:   //  Place not found
-												 callback.onPartialSuccess(place, RequestStatus.NOT_FOUND);
-												 break;
-											 case 401:   //  Unknown or wrong API key
-												 callback.onPartialSuccess(place, RequestStatus.AUTH_FAILED);
-												 break;
-											 default:    //  Unknown error
-												 callback.onPartialSuccess(place, RequestStatus.UNKNOWN_ERROR);
-												 logger.log(Level.WARNING, error.getMessage());
-												 break;
-										 }
-									 }
-								 });
-			queue.add(airQualityRequest);
+		JsonObjectRequest airQualityRequest = new JsonObjectRequest(Request.Method.GET, url, null,
+				  response -> airQualityInFlightRequests.dispatchResponse(key, response),
+				  error -> airQualityInFlightRequests.dispatchError(key, error));
+		airQualityRequest.setTag(TAG);
+		airQualityInFlightRequests.bind(key, airQualityRequest);
+		
+		queue.add(airQualityRequest);
+		return key;
+	}
+	
+	/**
+	 * Translate a Volley error into a request status
+	 *
+	 * @param error the error returned by Volley
+	 * @return the matching request status
+	 */
+	private RequestStatus getRequestStatus(@NonNull VolleyError error) {
+		//  the request has been cancelled
+		if (error instanceof RequestCancelledError) return RequestStatus.CANCELLED;
+		
+		//  the response cannot be decoded
+		if (error instanceof ParseError) return RequestStatus.UNKNOWN_ERROR;
+		
+		//  no server response (NO INTERNET or SERVER DOWN)
+		if (error.networkResponse == null) return RequestStatus.NO_ANSWER;
+		
+		//  Server response
+		switch (error.networkResponse.statusCode) {
+			case 429:   //  Too many requests
+				retryAfterTime = parseRetryAfterTime(error.networkResponse);
+				return RequestStatus.TOO_MANY_REQUESTS;
+			case 404:   //  Place not found
+				return RequestStatus.NOT_FOUND;
+			case 401:   //  Unknown or wrong API key
+				return RequestStatus.AUTH_FAILED;
+			default:    //  Unknown error
+				logger.log(Level.WARNING, error.getMessage());
+				return RequestStatus.UNKNOWN_ERROR;
 		}
-		//  The device isn't connected to an INTERNET capable network
-		else {
-			callback.onPartialSuccess(place, RequestStatus.NOT_CONNECTED);
+	}
+	
+	/**
+	 * Parse the Retry-After header of a response.
+	 * The header can either be a number of seconds or an HTTP date.
+	 *
+	 * @param response the response of the server
+	 * @return the time in milliseconds until which requests should not be sent, 0 if unknown
+	 */
+	private long parseRetryAfterTime(@NonNull NetworkResponse response) {
+		if (response.headers == null) return 0;
+		
+		String retryAfter = response.headers.get("Retry-After");
+		if (retryAfter == null) return 0;
+		
+		try {
+			return System.currentTimeMillis() + Long.parseLong(retryAfter.trim()) * 1000;
+		} catch (NumberFormatException e) {
+			//	Not a delay in seconds, so it should be an HTTP date, 0 is returned if it isn't
+			return HttpHeaderParser.parseDateAsEpoch(retryAfter);
 		}
 	}
 	
+	/**
+	 * Get the time until which the API asked not to send requests anymore.
+	 * It is updated with the Retry-After header of each Too Many Requests response.
+	 *
+	 * @return the time in milliseconds, 0 or a past time if no delay is known
+	 */
+	@Override
+	public long getRetryAfterTime() {
+		return retryAfterTime;
+	}
+	
 	public boolean deviceIsConnected() {
-		ConnectivityManager connectivityManager = context.getSystemService(ConnectivityManager.class);
-		Network network = connectivityManager.getActiveNetwork();
-		NetworkCapabilities networkCapabilities = connectivityManager.getNetworkCapabilities(network);
-		
-		return networkCapabilities != null &&
-				  networkCapabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET) &&
-				  networkCapabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_NOT_RESTRICTED);
+		return connectivityMonitor.isConnected();
 	}
 	
 	public boolean isApiKeyValid() {
@@ -294,7 +399,17 @@ public class WeatherService {
 		return apiKey != null && !apiKey.equals("");
 	}
 	
+	/**
+	 * Cancel every pending request.
+	 * Every caller waiting for a response gets CANCELLED.
+	 */
 	public void cancel() {
 		queue.cancelAll(TAG);
+		
+		//	Volley never delivers cancelled requests, their callers are told here
+		RequestCancelledError error = new RequestCancelledError();
+		lookupInFlightRequests.cancelAll(error);
+		weatherInFlightRequests.cancelAll(error);
+		airQualityInFlightRequests.cancelAll(error);
 	}
 }
@@ -33,14 +33,12 @@ import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
 
 import java.util.Calendar;
-import java.util.Date;
+import java.util.List;
 
 import fr.qgdev.openweather.R;
-import fr.qgdev.openweather.metrics.CurrentWeather;
-import fr.qgdev.openweather.metrics.DailyWeatherForecast;
-import fr.qgdev.openweather.metrics.HourlyWeatherForecast;
 import fr.qgdev.openweather.repositories.FormattingService;
-import fr.qgdev.openweather.repositories.places.Place;
+import fr.qgdev.openweather.repositories.places.WidgetPlace;
+import fr.qgdev.openweather.repositories.places.WidgetPlace.HourlySlot;
 
 /**
  * WidgetsBinder
@@ -54,6 +52,9 @@ import fr.qgdev.openweather.repositories.places.Place;
  */
 public class WidgetsBinder {
 	
+	//	Number of hourly forecasts shown by the largest widget
+	public static final int HOURLY_SLOTS = 4;
+	
 	/**
 	 * Bind data to a widget layout and return it
 	 * The binding will be done according to the widget type
@@ -64,7 +65,7 @@ public class WidgetsBinder {
 	 * @param formattingService the formatting service to format the data
 	 * @return RemoteViews      the widget remote view with the data
 	 */
-	public static RemoteViews bindWidget(@NonNull Context context, @NonNull WidgetType widgetType, @NonNull Place place, @NonNull FormattingService formattingService) {
+	public static RemoteViews bindWidget(@NonNull Context context, @NonNull WidgetType widgetType, @NonNull WidgetPlace place, @NonNull FormattingService formattingService) {
 		RemoteViews views;
 		
 		switch (widgetType) {
@@ -90,46 +91,48 @@ public class WidgetsBinder {
 	 * @param formattingService the formatting service to format the data
 	 * @return RemoteViews      the widget remote view with the data
 	 */
-	protected static RemoteViews bindStandardWidget(@NonNull Context context, @NonNull Place place, @NonNull FormattingService formattingService, boolean hasTheFourthHour) {
+	protected static RemoteViews bindStandardWidget(@NonNull Context context, @NonNull WidgetPlace place, @NonNull FormattingService formattingService, boolean hasTheFourthHour) {
 		// Construct the RemoteViews object
 		RemoteViews view = new RemoteViews(context.getPackageName(), R.layout.widget_standard);
 		
 		// Fill the widget with the place data
-		view.setTextViewText(R.id.city, place.getGeolocation().getCity());
-		
-		CurrentWeather currentWeather = place.getCurrentWeather();
-		DailyWeatherForecast currentDayWeather = place.getDailyWeatherForecast(0);
+		view.setTextViewText(R.id.city, place.getCity());
 		
 		view.setTextViewText(R.id.temperature_value,
-				  formattingService.getFloatFormattedTemperature(currentWeather.getTemperature(), NO_UNIT_NO_SPACE));
+				  formattingService.getFloatFormattedTemperature(place.getTemperature(), NO_UNIT_NO_SPACE));
 		view.setTextViewText(R.id.temperature_max_value,
-				  formattingService.getIntFormattedTemperature(currentDayWeather.getTemperatureMaximum(), NO_UNIT_NO_SPACE));
+				  formattingService.getIntFormattedTemperature(place.getTemperatureMaximum(), NO_UNIT_NO_SPACE));
 		view.setTextViewText(R.id.temperature_min_value,
-				  formattingService.getIntFormattedTemperature(currentDayWeather.getTemperatureMinimum(), NO_UNIT_NO_SPACE));
+				  formattingService.getIntFormattedTemperature(place.getTemperatureMinimum(), NO_UNIT_NO_SPACE));
 		
-		view.setImageViewResource(R.id.weather_icon, getWeatherIcon(currentWeather.getWeatherCode(), currentWeather.isDaytime()));
+		view.setImageViewResource(R.id.weather_icon, getWeatherIcon(place.getWeatherCode(), place.isDaytime()));
 		
 		// Set the first letter to capital
-		String weatherDescription = currentWeather.getWeatherDescription();
+		String weatherDescription = place.getWeatherDescription();
 		weatherDescription = weatherDescription.substring(0, 1).toUpperCase() + weatherDescription.substring(1);
 		view.setTextViewText(R.id.weather_description, weatherDescription);
 		
-		// Search the next three hours until now to find the next three hours of forecast
-		int nextThreeHoursIndex = 1;
-		HourlyWeatherForecast[] hourlyWeatherForecasts = new HourlyWeatherForecast[4];
+		// The projection already holds the next hours after the current weather
+		// Hours are hidden when the place doesn't have forecasts for all of them yet
+		List<HourlySlot> hourlySlots = place.getHourlySlots();
+		if (hourlySlots.size() < HOURLY_SLOTS) {
+			view.setViewVisibility(R.id.forecast_1h, View.GONE);
+			view.setViewVisibility(R.id.forecast_2h, View.GONE);
+			view.setViewVisibility(R.id.forecast_3h, View.GONE);
+			view.setViewVisibility(R.id.forecast_4h, View.GONE);
+			return view;
+		}
+		HourlySlot[] hourlyWeatherForecasts = new HourlySlot[HOURLY_SLOTS];
 		boolean[] isDaytime = {false, false, false, false};
 		
 		Calendar tmpCalendar = Calendar.getInstance();
-		tmpCalendar.setTimeInMillis(currentWeather.getSunriseDt());
+		tmpCalendar.setTimeInMillis(place.getSunriseDt());
 		int sunRiseHour = tmpCalendar.get(Calendar.HOUR_OF_DAY);
-		tmpCalendar.setTimeInMillis(currentWeather.getSunsetDt());
+		tmpCalendar.setTimeInMillis(place.getSunsetDt());
 		int sunSetHour = tmpCalendar.get(Calendar.HOUR_OF_DAY);
 		
-		for (int i = 0; i < 4; i++) {
-			HourlyWeatherForecast hourlyWeatherForecast = place.getHourlyWeatherForecast(nextThreeHoursIndex++);
-			if (hourlyWeatherForecast == null)
-				throw new NullPointerException("Hourly weather forecast is null");
-			
+		for (int i = 0; i < HOURLY_SLOTS; i++) {
+			HourlySlot hourlyWeatherForecast = hourlySlots.get(i);
 			hourlyWeatherForecasts[i] = hourlyWeatherForecast;
 			
 			// Check if the current hour is daytime
@@ -144,8 +147,7 @@ public class WidgetsBinder {
 		view.setImageViewResource(R.id.forecast_1h_weather_icon,
 				  getWeatherIcon(hourlyWeatherForecasts[0].getWeatherCode(), isDaytime[0]));
 		view.setTextViewText(R.id.forecast_1h_time,
-				  formattingService.getFormattedShortHour(new Date(hourlyWeatherForecasts[0].getDt()),
-							 place.getProperties().getTimeZone()));
+				  formattingService.getFormattedShortHour(hourlyWeatherForecasts[0].getDt(), place.getTimeOffset()));
 		
 		// Second hour
 		view.setTextViewText(R.id.forecast_2h_temperature_value,
@@ -153,8 +155,7 @@ public class WidgetsBinder {
 		view.setImageViewResource(R.id.forecast_2h_weather_icon,
 				  getWeatherIcon(hourlyWeatherForecasts[1].getWeatherCode(), isDaytime[1]));
 		view.setTextViewText(R.id.forecast_2h_time,
-				  formattingService.getFormattedShortHour(new Date(hourlyWeatherForecasts[1].getDt()),
-							 place.getProperties().getTimeZone()));
+				  formattingService.getFormattedShortHour(hourlyWeatherForecasts[1].getDt(), place.getTimeOffset()));
 		
 		// Third hour
 		view.setTextViewText(R.id.forecast_3h_temperature_value,
@@ -162,8 +163,7 @@ public class WidgetsBinder {
 		view.setImageViewResource(R.id.forecast_3h_weather_icon,
 				  getWeatherIcon(hourlyWeatherForecasts[2].getWeatherCode(), isDaytime[2]));
 		view.setTextViewText(R.id.forecast_3h_time,
-				  formattingService.getFormattedShortHour(new Date(hourlyWeatherForecasts[2].getDt()),
-							 place.getProperties().getTimeZone()));
+				  formattingService.getFormattedShortHour(hourlyWeatherForecasts[2].getDt(), place.getTimeOffset()));
 		
 		// Fourth hour
 		// Can be hidden if the widget is too small
@@ -176,8 +176,7 @@ public class WidgetsBinder {
 		view.setImageViewResource(R.id.forecast_4h_weather_icon,
 				  getWeatherIcon(hourlyWeatherForecasts[3].getWeatherCode(), isDaytime[3]));
 		view.setTextViewText(R.id.forecast_4h_time,
-				  formattingService.getFormattedShortHour(new Date(hourlyWeatherForecasts[3].getDt()),
-							 place.getProperties().getTimeZone()));
+				  formattingService.getFormattedShortHour(hourlyWeatherForecasts[3].getDt(), place.getTimeOffset()));
 		
 		return view;
 	}
@@ -190,17 +189,15 @@ public class WidgetsBinder {
 	 * @param formattingService the formatting service
 	 * @return RemoteViews       The widget remote view with the data
 	 */
-	protected static RemoteViews bindMinimalWidget(@NonNull Context context, @NonNull Place place, @NonNull FormattingService formattingService) {
+	protected static RemoteViews bindMinimalWidget(@NonNull Context context, @NonNull WidgetPlace place, @NonNull FormattingService formattingService) {
 		// Construct the RemoteViews object
 		RemoteViews view = new RemoteViews(context.getPackageName(), R.layout.widget_minimal_linear);
 		
 		// Fill the widget with the place data
-		CurrentWeather currentWeather = place.getCurrentWeather();
-		
 		view.setTextViewText(R.id.temperature_value,
-				  formattingService.getFloatFormattedTemperature(currentWeather.getTemperature(), NO_UNIT_NO_SPACE));
+				  formattingService.getFloatFormattedTemperature(place.getTemperature(), NO_UNIT_NO_SPACE));
 		
-		view.setImageViewResource(R.id.weather_icon, getWeatherIcon(currentWeather.getWeatherCode(), currentWeather.isDaytime()));
+		view.setImageViewResource(R.id.weather_icon, getWeatherIcon(place.getWeatherCode(), place.isDaytime()));
 		
 		return view;
 	}
@@ -36,6 +36,7 @@ import android.widget.RemoteViews;
 import android.widget.Toast;
 
 import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
 import androidx.lifecycle.Observer;
 
 import java.util.ArrayList;
@@ -47,6 +48,7 @@ import fr.qgdev.openweather.repositories.AppRepository;
 import fr.qgdev.openweather.repositories.FormattingService;
 import fr.qgdev.openweather.repositories.places.Geolocation;
 import fr.qgdev.openweather.repositories.places.Place;
+import fr.qgdev.openweather.repositories.places.WidgetPlace;
 import fr.qgdev.openweather.widgets.WidgetsBinder.WidgetType;
 
 /**
@@ -55,6 +57,7 @@ import fr.qgdev.openweather.widgets.WidgetsBinder.WidgetType;
  * 	An activity to configure a widget.
  * 	Will show a spinner with all places registered in the app.
  * 	The user will be able to select a place and confirm.
+ * 	The preview follows the selected place, it is updated each time this place changes.
  * </p>
  *
  * @author Quentin GOMES DOS REIS
@@ -65,6 +68,8 @@ public class WidgetsConfigurationActivity extends Activity {
 	private int mAppWidgetId = AppWidgetManager.INVALID_APPWIDGET_ID;
 	private String[] placeIds;
 	private WidgetConfigurationBinding binding;
+	private LiveData<Place> previewPlaceLiveData;
+	private Observer<Place> previewPlaceObserver;
 	
 	/**
 	 * WidgetsConfigurationActivity constructor
@@ -83,7 +88,7 @@ public class WidgetsConfigurationActivity extends Activity {
 	 * @param formattingService The formatting service to use to format data
 	 * @return The generated view
 	 */
-	private static View generateNewWidgetPreview(@NonNull Context context, @NonNull WidgetType widgetType, @NonNull Place place, @NonNull FormattingService formattingService) {
+	private static View generateNewWidgetPreview(@NonNull Context context, @NonNull WidgetType widgetType, @NonNull WidgetPlace place, @NonNull FormattingService formattingService) {
 		RemoteViews widget = bindWidget(context, widgetType, place, formattingService);
 		return widget.apply(context, null);
 	}
@@ -98,31 +103,56 @@ public class WidgetsConfigurationActivity extends Activity {
 	 * @param binding    The binding to use to update the activity
 	 */
 	private static void updateWidgetPreview(@NonNull Context context, @NonNull WidgetType widgetType, String placeId, @NonNull AppRepository repository, @NonNull WidgetConfigurationBinding binding) {
-		repository.getPlaceFromPlaceIdLiveData(placeId).observeForever(new Observer<>() {
-			@Override
-			public void onChanged(Place place) {
-				if (place == null) return;
-				
-				// Generate preview
-				View preview = generateNewWidgetPreview(context,
-						  widgetType,
-						  place,
-						  repository.getFormattingService());
-				
-				// Add preview to the layout with the correct size
-				binding.widgetPreview.removeAllViews();
-				binding.widgetPreview.addView(preview,
-						  widgetType.getPxWidth(context),
-						  widgetType.getPxHeight(context));
-				
-				
-				// Enable confirm button
-				binding.confirmButton.setEnabled(true);
-				
-				// Don't observe anymore, we have the data
-				repository.getPlaceFromPlaceIdLiveData(placeId).removeObserver(this);
-			}
-		});
+		// The place is loaded in background, views must be updated on the UI thread
+		repository.loadWidgetPlace(placeId, WidgetsBinder.HOURLY_SLOTS, place -> binding.widgetPreview.post(() -> {
+			// Generate preview
+			View preview = generateNewWidgetPreview(context,
+					  widgetType,
+					  place,
+					  repository.getFormattingService());
+			
+			// Add preview to the layout with the correct size
+			binding.widgetPreview.removeAllViews();
+			binding.widgetPreview.addView(preview,
+					  widgetType.getPxWidth(context),
+					  widgetType.getPxHeight(context));
+			
+			
+			// Enable confirm button
+			binding.confirmButton.setEnabled(true);
+		}));
+	}
+	
+	/**
+	 * Will observe the place selected by the user to update the preview each time it changes.
+	 * The place previously observed isn't observed anymore.
+	 *
+	 * @param context    The context needed to generate the view
+	 * @param widgetType The widget type in order to generate the correct view
+	 * @param placeId    The place id to use to generate and fill the view
+	 * @param repository The repository to use to get the place
+	 */
+	private void observePreviewPlace(@NonNull Context context, @NonNull WidgetType widgetType, String placeId, @NonNull AppRepository repository) {
+		stopObservingPreviewPlace();
+		
+		previewPlaceObserver = place -> {
+			// Null until the place is loaded, or if it has been deleted
+			if (place == null) return;
+			updateWidgetPreview(context, widgetType, placeId, repository, binding);
+		};
+		previewPlaceLiveData = repository.getPlaceFromPlaceIdLiveData(placeId);
+		previewPlaceLiveData.observeForever(previewPlaceObserver);
+	}
+	
+	/**
+	 * Will stop observing the place shown in the preview, if any.
+	 */
+	private void stopObservingPreviewPlace() {
+		if (previewPlaceLiveData == null) return;
+		
+		previewPlaceLiveData.removeObserver(previewPlaceObserver);
+		previewPlaceLiveData = null;
+		previewPlaceObserver = null;
 	}
 	
 	/**
@@ -240,7 +270,7 @@ public class WidgetsConfigurationActivity extends Activity {
 				binding.placeSpinner.setOnItemSelectedListener(new AdapterView.OnItemSelectedListener() {
 					@Override
 					public void onItemSelected(AdapterView<?> parent, View view, int position, long id) {
-						updateWidgetPreview(context, widgetType, placeIds[position], repository, binding);
+						observePreviewPlace(context, widgetType, placeIds[position], repository);
 					}
 					
 					@Override
@@ -252,11 +282,10 @@ public class WidgetsConfigurationActivity extends Activity {
 				// Setup preview
 				// If the widget is already configured, show the preview with the current configuration
 				// Otherwise, show the preview with the first place in the list
-				updateWidgetPreview(context,
+				observePreviewPlace(context,
 						  widgetType,
 						  widgetsSettings == null ? placeIds[0] : widgetsSettings.getPlaceId(),
-						  repository,
-						  binding);
+						  repository);
 				
 				// Setup confirm button
 				binding.confirmButton.setOnClickListener(v -> {
@@ -280,4 +309,13 @@ public class WidgetsConfigurationActivity extends Activity {
 			}
 		});
 	}
+	
+	/**
+	 * Called when the activity is destroyed
+	 */
+	@Override
+	protected void onDestroy() {
+		stopObservingPreviewPlace();
+		super.onDestroy();
+	}
 }
\ No newline at end of file
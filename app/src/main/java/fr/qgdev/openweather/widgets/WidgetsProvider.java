@@ -35,7 +35,6 @@ import android.widget.RemoteViews;
 
 import androidx.annotation.NonNull;
 import androidx.collection.ArrayMap;
-import androidx.lifecycle.Observer;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -44,7 +43,7 @@ import java.util.Map;
 
 import fr.qgdev.openweather.repositories.AppRepository;
 import fr.qgdev.openweather.repositories.FormattingService;
-import fr.qgdev.openweather.repositories.places.Place;
+import fr.qgdev.openweather.repositories.places.WidgetPlace;
 import fr.qgdev.openweather.widgets.WidgetsBinder.WidgetType;
 
 /**
@@ -69,7 +68,7 @@ public class WidgetsProvider extends AppWidgetProvider {
 	 * @param sizes             the list of sizes to display
 	 * @return the map of remote views
 	 */
-	private static Map<SizeF, RemoteViews> getRemoteViewsMap(@NonNull Context context, @NonNull Place place, @NonNull FormattingService formattingService, @NonNull List<SizeF> sizes) {
+	private static Map<SizeF, RemoteViews> getRemoteViewsMap(@NonNull Context context, @NonNull WidgetPlace place, @NonNull FormattingService formattingService, @NonNull List<SizeF> sizes) {
 		if (sizes.isEmpty()) throw new IllegalArgumentException("sizes must not be empty");
 		Map<SizeF, RemoteViews> views = new ArrayMap<>();
 		
@@ -109,23 +108,16 @@ public class WidgetsProvider extends AppWidgetProvider {
 		List<SizeF> sizes = getSizes(appWidgetOptions);
 		if (sizes == null || sizes.isEmpty()) return;
 		
-		repository.getPlaceFromPlaceIdLiveData(widgetsSettings.getPlaceId()).observeForever(new Observer<Place>() {
-			@Override
-			public void onChanged(Place place) {
-				if (place == null) return;
-				
-				// Construct the RemoteViews object
-				Map<SizeF, RemoteViews> views = getRemoteViewsMap(context, place, repository.getFormattingService(), sizes);
-				
-				// Instruct the widget manager to update the widget
-				if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
-					RemoteViews remoteViews = new RemoteViews(views);
-					appWidgetManager.updateAppWidget(appWidgetId, remoteViews);
-				} else {
-					appWidgetManager.updateAppWidget(appWidgetId, views.get(sizes.get(0)));
-				}
-				
-				repository.getPlaceFromPlaceIdLiveData(widgetsSettings.getPlaceId()).removeObserver(this);
+		repository.loadWidgetPlace(widgetsSettings.getPlaceId(), WidgetsBinder.HOURLY_SLOTS, place -> {
+			// Construct the RemoteViews object
+			Map<SizeF, RemoteViews> views = getRemoteViewsMap(context, place, repository.getFormattingService(), sizes);
+			
+			// Instruct the widget manager to update the widget
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+				RemoteViews remoteViews = new RemoteViews(views);
+				appWidgetManager.updateAppWidget(appWidgetId, remoteViews);
+			} else {
+				appWidgetManager.updateAppWidget(appWidgetId, views.get(sizes.get(0)));
 			}
 		});
 	}
@@ -180,29 +172,41 @@ public class WidgetsProvider extends AppWidgetProvider {
 		if (placeId == null) return;   // Invalid placeId
 		
 		// Get the place data from the placeId
-		repository.getPlaceFromPlaceIdLiveData(placeId).observeForever(place -> {
-			if (place == null) return;   // Invalid place or not retrieved yet
-			
-			Map<SizeF, RemoteViews> viewMapping = new ArrayMap<>();
-			RemoteViews remoteViews;
-			
-			//	For Android 12 and above
-			if (android.os.Build.VERSION.SDK_INT >= android.os.Build.VERSION_CODES.S) {
-				for (SizeF size : sizes) {
-					WidgetType widgetType = WidgetType.fromSizeF(size);
-					//	Invalid widget type, so we didn't have a widget for this size
-					if (widgetType == null) continue;
-					viewMapping.put(size, bindWidget(context, widgetType, place, repository.getFormattingService()));
-				}
-				remoteViews = new RemoteViews(viewMapping);
-			}
-			//	For Android 11 and below
-			else {
-				WidgetType widgetType = WidgetType.fromSizeF(sizes.get(0));
-				remoteViews = bindWidget(context, widgetType, place, repository.getFormattingService());
+		repository.loadWidgetPlace(placeId, WidgetsBinder.HOURLY_SLOTS,
+				  place -> updateWidgetOptions(context, appWidgetManager, appWidgetId, sizes, place, repository));
+	}
+	
+	/**
+	 * Bind the widget to the sizes given by its new options
+	 *
+	 * @param context          The context
+	 * @param appWidgetManager The widget manager
+	 * @param appWidgetId      The widget id
+	 * @param sizes            The sizes available for the widget
+	 * @param place            The place shown by the widget
+	 * @param repository       The app repository
+	 */
+	private void updateWidgetOptions(Context context, AppWidgetManager appWidgetManager, int appWidgetId,
+												List<SizeF> sizes, WidgetPlace place, AppRepository repository) {
+		Map<SizeF, RemoteViews> viewMapping = new ArrayMap<>();
+		RemoteViews remoteViews;
+		
+		//	For Android 12 and above
+		if (android.os.Build.VERSION.SDK_INT >= android.os.Build.VERSION_CODES.S) {
+			for (SizeF size : sizes) {
+				WidgetType widgetType = WidgetType.fromSizeF(size);
+				//	Invalid widget type, so we didn't have a widget for this size
+				if (widgetType == null) continue;
+				viewMapping.put(size, bindWidget(context, widgetType, place, repository.getFormattingService()));
 			}
-			appWidgetManager.updateAppWidget(appWidgetId, remoteViews);
-		});
+			remoteViews = new RemoteViews(viewMapping);
+		}
+		//	For Android 11 and below
+		else {
+			WidgetType widgetType = WidgetType.fromSizeF(sizes.get(0));
+			remoteViews = bindWidget(context, widgetType, place, repository.getFormattingService());
+		}
+		appWidgetManager.updateAppWidget(appWidgetId, remoteViews);
 	}
 	
 	/**
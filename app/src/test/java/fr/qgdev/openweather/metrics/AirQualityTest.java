@@ -22,7 +22,6 @@
 package fr.qgdev.openweather.metrics;
 
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static fr.qgdev.openweather.utils.TestUtils.testAssertEqualsFloatValues;
@@ -35,6 +34,8 @@ import org.json.JSONObject;
 import org.junit.Before;
 import org.junit.Test;
 
+import fr.qgdev.openweather.utils.TestMetrics;
+
 public class AirQualityTest {
 	
 	private AirQuality airQuality;
@@ -45,7 +46,8 @@ public class AirQualityTest {
 	 */
 	@Before
 	public void setUp() {
-		airQuality = new AirQuality();
+		airQuality = TestMetrics.airQuality(values -> {
+		});
 	}
 	
 	/**
@@ -54,7 +56,7 @@ public class AirQualityTest {
 	 */
 	@Test
 	public void basicConstructor() {
-		AirQuality airQuality = new AirQuality();
+		AirQuality airQuality = new AirQuality("", 1, 0, 0, 0, 0, 0, 0, 0, 0);
 		
 		String placeId = airQuality.getPlaceId();
 		int aqi = airQuality.getAqi();
@@ -150,7 +152,7 @@ public class AirQualityTest {
 											
 											AirQuality airQuality = new AirQuality(json);
 											
-											assertNull(airQuality.getPlaceId());
+											assertEquals("", airQuality.getPlaceId());
 											assertEquals(aqi, airQuality.getAqi());
 											assertEquals(co, airQuality.getCo(), 0.0f);
 											assertEquals(no, airQuality.getNo(), 0.0f);
@@ -225,270 +227,243 @@ public class AirQualityTest {
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetPlaceId() throws Exception {
+	public void getPlaceId() throws Exception {
 		String[] testValues = {"", "TeSt", "test", "TEST", "Test", "tEsT"};
 		
-		testAssertEqualsStringValues(testValues, id -> airQuality.setPlaceId(id), airQuality::getPlaceId);
+		testAssertEqualsStringValues(testValues, value -> airQuality = TestMetrics.airQuality(values -> values.placeId = value), () -> airQuality.getPlaceId());
 	}
 	
 	/**
-	 * Test the aqi getter and setter with all possibles values.
+	 * Test the aqi getter with all possibles values.
 	 * Test will pass only if the aqi value is the same as the returned value
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetAqi() throws Exception {
+	public void getAqi() throws Exception {
 		int[] testValues = {1, 2, 3, 4, 5};
 		
-		testAssertEqualsIntValues(testValues, aqi -> airQuality.setAqi(aqi), airQuality::getAqi);
+		testAssertEqualsIntValues(testValues, value -> airQuality = TestMetrics.airQuality(values -> values.aqi = value), () -> airQuality.getAqi());
 	}
 	
 	/**
-	 * Test the aqi setter with out of bounds values.
-	 * Test will pass only if for each values an exception is thrown
-	 * and if the aqi value is the same as before function call.
+	 * Test the constructor with out of bounds aqi values.
+	 * Test will pass only if for each values an exception is thrown.
 	 */
 	@Test
-	public void setAqiOutBounds() {
+	public void aqiOutBounds() {
 		int[] testValues = {Integer.MIN_VALUE, -1, 0, 6, Integer.MAX_VALUE};
-		int expected = airQuality.getAqi();
 		
 		for (int testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> airQuality.setAqi(testValue));
-			assertEquals(expected, airQuality.getAqi());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.airQuality(values -> values.aqi = testValue));
 		}
 	}
 	
 	/**
-	 * Test the Co getter and setter with all possibles values.
+	 * Test the Co getter with all possibles values.
 	 * Test will pass only if the Co value is the same as the returned value
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetCo() throws Exception {
+	public void getCo() throws Exception {
 		float[] testValues = {0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, co -> airQuality.setCo(co), airQuality::getCo, 0.0f);
+		testAssertEqualsFloatValues(testValues, value -> airQuality = TestMetrics.airQuality(values -> values.co = value), () -> airQuality.getCo(), 0.0f);
 	}
 	
 	/**
-	 * Test the Co setter with out of bounds values.
-	 * Test will pass only if for each values an exception is thrown
-	 * and if the Co value is the same as before function call.
+	 * Test the constructor with out of bounds Co values.
+	 * Test will pass only if for each values an exception is thrown.
 	 */
 	@Test
-	public void setCoOutBounds() {
+	public void coOutBounds() {
 		float[] testValues = {-Float.MIN_VALUE, -1};
-		float expected = airQuality.getCo();
 		
 		for (float testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> airQuality.setCo(testValue));
-			assertEquals(expected, airQuality.getCo(), 0.0f);
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.airQuality(values -> values.co = testValue));
 		}
 	}
 	
 	/**
-	 * Test the No getter and setter with all possibles values.
+	 * Test the No getter with all possibles values.
 	 * Test will pass only if the No value is the same as the returned value
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetNo() throws Exception {
+	public void getNo() throws Exception {
 		float[] testValues = {0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, no -> airQuality.setNo(no), airQuality::getNo, 0.0f);
+		testAssertEqualsFloatValues(testValues, value -> airQuality = TestMetrics.airQuality(values -> values.no = value), () -> airQuality.getNo(), 0.0f);
 	}
 	
 	/**
-	 * Test the No setter with out of bounds values.
-	 * Test will pass only if for each values an exception is thrown
-	 * and if the No value is the same as before function call.
+	 * Test the constructor with out of bounds No values.
+	 * Test will pass only if for each values an exception is thrown.
 	 */
 	@Test
-	public void setNoOutBounds() {
+	public void noOutBounds() {
 		float[] testValues = {-Float.MIN_VALUE, -1};
-		float expected = airQuality.getNo();
 		
 		for (float testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> airQuality.setNo(testValue));
-			assertEquals(expected, airQuality.getNo(), 0.0f);
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.airQuality(values -> values.no = testValue));
 		}
 	}
 	
 	/**
-	 * Test the No2 getter and setter with all possibles values.
+	 * Test the No2 getter with all possibles values.
 	 * Test will pass only if the No2 value is the same as the returned value
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetNo2() throws Exception {
+	public void getNo2() throws Exception {
 		float[] testValues = {0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, no2 -> airQuality.setNo2(no2), airQuality::getNo2, 0.0f);
+		testAssertEqualsFloatValues(testValues, value -> airQuality = TestMetrics.airQuality(values -> values.no2 = value), () -> airQuality.getNo2(), 0.0f);
 	}
 	
 	/**
-	 * Test the No2 setter with out of bounds values.
-	 * Test will pass only if for each values an exception is thrown
-	 * and if the No2 value is the same as before function call.
+	 * Test the constructor with out of bounds No2 values.
+	 * Test will pass only if for each values an exception is thrown.
 	 */
 	@Test
-	public void setNo2OutBounds() {
+	public void no2OutBounds() {
 		float[] testValues = {-Float.MIN_VALUE, -1};
-		float expected = airQuality.getNo2();
 		
 		for (float testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> airQuality.setNo2(testValue));
-			assertEquals(expected, airQuality.getNo2(), 0.0f);
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.airQuality(values -> values.no2 = testValue));
 		}
 	}
 	
 	/**
-	 * Test the O3 getter and setter with all possibles values.
+	 * Test the O3 getter with all possibles values.
 	 * Test will pass only if the O3 value is the same as the returned value
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetO3() throws Exception {
+	public void getO3() throws Exception {
 		float[] testValues = {0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, o3 -> airQuality.setO3(o3), airQuality::getO3, 0.0f);
+		testAssertEqualsFloatValues(testValues, value -> airQuality = TestMetrics.airQuality(values -> values.o3 = value), () -> airQuality.getO3(), 0.0f);
 	}
 	
 	/**
-	 * Test the O3 setter with out of bounds values.
-	 * Test will pass only if for each values an exception is thrown
-	 * and if the O3 value is the same as before function call.
+	 * Test the constructor with out of bounds O3 values.
+	 * Test will pass only if for each values an exception is thrown.
 	 */
 	@Test
-	public void setO3OutBounds() {
+	public void o3OutBounds() {
 		float[] testValues = {-Float.MIN_VALUE, -1};
-		float expected = airQuality.getO3();
 		
 		for (float testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> airQuality.setO3(testValue));
-			assertEquals(expected, airQuality.getO3(), 0.0f);
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.airQuality(values -> values.o3 = testValue));
 		}
 	}
 	
 	/**
-	 * Test the So2 getter and setter with all possibles values.
+	 * Test the So2 getter with all possibles values.
 	 * Test will pass only if the So2 value is the same as the returned value
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetSo2() throws Exception {
+	public void getSo2() throws Exception {
 		float[] testValues = {0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, so2 -> airQuality.setSo2(so2), airQuality::getSo2, 0.0f);
+		testAssertEqualsFloatValues(testValues, value -> airQuality = TestMetrics.airQuality(values -> values.so2 = value), () -> airQuality.getSo2(), 0.0f);
 	}
 	
 	/**
-	 * Test the So2 setter with out of bounds values.
-	 * Test will pass only if for each values an exception is thrown
-	 * and if the So2 value is the same as before function call.
+	 * Test the constructor with out of bounds So2 values.
+	 * Test will pass only if for each values an exception is thrown.
 	 */
 	@Test
-	public void setSo2OutBounds() {
+	public void so2OutBounds() {
 		float[] testValues = {-Float.MIN_VALUE, -1};
-		float expected = airQuality.getSo2();
 		
 		for (float testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> airQuality.setSo2(testValue));
-			assertEquals(expected, airQuality.getSo2(), 0.0f);
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.airQuality(values -> values.so2 = testValue));
 		}
 	}
 	
 	/**
-	 * Test the Pm2.5 getter and setter with all possibles values.
+	 * Test the Pm2.5 getter with all possibles values.
 	 * Test will pass only if the Pm2.5 value is the same as the returned value
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetPm2_5() throws Exception {
+	public void getPm2_5() throws Exception {
 		float[] testValues = {0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, pm2_5 -> airQuality.setPm2_5(pm2_5), airQuality::getPm2_5, 0.0f);
+		testAssertEqualsFloatValues(testValues, value -> airQuality = TestMetrics.airQuality(values -> values.pm2_5 = value), () -> airQuality.getPm2_5(), 0.0f);
 	}
 	
 	/**
-	 * Test the Pm2.5 setter with out of bounds values.
-	 * Test will pass only if for each values an exception is thrown
-	 * and if the Pm2.5 value is the same as before function call.
+	 * Test the constructor with out of bounds Pm2.5 values.
+	 * Test will pass only if for each values an exception is thrown.
 	 */
 	@Test
-	public void setPm2_5OutBounds() {
+	public void pm2_5OutBounds() {
 		float[] testValues = {-Float.MIN_VALUE, -1};
-		float expected = airQuality.getPm2_5();
 		
 		for (float testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> airQuality.setPm2_5(testValue));
-			assertEquals(expected, airQuality.getPm2_5(), 0.0f);
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.airQuality(values -> values.pm2_5 = testValue));
 		}
 	}
 	
 	/**
-	 * Test the Pm10 getter and setter with all possibles values.
+	 * Test the Pm10 getter with all possibles values.
 	 * Test will pass only if the Pm10 value is the same as the returned value
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetPm10() throws Exception {
+	public void getPm10() throws Exception {
 		float[] testValues = {0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, pm10 -> airQuality.setPm10(pm10), airQuality::getPm10, 0.0f);
+		testAssertEqualsFloatValues(testValues, value -> airQuality = TestMetrics.airQuality(values -> values.pm10 = value), () -> airQuality.getPm10(), 0.0f);
 	}
 	
 	/**
-	 * Test the Pm10 setter with out of bounds values.
-	 * Test will pass only if for each values an exception is thrown
-	 * and if the Pm10 value is the same as before function call.
+	 * Test the constructor with out of bounds Pm10 values.
+	 * Test will pass only if for each values an exception is thrown.
 	 */
 	@Test
-	public void setPm10OutBounds() {
+	public void pm10OutBounds() {
 		float[] testValues = {-Float.MIN_VALUE, -1};
-		float expected = airQuality.getPm10();
 		
 		for (float testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> airQuality.setPm10(testValue));
-			assertEquals(expected, airQuality.getPm10(), 0.0f);
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.airQuality(values -> values.pm10 = testValue));
 		}
 	}
 	
 	/**
-	 * Test the Nh3 getter and setter with all possibles values.
+	 * Test the Nh3 getter with all possibles values.
 	 * Test will pass only if the Nh3 value is the same as the returned value
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetNh3() throws Exception {
+	public void getNh3() throws Exception {
 		float[] testValues = {0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, nh3 -> airQuality.setNh3(nh3), airQuality::getNh3, 0.0f);
+		testAssertEqualsFloatValues(testValues, value -> airQuality = TestMetrics.airQuality(values -> values.nh3 = value), () -> airQuality.getNh3(), 0.0f);
 	}
 	
 	/**
-	 * Test the Nh3 setter with out of bounds values.
-	 * Test will pass only if for each values an exception is thrown
-	 * and if the Nh3 value is the same as before function call.
+	 * Test the constructor with out of bounds Nh3 values.
+	 * Test will pass only if for each values an exception is thrown.
 	 */
 	@Test
-	public void setNh3OutBounds() {
+	public void nh3OutBounds() {
 		float[] testValues = {-Float.MIN_VALUE, -1};
-		float expected = airQuality.getNh3();
 		
 		for (float testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> airQuality.setNh3(testValue));
-			assertEquals(expected, airQuality.getNh3(), 0.0f);
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.airQuality(values -> values.nh3 = testValue));
 		}
 	}
 }
\ No newline at end of file
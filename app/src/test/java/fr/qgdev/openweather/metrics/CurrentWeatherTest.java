@@ -37,6 +37,8 @@ import org.json.JSONObject;
 import org.junit.Before;
 import org.junit.Test;
 
+import fr.qgdev.openweather.utils.TestMetrics;
+
 public class CurrentWeatherTest {
 	
 	private CurrentWeather currentWeather;
@@ -47,7 +49,8 @@ public class CurrentWeatherTest {
 	 */
 	@Before
 	public void setUp() {
-		currentWeather = new CurrentWeather();
+		currentWeather = TestMetrics.currentWeather(values -> {
+		});
 	}
 	
 	/**
@@ -56,7 +59,7 @@ public class CurrentWeatherTest {
 	 */
 	@Test
 	public void basicConstructor() {
-		CurrentWeather currentWeather = new CurrentWeather();
+		CurrentWeather currentWeather = new CurrentWeather("", 0, "", "", 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, false, (short) 0, 0, 0);
 		
 		String placeId = currentWeather.getPlaceId();
 		long dt = currentWeather.getDt();
@@ -310,368 +313,346 @@ public class CurrentWeatherTest {
 	}
 	
 	/**
-	 * Test placeId getter and setter with all possibles values.
-	 * Test will pass only if the placeId returned value is the same as the original value (the one that have been set).
+	 * Test placeId getter with all possibles values.
+	 * Test will pass only if the placeId returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetPlaceIdTest() throws Exception {
+	public void getPlaceIdTest() throws Exception {
 		String[] testValues = {"", "TeSt", "test", "TEST", "Test", "tEsT"};
 		
-		testAssertEqualsStringValues(testValues, id -> currentWeather.setPlaceId(id), currentWeather::getPlaceId);
+		testAssertEqualsStringValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.placeId = value), () -> currentWeather.getPlaceId());
 	}
 	
 	/**
-	 * Test dt getter and setter with all possibles values.
-	 * Test will pass only if the dt returned value is the same as the original value (the one that have been set).
+	 * Test dt getter with all possibles values.
+	 * Test will pass only if the dt returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetDtTest() throws Exception {
+	public void getDtTest() throws Exception {
 		long[] testValues = {0, 1, Long.MAX_VALUE};
 		
-		testAssertEqualsLongValues(testValues, currentWeather::setDt, () -> currentWeather.getDt());
+		testAssertEqualsLongValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.dt = value), () -> currentWeather.getDt());
 	}
 	
 	/**
-	 * Test the dt setter with all possibles out of bounds values.
-	 * Test will pass only if the dt value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds dt values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setDtOutBoundsTest() {
+	public void dtOutBoundsTest() {
 		long[] testValues = {Long.MIN_VALUE, -1};
-		long expected = currentWeather.getDt();
 		
 		for (long testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setDt(testValue));
-			assertEquals(expected, currentWeather.getDt());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.dt = testValue));
 		}
 	}
 	
 	/**
-	 * Test the weather setter with all possibles out of bounds values.
-	 * Test will pass only if the weather value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds weather values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setWeatherOutBoundsTest() {
+	public void weatherOutBoundsTest() {
 		String[] testValues = {null};
-		String expected = currentWeather.getWeather();
 		
 		for (String testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setWeather(testValue));
-			assertEquals(expected, currentWeather.getWeather());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.weather = testValue));
 		}
 	}
 	
 	/**
-	 * Test weather getter and setter with all possibles values.
-	 * Test will pass only if the weather returned value is the same as the original value (the one that have been set).
+	 * Test weather getter with all possibles values.
+	 * Test will pass only if the weather returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetWeatherTest() throws Exception {
+	public void getWeatherTest() throws Exception {
 		String[] testValues = {"", "TeSt", "test", "TEST", "Test", "tEsT"};
 		
-		testAssertEqualsStringValues(testValues, currentWeather::setWeather, () -> currentWeather.getWeather());
+		testAssertEqualsStringValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.weather = value), () -> currentWeather.getWeather());
 	}
 	
 	/**
-	 * Test the weatherDescription setter with all possibles out of bounds values.
-	 * Test will pass only if the weatherDescription value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds weatherDescription values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setWeatherDescriptionOutBoundsTest() {
+	public void weatherDescriptionOutBoundsTest() {
 		String[] testValues = {null};
-		String expected = currentWeather.getWeatherDescription();
 		
 		for (String testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setWeatherDescription(testValue));
-			assertEquals(expected, currentWeather.getWeatherDescription());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.weatherDescription = testValue));
 		}
 	}
 	
 	/**
-	 * Test weatherDescription getter and setter with all possibles values.
-	 * Test will pass only if the weatherDescription returned value is the same as the original value (the one that have been set).
+	 * Test weatherDescription getter with all possibles values.
+	 * Test will pass only if the weatherDescription returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetWeatherDescriptionTest() throws Exception {
+	public void getWeatherDescriptionTest() throws Exception {
 		String[] testValues = {"", "TeSt", "test", "TEST", "Test", "tEsT"};
 		
-		testAssertEqualsStringValues(testValues, currentWeather::setWeatherDescription, () -> currentWeather.getWeatherDescription());
+		testAssertEqualsStringValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.weatherDescription = value), () -> currentWeather.getWeatherDescription());
 	}
 	
 	/**
-	 * Test the weatherCode setter with all possibles out of bounds values.
-	 * Test will pass only if the weatherCode value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds weatherCode values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setWeatherCodeOutBoundsTest() {
+	public void weatherCodeOutBoundsTest() {
 		int[] testValues = {Integer.MIN_VALUE, -1};
-		int expected = currentWeather.getWeatherCode();
 		
 		for (int testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setWeatherCode(testValue));
-			assertEquals(expected, currentWeather.getWeatherCode());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.weatherCode = testValue));
 		}
 	}
 	
 	/**
-	 * Test weatherCode getter and setter with all possibles values.
-	 * Test will pass only if the weatherCode returned value is the same as the original value (the one that have been set).
+	 * Test weatherCode getter with all possibles values.
+	 * Test will pass only if the weatherCode returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetAndSetWeatherCodeTest() throws Exception {
+	public void getWeatherCodeTest() throws Exception {
 		int[] testValues = {0, 1, Integer.MAX_VALUE};
 		
-		testAssertEqualsIntValues(testValues, currentWeather::setWeatherCode, () -> currentWeather.getWeatherCode());
+		testAssertEqualsIntValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.weatherCode = value), () -> currentWeather.getWeatherCode());
 	}
 	
 	/**
-	 * Test temperature getter and setter with all possibles values.
-	 * Test will pass only if the temperature returned value is the same as the original value (the one that have been set).
+	 * Test temperature getter with all possibles values.
+	 * Test will pass only if the temperature returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetAndSetTemperatureTest() throws Exception {
+	public void getTemperatureTest() throws Exception {
 		float[] testValues = {-Float.MIN_VALUE, -1, 0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, currentWeather::setTemperature, () -> currentWeather.getTemperature(), 0F);
+		testAssertEqualsFloatValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.temperature = value), () -> currentWeather.getTemperature(), 0F);
 	}
 	
 	/**
-	 * Test temperatureFeelsLike getter and setter with all possibles values.
-	 * Test will pass only if the temperature returned value is the same as the original value (the one that have been set).
+	 * Test temperatureFeelsLike getter with all possibles values.
+	 * Test will pass only if the temperature returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetTemperatureFeelsLikeTest() throws Exception {
+	public void getTemperatureFeelsLikeTest() throws Exception {
 		float[] testValues = {-Float.MIN_VALUE, -1, 0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, currentWeather::setTemperatureFeelsLike, () -> currentWeather.getTemperatureFeelsLike(), 0F);
+		testAssertEqualsFloatValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.temperatureFeelsLike = value), () -> currentWeather.getTemperatureFeelsLike(), 0F);
 	}
 	
 	/**
-	 * Test the pressure setter with all possibles out of bounds values.
-	 * Test will pass only if the pressure value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds pressure values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setPressureOutBoundsTest() {
+	public void pressureOutBoundsTest() {
 		int[] testValues = {Integer.MIN_VALUE, -1};
-		int expected = currentWeather.getPressure();
 		
 		for (int testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setPressure(testValue));
-			assertEquals(expected, currentWeather.getPressure());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.pressure = testValue));
 		}
 	}
 	
 	/**
-	 * Test pressure getter and setter with all possibles values.
-	 * Test will pass only if the pressure returned value is the same as the original value (the one that have been set).
+	 * Test pressure getter with all possibles values.
+	 * Test will pass only if the pressure returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetPressureTest() throws Exception {
+	public void getPressureTest() throws Exception {
 		int[] testValues = {0, 1, Integer.MAX_VALUE};
 		
-		testAssertEqualsIntValues(testValues, currentWeather::setPressure, () -> currentWeather.getPressure());
+		testAssertEqualsIntValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.pressure = value), () -> currentWeather.getPressure());
 	}
 	
 	/**
-	 * Test the humidity setter with all possibles out of bounds values.
-	 * Test will pass only if the humidity value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds humidity values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setHumidityOutBoundsTest() {
+	public void humidityOutBoundsTest() {
 		int[] testValues = {Integer.MIN_VALUE, -1, 101, Integer.MAX_VALUE};
-		int expected = currentWeather.getHumidity();
 		
 		for (int testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setHumidity(testValue));
-			assertEquals(expected, currentWeather.getHumidity());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.humidity = testValue));
 		}
 	}
 	
 	/**
-	 * Test humidity getter and setter with all possibles values.
-	 * Test will pass only if the humidity returned value is the same as the original value (the one that have been set).
+	 * Test humidity getter with all possibles values.
+	 * Test will pass only if the humidity returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetHumidityTest() throws Exception {
+	public void getHumidityTest() throws Exception {
 		int[] testValues = {0, 25, 50, 75, 100};
 		
-		testAssertEqualsIntValues(testValues, currentWeather::setHumidity, () -> currentWeather.getHumidity());
+		testAssertEqualsIntValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.humidity = value), () -> currentWeather.getHumidity());
 	}
 	
 	/**
-	 * Test dewPoint getter and setter with all possibles values.
-	 * Test will pass only if the dewPoint returned value is the same as the original value (the one that have been set).
+	 * Test dewPoint getter with all possibles values.
+	 * Test will pass only if the dewPoint returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetDewPointTest() throws Exception {
+	public void getDewPointTest() throws Exception {
 		float[] testValues = {-Float.MIN_VALUE, -1, 0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, currentWeather::setDewPoint, () -> currentWeather.getDewPoint(), 0F);
+		testAssertEqualsFloatValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.dewPoint = value), () -> currentWeather.getDewPoint(), 0F);
 	}
 	
 	/**
-	 * Test the cloudiness setter with all possibles out of bounds values.
-	 * Test will pass only if the cloudiness value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds cloudiness values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setCloudinessOutBoundsTest() {
+	public void cloudinessOutBoundsTest() {
 		int[] testValues = {Integer.MIN_VALUE, -1, 101, Integer.MAX_VALUE};
-		int expected = currentWeather.getCloudiness();
 		
 		for (int testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setCloudiness(testValue));
-			assertEquals(expected, currentWeather.getCloudiness());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.cloudiness = testValue));
 		}
 	}
 	
 	/**
-	 * Test cloudiness getter and setter with all possibles values.
-	 * Test will pass only if the cloudiness returned value is the same as the original value (the one that have been set).
+	 * Test cloudiness getter with all possibles values.
+	 * Test will pass only if the cloudiness returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetCloudinessTest() throws Exception {
+	public void getCloudinessTest() throws Exception {
 		int[] testValues = {0, 25, 50, 75, 100};
 		
-		testAssertEqualsIntValues(testValues, currentWeather::setCloudiness, () -> currentWeather.getCloudiness());
+		testAssertEqualsIntValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.cloudiness = value), () -> currentWeather.getCloudiness());
 	}
 	
 	/**
-	 * Test the uvIndex setter with all possibles out of bounds values.
-	 * Test will pass only if the uvIndex value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds uvIndex values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setUvIndexOutBoundsTest() {
+	public void uvIndexOutBoundsTest() {
 		int[] testValues = {Integer.MIN_VALUE, -1};
-		int expected = currentWeather.getUvIndex();
 		
 		for (int testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setUvIndex(testValue));
-			assertEquals(expected, currentWeather.getUvIndex());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.uvIndex = testValue));
 		}
 	}
 	
 	/**
-	 * Test uvIndex getter and setter with all possibles values.
-	 * Test will pass only if the uvIndex returned value is the same as the original value (the one that have been set).
+	 * Test uvIndex getter with all possibles values.
+	 * Test will pass only if the uvIndex returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetUvIndexTest() throws Exception {
+	public void getUvIndexTest() throws Exception {
 		int[] testValues = {0, 1, Integer.MAX_VALUE};
 		
-		testAssertEqualsIntValues(testValues, currentWeather::setUvIndex, () -> currentWeather.getUvIndex());
+		testAssertEqualsIntValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.uvIndex = value), () -> currentWeather.getUvIndex());
 	}
 	
 	/**
-	 * Test the visibility setter with all possibles out of bounds values.
-	 * Test will pass only if the visibility value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds visibility values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setVisibilityOutBoundsTest() {
+	public void visibilityOutBoundsTest() {
 		int[] testValues = {Integer.MIN_VALUE, -1};
-		int expected = currentWeather.getVisibility();
 		
 		for (int testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setVisibility(testValue));
-			assertEquals(expected, currentWeather.getVisibility());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.visibility = testValue));
 		}
 	}
 	
 	/**
-	 * Test visibility getter and setter with all possibles values.
-	 * Test will pass only if the visibility returned value is the same as the original value (the one that have been set).
+	 * Test visibility getter with all possibles values.
+	 * Test will pass only if the visibility returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetVisibilityTest() throws Exception {
+	public void getVisibilityTest() throws Exception {
 		int[] testValues = {0, 1, Integer.MAX_VALUE};
 		
-		testAssertEqualsIntValues(testValues, currentWeather::setVisibility, () -> currentWeather.getVisibility());
+		testAssertEqualsIntValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.visibility = value), () -> currentWeather.getVisibility());
 	}
 	
 	/**
-	 * Test the sunriseDt setter with all possibles out of bounds values.
-	 * Test will pass only if the sunriseDt value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds sunriseDt values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setSunriseDtOutBoundsTest() {
+	public void sunriseDtOutBoundsTest() {
 		long[] testValues = {Long.MIN_VALUE, -1};
-		long expected = currentWeather.getSunriseDt();
 		
 		for (long testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setSunriseDt(testValue));
-			assertEquals(expected, currentWeather.getSunriseDt());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.sunriseDt = testValue));
 		}
 	}
 	
 	/**
-	 * Test sunriseDt getter and setter with all possibles values.
-	 * Test will pass only if the sunsetDt value is the same as the previous value.
+	 * Test sunriseDt getter with all possibles values.
+	 * Test will pass only if an exception is thrown for each value.
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetSunriseDtTest() throws Exception {
+	public void getSunriseDtTest() throws Exception {
 		long[] testValues = {0, 1, Long.MAX_VALUE};
 		
-		testAssertEqualsLongValues(testValues, currentWeather::setSunriseDt, () -> currentWeather.getSunriseDt());
+		testAssertEqualsLongValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.sunriseDt = value), () -> currentWeather.getSunriseDt());
 	}
 	
 	/**
-	 * Test the sunsetDt setter with all possibles out of bounds values.
-	 * Test will pass only if the sunsetDt value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds sunsetDt values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setSunsetDtOutBoundsTest() {
+	public void sunsetDtOutBoundsTest() {
 		long[] testValues = {Long.MIN_VALUE, -1};
-		long expected = currentWeather.getSunsetDt();
 		
 		for (long testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setSunsetDt(testValue));
-			assertEquals(expected, currentWeather.getSunsetDt());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.sunsetDt = testValue));
 		}
 	}
 	
 	/**
-	 * Test sunsetDt getter and setter with all possibles values.
-	 * Test will pass only if the sunsetDt returned value is the same as the original value (the one that have been set).
+	 * Test sunsetDt getter with all possibles values.
+	 * Test will pass only if the sunsetDt returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetSunsetDtTest() throws Exception {
+	public void getSunsetDtTest() throws Exception {
 		long[] testValues = {0, 1, Long.MAX_VALUE};
 		
-		testAssertEqualsLongValues(testValues, currentWeather::setSunsetDt, () -> currentWeather.getSunsetDt());
+		testAssertEqualsLongValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.sunsetDt = value), () -> currentWeather.getSunsetDt());
 	}
 	
 	/**
 	 * Test the isDaytime method with all possibles values.
-	 * Test will pass only if the isDaytime returned value is the same as the original value (the one that have been set).
+	 * Test will pass only if the isDaytime returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
@@ -679,146 +660,141 @@ public class CurrentWeatherTest {
 	public void isDaytimeTest() throws Exception {
 		long[] testValues = {0, 10000, 20000, 30000, 40000, 50000, 60000, 70000};
 		boolean[] expectedResults = {false, false, false, true, true, false, false, false};
-		currentWeather.setSunriseDt(testValues[2]);
-		currentWeather.setSunsetDt(testValues[5]);
 		
 		if (testValues.length != expectedResults.length)
 			throw new Exception("testValues and expectedResults needs to have the same sizes");
 		
 		for (int i = 0; i < testValues.length; i++) {
-			currentWeather.setDt(testValues[i]);
+			long dt = testValues[i];
+			currentWeather = TestMetrics.currentWeather(values -> {
+				values.dt = dt;
+				values.sunriseDt = testValues[2];
+				values.sunsetDt = testValues[5];
+			});
 			assertEquals(expectedResults[i], currentWeather.isDaytime());
 		}
 	}
 	
 	/**
-	 * Test the windSpeed setter with all possibles out of bounds values.
-	 * Test will pass only if the windSpeed value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds windSpeed values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setWindSpeedOutBoundsTest() {
+	public void windSpeedOutBoundsTest() {
 		float[] testValues = {-Float.MIN_VALUE, -1};
-		float expected = currentWeather.getWindSpeed();
 		
 		for (float testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setWindSpeed(testValue));
-			assertEquals(expected, currentWeather.getWindSpeed(), 0F);
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.windSpeed = testValue));
 		}
 	}
 	
 	/**
-	 * Test windSpeed getter and setter with all possibles values.
-	 * Test will pass only if the windGustSpeed value is the same as the previous value.
+	 * Test windSpeed getter with all possibles values.
+	 * Test will pass only if an exception is thrown for each value.
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetWindSpeedTest() throws Exception {
+	public void getWindSpeedTest() throws Exception {
 		float[] testValues = {0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, currentWeather::setWindSpeed, () -> currentWeather.getWindSpeed(), 0F);
+		testAssertEqualsFloatValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.windSpeed = value), () -> currentWeather.getWindSpeed(), 0F);
 	}
 	
 	/**
-	 * Test the windGustSpeed setter with all possibles out of bounds values.
-	 * Test will pass only if the windGustSpeed value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds windGustSpeed values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setWindGustSpeedOutBoundsTest() {
+	public void windGustSpeedOutBoundsTest() {
 		float[] testValues = {-Float.MIN_VALUE, -1};
-		float expected = currentWeather.getWindGustSpeed();
 		
 		for (float testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setWindGustSpeed(testValue));
-			assertEquals(expected, currentWeather.getWindGustSpeed(), 0F);
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.windGustSpeed = testValue));
 		}
 	}
 	
 	/**
-	 * Test windGustSpeed getter and setter with all possibles values.
-	 * Test will pass only if the windGustSpeed returned value is the same as the original value (the one that have been set).
+	 * Test windGustSpeed getter with all possibles values.
+	 * Test will pass only if the windGustSpeed returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetWindGustSpeedTest() throws Exception {
+	public void getWindGustSpeedTest() throws Exception {
 		float[] testValues = {0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, currentWeather::setWindGustSpeed, () -> currentWeather.getWindGustSpeed(), 0F);
+		testAssertEqualsFloatValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.windGustSpeed = value), () -> currentWeather.getWindGustSpeed(), 0F);
 	}
 	
 	/**
-	 * Test isWindDirectionReadable getter and setter method with all possibles values.
-	 * Test will pass only if the windDirectionReadable returned value is the same as the original value (the one that have been set).
+	 * Test isWindDirectionReadable getter method with all possibles values.
+	 * Test will pass only if the windDirectionReadable returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetIsWindDirectionReadableTest() throws Exception {
+	public void getIsWindDirectionReadableTest() throws Exception {
 		boolean[] testValues = {true, false};
 		
-		testAssertEqualsBooleanValues(testValues, currentWeather::setWindDirectionReadable, () -> currentWeather.isWindDirectionReadable());
+		testAssertEqualsBooleanValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.isWindDirectionReadable = value), () -> currentWeather.isWindDirectionReadable());
 	}
 	
 	/**
-	 * Test the windDirection setter with all possibles out of bounds values.
-	 * Test will pass only if the windDirection value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds windDirection values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setWindDirectionOutBoundsTest() {
+	public void windDirectionOutBoundsTest() {
 		short[] testValues = {Short.MIN_VALUE, -1, 361, Short.MAX_VALUE};
-		short expected = currentWeather.getWindDirection();
 		
 		for (short testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setWindDirection(testValue));
-			assertEquals(expected, currentWeather.getWindDirection());
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.windDirection = testValue));
 		}
 	}
 	
 	/**
-	 * Test windDirection getter and setter with all possibles values.
-	 * Test will pass only if the windDirection returned value is the same as the original value (the one that have been set).
+	 * Test windDirection getter with all possibles values.
+	 * Test will pass only if the windDirection returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetWindDirectionTest() throws Exception {
+	public void getWindDirectionTest() throws Exception {
 		short[] testValues = {0, 1, 180, 359, 360};
 		
-		testAssertEqualsShortValues(testValues, currentWeather::setWindDirection, () -> currentWeather.getWindDirection());
+		testAssertEqualsShortValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.windDirection = value), () -> currentWeather.getWindDirection());
 	}
 	
 	/**
-	 * Test the rain setter with all possibles out of bounds values.
-	 * Test will pass only if the rain value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds rain values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setRainOutBoundsTest() {
+	public void rainOutBoundsTest() {
 		float[] testValues = {-Float.MIN_VALUE, -1};
-		float expected = currentWeather.getRain();
 		
 		for (float testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setRain(testValue));
-			assertEquals(expected, currentWeather.getRain(), 0F);
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.rain = testValue));
 		}
 	}
 	
 	/**
-	 * Test rain getter and setter with all possibles values.
-	 * Test will pass only if the rain returned value is the same as the original value (the one that have been set).
+	 * Test rain getter with all possibles values.
+	 * Test will pass only if the rain returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetRainTest() throws Exception {
+	public void getRainTest() throws Exception {
 		float[] testValues = {0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, currentWeather::setRain, () -> currentWeather.getRain(), 0F);
+		testAssertEqualsFloatValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.rain = value), () -> currentWeather.getRain(), 0F);
 	}
 	
 	/**
 	 * Test thereIsRain method with all possibles values.
-	 * Test will pass only if the thereIsRain returned value is the same as the original value (the one that have been set).
+	 * Test will pass only if the thereIsRain returned value is the same as the original value (the one given to the constructor).
 	 */
 	@Test
 	public void thereIsRainTest() throws Exception {
@@ -829,42 +805,41 @@ public class CurrentWeatherTest {
 			throw new Exception("testValues and expectedResults needs to have the same sizes");
 		
 		for (int i = 0; i < testValues.length; i++) {
-			currentWeather.setRain(testValues[i]);
+			float rain = testValues[i];
+			currentWeather = TestMetrics.currentWeather(values -> values.rain = rain);
 			assertEquals(expectedResults[i], currentWeather.thereIsRain());
 		}
 	}
 	
 	/**
-	 * Test the snow setter with all possibles out of bounds values.
-	 * Test will pass only if the snow value is the same as the previous value.
+	 * Test the constructor with all possibles out of bounds snow values.
+	 * Test will pass only if an exception is thrown for each value.
 	 */
 	@Test
-	public void setSnowOutBoundsTest() {
+	public void snowOutBoundsTest() {
 		float[] testValues = {-Float.MIN_VALUE, -1};
-		float expected = currentWeather.getSnow();
 		
 		for (float testValue : testValues) {
-			assertThrows(IllegalArgumentException.class, () -> currentWeather.setSnow(testValue));
-			assertEquals(expected, currentWeather.getSnow(), 0F);
+			assertThrows(IllegalArgumentException.class, () -> TestMetrics.currentWeather(values -> values.snow = testValue));
 		}
 	}
 	
 	/**
-	 * Test snow getter and setter with all possibles values.
-	 * Test will pass only if the snow returned value is the same as the original value (the one that have been set).
+	 * Test snow getter with all possibles values.
+	 * Test will pass only if the snow returned value is the same as the original value (the one given to the constructor).
 	 *
 	 * @throws Exception Throws an execution if the test is misconfigured
 	 */
 	@Test
-	public void getAndSetSnowTest() throws Exception {
+	public void getSnowTest() throws Exception {
 		float[] testValues = {0, 1, Float.MAX_VALUE};
 		
-		testAssertEqualsFloatValues(testValues, currentWeather::setSnow, () -> currentWeather.getSnow(), 0F);
+		testAssertEqualsFloatValues(testValues, value -> currentWeather = TestMetrics.currentWeather(values -> values.snow = value), () -> currentWeather.getSnow(), 0F);
 	}
 	
 	/**
 	 * Test thereIsSnow method with all possibles values.
-	 * Test will pass only if the thereIsSnow returned value is the same as the original value (the one that have been set).
+	 * Test will pass only if the thereIsSnow returned value is the same as the original value (the one given to the constructor).
 	 */
 	@Test
 	public void thereIsSnowTest() throws Exception {
@@ -875,7 +850,8 @@ public class CurrentWeatherTest {
 			throw new Exception("testValues and expectedResults needs to have the same sizes");
 		
 		for (int i = 0; i < testValues.length; i++) {
-			currentWeather.setSnow(testValues[i]);
+			float snow = testValues[i];
+			currentWeather = TestMetrics.currentWeather(values -> values.snow = snow);
 			assertEquals(expectedResults[i], currentWeather.thereIsSnow());
 		}
 	}
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.metrics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import fr.qgdev.openweather.utils.TestMetrics;
+
+public class ForecastSeriesTest {
+	
+	/**
+	 * Test that every column of an hourly series follows the forecasts
+	 */
+	@Test
+	public void hourlyTest() {
+		List<HourlyWeatherForecast> hourlyWeatherForecasts = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			int index = i;
+			hourlyWeatherForecasts.add(TestMetrics.hourlyWeatherForecast(values -> {
+				values.dt = (index + 1) * 3600000L;
+				values.temperature = 10 + index;
+				values.temperatureFeelsLike = 8 + index;
+				values.humidity = 50 + index;
+				values.rain = index / 2F;
+			}));
+		}
+		
+		ForecastSeries series = ForecastSeries.ofHourly(hourlyWeatherForecasts, Collections.emptyList());
+		
+		assertEquals(3, series.size());
+		assertArrayEquals(new long[]{3600000L, 7200000L, 10800000L}, series.getDt());
+		assertArrayEquals(new float[]{10, 11, 12}, series.getTemperature(), 0);
+		assertArrayEquals(new float[]{8, 9, 10}, series.getTemperatureFeelsLike(), 0);
+		assertArrayEquals(new float[]{50, 51, 52}, series.getHumidity(), 0);
+		assertArrayEquals(new float[]{0, 0.5F, 1}, series.getRain(), 0);
+		
+		assertEquals(8, series.getTemperatureRange().getMinimum(), 0);
+		assertEquals(12, series.getTemperatureRange().getMaximum(), 0);
+		assertEquals(50, series.getHumidityRange().getMinimum(), 0);
+		assertEquals(52, series.getHumidityRange().getMaximum(), 0);
+		assertEquals(1.5F, series.getRainTotal(), 0);
+		assertEquals(0, series.getSnowTotal(), 0);
+		assertEquals(1, series.getPrecipitationRange().getMaximum(), 0);
+	}
+	
+	/**
+	 * Test that hours are flagged as day time between the sunrise and the sunset of their day
+	 */
+	@Test
+	public void dayTimeTest() {
+		long dayStart = 20000 * 86400000L;
+		
+		List<HourlyWeatherForecast> hourlyWeatherForecasts = new ArrayList<>();
+		for (int hour = 0; hour < 24; hour++) {
+			long dt = dayStart + hour * 3600000L;
+			hourlyWeatherForecasts.add(TestMetrics.hourlyWeatherForecast(values -> values.dt = dt));
+		}
+		
+		//	Sunrise and sunset around every hour of the day, only the first hour isn't in day time
+		DailyWeatherForecast dailyWeatherForecast = TestMetrics.dailyWeatherForecast(values -> {
+			values.dt = dayStart;
+			values.sunriseDt = dayStart;
+			values.sunsetDt = dayStart + 86400000L;
+		});
+		
+		boolean[] dayTime = ForecastSeries.ofHourly(hourlyWeatherForecasts, Collections.singletonList(dailyWeatherForecast)).getDayTime();
+		
+		assertEquals(24, dayTime.length);
+		assertFalse(dayTime[0]);
+		assertTrue(dayTime[1]);
+		assertTrue(dayTime[23]);
+		assertNull(ForecastSeries.ofDaily(Collections.singletonList(dailyWeatherForecast)).getDayTime());
+	}
+	
+	/**
+	 * Test that a daily series holds the four temperatures of each day in a row
+	 */
+	@Test
+	public void dailyTest() {
+		List<DailyWeatherForecast> dailyWeatherForecasts = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			int index = i;
+			dailyWeatherForecasts.add(TestMetrics.dailyWeatherForecast(values -> {
+				values.dt = (index + 1) * 86400000L;
+				values.temperatureMorning = 10 * index + 1;
+				values.temperatureDay = 10 * index + 2;
+				values.temperatureEvening = 10 * index + 3;
+				values.temperatureNight = 10 * index + 4;
+				values.temperatureNightFeelsLike = -index;
+				values.humidity = 60 + index;
+			}));
+		}
+		
+		ForecastSeries series = ForecastSeries.ofDaily(dailyWeatherForecasts);
+		
+		assertEquals(2, series.size());
+		assertEquals(2 * ForecastSeries.DAILY_TEMPERATURES, series.getTemperature().length);
+		assertArrayEquals(new float[]{1, 2, 3, 4, 11, 12, 13, 14}, series.getTemperature(), 0);
+		assertEquals(-1, series.getTemperatureFeelsLike()[7], 0);
+		assertArrayEquals(new float[]{60, 61}, series.getHumidity(), 0);
+		assertEquals(-1, series.getTemperatureRange().getMinimum(), 0);
+		assertEquals(14, series.getTemperatureRange().getMaximum(), 0);
+	}
+	
+	/**
+	 * Test that no forecast gives empty columns
+	 */
+	@Test
+	public void emptyTest() {
+		ForecastSeries series = ForecastSeries.ofHourly(Collections.emptyList(), Collections.emptyList());
+		
+		assertTrue(series.isEmpty());
+		assertEquals(0, series.getTemperature().length);
+		assertTrue(series.getTemperatureRange().isFlat());
+		assertEquals(0, series.getRainTotal(), 0);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class PrecipitationOutlookTest {
+	
+	private static final long START = 1700000000000L;
+	
+	/**
+	 * Build an hour of minutely forecasts
+	 *
+	 * @param precipitations the precipitation of the first minutes, the next ones are dry
+	 * @return the forecasts
+	 */
+	private static List<MinutelyWeatherForecast> minutely(float... precipitations) {
+		List<MinutelyWeatherForecast> minutelyWeatherForecasts = new ArrayList<>();
+		for (int minute = 0; minute < 60; minute++) {
+			float precipitation = minute < precipitations.length ? precipitations[minute] : 0;
+			minutelyWeatherForecasts.add(new MinutelyWeatherForecast("place", START + minute * 60000L, precipitation));
+		}
+		return minutelyWeatherForecasts;
+	}
+	
+	/**
+	 * Test that the first precipitation period is found with its amount
+	 */
+	@Test
+	public void precipitationTest() {
+		PrecipitationOutlook outlook = PrecipitationOutlook.of(minutely(0, 0, 6, 12, 6, 0, 3));
+		
+		assertTrue(outlook.hasPrecipitation());
+		assertEquals(START + 2 * 60000L, outlook.getStartDt());
+		assertEquals(START + 5 * 60000L, outlook.getEndDt());
+		assertEquals(12, outlook.getMaximum(), 0);
+		//	27 mm/h spread over minutes
+		assertEquals(0.45F, outlook.getTotal(), 0.0001F);
+	}
+	
+	/**
+	 * Test that precipitations still going on at the end of the forecasts end after the last minute
+	 */
+	@Test
+	public void endlessPrecipitationTest() {
+		float[] precipitations = new float[60];
+		precipitations[59] = 1;
+		PrecipitationOutlook outlook = PrecipitationOutlook.of(minutely(precipitations));
+		
+		assertEquals(START + 59 * 60000L, outlook.getStartDt());
+		assertEquals(START + 60 * 60000L, outlook.getEndDt());
+	}
+	
+	/**
+	 * Test that dry or missing forecasts give no precipitation
+	 */
+	@Test
+	public void dryTest() {
+		assertFalse(PrecipitationOutlook.of(minutely()).hasPrecipitation());
+		
+		PrecipitationOutlook outlook = PrecipitationOutlook.of(Collections.emptyList());
+		assertFalse(outlook.hasPrecipitation());
+		assertEquals(0, outlook.getStartDt());
+		assertEquals(0, outlook.getTotal(), 0);
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+public class DateTimeFormatterCacheTest {
+	
+	//	Patterns used by the FormattingService
+	private static final String[] PATTERNS = {
+			  "hh:00 a", "ha", "hh:mm a", "dd/MM/yy hh:mm a",
+			  "HH:00", "H'h'", "HH:mm", "dd/MM/yy HH:mm",
+			  "EE", "dd/MM"};
+	
+	private static final Locale[] LOCALES = {
+			  Locale.US,
+			  Locale.FRANCE,
+			  Locale.GERMANY,
+			  new Locale("ar", "EG"),
+			  new Locale("th", "TH"),
+			  new Locale("th", "TH", "TH")};
+	
+	/**
+	 * Test that the formatters give the same output as SimpleDateFormat
+	 * with the place time zones, including the non Gregorian calendar and the digits of some locales
+	 */
+	@Test
+	public void sameOutputAsSimpleDateFormatTest() {
+		DateTimeFormatterCache dateTimeFormatterCache = new DateTimeFormatterCache(8);
+		Random random = new Random(25);
+		
+		for (Locale locale : LOCALES) {
+			for (String pattern : PATTERNS) {
+				SimpleDateFormat simpleDateFormat = new SimpleDateFormat(pattern, locale);
+				
+				for (int i = 0; i < 50; i++) {
+					//	From 2001 to 2096, offsets by quarter of an hour
+					long time = 1000000000000L + (long) (random.nextDouble() * 3000000000000L);
+					int timeOffset = (random.nextInt(105) - 48) * 900;
+					TimeZone timeZone = new SimpleTimeZone(timeOffset * 1000, "UTC");
+					simpleDateFormat.setTimeZone(timeZone);
+					
+					assertEquals(locale + " " + pattern + " " + time + " " + timeOffset,
+							  simpleDateFormat.format(new Date(time)),
+							  dateTimeFormatterCache.format(pattern, time, DateTimeFormatterCache.toZoneId(timeZone), locale));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Test that the hours of day fast path gives the same output as SimpleDateFormat
+	 */
+	@Test
+	public void hoursOfDayTest() {
+		Random random = new Random(25);
+		
+		for (Locale locale : LOCALES) {
+			for (String pattern : new String[]{"hh:00 a", "ha", "HH:00", "H'h'"}) {
+				String[] hoursOfDay = DateTimeFormatterCache.formatHoursOfDay(pattern, locale);
+				SimpleDateFormat simpleDateFormat = new SimpleDateFormat(pattern, locale);
+				
+				for (int i = 0; i < 200; i++) {
+					//	Times before epoch too, and offsets not aligned on hours
+					long time = (long) ((random.nextDouble() - 0.2) * 4000000000000L);
+					int timeOffset = (random.nextInt(105) - 48) * 900;
+					simpleDateFormat.setTimeZone(new SimpleTimeZone(timeOffset * 1000, "UTC"));
+					
+					assertEquals(locale + " " + pattern + " " + time + " " + timeOffset,
+							  simpleDateFormat.format(new Date(time)),
+							  hoursOfDay[DateTimeFormatterCache.getHourOfDay(time, timeOffset)]);
+				}
+			}
+		}
+		
+		assertEquals(23, DateTimeFormatterCache.getHourOfDay(-1, 0));
+		assertEquals(5, DateTimeFormatterCache.getHourOfDay(0, 19800));
+		assertEquals(19, DateTimeFormatterCache.getHourOfDay(0, -16200));
+	}
+	
+	/**
+	 * Test that place time zones are converted to their offset and not to the zone of their id
+	 */
+	@Test
+	public void toZoneIdTest() {
+		assertEquals(ZoneOffset.ofHours(2), DateTimeFormatterCache.toZoneId(new SimpleTimeZone(7200000, "UTC")));
+		assertEquals(ZoneOffset.ofHoursMinutes(-3, -30), DateTimeFormatterCache.toZoneId(new SimpleTimeZone(-12600000, "UTC")));
+		assertEquals(ZoneId.of("Europe/Paris"), DateTimeFormatterCache.toZoneId(TimeZone.getTimeZone("Europe/Paris")));
+	}
+	
+	/**
+	 * Test that formatters are reused, bounded with the least recently used dropped first and cleared
+	 */
+	@Test
+	public void boundedCacheTest() {
+		assertThrows(IllegalArgumentException.class, () -> new DateTimeFormatterCache(0));
+		
+		DateTimeFormatterCache dateTimeFormatterCache = new DateTimeFormatterCache(2);
+		DateTimeFormatter hour = dateTimeFormatterCache.get("HH:mm", ZoneOffset.UTC, Locale.US);
+		DateTimeFormatter day = dateTimeFormatterCache.get("EE", ZoneOffset.UTC, Locale.US);
+		
+		assertSame(hour, dateTimeFormatterCache.get("HH:mm", ZoneOffset.UTC, Locale.US));
+		assertNotSame(hour, dateTimeFormatterCache.get("HH:mm", ZoneOffset.UTC, Locale.FRANCE));
+		assertEquals(2, dateTimeFormatterCache.size());
+		
+		//	"EE" was the least recently used
+		assertSame(hour, dateTimeFormatterCache.get("HH:mm", ZoneOffset.UTC, Locale.US));
+		assertNotSame(day, dateTimeFormatterCache.get("EE", ZoneOffset.UTC, Locale.US));
+		
+		dateTimeFormatterCache.clear();
+		assertEquals(0, dateTimeFormatterCache.size());
+		assertNotSame(hour, dateTimeFormatterCache.get("HH:mm", ZoneOffset.UTC, Locale.US));
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manual scheduled executor.
+ * <p>
+ * Runs its tasks on the test thread, on a clock moved by hand.
+ * Tasks are only run by runPending and advance, in the order of their time then of their submission.
+ */
+class ManualScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+	
+	private final PriorityQueue<ManualTask> tasks = new PriorityQueue<>();
+	private long now;
+	private long sequence;
+	private boolean shutdown;
+	
+	ManualScheduledExecutor(long now) {
+		this.now = now;
+	}
+	
+	/**
+	 * Get the current time of the executor, to be used as the clock of the tested code
+	 *
+	 * @return the current time in milliseconds
+	 */
+	long now() {
+		return now;
+	}
+	
+	/**
+	 * Run every task due now, including the ones they submit
+	 */
+	void runPending() {
+		advance(0);
+	}
+	
+	/**
+	 * Move the clock forward and run every task due on the way
+	 *
+	 * @param millis the time to move forward in milliseconds
+	 */
+	void advance(long millis) {
+		long target = now + millis;
+		while (!tasks.isEmpty() && tasks.peek().time <= target) {
+			ManualTask task = tasks.poll();
+			now = Math.max(now, task.time);
+			task.done = true;
+			task.command.run();
+		}
+		now = target;
+	}
+	
+	@Override
+	public void execute(@NonNull Runnable command) {
+		schedule(command, 0, TimeUnit.MILLISECONDS);
+	}
+	
+	@NonNull
+	@Override
+	public ScheduledFuture<?> schedule(@NonNull Runnable command, long delay, @NonNull TimeUnit unit) {
+		ManualTask task = new ManualTask(command, now + unit.toMillis(Math.max(delay, 0)), sequence++);
+		tasks.add(task);
+		return task;
+	}
+	
+	@NonNull
+	@Override
+	public <V> ScheduledFuture<V> schedule(@NonNull Callable<V> callable, long delay, @NonNull TimeUnit unit) {
+		throw new UnsupportedOperationException();
+	}
+	
+	@NonNull
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(@NonNull Runnable command, long initialDelay, long period, @NonNull TimeUnit unit) {
+		throw new UnsupportedOperationException();
+	}
+	
+	@NonNull
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(@NonNull Runnable command, long initialDelay, long delay, @NonNull TimeUnit unit) {
+		throw new UnsupportedOperationException();
+	}
+	
+	@Override
+	public void shutdown() {
+		shutdown = true;
+	}
+	
+	@NonNull
+	@Override
+	public List<Runnable> shutdownNow() {
+		shutdown = true;
+		tasks.clear();
+		return Collections.emptyList();
+	}
+	
+	@Override
+	public boolean isShutdown() {
+		return shutdown;
+	}
+	
+	@Override
+	public boolean isTerminated() {
+		return shutdown && tasks.isEmpty();
+	}
+	
+	@Override
+	public boolean awaitTermination(long timeout, @NonNull TimeUnit unit) {
+		return isTerminated();
+	}
+	
+	/**
+	 * A task waiting for its time
+	 */
+	private class ManualTask implements ScheduledFuture<Object> {
+		private final Runnable command;
+		private final long time;
+		private final long order;
+		private boolean cancelled;
+		private boolean done;
+		
+		ManualTask(Runnable command, long time, long order) {
+			this.command = command;
+			this.time = time;
+			this.order = order;
+		}
+		
+		@Override
+		public long getDelay(@NonNull TimeUnit unit) {
+			return unit.convert(time - now, TimeUnit.MILLISECONDS);
+		}
+		
+		@Override
+		public int compareTo(@NonNull Delayed other) {
+			ManualTask otherTask = (ManualTask) other;
+			if (time != otherTask.time) return Long.compare(time, otherTask.time);
+			return Long.compare(order, otherTask.order);
+		}
+		
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			if (done || cancelled) return false;
+			cancelled = true;
+			tasks.remove(this);
+			return true;
+		}
+		
+		@Override
+		public boolean isCancelled() {
+			return cancelled;
+		}
+		
+		@Override
+		public boolean isDone() {
+			return done || cancelled;
+		}
+		
+		@Override
+		public Object get() {
+			return null;
+		}
+		
+		@Override
+		public Object get(long timeout, @NonNull TimeUnit unit) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,388 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import fr.qgdev.openweather.repositories.places.Coordinates;
+import fr.qgdev.openweather.repositories.places.Geolocation;
+import fr.qgdev.openweather.repositories.places.Place;
+import fr.qgdev.openweather.repositories.places.Properties;
+import fr.qgdev.openweather.repositories.weather.CancellationHandle;
+import fr.qgdev.openweather.repositories.weather.ConnectivityMonitor;
+import fr.qgdev.openweather.repositories.weather.ConnectivitySource;
+import fr.qgdev.openweather.repositories.weather.FetchCallback;
+import fr.qgdev.openweather.repositories.weather.FetchDataCallback;
+import fr.qgdev.openweather.repositories.weather.PlaceFetcher;
+import fr.qgdev.openweather.repositories.weather.RequestStatus;
+
+public class RefreshSchedulerTest {
+	
+	//	10 tokens per second, so a place waits 200 ms for its two tokens after a pause
+	private static final int REQUESTS_PER_MINUTE = 600;
+	private static final long START = 1000000;
+	
+	private ManualScheduledExecutor executor;
+	private FakeFetcher fetcher;
+	private FakeConnectivity connectivity;
+	private RecordingCallback placeCallback;
+	private RecordingProgress progressCallback;
+	
+	/**
+	 * Sets up a scheduler thread run by hand, with a fetcher only answering when told to.
+	 */
+	@Before
+	public void setUp() {
+		executor = new ManualScheduledExecutor(START);
+		fetcher = new FakeFetcher();
+		connectivity = new FakeConnectivity();
+		placeCallback = new RecordingCallback();
+		progressCallback = new RecordingProgress();
+	}
+	
+	/**
+	 * Build a scheduler on the test executor and clock
+	 *
+	 * @param maxInFlight the maximum number of places fetched at the same time
+	 * @return the scheduler
+	 */
+	private RefreshScheduler newScheduler(int maxInFlight) {
+		return new RefreshScheduler(fetcher, connectivity, new StalenessPolicy(), REQUESTS_PER_MINUTE, maxInFlight,
+				  executor, executor::now);
+	}
+	
+	/**
+	 * Build places that were never updated, so both of their data are stale
+	 *
+	 * @param count the number of places
+	 * @return the places
+	 */
+	private static List<Place> places(int count) {
+		List<Place> places = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			places.add(new Place(new Geolocation("place" + i, new Coordinates(0, i)), new Properties(0, 0, i, "place" + i)));
+		}
+		return places;
+	}
+	
+	/**
+	 * Test that a place whose data is fresh is reported without any request
+	 */
+	@Test
+	public void freshPlaceTest() {
+		Place place = places(1).get(0);
+		place = place.toBuilder()
+				  .setProperties(place.getProperties().withWeatherUpdate(START, 0).withAirQualityUpdate(START, 0))
+				  .build();
+		
+		newScheduler(1).submit(Arrays.asList(place), placeCallback, progressCallback);
+		executor.runPending();
+		
+		assertEquals(0, fetcher.requests.size());
+		assertEquals(Arrays.asList("fresh place0"), placeCallback.outcomes);
+		assertTrue(progressCallback.isDone());
+	}
+	
+	/**
+	 * Test that Too Many Requests without Retry-After pauses the queue for the default backoff
+	 */
+	@Test
+	public void tooManyRequestsBackoffTest() {
+		newScheduler(1).submit(places(1), placeCallback, progressCallback);
+		executor.runPending();
+		assertEquals(1, fetcher.requests.size());
+		
+		fetcher.answer(0, RequestStatus.TOO_MANY_REQUESTS);
+		executor.runPending();
+		
+		executor.advance(RefreshScheduler.DEFAULT_BACKOFF - 1);
+		assertEquals(1, fetcher.requests.size());
+		
+		executor.advance(1000);
+		assertEquals(2, fetcher.requests.size());
+		assertTrue(placeCallback.outcomes.isEmpty());
+		
+		fetcher.succeed(1);
+		executor.runPending();
+		assertEquals(Arrays.asList("success place0"), placeCallback.outcomes);
+		assertTrue(progressCallback.isDone());
+	}
+	
+	/**
+	 * Test that Too Many Requests with Retry-After pauses the queue until the given time only
+	 */
+	@Test
+	public void tooManyRequestsRetryAfterTest() {
+		newScheduler(1).submit(places(1), placeCallback, progressCallback);
+		executor.runPending();
+		
+		fetcher.retryAfterTime = executor.now() + 5000;
+		fetcher.answer(0, RequestStatus.TOO_MANY_REQUESTS);
+		executor.runPending();
+		
+		executor.advance(4999);
+		assertEquals(1, fetcher.requests.size());
+		
+		executor.advance(1000);
+		assertEquals(2, fetcher.requests.size());
+	}
+	
+	/**
+	 * Test that a place failing with Too Many Requests is given up after MAX_ATTEMPTS attempts
+	 */
+	@Test
+	public void maxAttemptsTest() {
+		newScheduler(1).submit(places(1), placeCallback, progressCallback);
+		executor.runPending();
+		
+		for (int attempt = 0; attempt < RefreshScheduler.MAX_ATTEMPTS; attempt++) {
+			assertEquals(attempt + 1, fetcher.requests.size());
+			fetcher.answer(attempt, RequestStatus.TOO_MANY_REQUESTS);
+			executor.runPending();
+			executor.advance(RefreshScheduler.DEFAULT_BACKOFF * RefreshScheduler.MAX_ATTEMPTS + 1000);
+		}
+		
+		assertEquals(RefreshScheduler.MAX_ATTEMPTS, fetcher.requests.size());
+		assertEquals(Arrays.asList("error TOO_MANY_REQUESTS"), placeCallback.outcomes);
+		assertTrue(progressCallback.isDone());
+	}
+	
+	/**
+	 * Test that a place failing because the network was just lost waits for the network and is sent again
+	 */
+	@Test
+	public void notConnectedRequeueTest() {
+		newScheduler(1).submit(places(1), placeCallback, progressCallback);
+		executor.runPending();
+		
+		connectivity.setConnected(false);
+		fetcher.answer(0, RequestStatus.NOT_CONNECTED);
+		executor.runPending();
+		assertEquals(1, fetcher.requests.size());
+		assertTrue(placeCallback.outcomes.isEmpty());
+		
+		connectivity.setConnected(true);
+		executor.runPending();
+		assertEquals(2, fetcher.requests.size());
+		
+		fetcher.succeed(1);
+		executor.runPending();
+		assertEquals(Arrays.asList("success place0"), placeCallback.outcomes);
+	}
+	
+	/**
+	 * Test that places still waiting for a network after OFFLINE_TIMEOUT fail with NOT_CONNECTED
+	 */
+	@Test
+	public void offlineTimeoutTest() {
+		connectivity.setConnected(false);
+		newScheduler(2).submit(places(2), placeCallback, progressCallback);
+		executor.runPending();
+		
+		executor.advance(RefreshScheduler.OFFLINE_TIMEOUT - 1);
+		assertTrue(placeCallback.outcomes.isEmpty());
+		
+		executor.advance(1);
+		assertEquals(0, fetcher.requests.size());
+		assertEquals(Arrays.asList("error NOT_CONNECTED", "error NOT_CONNECTED"), placeCallback.outcomes);
+		assertTrue(progressCallback.isDone());
+	}
+	
+	/**
+	 * Test that the deadline of a batch cancels its pending places and the ones in flight
+	 */
+	@Test
+	public void deadlineTest() {
+		newScheduler(1).submit(places(2), placeCallback, progressCallback, null, 10000);
+		executor.runPending();
+		assertEquals(1, fetcher.requests.size());
+		
+		executor.advance(10000);
+		assertTrue(fetcher.requests.get(0).cancellationHandle.isCancelled());
+		assertEquals(Arrays.asList("error CANCELLED"), placeCallback.outcomes);
+		
+		//	An answer coming after the deadline is never reported as a success
+		fetcher.succeed(0);
+		executor.runPending();
+		assertEquals(1, fetcher.requests.size());
+		assertEquals(Arrays.asList("error CANCELLED", "error CANCELLED"), placeCallback.outcomes);
+		assertTrue(progressCallback.isDone());
+	}
+	
+	/**
+	 * Test that cancelling a place only cancels this place
+	 */
+	@Test
+	public void cancelPlaceTest() {
+		RefreshScheduler refreshScheduler = newScheduler(1);
+		refreshScheduler.submit(places(3), placeCallback, progressCallback);
+		executor.runPending();
+		
+		refreshScheduler.cancel("place1");
+		executor.runPending();
+		assertEquals(Arrays.asList("error CANCELLED"), placeCallback.outcomes);
+		assertFalse(fetcher.requests.get(0).cancellationHandle.isCancelled());
+		
+		fetcher.succeed(0);
+		executor.runPending();
+		assertEquals(2, fetcher.requests.size());
+		assertEquals("place2", fetcher.requests.get(1).place.getProperties().getPlaceId());
+		
+		fetcher.succeed(1);
+		executor.runPending();
+		assertEquals(Arrays.asList("error CANCELLED", "success place0", "success place2"), placeCallback.outcomes);
+		assertTrue(progressCallback.isDone());
+	}
+	
+	/**
+	 * A fetch sent to the fake fetcher
+	 */
+	private static class Request {
+		private final Place place;
+		private final CancellationHandle cancellationHandle;
+		private final FetchDataCallback callback;
+		
+		Request(Place place, CancellationHandle cancellationHandle, FetchDataCallback callback) {
+			this.place = place;
+			this.cancellationHandle = cancellationHandle;
+			this.callback = callback;
+		}
+	}
+	
+	/**
+	 * A fetcher recording its requests, answered by the test
+	 */
+	private static class FakeFetcher implements PlaceFetcher {
+		private final List<Request> requests = new ArrayList<>();
+		private long retryAfterTime = 0;
+		
+		@Override
+		public void getPlaceDataOWM(Place place, boolean fetchWeather, boolean fetchAirQuality,
+											 @Nullable CancellationHandle cancellationHandle, FetchDataCallback callback) {
+			requests.add(new Request(place, cancellationHandle, callback));
+		}
+		
+		@Override
+		public long getRetryAfterTime() {
+			return retryAfterTime;
+		}
+		
+		void succeed(int index) {
+			Request request = requests.get(index);
+			request.callback.onSuccess(request.place);
+		}
+		
+		void answer(int index, RequestStatus requestStatus) {
+			requests.get(index).callback.onError(requestStatus);
+		}
+	}
+	
+	/**
+	 * A connectivity changed by the test
+	 */
+	private static class FakeConnectivity implements ConnectivitySource {
+		private final List<ConnectivityMonitor.OnConnectivityChangedListener> listeners = new ArrayList<>();
+		private boolean connected = true;
+		
+		@Override
+		public boolean isConnected() {
+			return connected;
+		}
+		
+		@Override
+		public void addListener(@NonNull ConnectivityMonitor.OnConnectivityChangedListener listener) {
+			listeners.add(listener);
+		}
+		
+		void setConnected(boolean connected) {
+			this.connected = connected;
+			for (ConnectivityMonitor.OnConnectivityChangedListener listener : listeners) {
+				listener.onConnectivityChanged(connected);
+			}
+		}
+	}
+	
+	/**
+	 * A place callback recording every outcome in order
+	 */
+	private static class RecordingCallback implements FetchDataCallback {
+		private final List<String> outcomes = new ArrayList<>();
+		
+		@Override
+		public void onSuccess(Place place) {
+			outcomes.add("success " + place.getProperties().getPlaceId());
+		}
+		
+		@Override
+		public void onPartialSuccess(Place place, RequestStatus requestStatus) {
+			outcomes.add("partial " + place.getProperties().getPlaceId());
+		}
+		
+		@Override
+		public void onError(RequestStatus requestStatus) {
+			outcomes.add("error " + requestStatus);
+		}
+		
+		@Override
+		public void onFresh(Place place) {
+			outcomes.add("fresh " + place.getProperties().getPlaceId());
+		}
+	}
+	
+	/**
+	 * A progress callback keeping the last progress
+	 */
+	private static class RecordingProgress implements FetchCallback {
+		private int completed = 0;
+		private int total = -1;
+		
+		@Override
+		public void onSuccess() {
+		}
+		
+		@Override
+		public void onError(RequestStatus requestStatus) {
+		}
+		
+		@Override
+		public void onProgress(int completed, int total) {
+			this.completed = completed;
+			this.total = total;
+		}
+		
+		boolean isDone() {
+			return completed == total;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import fr.qgdev.openweather.repositories.places.Properties;
+
+public class StalenessPolicyTest {
+	
+	/**
+	 * Test that a place never updated is stale
+	 */
+	@Test
+	public void neverUpdatedTest() {
+		StalenessPolicy stalenessPolicy = new StalenessPolicy();
+		Properties properties = new Properties(0, 0, 0, "id");
+		
+		assertTrue(stalenessPolicy.isWeatherStale(properties, 1000));
+		assertTrue(stalenessPolicy.isAirQualityStale(properties, 1000));
+		assertFalse(stalenessPolicy.isFresh(properties, 1000));
+	}
+	
+	/**
+	 * Test that each kind of data becomes stale after its own time to live
+	 */
+	@Test
+	public void timeToLiveTest() {
+		StalenessPolicy stalenessPolicy = new StalenessPolicy();
+		stalenessPolicy.setTimeToLive(StalenessPolicy.DataKind.CURRENT_WEATHER, 600000);
+		stalenessPolicy.setTimeToLive(StalenessPolicy.DataKind.AIR_QUALITY, 3600000);
+		
+		Properties properties = new Properties(0, 0, 0, "id")
+				  .withWeatherUpdate(1000, 0)
+				  .withAirQualityUpdate(1000, 0);
+		
+		assertTrue(stalenessPolicy.isFresh(properties, 1000 + 300000));
+		
+		//	Only the weather data is stale
+		assertTrue(stalenessPolicy.isWeatherStale(properties, 1000 + 600000));
+		assertFalse(stalenessPolicy.isAirQualityStale(properties, 1000 + 600000));
+		
+		assertTrue(stalenessPolicy.isAirQualityStale(properties, 1000 + 3600000));
+		
+		//	A clock set back makes the data stale
+		assertFalse(stalenessPolicy.isFresh(properties, 500));
+		
+		assertEquals(600000, stalenessPolicy.getTimeToLive(StalenessPolicy.DataKind.CURRENT_WEATHER));
+		assertThrows(IllegalArgumentException.class, () -> stalenessPolicy.setTimeToLive(StalenessPolicy.DataKind.DAILY_FORECAST, -1));
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TokenBucketTest {
+	
+	/**
+	 * Test that invalid parameters are refused
+	 */
+	@Test
+	public void constructorOutBoundsTest() {
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 60, 0));
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(10, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(10, 60, 0).tryAcquire(11, 0));
+	}
+	
+	/**
+	 * Test that the bucket starts full, empties and is refilled at the given rate
+	 */
+	@Test
+	public void acquireAndRefillTest() {
+		//	60 tokens per minute, so one token per second
+		TokenBucket tokenBucket = new TokenBucket(4, 60, 0);
+		
+		assertTrue(tokenBucket.tryAcquire(2, 0));
+		assertTrue(tokenBucket.tryAcquire(2, 0));
+		assertFalse(tokenBucket.tryAcquire(2, 0));
+		assertEquals(2000, tokenBucket.getWaitTime(2, 0));
+		
+		assertFalse(tokenBucket.tryAcquire(2, 1000));
+		assertTrue(tokenBucket.tryAcquire(2, 2000));
+		
+		//	Never refilled above its capacity
+		assertEquals(0, tokenBucket.getWaitTime(4, 60000));
+		assertTrue(tokenBucket.tryAcquire(4, 60000));
+		assertFalse(tokenBucket.tryAcquire(1, 60000));
+	}
+	
+	/**
+	 * Test that a paused bucket refuses every request and restarts empty
+	 */
+	@Test
+	public void pauseTest() {
+		TokenBucket tokenBucket = new TokenBucket(4, 60, 0);
+		
+		tokenBucket.pauseUntil(10000);
+		assertTrue(tokenBucket.isPaused(5000));
+		assertFalse(tokenBucket.tryAcquire(1, 5000));
+		assertEquals(5000, tokenBucket.getWaitTime(1, 5000));
+		
+		//	A shorter pause doesn't shorten the current one
+		tokenBucket.pauseUntil(7000);
+		assertTrue(tokenBucket.isPaused(8000));
+		
+		assertFalse(tokenBucket.isPaused(10000));
+		assertFalse(tokenBucket.tryAcquire(1, 10000));
+		assertTrue(tokenBucket.tryAcquire(1, 11000));
+	}
+}
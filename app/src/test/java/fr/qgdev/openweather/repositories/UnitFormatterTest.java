@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Random;
+
+public class UnitFormatterTest {
+	
+	private static final Locale[] LOCALES = {
+			  Locale.US,
+			  Locale.FRANCE,
+			  new Locale("ar", "EG"),
+			  new Locale("fa"),
+			  new Locale("th", "TH", "TH")};
+	
+	private static final float[] EDGE_VALUES = {
+			  0F, -0F, 0.5F, -0.5F, 1.5F, 2.5F, 0.05F, 0.005F, -0.004F, 0.125F, -0.125F,
+			  273.15F, -273.15F, 999999999F, 1e9F, -1e9F,
+			  Float.MIN_VALUE, -Float.MIN_VALUE, Float.MAX_VALUE,
+			  Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY};
+	
+	/**
+	 * The formatting done before UnitFormatter, the reference for the output
+	 */
+	private static String formatWithPattern(Locale locale, int fractionDigits, String unitPrefix, String unitSymbol, float value, boolean space, boolean unit) {
+		if (fractionDigits < 0) {
+			return String.format(locale, "%d%s" + unitPrefix + "%s",
+					  BigDecimal.valueOf(value).intValue(), space ? " " : "", unit ? unitSymbol : "");
+		}
+		return String.format(locale, "%." + fractionDigits + "f%s" + unitPrefix + "%s",
+				  value, space ? " " : "", unit ? unitSymbol : "");
+	}
+	
+	private static UnitFormatter formatter(Locale locale, int fractionDigits, String unitPrefix, String unitSymbol) {
+		if (fractionDigits < 0) return UnitFormatter.ofInteger(value -> value, unitPrefix, unitSymbol, locale);
+		return UnitFormatter.ofDecimal(value -> value, fractionDigits, unitPrefix, unitSymbol, locale);
+	}
+	
+	private static void assertSameOutput(UnitFormatter unitFormatter, Locale locale, int fractionDigits, String unitPrefix, String unitSymbol, float value) {
+		for (FormattingService.FormattingSpec formattingSpec : FormattingService.FormattingSpec.values()) {
+			boolean space = formattingSpec.hasSpace();
+			boolean unit = formattingSpec.hasUnit();
+			
+			//	Like BigDecimal, integers can't be formatted from NaN or infinite values
+			if (fractionDigits < 0 && !Float.isFinite(value)) {
+				assertThrows(NumberFormatException.class, () -> unitFormatter.format(value, space, unit));
+				continue;
+			}
+			
+			assertEquals(locale + " " + fractionDigits + " " + value + " " + formattingSpec,
+					  formatWithPattern(locale, fractionDigits, unitPrefix, unitSymbol, value, space, unit),
+					  unitFormatter.format(value, space, unit));
+		}
+	}
+	
+	/**
+	 * Test that the output is the same as String.format for every FormattingSpec
+	 * with random values, values around the rounding limits and edge values
+	 */
+	@Test
+	public void sameOutputAsStringFormatTest() {
+		Random random = new Random(24);
+		
+		for (Locale locale : LOCALES) {
+			for (int fractionDigits = -1; fractionDigits <= 2; fractionDigits++) {
+				UnitFormatter unitFormatter = formatter(locale, fractionDigits, "°", "C");
+				float roundingStep = fractionDigits <= 0 ? 1F : (fractionDigits == 1 ? 0.1F : 0.01F);
+				
+				for (int i = 0; i < 2000; i++) {
+					//	Any float, a weather like value and the floats around a rounding limit
+					assertSameOutput(unitFormatter, locale, fractionDigits, "°", "C", Float.intBitsToFloat(random.nextInt()));
+					assertSameOutput(unitFormatter, locale, fractionDigits, "°", "C", (random.nextFloat() - 0.5F) * 2000F);
+					
+					float roundingLimit = (random.nextInt(20000) - 10000 + 0.5F) * roundingStep;
+					assertSameOutput(unitFormatter, locale, fractionDigits, "°", "C", Math.nextDown(roundingLimit));
+					assertSameOutput(unitFormatter, locale, fractionDigits, "°", "C", roundingLimit);
+					assertSameOutput(unitFormatter, locale, fractionDigits, "°", "C", Math.nextUp(roundingLimit));
+				}
+				
+				for (float value : EDGE_VALUES) {
+					assertSameOutput(unitFormatter, locale, fractionDigits, "°", "C", value);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Test that the conversion is applied, that NaN fails like before for integers
+	 * and that rendering reuses the same buffer
+	 */
+	@Test
+	public void conversionAndRenderingTest() {
+		UnitFormatter speedFormatter = UnitFormatter.ofDecimal(speed -> speed * 3.6F, 1, "", "km/h", Locale.US);
+		assertEquals("36.0 km/h", speedFormatter.format(10F, true, true));
+		assertEquals("NaN", speedFormatter.format(Float.NaN, false, false));
+		
+		UnitFormatter temperatureFormatter = UnitFormatter.ofInteger(temperature -> temperature - 273.15F, "°", "C", Locale.US);
+		assertEquals("-273 °C", temperatureFormatter.format(0.1F, true, true));
+		assertThrows(NumberFormatException.class, () -> temperatureFormatter.format(Float.NaN, true, true));
+		
+		CharSequence rendered = speedFormatter.render(10F, false, true);
+		assertEquals("36.0km/h", rendered.toString());
+		assertSame(rendered, temperatureFormatter.render(300F, false, true));
+		assertEquals("26°C", rendered.toString());
+		
+		StringBuilder stringBuilder = new StringBuilder("Wind: ");
+		speedFormatter.append(stringBuilder, 1F, true, false);
+		assertEquals("Wind: 3.6 ", stringBuilder.toString());
+	}
+	
+	/**
+	 * Test the locale switch and the parameters checks
+	 */
+	@Test
+	public void localeAndParametersTest() {
+		UnitFormatter unitFormatter = UnitFormatter.ofDecimal(value -> value, 2, "", "inHg", Locale.US);
+		assertSame(unitFormatter, unitFormatter.withLocale(Locale.US));
+		assertEquals("29,92 inHg", unitFormatter.withLocale(Locale.FRANCE).format(29.92F, true, true));
+		
+		assertThrows(IllegalArgumentException.class, () -> UnitFormatter.ofDecimal(value -> value, -1, "", "", Locale.US));
+		assertThrows(IllegalArgumentException.class, () -> UnitFormatter.ofDecimal(value -> value, 4, "", "", Locale.US));
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import android.database.Cursor;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import fr.qgdev.openweather.repositories.places.dao.GeocodingCacheDAO;
+
+@RunWith(RobolectricTestRunner.class)
+public class GeocodingCacheEvictionTest {
+	
+	private static final long TIME_TO_LIVE = 86400000;
+	
+	private PlaceDatabase database;
+	private GeocodingCacheDAO geocodingCacheDAO;
+	
+	/**
+	 * Sets up an empty in-memory database.
+	 */
+	@Before
+	public void setUp() {
+		database = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), PlaceDatabase.class)
+				  .allowMainThreadQueries()
+				  .build();
+		geocodingCacheDAO = database.geocodingCacheDAO();
+	}
+	
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		database.close();
+	}
+	
+	/**
+	 * Cache an entry accessed at some time
+	 *
+	 * @param queryKey       the key of the entry
+	 * @param lastAccessTime the last access time of the entry
+	 * @param maxEntries     the maximum number of entries kept
+	 */
+	private void put(String queryKey, long lastAccessTime, int maxEntries) {
+		geocodingCacheDAO.insertAndEvict(new GeocodingCacheEntry(queryKey, "City", "FR", 0, 0, 0, 1000, lastAccessTime),
+				  1000 - TIME_TO_LIVE, 1000, maxEntries);
+	}
+	
+	/**
+	 * Count the entries of the cache
+	 *
+	 * @return the number of entries
+	 */
+	private int count() {
+		try (Cursor cursor = database.query("SELECT COUNT(*) FROM geocoding_cache", null)) {
+			cursor.moveToFirst();
+			return cursor.getInt(0);
+		}
+	}
+	
+	/**
+	 * Test that the least recently used entries are removed first
+	 */
+	@Test
+	public void leastRecentlyUsedTest() {
+		for (int i = 0; i < 5; i++) {
+			put("city" + i + ",FR", 1000 + i, 3);
+		}
+		
+		assertEquals(3, count());
+		assertNull(geocodingCacheDAO.getFromQueryKey("city0,FR"));
+		assertNull(geocodingCacheDAO.getFromQueryKey("city1,FR"));
+		assertNotNull(geocodingCacheDAO.getFromQueryKey("city4,FR"));
+	}
+	
+	/**
+	 * Test that entries accessed at the same time are not all removed together
+	 */
+	@Test
+	public void sameAccessTimeTest() {
+		for (int i = 0; i < 5; i++) {
+			put("city" + i + ",FR", 1000, 3);
+		}
+		
+		assertEquals(3, count());
+	}
+}
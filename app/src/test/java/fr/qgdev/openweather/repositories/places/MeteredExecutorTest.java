@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MeteredExecutorTest {
+	
+	private static final long TIMEOUT = 5;
+	
+	/**
+	 * Test that a single thread executor runs tasks one at a time and in order, like the writer
+	 */
+	@Test
+	public void serializedTest() throws InterruptedException {
+		MeteredExecutor executor = new MeteredExecutor("writer", 1);
+		AtomicInteger running = new AtomicInteger(0);
+		AtomicInteger maxRunning = new AtomicInteger(0);
+		List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch done = new CountDownLatch(50);
+		
+		for (int i = 0; i < 50; i++) {
+			int task = i;
+			executor.execute(() -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				order.add(task);
+				running.decrementAndGet();
+				done.countDown();
+			});
+		}
+		
+		assertTrue(done.await(TIMEOUT, TimeUnit.SECONDS));
+		assertEquals(1, maxRunning.get());
+		for (int i = 0; i < 50; i++) {
+			assertEquals(i, (int) order.get(i));
+		}
+	}
+	
+	/**
+	 * Test that every thread of a pool can run at the same time, like the readers
+	 */
+	@Test
+	public void concurrentTest() throws InterruptedException {
+		MeteredExecutor executor = new MeteredExecutor("reader", 3);
+		CyclicBarrier barrier = new CyclicBarrier(3);
+		CountDownLatch done = new CountDownLatch(3);
+		
+		for (int i = 0; i < 3; i++) {
+			executor.execute(() -> {
+				try {
+					barrier.await(TIMEOUT, TimeUnit.SECONDS);
+					done.countDown();
+				} catch (Exception ignored) {
+				}
+			});
+		}
+		
+		assertTrue(done.await(TIMEOUT, TimeUnit.SECONDS));
+	}
+	
+	/**
+	 * Test that tasks waiting behind a long task are counted in the queue depth and their wait time measured
+	 */
+	@Test
+	public void metricsTest() throws InterruptedException {
+		MeteredExecutor executor = new MeteredExecutor("writer", 1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(4);
+		
+		executor.execute(() -> {
+			started.countDown();
+			try {
+				release.await(TIMEOUT, TimeUnit.SECONDS);
+			} catch (InterruptedException ignored) {
+			}
+			done.countDown();
+		});
+		assertTrue(started.await(TIMEOUT, TimeUnit.SECONDS));
+		for (int i = 0; i < 3; i++) {
+			executor.execute(done::countDown);
+		}
+		
+		assertEquals(3, executor.getQueueDepth());
+		Thread.sleep(50);
+		release.countDown();
+		assertTrue(done.await(TIMEOUT, TimeUnit.SECONDS));
+		
+		//	The counters are updated just after the task has run
+		Thread.sleep(50);
+		assertEquals(0, executor.getQueueDepth());
+		assertEquals(3, executor.getMaxQueueDepth());
+		assertEquals(4, executor.getCompletedTaskCount());
+		assertTrue(executor.getMaxWaitTime() >= 50);
+		assertTrue(executor.getMaxRunTime() >= 50);
+	}
+}
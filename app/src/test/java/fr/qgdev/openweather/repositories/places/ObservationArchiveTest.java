@@ -0,0 +1,227 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.List;
+
+import fr.qgdev.openweather.metrics.CurrentWeather;
+import fr.qgdev.openweather.utils.TestMetrics;
+
+@RunWith(RobolectricTestRunner.class)
+public class ObservationArchiveTest {
+	
+	private static final String PLACE_ID = "place0";
+	private static final long DAY_START = 20000 * WeatherObservation.DAY;
+	private static final int DAYS = 4;
+	
+	private PlaceDatabase database;
+	private Place place;
+	
+	/**
+	 * Sets up an in-memory database with a single place.
+	 */
+	@Before
+	public void setUp() {
+		Context context = ApplicationProvider.getApplicationContext();
+		database = Room.inMemoryDatabaseBuilder(context, PlaceDatabase.class)
+				  .allowMainThreadQueries()
+				  .build();
+		
+		place = TestPlaces.build(PLACE_ID, 0);
+		TestPlaces.insert(database, place);
+	}
+	
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		database.close();
+	}
+	
+	/**
+	 * Archive a snapshot of the current weather of the place
+	 *
+	 * @param dt          the time of the snapshot
+	 * @param temperature the temperature of the snapshot
+	 */
+	private void archive(long dt, float temperature) {
+		CurrentWeather currentWeather = TestMetrics.currentWeather(values -> {
+			values.placeId = PLACE_ID;
+			values.dt = dt;
+			values.temperature = temperature;
+		});
+		Place snapshot = place.toBuilder().setCurrentWeather(currentWeather).build();
+		
+		database.runInTransaction(() -> database.archiveObservation(snapshot));
+	}
+	
+	/**
+	 * Archive one snapshot per hour for some days, the temperature being the hour of the day
+	 */
+	private void archiveDays() {
+		for (int day = 0; day < DAYS; day++) {
+			for (int hour = 0; hour < 24; hour++) {
+				archive(DAY_START + day * WeatherObservation.DAY + hour * WeatherObservation.HOUR, hour);
+			}
+		}
+	}
+	
+	/**
+	 * Compact the archive
+	 *
+	 * @param policy the retention policy
+	 * @param now    the current time
+	 */
+	private void compact(ObservationRetentionPolicy policy, long now) {
+		database.runInTransaction(() -> database.compactObservations(policy, now));
+	}
+	
+	/**
+	 * Test that only the last snapshot of each hour is kept
+	 */
+	@Test
+	public void archivePerHourTest() {
+		archive(DAY_START + 5 * WeatherObservation.HOUR + 600000, 10);
+		archive(DAY_START + 5 * WeatherObservation.HOUR + 2400000, 12);
+		archive(DAY_START + 6 * WeatherObservation.HOUR + 300000, 14);
+		
+		List<WeatherObservation> observations = database.getObservations(PLACE_ID, DAY_START, DAY_START + WeatherObservation.DAY);
+		
+		assertEquals(2, observations.size());
+		assertEquals(DAY_START + 5 * WeatherObservation.HOUR, observations.get(0).getDt());
+		assertEquals(12, observations.get(0).getTemperature(), 0);
+		assertEquals(14, observations.get(1).getTemperature(), 0);
+	}
+	
+	/**
+	 * Test that a current weather never fetched isn't archived
+	 */
+	@Test
+	public void archiveNeverFetchedTest() {
+		archive(0, 10);
+		
+		assertEquals(0, database.weatherObservationDAO().countFromPlaceID(PLACE_ID));
+	}
+	
+	/**
+	 * Test that range queries only return the observations of the place in the range
+	 */
+	@Test
+	public void rangeTest() {
+		archiveDays();
+		
+		List<WeatherObservation> observations = database.getObservations(PLACE_ID, DAY_START + 10 * WeatherObservation.HOUR, DAY_START + 20 * WeatherObservation.HOUR);
+		
+		assertEquals(10, observations.size());
+		for (int i = 0; i < observations.size(); i++) {
+			assertEquals(DAY_START + (10 + i) * WeatherObservation.HOUR, observations.get(i).getDt());
+		}
+		assertTrue(database.getObservations("unknown", DAY_START, DAY_START + DAYS * WeatherObservation.DAY).isEmpty());
+	}
+	
+	/**
+	 * Test that hourly observations of days that are over before the hourly limit become daily aggregates
+	 */
+	@Test
+	public void compactionTest() {
+		archiveDays();
+		ObservationRetentionPolicy policy = new ObservationRetentionPolicy();
+		policy.setHourlyRetention(7 * WeatherObservation.DAY);
+		//	The hourly limit falls in the middle of the fourth day
+		long now = DAY_START + 10 * WeatherObservation.DAY + 12 * WeatherObservation.HOUR;
+		
+		compact(policy, now);
+		
+		List<WeatherObservation> observations = database.getObservations(PLACE_ID, DAY_START, DAY_START + DAYS * WeatherObservation.DAY);
+		assertEquals(3 + 24, observations.size());
+		for (int day = 0; day < 3; day++) {
+			WeatherObservation daily = observations.get(day);
+			assertEquals(DAY_START + day * WeatherObservation.DAY, daily.getDt());
+			assertEquals(WeatherObservation.DAY, daily.getPeriod());
+			assertEquals(24, daily.getSamples());
+			assertEquals(11.5, daily.getTemperature(), 0.0001);
+			assertEquals(0, daily.getTemperatureMinimum(), 0);
+			assertEquals(23, daily.getTemperatureMaximum(), 0);
+		}
+		for (int i = 3; i < observations.size(); i++) {
+			assertEquals(WeatherObservation.HOUR, observations.get(i).getPeriod());
+		}
+		
+		//	Compacting again changes nothing
+		compact(policy, now);
+		assertEquals(3 + 24, database.weatherObservationDAO().countFromPlaceID(PLACE_ID));
+	}
+	
+	/**
+	 * Test that a late hourly observation is merged into the daily aggregate of its day
+	 */
+	@Test
+	public void compactionMergeTest() {
+		archiveDays();
+		ObservationRetentionPolicy policy = new ObservationRetentionPolicy();
+		long now = DAY_START + 10 * WeatherObservation.DAY + 12 * WeatherObservation.HOUR;
+		compact(policy, now);
+		
+		archive(DAY_START + 3 * WeatherObservation.HOUR + 1800000, 48);
+		compact(policy, now);
+		
+		WeatherObservation daily = database.getObservations(PLACE_ID, DAY_START, DAY_START + WeatherObservation.DAY).get(0);
+		assertEquals(1, database.getObservations(PLACE_ID, DAY_START, DAY_START + WeatherObservation.DAY).size());
+		assertEquals(25, daily.getSamples());
+		assertEquals((276 + 48) / 25F, daily.getTemperature(), 0.0001);
+		assertEquals(48, daily.getTemperatureMaximum(), 0);
+	}
+	
+	/**
+	 * Test that daily aggregates older than the daily retention are deleted
+	 */
+	@Test
+	public void retentionTest() {
+		archiveDays();
+		ObservationRetentionPolicy policy = new ObservationRetentionPolicy();
+		policy.setHourlyRetention(0);
+		policy.setDailyRetention(2 * WeatherObservation.DAY);
+		long now = DAY_START + DAYS * WeatherObservation.DAY;
+		
+		compact(policy, now);
+		
+		List<WeatherObservation> observations = database.getObservations(PLACE_ID, DAY_START, now);
+		assertEquals(2, observations.size());
+		assertEquals(DAY_START + 2 * WeatherObservation.DAY, observations.get(0).getDt());
+		assertEquals(DAY_START + 3 * WeatherObservation.DAY, observations.get(1).getDt());
+	}
+}
@@ -0,0 +1,248 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(RobolectricTestRunner.class)
+public class PlaceChangeTrackerTest {
+	
+	private static final int PLACES = 30;
+	
+	private PlaceDatabase database;
+	private PlaceChangeTracker tracker;
+	
+	/**
+	 * Sets up.
+	 * Invalidations are ignored, refreshes are done by hand.
+	 */
+	@Before
+	public void setUp() {
+		database = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), PlaceDatabase.class)
+				  .allowMainThreadQueries()
+				  .build();
+		for (int i = 0; i < PLACES; i++) {
+			TestPlaces.insert(database, TestPlaces.build("place" + i, i));
+		}
+		tracker = new PlaceChangeTracker(database, runnable -> {
+		});
+		tracker.refresh();
+	}
+	
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		database.close();
+	}
+	
+	/**
+	 * Test that the first refresh loads every place in order
+	 */
+	@Test
+	public void initialLoadTest() {
+		List<Place> places = tracker.getPlaces();
+		
+		assertEquals(PLACES, places.size());
+		for (int i = 0; i < PLACES; i++) {
+			assertEquals("place" + i, places.get(i).getProperties().getPlaceId());
+		}
+		assertNull(PlaceChangeTracker.getChangedPositions(null, places));
+	}
+	
+	/**
+	 * Test that a refresh without any change keeps the same snapshot
+	 */
+	@Test
+	public void noChangeTest() {
+		List<Place> places = tracker.getPlaces();
+		tracker.refresh();
+		
+		assertSame(places, tracker.getPlaces());
+	}
+	
+	/**
+	 * Test that updating one place only reloads and reports this place
+	 */
+	@Test
+	public void singleChangeTest() {
+		List<Place> previous = tracker.getPlaces();
+		
+		Properties properties = database.propertiesDAO().getFromPlaceId("place7");
+		database.propertiesDAO().update(properties.withWeatherUpdateAttempt(1000L));
+		tracker.refresh();
+		
+		List<Place> current = tracker.getPlaces();
+		assertNotSame(previous, current);
+		for (int i = 0; i < PLACES; i++) {
+			if (i == 7) assertNotSame(previous.get(i), current.get(i));
+			else assertSame(previous.get(i), current.get(i));
+		}
+		assertEquals(1000L, current.get(7).getProperties().getLastWeatherUpdateAttemptTime());
+		assertArrayEquals(new int[]{7}, PlaceChangeTracker.getChangedPositions(previous, current));
+	}
+	
+	/**
+	 * Test that a moved place is not reloaded and keeps its instance
+	 */
+	@Test
+	public void moveTest() {
+		List<Place> previous = tracker.getPlaces();
+		Place movedPlace = previous.get(7);
+		
+		database.propertiesDAO().updateOrderFromPlaceID("place7", -1);
+		tracker.refresh();
+		
+		List<Place> current = tracker.getPlaces();
+		assertNotSame(previous, current);
+		assertSame(movedPlace, current.get(0));
+		for (int i = 0; i < 7; i++) {
+			assertSame(previous.get(i), current.get(i + 1));
+		}
+		assertArrayEquals(new int[0], PlaceChangeTracker.getChangedPositions(previous, current));
+	}
+	
+	/**
+	 * Test that a move patched in the snapshot is kept by refreshes until it is written
+	 */
+	@Test
+	public void patchedMoveTest() {
+		List<Place> previous = tracker.getPlaces();
+		Place movedPlace = previous.get(7);
+		
+		tracker.movePlace(7, 0);
+		List<Place> patched = tracker.getPlaces();
+		assertSame(movedPlace, patched.get(0));
+		for (int i = 0; i < 7; i++) {
+			assertSame(previous.get(i), patched.get(i + 1));
+		}
+		
+		//	Not written yet, the refresh keeps the order of the snapshot
+		tracker.refresh();
+		assertSame(patched, tracker.getPlaces());
+		
+		database.propertiesDAO().updateOrderFromPlaceID("place7", -1);
+		tracker.onMoveWritten();
+		tracker.refresh();
+		assertSame(patched, tracker.getPlaces());
+	}
+	
+	/**
+	 * Test that a deleted place is removed from the snapshot and reported as a structural change
+	 */
+	@Test
+	public void deleteTest() {
+		List<Place> previous = tracker.getPlaces();
+		
+		database.propertiesDAO().delete(previous.get(PLACES - 1).getProperties());
+		tracker.refresh();
+		
+		List<Place> current = tracker.getPlaces();
+		assertEquals(PLACES - 1, current.size());
+		for (int i = 0; i < PLACES - 1; i++) {
+			assertSame(previous.get(i), current.get(i));
+		}
+		assertNull(PlaceChangeTracker.getChangedPositions(previous, current));
+	}
+	
+	/**
+	 * Test that the stream of a place only emits when this place changes, and null once it is deleted
+	 */
+	@Test
+	public void placeLiveDataTest() {
+		List<Place> emittedPlaces = new ArrayList<>();
+		Observer<Place> observer = emittedPlaces::add;
+		LiveData<Place> placeLiveData = tracker.getPlaceLiveData("place7");
+		placeLiveData.observeForever(observer);
+		
+		//	The place of the current snapshot is emitted right away
+		assertSame(tracker.getPlaces().get(7), placeLiveData.getValue());
+		emittedPlaces.clear();
+		
+		Properties properties = database.propertiesDAO().getFromPlaceId("place3");
+		database.propertiesDAO().update(properties.withWeatherUpdateAttempt(1000L));
+		tracker.refresh();
+		shadowOf(Looper.getMainLooper()).idle();
+		assertEquals(0, emittedPlaces.size());
+		
+		properties = database.propertiesDAO().getFromPlaceId("place7");
+		database.propertiesDAO().update(properties.withWeatherUpdateAttempt(1000L));
+		tracker.refresh();
+		shadowOf(Looper.getMainLooper()).idle();
+		assertEquals(1, emittedPlaces.size());
+		assertSame(tracker.getPlaces().get(7), emittedPlaces.get(0));
+		
+		database.propertiesDAO().delete(properties);
+		tracker.refresh();
+		shadowOf(Looper.getMainLooper()).idle();
+		assertEquals(2, emittedPlaces.size());
+		assertNull(emittedPlaces.get(1));
+		
+		placeLiveData.removeObserver(observer);
+	}
+	
+	/**
+	 * Test that a stream is no longer updated by the tracker once it has no observer
+	 */
+	@Test
+	public void inactivePlaceLiveDataTest() {
+		Observer<Place> observer = place -> {
+		};
+		LiveData<Place> placeLiveData = tracker.getPlaceLiveData("place7");
+		placeLiveData.observeForever(observer);
+		placeLiveData.removeObserver(observer);
+		Place place = placeLiveData.getValue();
+		
+		Properties properties = database.propertiesDAO().getFromPlaceId("place7");
+		database.propertiesDAO().update(properties.withWeatherUpdateAttempt(1000L));
+		tracker.refresh();
+		shadowOf(Looper.getMainLooper()).idle();
+		assertSame(place, placeLiveData.getValue());
+		
+		//	Observed again, it catches up with the snapshot
+		placeLiveData.observeForever(observer);
+		assertSame(tracker.getPlaces().get(7), placeLiveData.getValue());
+		placeLiveData.removeObserver(observer);
+	}
+}
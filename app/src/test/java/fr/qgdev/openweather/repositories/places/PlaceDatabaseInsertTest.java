@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.database.Cursor;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import fr.qgdev.openweather.metrics.DailyWeatherForecast;
+import fr.qgdev.openweather.metrics.HourlyWeatherForecast;
+import fr.qgdev.openweather.metrics.MinutelyWeatherForecast;
+import fr.qgdev.openweather.metrics.WeatherAlert;
+
+@RunWith(RobolectricTestRunner.class)
+public class PlaceDatabaseInsertTest {
+	
+	private static final int PLACES = 50;
+	
+	private final AtomicInteger statementCount = new AtomicInteger(0);
+	private final AtomicInteger insertCount = new AtomicInteger(0);
+	private PlaceDatabase database;
+	
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		if (database != null) database.close();
+	}
+	
+	/**
+	 * Open a new empty database in memory counting the statements run on the places tables
+	 */
+	private void openDatabase() {
+		if (database != null) database.close();
+		database = TestPlaces.openDatabase(sqlQuery -> {
+			//	Room's own invalidation tracking isn't part of inserting places
+			if (sqlQuery.contains("room_table_modification_log")) return;
+			statementCount.incrementAndGet();
+			if (sqlQuery.startsWith("INSERT")) insertCount.incrementAndGet();
+		});
+		database.getOpenHelper().getWritableDatabase();
+		statementCount.set(0);
+		insertCount.set(0);
+	}
+	
+	/**
+	 * Insert the forecasts of a place one row at a time, as it was done before bulk inserts
+	 *
+	 * @param place the place to insert
+	 */
+	private void insertRowByRow(Place place) {
+		database.runInTransaction(() -> {
+			for (MinutelyWeatherForecast minutelyWeatherForecast : place.getMinutelyWeatherForecastList()) {
+				database.minutelyWeatherForecastDAO().insert(minutelyWeatherForecast);
+			}
+			for (HourlyWeatherForecast hourlyWeatherForecast : place.getHourlyWeatherForecastList()) {
+				database.hourlyWeatherForecastDAO().insert(hourlyWeatherForecast);
+			}
+			for (DailyWeatherForecast dailyWeatherForecast : place.getDailyWeatherForecastList()) {
+				database.dailyWeatherForecastDAO().insert(dailyWeatherForecast);
+			}
+			for (WeatherAlert weatherAlert : place.getWeatherAlertsList()) {
+				database.weatherAlertDAO().insert(weatherAlert);
+			}
+		});
+	}
+	
+	/**
+	 * Insert the forecasts of a place with one statement per table, as insertPlace and updatePlace do
+	 *
+	 * @param place the place to insert
+	 */
+	private void insertInBulk(Place place) {
+		database.runInTransaction(() -> {
+			database.minutelyWeatherForecastDAO().insertAll(place.getMinutelyWeatherForecastList());
+			database.hourlyWeatherForecastDAO().insertAll(place.getHourlyWeatherForecastList());
+			database.dailyWeatherForecastDAO().insertAll(place.getDailyWeatherForecastList());
+			database.weatherAlertDAO().insertAll(place.getWeatherAlertsList());
+		});
+	}
+	
+	/**
+	 * Insert every place in a new database
+	 *
+	 * @param places the places to insert
+	 * @param bulk   true to use bulk inserts, false to insert row by row
+	 */
+	private void insertAll(List<Place> places, boolean bulk) {
+		openDatabase();
+		for (Place place : places) {
+			if (bulk) insertInBulk(place);
+			else insertRowByRow(place);
+		}
+	}
+	
+	/**
+	 * Count the rows of a table
+	 *
+	 * @param table the name of the table
+	 * @return the number of rows
+	 */
+	private int count(String table) {
+		try (Cursor cursor = database.query("SELECT COUNT(*) FROM " + table, null)) {
+			cursor.moveToFirst();
+			return cursor.getInt(0);
+		}
+	}
+	
+	/**
+	 * Test that bulk inserts store every row
+	 */
+	@Test
+	public void bulkInsertTest() {
+		openDatabase();
+		for (int i = 0; i < PLACES; i++) {
+			insertInBulk(TestPlaces.build("place" + i, i));
+		}
+		
+		assertEquals(PLACES * TestPlaces.MINUTELY_FORECASTS, count("minutely_weather_forecasts"));
+		assertEquals(PLACES * TestPlaces.HOURLY_FORECASTS, count("hourly_weather_forecasts"));
+		assertEquals(PLACES * TestPlaces.DAILY_FORECASTS, count("daily_weather_forecasts"));
+		assertEquals(PLACES * TestPlaces.WEATHER_ALERTS, count("weather_alerts"));
+		
+		List<HourlyWeatherForecast> hourlyWeatherForecasts = database.hourlyWeatherForecastDAO().getFromPlaceID("place0");
+		assertEquals(TestPlaces.HOURLY_FORECASTS, hourlyWeatherForecasts.size());
+		assertEquals(3600000L, hourlyWeatherForecasts.get(1).getDt());
+	}
+	
+	/**
+	 * Compare the statements run to insert the forecasts of 50 places row by row and in bulk.
+	 * Both write the same rows, but each DAO call runs in its own transaction.
+	 */
+	@Test
+	public void bulkInsertStatementsTest() {
+		List<Place> places = new ArrayList<>();
+		for (int i = 0; i < PLACES; i++) {
+			places.add(TestPlaces.build("place" + i, i));
+		}
+		int rows = PLACES * (TestPlaces.MINUTELY_FORECASTS + TestPlaces.HOURLY_FORECASTS + TestPlaces.DAILY_FORECASTS + TestPlaces.WEATHER_ALERTS);
+		
+		insertAll(places, false);
+		int rowByRowStatements = statementCount.get();
+		assertEquals(rows, insertCount.get());
+		
+		insertAll(places, true);
+		int bulkStatements = statementCount.get();
+		assertEquals(rows, insertCount.get());
+		
+		assertTrue("Expected less than " + rowByRowStatements + " statements but got " + bulkStatements + " !",
+				  bulkStatements < rowByRowStatements);
+	}
+}
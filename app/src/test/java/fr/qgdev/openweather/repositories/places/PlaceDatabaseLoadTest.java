@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(RobolectricTestRunner.class)
+public class PlaceDatabaseLoadTest {
+	
+	private static final int PLACES = 40;
+	
+	private final AtomicInteger selectCount = new AtomicInteger(0);
+	private PlaceDatabase database;
+	
+	/**
+	 * Sets up an in-memory database counting the select queries run on the places tables.
+	 */
+	@Before
+	public void setUp() {
+		database = TestPlaces.openDatabase(sqlQuery -> {
+			//	Room's own invalidation tracking isn't part of loading places
+			if (sqlQuery.startsWith("SELECT") && !sqlQuery.contains("room_table_modification_log"))
+				selectCount.incrementAndGet();
+		});
+		
+		//	Inserted in reverse order to check that places are sorted by their order
+		for (int i = PLACES - 1; i >= 0; i--) {
+			TestPlaces.insert(database, TestPlaces.build("place" + i, i));
+		}
+	}
+	
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		database.close();
+	}
+	
+	/**
+	 * Test that loading every place queries each table once instead of once per place
+	 */
+	@Test
+	public void getAllPlacesQueryCountTest() {
+		selectCount.set(0);
+		List<Place> places = database.getAllPlaces();
+		
+		assertEquals(PLACES, places.size());
+		//	Properties, geolocation, current weather, air quality, minutely, hourly, daily and alerts
+		assertTrue("Expected at most 8 queries but got " + selectCount.get() + " !", selectCount.get() <= 8);
+	}
+	
+	/**
+	 * Test that every place gets its own data, in the order of the places
+	 */
+	@Test
+	public void getAllPlacesContentTest() {
+		List<Place> places = database.getAllPlaces();
+		
+		for (int i = 0; i < PLACES; i++) {
+			Place place = places.get(i);
+			String placeId = "place" + i;
+			
+			assertEquals(placeId, place.getProperties().getPlaceId());
+			assertEquals(i, place.getProperties().getOrder());
+			assertEquals("City " + i, place.getGeolocation().getCity());
+			assertNotNull(place.getCurrentWeather());
+			assertEquals(placeId, place.getCurrentWeather().getPlaceId());
+			assertNotNull(place.getAirQuality());
+			assertEquals(placeId, place.getAirQuality().getPlaceId());
+			
+			assertEquals(TestPlaces.MINUTELY_FORECASTS, place.getMinutelyWeatherForecastList().size());
+			assertEquals(TestPlaces.HOURLY_FORECASTS, place.getHourlyWeatherForecastList().size());
+			assertEquals(TestPlaces.DAILY_FORECASTS, place.getDailyWeatherForecastList().size());
+			assertEquals(TestPlaces.WEATHER_ALERTS, place.getWeatherAlertsList().size());
+			assertEquals(placeId, place.getHourlyWeatherForecastList().get(0).getPlaceId());
+			
+			//	Rows keep their chronological order once grouped
+			assertEquals(0, place.getHourlyWeatherForecastList().get(0).getDt());
+			assertEquals(3600000L, place.getHourlyWeatherForecastList().get(1).getDt());
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.database.Cursor;
+
+import androidx.room.Room;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@RunWith(RobolectricTestRunner.class)
+public class PlaceDatabaseQueryPlanTest {
+	
+	//	Relative to the module directory, where Gradle runs unit tests
+	private static final File DAO_DIRECTORY = new File("src/main/java/fr/qgdev/openweather/repositories/places/dao");
+	private static final Pattern QUERY_PATTERN = Pattern.compile("@Query\\(\"((?:[^\"\\\\]|\\\\.)*)\"\\)");
+	private static final Pattern PARAMETER_PATTERN = Pattern.compile(":\\w+");
+	//	A step reading every row of a table without any index, "SCAN TABLE x" on older SQLite versions
+	private static final Pattern FULL_SCAN_PATTERN = Pattern.compile("^SCAN (TABLE )?\\S+( AS \\S+)?$");
+	
+	private PlaceDatabase database;
+	
+	/**
+	 * Sets up an in-memory database with the current schema.
+	 */
+	@Before
+	public void setUp() {
+		Context context = ApplicationProvider.getApplicationContext();
+		database = Room.inMemoryDatabaseBuilder(context, PlaceDatabase.class)
+				  .allowMainThreadQueries()
+				  .build();
+	}
+	
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		database.close();
+	}
+	
+	/**
+	 * Read every query declared in the DAOs
+	 *
+	 * @return the list of queries with their parameters replaced by placeholders
+	 * @throws IOException if a DAO cannot be read
+	 */
+	private static List<String> readDaoQueries() throws IOException {
+		File[] daoFiles = DAO_DIRECTORY.listFiles((directory, name) -> name.endsWith("DAO.java"));
+		assertTrue("Cannot find the DAOs in " + DAO_DIRECTORY.getAbsolutePath() + " !", daoFiles != null && daoFiles.length > 0);
+		
+		List<String> queries = new ArrayList<>();
+		for (File daoFile : daoFiles) {
+			String source = new String(Files.readAllBytes(daoFile.toPath()), StandardCharsets.UTF_8);
+			Matcher matcher = QUERY_PATTERN.matcher(source);
+			while (matcher.find()) {
+				queries.add(PARAMETER_PATTERN.matcher(matcher.group(1)).replaceAll("?"));
+			}
+		}
+		return queries;
+	}
+	
+	/**
+	 * Get the query plan of a query
+	 *
+	 * @param query the query
+	 * @return the detail of every step of the plan
+	 */
+	private List<String> explain(String query) {
+		SupportSQLiteDatabase supportSQLiteDatabase = database.getOpenHelper().getReadableDatabase();
+		List<String> steps = new ArrayList<>();
+		try (Cursor cursor = supportSQLiteDatabase.query("EXPLAIN QUERY PLAN " + query)) {
+			int detailColumn = cursor.getColumnIndexOrThrow("detail");
+			while (cursor.moveToNext()) {
+				steps.add(cursor.getString(detailColumn));
+			}
+		}
+		return steps;
+	}
+	
+	/**
+	 * Test that every DAO query filtering rows uses an index instead of scanning a whole table.
+	 * Queries without a WHERE clause read every row on purpose and are only checked to be valid.
+	 */
+	@Test
+	public void noFullTableScanTest() throws IOException {
+		List<String> queries = readDaoQueries();
+		assertFalse(queries.isEmpty());
+		
+		List<String> failures = new ArrayList<>();
+		for (String query : queries) {
+			List<String> steps = explain(query);
+			if (!query.toUpperCase().contains(" WHERE ")) continue;
+			
+			for (String step : steps) {
+				if (FULL_SCAN_PATTERN.matcher(step).matches())
+					failures.add(query + " -> " + step);
+			}
+		}
+		
+		assertTrue("Full table scans found:\n" + String.join("\n", failures), failures.isEmpty());
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.qgdev.openweather.metrics.HourlyWeatherForecast;
+import fr.qgdev.openweather.metrics.WeatherAlert;
+import fr.qgdev.openweather.utils.TestMetrics;
+
+@RunWith(RobolectricTestRunner.class)
+public class PlaceDatabaseUpsertTest {
+	
+	private static final String PLACE_ID = "place";
+	
+	private PlaceDatabase database;
+	
+	/**
+	 * Sets up an in-memory database containing one place.
+	 */
+	@Before
+	public void setUp() {
+		Context context = ApplicationProvider.getApplicationContext();
+		database = Room.inMemoryDatabaseBuilder(context, PlaceDatabase.class)
+				  .allowMainThreadQueries()
+				  .build();
+		TestPlaces.insert(database, TestPlaces.build(PLACE_ID, 0));
+	}
+	
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		database.close();
+	}
+	
+	/**
+	 * Test that kept slots are updated, new slots inserted and only rolled out slots deleted
+	 */
+	@Test
+	public void rollingWindowTest() {
+		Place place = TestPlaces.build(PLACE_ID, 0);
+		
+		//	The window moved forward by two hours and every temperature drifted
+		List<HourlyWeatherForecast> hourlyWeatherForecasts = new ArrayList<>();
+		for (int i = 2; i < TestPlaces.HOURLY_FORECASTS + 2; i++) {
+			int hour = i;
+			hourlyWeatherForecasts.add(TestMetrics.hourlyWeatherForecast(values -> {
+				values.placeId = PLACE_ID;
+				values.dt = hour * 3600000L;
+				values.temperature = hour;
+			}));
+		}
+		Place updatedPlace = place.toBuilder().setHourlyWeatherForecastList(hourlyWeatherForecasts).build();
+		
+		database.runInTransaction(() -> database.upsertForecasts(updatedPlace));
+		
+		List<HourlyWeatherForecast> storedForecasts = database.hourlyWeatherForecastDAO().getFromPlaceID(PLACE_ID);
+		assertEquals(TestPlaces.HOURLY_FORECASTS, storedForecasts.size());
+		for (int i = 0; i < storedForecasts.size(); i++) {
+			assertEquals((i + 2) * 3600000L, storedForecasts.get(i).getDt());
+			assertEquals(i + 2, storedForecasts.get(i).getTemperature(), 0);
+		}
+		
+		//	Unchanged tables keep their rows
+		assertEquals(TestPlaces.MINUTELY_FORECASTS, database.minutelyWeatherForecastDAO().getFromPlaceID(PLACE_ID).size());
+		assertEquals(TestPlaces.DAILY_FORECASTS, database.dailyWeatherForecastDAO().getFromPlaceID(PLACE_ID).size());
+	}
+	
+	/**
+	 * Test that an empty list removes every row of the place
+	 */
+	@Test
+	public void emptyWindowTest() {
+		Place place = TestPlaces.build(PLACE_ID, 0);
+		Place updatedPlace = place.toBuilder().setMinutelyWeatherForecastList(new ArrayList<>()).build();
+		
+		database.runInTransaction(() -> database.upsertForecasts(updatedPlace));
+		
+		assertTrue(database.minutelyWeatherForecastDAO().getFromPlaceID(PLACE_ID).isEmpty());
+		assertEquals(TestPlaces.HOURLY_FORECASTS, database.hourlyWeatherForecastDAO().getFromPlaceID(PLACE_ID).size());
+	}
+	
+	/**
+	 * Test that only the alerts that aren't sent anymore are deleted
+	 */
+	@Test
+	public void weatherAlertsTest() {
+		Place place = TestPlaces.build(PLACE_ID, 0);
+		List<WeatherAlert> weatherAlerts = new ArrayList<>(place.getWeatherAlertsList());
+		weatherAlerts.remove(0);
+		
+		weatherAlerts.add(TestMetrics.weatherAlert(values -> {
+			values.placeId = PLACE_ID;
+			values.event = "Storm";
+			values.startDt = 0;
+		}));
+		Place updatedPlace = place.toBuilder().setWeatherAlertsList(weatherAlerts).build();
+		
+		database.runInTransaction(() -> database.upsertForecasts(updatedPlace));
+		
+		List<WeatherAlert> storedWeatherAlerts = database.weatherAlertDAO().getFromPlaceID(PLACE_ID);
+		assertEquals(TestPlaces.WEATHER_ALERTS, storedWeatherAlerts.size());
+		assertEquals("Storm", storedWeatherAlerts.get(0).getEvent());
+		assertEquals(3600000L, storedWeatherAlerts.get(1).getStartDt());
+	}
+	
+	/**
+	 * Test that updating a deleted place doesn't write any row back
+	 */
+	@Test
+	public void deletedPlaceTest() {
+		Place deletedPlace = TestPlaces.build("deleted", 1);
+		
+		assertFalse(database.runInTransaction(() -> database.updatePlaceRows(deletedPlace)));
+		
+		assertTrue(database.hourlyWeatherForecastDAO().getFromPlaceID("deleted").isEmpty());
+		assertTrue(database.weatherAlertDAO().getFromPlaceID("deleted").isEmpty());
+		assertTrue(database.weatherObservationDAO().getFromPlaceIDBetween("deleted", Long.MIN_VALUE, Long.MAX_VALUE).isEmpty());
+	}
+}
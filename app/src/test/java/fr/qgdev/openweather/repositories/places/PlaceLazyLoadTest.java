@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(RobolectricTestRunner.class)
+public class PlaceLazyLoadTest {
+	
+	private static final int PLACES = 20;
+	
+	private final AtomicInteger forecastSelectCount = new AtomicInteger(0);
+	private volatile Runnable onForecastSelect;
+	private PlaceDatabase database;
+	
+	/**
+	 * Sets up an in-memory database counting the select queries run on the forecast tables.
+	 * Queries are reported on the thread running them, right before they run.
+	 */
+	@Before
+	public void setUp() {
+		database = TestPlaces.openDatabase(sqlQuery -> {
+			if (sqlQuery.startsWith("SELECT") && sqlQuery.contains("_weather_forecasts")) {
+				forecastSelectCount.incrementAndGet();
+				Runnable hook = onForecastSelect;
+				if (hook != null) hook.run();
+			}
+		});
+		
+		for (int i = 0; i < PLACES; i++) {
+			TestPlaces.insert(database, TestPlaces.build("place" + i, i));
+		}
+	}
+	
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		database.close();
+	}
+	
+	/**
+	 * Load every place without its forecasts
+	 *
+	 * @return the places
+	 */
+	private List<Place> loadPlacesWithoutForecasts() {
+		return database.loadPlacesWithoutForecasts(database.propertiesDAO().getProperties());
+	}
+	
+	/**
+	 * Test that loading places without forecasts never reads the forecast tables
+	 */
+	@Test
+	public void coldLoadTest() {
+		forecastSelectCount.set(0);
+		List<Place> places = loadPlacesWithoutForecasts();
+		
+		assertEquals(PLACES, places.size());
+		assertEquals(0, forecastSelectCount.get());
+		for (Place place : places) {
+			for (Place.Section section : Place.Section.values()) {
+				assertFalse(place.isSectionLoaded(section));
+			}
+			assertEquals(TestPlaces.WEATHER_ALERTS, place.getWeatherAlertCount());
+			//	The outlook is stored with the properties, minutely forecasts stay unloaded
+			assertTrue(place.getPrecipitationOutlook().hasPrecipitation());
+		}
+		assertEquals(0, forecastSelectCount.get());
+	}
+	
+	/**
+	 * Test that a section is loaded on first access only and is then kept
+	 */
+	@Test
+	public void onDemandTest() {
+		Place place = loadPlacesWithoutForecasts().get(3);
+		forecastSelectCount.set(0);
+		
+		assertEquals(TestPlaces.HOURLY_FORECASTS, place.getHourlyWeatherForecastList().size());
+		assertEquals(3600000L, place.getHourlyWeatherForecast(1).getDt());
+		assertEquals("place3", place.getHourlyWeatherForecastList().get(0).getPlaceId());
+		assertEquals(1, forecastSelectCount.get());
+		
+		assertTrue(place.isSectionLoaded(Place.Section.HOURLY));
+		assertFalse(place.isSectionLoaded(Place.Section.MINUTELY));
+		assertFalse(place.isSectionLoaded(Place.Section.DAILY));
+		
+		place.loadSections(Place.Section.values());
+		assertEquals(3, forecastSelectCount.get());
+		assertEquals(TestPlaces.MINUTELY_FORECASTS, place.getMinutelyWeatherForecastList().size());
+		assertEquals(TestPlaces.DAILY_FORECASTS, place.getDailyWeatherForecastList().size());
+		assertEquals(3, forecastSelectCount.get());
+	}
+	
+	/**
+	 * Test that a section being loaded doesn't hold the place, so other threads can still check it
+	 */
+	@Test
+	public void loadWithoutLockTest() {
+		Place place = loadPlacesWithoutForecasts().get(2);
+		AtomicBoolean checkedWhileLoading = new AtomicBoolean(false);
+		
+		onForecastSelect = () -> {
+			Thread reader = new Thread(() -> checkedWhileLoading.set(!place.isSectionLoaded(Place.Section.MINUTELY)));
+			reader.start();
+			try {
+				reader.join(5000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		place.loadSections(Place.Section.MINUTELY);
+		onForecastSelect = null;
+		
+		assertTrue(checkedWhileLoading.get());
+		assertTrue(place.isSectionLoaded(Place.Section.MINUTELY));
+		assertEquals(TestPlaces.MINUTELY_FORECASTS, place.getMinutelyWeatherForecastList().size());
+	}
+	
+	/**
+	 * Test that updating a place whose forecasts were never loaded keeps its forecasts
+	 */
+	@Test
+	public void updateWithoutForecastsTest() {
+		Place place = loadPlacesWithoutForecasts().get(0);
+		
+		database.runInTransaction(() -> database.upsertForecasts(place));
+		
+		assertFalse(place.isSectionLoaded(Place.Section.HOURLY));
+		assertEquals(TestPlaces.MINUTELY_FORECASTS, database.minutelyWeatherForecastDAO().getFromPlaceID("place0").size());
+		assertEquals(TestPlaces.HOURLY_FORECASTS, database.hourlyWeatherForecastDAO().getFromPlaceID("place0").size());
+		assertEquals(TestPlaces.DAILY_FORECASTS, database.dailyWeatherForecastDAO().getFromPlaceID("place0").size());
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(RobolectricTestRunner.class)
+public class PlaceOrderTest {
+	
+	private static final int PLACES = 10;
+	
+	private final AtomicInteger orderUpdateCount = new AtomicInteger(0);
+	private PlaceDatabase database;
+	private List<String> expectedIDs;
+	
+	/**
+	 * Sets up an in-memory database counting the updates of orders, with places spread by the order gap.
+	 */
+	@Before
+	public void setUp() {
+		database = TestPlaces.openDatabase(sqlQuery -> {
+			if (sqlQuery.startsWith("UPDATE properties SET `order`"))
+				orderUpdateCount.incrementAndGet();
+		});
+		
+		expectedIDs = new ArrayList<>();
+		for (int i = 0; i < PLACES; i++) {
+			TestPlaces.insert(database, TestPlaces.build("place" + i, i * PlaceDatabase.ORDER_GAP));
+			expectedIDs.add("place" + i);
+		}
+	}
+	
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		database.close();
+	}
+	
+	/**
+	 * Move a place in the database and in the expected list
+	 *
+	 * @param crtPosition the current position of the place
+	 * @param newPosition the new position of the place
+	 * @return true if places have to be renumbered
+	 */
+	private boolean move(int crtPosition, int newPosition) {
+		boolean crowded = database.runInTransaction(() -> database.movePlaceOrder(crtPosition, newPosition));
+		expectedIDs.add(newPosition, expectedIDs.remove(crtPosition));
+		return crowded;
+	}
+	
+	/**
+	 * Test orders found between two others
+	 */
+	@Test
+	public void getOrderBetweenTest() {
+		assertEquals(Integer.valueOf(0), PlaceDatabase.getOrderBetween(null, null));
+		assertEquals(Integer.valueOf(-PlaceDatabase.ORDER_GAP), PlaceDatabase.getOrderBetween(null, 0));
+		assertEquals(Integer.valueOf(PlaceDatabase.ORDER_GAP), PlaceDatabase.getOrderBetween(0, null));
+		assertEquals(Integer.valueOf(2), PlaceDatabase.getOrderBetween(1, 4));
+		assertNull(PlaceDatabase.getOrderBetween(1, 2));
+		assertNull(PlaceDatabase.getOrderBetween(Integer.MAX_VALUE - 1, null));
+		assertNull(PlaceDatabase.getOrderBetween(null, Integer.MIN_VALUE + 1));
+		assertEquals(Integer.valueOf(0), PlaceDatabase.getOrderBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+	}
+	
+	/**
+	 * Test that moves up, down, to the top and to the bottom only write the order of the moved place
+	 */
+	@Test
+	public void moveTest() {
+		for (int[] moveCase : new int[][]{{2, 5}, {7, 1}, {4, 0}, {0, PLACES - 1}, {3, 4}, {4, 3}}) {
+			orderUpdateCount.set(0);
+			move(moveCase[0], moveCase[1]);
+			
+			assertEquals(1, orderUpdateCount.get());
+			assertEquals(expectedIDs, database.propertiesDAO().getAllIDs());
+		}
+	}
+	
+	/**
+	 * Test that places are renumbered when there is no room left between two places
+	 */
+	@Test
+	public void renumberTest() {
+		//	Keeps inserting the last place between the first two
+		for (int i = 0; i < 40; i++) {
+			move(PLACES - 1, 1);
+			assertEquals(expectedIDs, database.propertiesDAO().getAllIDs());
+		}
+		
+		database.runInTransaction(database::renumberPlaces);
+		assertEquals(expectedIDs, database.propertiesDAO().getAllIDs());
+		for (int i = 0; i < PLACES; i++) {
+			assertEquals(i * PlaceDatabase.ORDER_GAP, (int) database.propertiesDAO().getFromPlacePosition(i).getOrder());
+		}
+	}
+	
+	/**
+	 * Test that a move never renumbers places itself when they are renumbered as soon as it asks
+	 */
+	@Test
+	public void renumberAfterMoveTest() {
+		int renumberings = 0;
+		for (int i = 0; i < 40; i++) {
+			orderUpdateCount.set(0);
+			boolean crowded = move(PLACES - 1, 1);
+			
+			assertEquals(1, orderUpdateCount.get());
+			assertEquals(expectedIDs, database.propertiesDAO().getAllIDs());
+			if (crowded) {
+				database.runInTransaction(database::renumberPlaces);
+				renumberings++;
+			}
+		}
+		assertTrue(renumberings > 0);
+	}
+	
+	/**
+	 * Test the orders with no room left next to them
+	 */
+	@Test
+	public void isCrowdedTest() {
+		assertFalse(PlaceDatabase.isCrowded(null, 0, null));
+		assertFalse(PlaceDatabase.isCrowded(0, 2, 4));
+		assertTrue(PlaceDatabase.isCrowded(1, 2, 4));
+		assertTrue(PlaceDatabase.isCrowded(0, 2, 3));
+		assertTrue(PlaceDatabase.isCrowded(null, Integer.MIN_VALUE + 1, null));
+		assertTrue(PlaceDatabase.isCrowded(null, Integer.MAX_VALUE - 1, null));
+	}
+	
+	/**
+	 * Test that deleting a place keeps the order of the others untouched
+	 */
+	@Test
+	public void deleteTest() throws InterruptedException {
+		List<Integer> orders = database.propertiesDAO().getOrdersFromPlacePosition(0, PLACES);
+		Place place = TestPlaces.build("place4", 4);
+		
+		orderUpdateCount.set(0);
+		CountDownLatch deleted = new CountDownLatch(1);
+		database.deletePlace(place, placeId -> deleted.countDown());
+		assertTrue(deleted.await(5, TimeUnit.SECONDS));
+		
+		List<Integer> expectedOrders = new ArrayList<>(orders);
+		expectedOrders.remove(4);
+		assertEquals(0, orderUpdateCount.get());
+		assertEquals(expectedOrders, database.propertiesDAO().getOrdersFromPlacePosition(0, PLACES));
+		assertTrue(database.propertiesDAO().getAllIDs().containsAll(Arrays.asList("place3", "place5")));
+	}
+}
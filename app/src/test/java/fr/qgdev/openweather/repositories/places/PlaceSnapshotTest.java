@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import fr.qgdev.openweather.metrics.CurrentWeather;
+import fr.qgdev.openweather.metrics.ForecastSeries;
+import fr.qgdev.openweather.metrics.PrecipitationOutlook;
+import fr.qgdev.openweather.utils.TestMetrics;
+
+public class PlaceSnapshotTest {
+	
+	private static final String PLACE_ID = "place0";
+	
+	/**
+	 * Test that getters share the data of the snapshot without copying it
+	 */
+	@Test
+	public void gettersTest() {
+		Place place = TestPlaces.build(PLACE_ID, 0);
+		
+		assertSame(place.getCurrentWeather(), place.getCurrentWeather());
+		assertSame(place.getAirQuality(), place.getAirQuality());
+		assertSame(place.getHourlyWeatherForecastList(), place.getHourlyWeatherForecastList());
+		assertSame(place.getHourlyWeatherForecastList().get(0), place.getHourlyWeatherForecast(0));
+		assertThrows(UnsupportedOperationException.class, () -> place.getHourlyWeatherForecastList().add(place.getHourlyWeatherForecast(0)));
+		assertThrows(UnsupportedOperationException.class, () -> place.getWeatherAlertsList().clear());
+	}
+	
+	/**
+	 * Test that a new snapshot shares every section it doesn't replace and leaves the previous one untouched
+	 */
+	@Test
+	public void structuralSharingTest() {
+		Place place = TestPlaces.build(PLACE_ID, 0);
+		CurrentWeather previousCurrentWeather = place.getCurrentWeather();
+		
+		CurrentWeather currentWeather = TestMetrics.currentWeather(values -> values.dt = 3600000L);
+		Place updatedPlace = place.toBuilder()
+				  .setCurrentWeather(currentWeather)
+				  .setOrder(5)
+				  .build();
+		
+		assertEquals(3600000L, updatedPlace.getCurrentWeather().getDt());
+		assertEquals(PLACE_ID, updatedPlace.getCurrentWeather().getPlaceId());
+		assertEquals(5, updatedPlace.getProperties().getOrder());
+		
+		assertSame(previousCurrentWeather, place.getCurrentWeather());
+		assertEquals(0, place.getProperties().getOrder());
+		assertNotSame(place.getProperties(), updatedPlace.getProperties());
+		
+		assertSame(place.getGeolocation(), updatedPlace.getGeolocation());
+		assertSame(place.getAirQuality(), updatedPlace.getAirQuality());
+		assertSame(place.getMinutelyWeatherForecastList(), updatedPlace.getMinutelyWeatherForecastList());
+		assertSame(place.getHourlyWeatherForecastList(), updatedPlace.getHourlyWeatherForecastList());
+		assertSame(place.getDailyWeatherForecastList(), updatedPlace.getDailyWeatherForecastList());
+		assertSame(place.getWeatherAlertsList(), updatedPlace.getWeatherAlertsList());
+	}
+	
+	/**
+	 * Test that setters bind copies of entities from another place and never change the given ones
+	 */
+	@Test
+	public void bindingTest() {
+		Place place = TestPlaces.build(PLACE_ID, 0);
+		Place otherPlace = TestPlaces.build("place1", 1);
+		
+		Place updatedPlace = place.toBuilder()
+				  .setCurrentWeather(otherPlace.getCurrentWeather())
+				  .setHourlyWeatherForecastList(otherPlace.getHourlyWeatherForecastList())
+				  .setWeatherAlertsList(otherPlace.getWeatherAlertsList())
+				  .build();
+		
+		assertNotSame(otherPlace.getCurrentWeather(), updatedPlace.getCurrentWeather());
+		assertEquals(PLACE_ID, updatedPlace.getCurrentWeather().getPlaceId());
+		assertEquals("place1", otherPlace.getCurrentWeather().getPlaceId());
+		for (int i = 0; i < TestPlaces.HOURLY_FORECASTS; i++) {
+			assertEquals(PLACE_ID, updatedPlace.getHourlyWeatherForecast(i).getPlaceId());
+			assertEquals(otherPlace.getHourlyWeatherForecast(i).getDt(), updatedPlace.getHourlyWeatherForecast(i).getDt());
+			assertEquals("place1", otherPlace.getHourlyWeatherForecast(i).getPlaceId());
+		}
+		assertEquals(PLACE_ID, updatedPlace.getWeatherAlertsList().get(0).getPlaceId());
+		assertEquals("place1", otherPlace.getWeatherAlertsList().get(0).getPlaceId());
+		
+		//	Entities already bound to the place are shared
+		Place sharedPlace = place.toBuilder()
+				  .setHourlyWeatherForecastList(place.getHourlyWeatherForecastList())
+				  .build();
+		assertSame(place.getHourlyWeatherForecast(0), sharedPlace.getHourlyWeatherForecast(0));
+	}
+	
+	/**
+	 * Test that forecast series are built once and shared by snapshots with the same forecasts
+	 */
+	@Test
+	public void forecastSeriesTest() {
+		Place place = TestPlaces.build(PLACE_ID, 0);
+		ForecastSeries hourlyForecastSeries = place.getHourlyForecastSeries();
+		ForecastSeries dailyForecastSeries = place.getDailyForecastSeries();
+		
+		assertSame(hourlyForecastSeries, place.getHourlyForecastSeries());
+		assertEquals(TestPlaces.HOURLY_FORECASTS, hourlyForecastSeries.size());
+		assertEquals(3600000L, hourlyForecastSeries.getDt()[1]);
+		
+		//	New minutely forecasts don't change any series
+		Place minutelyUpdatedPlace = place.toBuilder()
+				  .setMinutelyWeatherForecastList(new ArrayList<>())
+				  .build();
+		
+		assertSame(hourlyForecastSeries, minutelyUpdatedPlace.getHourlyForecastSeries());
+		assertSame(dailyForecastSeries, minutelyUpdatedPlace.getDailyForecastSeries());
+		
+		//	New daily forecasts change day times of hours too
+		Place dailyUpdatedPlace = place.toBuilder()
+				  .setDailyWeatherForecastList(place.getDailyWeatherForecastList().subList(0, 1))
+				  .build();
+		
+		assertNotSame(hourlyForecastSeries, dailyUpdatedPlace.getHourlyForecastSeries());
+		assertNotSame(dailyForecastSeries, dailyUpdatedPlace.getDailyForecastSeries());
+		assertEquals(1, dailyUpdatedPlace.getDailyForecastSeries().size());
+	}
+	
+	/**
+	 * Test that the precipitation outlook is computed when minutely forecasts are set and kept until they change
+	 */
+	@Test
+	public void precipitationOutlookTest() {
+		Place place = TestPlaces.build(PLACE_ID, 0);
+		PrecipitationOutlook precipitationOutlook = place.getPrecipitationOutlook();
+		
+		assertTrue(precipitationOutlook.hasPrecipitation());
+		assertEquals(0, precipitationOutlook.getStartDt());
+		assertEquals(TestPlaces.MINUTELY_FORECASTS * 60000L, precipitationOutlook.getEndDt());
+		
+		Place dailyUpdatedPlace = place.toBuilder()
+				  .setDailyWeatherForecastList(place.getDailyWeatherForecastList().subList(0, 1))
+				  .build();
+		assertSame(precipitationOutlook, dailyUpdatedPlace.getPrecipitationOutlook());
+		
+		Place minutelyUpdatedPlace = place.toBuilder()
+				  .setMinutelyWeatherForecastList(new ArrayList<>())
+				  .build();
+		assertFalse(minutelyUpdatedPlace.getPrecipitationOutlook().hasPrecipitation());
+		assertSame(precipitationOutlook, place.getPrecipitationOutlook());
+	}
+	
+	/**
+	 * Test that a builder never changes the snapshot it was built from, even if it is reused
+	 */
+	@Test
+	public void builderReuseTest() {
+		Place place = TestPlaces.build(PLACE_ID, 0);
+		Place.Builder builder = place.toBuilder();
+		
+		Place firstPlace = builder.setOrder(1).build();
+		Place secondPlace = builder.setOrder(2).build();
+		
+		assertEquals(0, place.getProperties().getOrder());
+		assertEquals(1, firstPlace.getProperties().getOrder());
+		assertEquals(2, secondPlace.getProperties().getOrder());
+	}
+	
+	/**
+	 * Test that properties of another place are refused
+	 */
+	@Test
+	public void otherPlacePropertiesTest() {
+		Place.Builder builder = TestPlaces.build(PLACE_ID, 0).toBuilder();
+		
+		assertThrows(IllegalArgumentException.class, () -> builder.setProperties(new Properties(0, 0, 0, "place1")));
+	}
+}
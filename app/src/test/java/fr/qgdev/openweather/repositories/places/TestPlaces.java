@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.places;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import fr.qgdev.openweather.metrics.DailyWeatherForecast;
+import fr.qgdev.openweather.metrics.HourlyWeatherForecast;
+import fr.qgdev.openweather.metrics.MinutelyWeatherForecast;
+import fr.qgdev.openweather.metrics.WeatherAlert;
+import fr.qgdev.openweather.utils.TestMetrics;
+
+/**
+ * Test places.
+ * <p>
+ * Used to build places with the size of a real onecall response for database tests
+ */
+class TestPlaces {
+	
+	static final int MINUTELY_FORECASTS = 60;
+	static final int HOURLY_FORECASTS = 48;
+	static final int DAILY_FORECASTS = 8;
+	static final int WEATHER_ALERTS = 2;
+	
+	private TestPlaces() {
+	}
+	
+	/**
+	 * Open an empty in-memory database reporting every statement it runs.
+	 * Statements are reported on the thread running them, right before they run.
+	 *
+	 * @param queryCallback the callback receiving the SQL of each statement
+	 * @return the database
+	 */
+	static PlaceDatabase openDatabase(Consumer<String> queryCallback) {
+		return Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), PlaceDatabase.class)
+				  .allowMainThreadQueries()
+				  .setQueryCallback((sqlQuery, bindArgs) -> queryCallback.accept(sqlQuery), Runnable::run)
+				  .build();
+	}
+	
+	/**
+	 * Build a place with every data filled
+	 *
+	 * @param placeId the id of the place
+	 * @param order   the order of the place
+	 * @return the place
+	 */
+	static Place build(String placeId, int order) {
+		Place.Builder builder = new Place.Builder(new Geolocation(placeId, "City " + order, "FR", new Coordinates(0, order)),
+				  new Properties(0, 0, order, placeId));
+		
+		builder.setCurrentWeather(TestMetrics.currentWeather(values -> values.placeId = placeId));
+		builder.setAirQuality(TestMetrics.airQuality(values -> values.placeId = placeId));
+		
+		List<MinutelyWeatherForecast> minutelyWeatherForecasts = new ArrayList<>();
+		for (int i = 0; i < MINUTELY_FORECASTS; i++) {
+			minutelyWeatherForecasts.add(new MinutelyWeatherForecast(placeId, i * 60000L, 0.5F));
+		}
+		
+		List<HourlyWeatherForecast> hourlyWeatherForecasts = new ArrayList<>();
+		for (int i = 0; i < HOURLY_FORECASTS; i++) {
+			long dt = i * 3600000L;
+			hourlyWeatherForecasts.add(TestMetrics.hourlyWeatherForecast(values -> {
+				values.placeId = placeId;
+				values.dt = dt;
+			}));
+		}
+		
+		List<DailyWeatherForecast> dailyWeatherForecasts = new ArrayList<>();
+		for (int i = 0; i < DAILY_FORECASTS; i++) {
+			long dt = (i + 1) * 86400000L;
+			dailyWeatherForecasts.add(TestMetrics.dailyWeatherForecast(values -> {
+				values.placeId = placeId;
+				values.dt = dt;
+			}));
+		}
+		
+		List<WeatherAlert> weatherAlerts = new ArrayList<>();
+		for (int i = 0; i < WEATHER_ALERTS; i++) {
+			long startDt = i * 3600000L;
+			weatherAlerts.add(TestMetrics.weatherAlert(values -> {
+				values.placeId = placeId;
+				values.startDt = startDt;
+			}));
+		}
+		
+		return builder.setMinutelyWeatherForecastList(minutelyWeatherForecasts)
+				  .setHourlyWeatherForecastList(hourlyWeatherForecasts)
+				  .setDailyWeatherForecastList(dailyWeatherForecasts)
+				  .setWeatherAlertsList(weatherAlerts)
+				  .build();
+	}
+	
+	/**
+	 * Insert a place and all its data directly with the DAOs
+	 *
+	 * @param database the database
+	 * @param place    the place to insert
+	 */
+	static void insert(PlaceDatabase database, Place place) {
+		database.runInTransaction(() -> {
+			database.propertiesDAO().insert(place.getProperties());
+			database.geolocationDAO().insert(place.getGeolocation());
+			database.currentWeatherDAO().insert(place.getCurrentWeather());
+			database.airQualityDAO().insert(place.getAirQuality());
+			database.minutelyWeatherForecastDAO().insertAll(place.getMinutelyWeatherForecastList());
+			database.hourlyWeatherForecastDAO().insertAll(place.getHourlyWeatherForecastList());
+			database.dailyWeatherForecastDAO().insertAll(place.getDailyWeatherForecastList());
+			database.weatherAlertDAO().insertAll(place.getWeatherAlertsList());
+		});
+	}
+}
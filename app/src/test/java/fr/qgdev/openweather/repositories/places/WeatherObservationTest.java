@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import fr.qgdev.openweather.metrics.CurrentWeather;
+import fr.qgdev.openweather.utils.TestMetrics;
+
+public class WeatherObservationTest {
+	
+	private static final long DAY_START = 20000 * WeatherObservation.DAY;
+	
+	/**
+	 * Build an hourly observation
+	 *
+	 * @param hour        the hour of the day
+	 * @param temperature the temperature
+	 * @param weatherCode the weather code
+	 * @param aqi         the AQI, null if unknown
+	 * @return the observation
+	 */
+	private static WeatherObservation hourly(int hour, float temperature, int weatherCode, Integer aqi) {
+		return new WeatherObservation("place", DAY_START + hour * WeatherObservation.HOUR, WeatherObservation.HOUR, 1,
+				  temperature, temperature, temperature, temperature - 1, 50, 1000, 2, weatherCode,
+				  aqi, aqi == null ? null : aqi * 10F, aqi == null ? null : aqi * 20F);
+	}
+	
+	/**
+	 * Test that a snapshot is archived at the start of its hour
+	 */
+	@Test
+	public void fromSnapshotTest() {
+		CurrentWeather currentWeather = TestMetrics.currentWeather(values -> {
+			values.dt = DAY_START + 5 * WeatherObservation.HOUR + 1234567;
+			values.temperature = 12.5F;
+		});
+		
+		WeatherObservation observation = WeatherObservation.fromSnapshot("place", currentWeather, null);
+		
+		assertEquals(DAY_START + 5 * WeatherObservation.HOUR, observation.getDt());
+		assertEquals(WeatherObservation.HOUR, observation.getPeriod());
+		assertEquals(1, observation.getSamples());
+		assertEquals(12.5F, observation.getTemperatureMinimum(), 0);
+		assertEquals(12.5F, observation.getTemperatureMaximum(), 0);
+		assertNull(observation.getAqi());
+		assertNull(observation.getPm2_5());
+	}
+	
+	/**
+	 * Test that local days start at midnight in the time zone of the place
+	 */
+	@Test
+	public void getDayStartTest() {
+		long dt = DAY_START + 23 * WeatherObservation.HOUR;
+		
+		assertEquals(DAY_START, WeatherObservation.getDayStart(dt, 0));
+		//	UTC+2, 23:00 UTC is already 01:00 the next day
+		assertEquals(DAY_START + 22 * WeatherObservation.HOUR, WeatherObservation.getDayStart(dt, 7200));
+		//	UTC-5, 02:00 UTC is still the previous day
+		assertEquals(DAY_START - 19 * WeatherObservation.HOUR, WeatherObservation.getDayStart(DAY_START + 2 * WeatherObservation.HOUR, -18000));
+	}
+	
+	/**
+	 * Test the aggregation of hourly observations into a daily one
+	 */
+	@Test
+	public void aggregateTest() {
+		WeatherObservation daily = WeatherObservation.aggregate("place", DAY_START, Arrays.asList(
+				  hourly(0, 10, 800, 2),
+				  hourly(1, 14, 500, null),
+				  hourly(2, 12, 500, 4),
+				  hourly(3, 20, 800, null)));
+		
+		assertEquals(DAY_START, daily.getDt());
+		assertEquals(WeatherObservation.DAY, daily.getPeriod());
+		assertEquals(4, daily.getSamples());
+		assertEquals(14, daily.getTemperature(), 0.0001);
+		assertEquals(13, daily.getTemperatureFeelsLike(), 0.0001);
+		assertEquals(10, daily.getTemperatureMinimum(), 0);
+		assertEquals(20, daily.getTemperatureMaximum(), 0);
+		//	A tie goes to the first code observed
+		assertEquals(800, daily.getWeatherCode());
+		//	Worst AQI, particles only averaged over the hours they are known
+		assertEquals(Integer.valueOf(4), daily.getAqi());
+		assertEquals(30, daily.getPm2_5(), 0.0001);
+		assertEquals(60, daily.getPm10(), 0.0001);
+	}
+	
+	/**
+	 * Test that merging hourly observations into a daily aggregate weights it by its samples
+	 */
+	@Test
+	public void aggregateMergeTest() {
+		WeatherObservation previous = WeatherObservation.aggregate("place", DAY_START, Arrays.asList(
+				  hourly(0, 10, 800, null),
+				  hourly(1, 10, 800, null),
+				  hourly(2, 10, 800, null)));
+		WeatherObservation merged = WeatherObservation.aggregate("place", DAY_START, Arrays.asList(previous, hourly(3, 30, 500, null)));
+		
+		assertEquals(4, merged.getSamples());
+		assertEquals(15, merged.getTemperature(), 0.0001);
+		assertEquals(30, merged.getTemperatureMaximum(), 0);
+		assertEquals(800, merged.getWeatherCode());
+		assertNull(merged.getAqi());
+		assertNull(merged.getPm10());
+	}
+	
+	/**
+	 * Test that nothing can be aggregated from no observation
+	 */
+	@Test
+	public void aggregateEmptyTest() {
+		assertThrows(IllegalArgumentException.class, () -> WeatherObservation.aggregate("place", DAY_START, Collections.emptyList()));
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.repositories.places;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import fr.qgdev.openweather.metrics.CurrentWeather;
+import fr.qgdev.openweather.utils.TestMetrics;
+
+@RunWith(RobolectricTestRunner.class)
+public class WidgetPlaceTest {
+	
+	private static final int HOURS = 4;
+	
+	private final AtomicInteger selectCount = new AtomicInteger(0);
+	private PlaceDatabase database;
+	
+	/**
+	 * Sets up an in-memory database counting the select queries
+	 */
+	@Before
+	public void setUp() {
+		database = TestPlaces.openDatabase(sqlQuery -> {
+			if (sqlQuery.startsWith("SELECT") && !sqlQuery.contains("room_table_modification_log"))
+				selectCount.incrementAndGet();
+		});
+	}
+	
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		database.close();
+	}
+	
+	/**
+	 * Test that the projection holds the place and the next hours after the current weather, in one query
+	 */
+	@Test
+	public void projectionTest() {
+		CurrentWeather currentWeather = TestMetrics.currentWeather(values -> values.dt = 1800000L);
+		Place place = TestPlaces.build("place", 0).toBuilder()
+				  .setCurrentWeather(currentWeather)
+				  .build();
+		TestPlaces.insert(database, place);
+		
+		selectCount.set(0);
+		WidgetPlace widgetPlace = database.getWidgetPlace("place", HOURS);
+		
+		assertEquals(1, selectCount.get());
+		assertNotNull(widgetPlace);
+		assertEquals("place", widgetPlace.getPlaceId());
+		assertEquals("City 0", widgetPlace.getCity());
+		assertEquals("FR", widgetPlace.getCountryCode());
+		assertEquals(1800000L, widgetPlace.getDt());
+		assertTrue(widgetPlace.hasDailyTemperatures());
+		
+		//	The hour containing the current weather is skipped
+		assertEquals(HOURS, widgetPlace.getHourlySlots().size());
+		for (int i = 0; i < HOURS; i++) {
+			assertEquals((i + 1) * 3600000L, widgetPlace.getHourlySlots().get(i).getDt());
+		}
+	}
+	
+	/**
+	 * Test that a place without forecasts still gives its current weather
+	 */
+	@Test
+	public void withoutForecastsTest() {
+		Place place = TestPlaces.build("place", 0).toBuilder()
+				  .setHourlyWeatherForecastList(new ArrayList<>())
+				  .setDailyWeatherForecastList(new ArrayList<>())
+				  .build();
+		TestPlaces.insert(database, place);
+		
+		WidgetPlace widgetPlace = database.getWidgetPlace("place", HOURS);
+		
+		assertNotNull(widgetPlace);
+		assertEquals("City 0", widgetPlace.getCity());
+		assertFalse(widgetPlace.hasDailyTemperatures());
+		assertTrue(widgetPlace.getHourlySlots().isEmpty());
+	}
+	
+	/**
+	 * Test that an unknown place gives nothing
+	 */
+	@Test
+	public void unknownPlaceTest() {
+		assertNull(database.getWidgetPlace("unknown", HOURS));
+	}
+}
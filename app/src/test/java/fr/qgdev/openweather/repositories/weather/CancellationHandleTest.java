@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.weather;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CancellationHandleTest {
+	
+	/**
+	 * Test that listeners are run once, and right away when added to a cancelled handle
+	 */
+	@Test
+	public void cancelTest() {
+		CancellationHandle cancellationHandle = new CancellationHandle();
+		AtomicInteger runs = new AtomicInteger(0);
+		Runnable removed = runs::incrementAndGet;
+		
+		cancellationHandle.addOnCancelListener(runs::incrementAndGet);
+		cancellationHandle.addOnCancelListener(removed);
+		cancellationHandle.removeOnCancelListener(removed);
+		assertFalse(cancellationHandle.isCancelled());
+		
+		cancellationHandle.cancel();
+		cancellationHandle.cancel();
+		assertTrue(cancellationHandle.isCancelled());
+		assertEquals(1, runs.get());
+		
+		cancellationHandle.addOnCancelListener(runs::incrementAndGet);
+		assertEquals(2, runs.get());
+	}
+	
+	/**
+	 * Test that children are cancelled with their parent, unless they have been released
+	 */
+	@Test
+	public void parentTest() {
+		CancellationHandle parent = new CancellationHandle();
+		CancellationHandle child = new CancellationHandle(parent);
+		CancellationHandle grandChild = new CancellationHandle(child);
+		CancellationHandle released = new CancellationHandle(parent);
+		released.release();
+		
+		//	Cancelling a child doesn't cancel its parent
+		CancellationHandle other = new CancellationHandle(parent);
+		other.cancel();
+		assertFalse(parent.isCancelled());
+		
+		parent.cancel();
+		assertTrue(child.isCancelled());
+		assertTrue(grandChild.isCancelled());
+		assertFalse(released.isCancelled());
+		
+		//	A child of a cancelled parent is cancelled from the start
+		assertTrue(new CancellationHandle(parent).isCancelled());
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.weather;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import fr.qgdev.openweather.repositories.places.Coordinates;
+import fr.qgdev.openweather.repositories.places.GeocodingCacheEntry;
+import fr.qgdev.openweather.repositories.places.Geolocation;
+import fr.qgdev.openweather.repositories.places.Place;
+import fr.qgdev.openweather.repositories.places.Properties;
+import fr.qgdev.openweather.repositories.places.dao.GeocodingCacheDAO;
+
+public class GeocodingCacheTest {
+	
+	private static final long TIME_TO_LIVE = 86400000;
+	
+	private Map<String, GeocodingCacheEntry> entries;
+	private GeocodingCache geocodingCache;
+	
+	/**
+	 * Sets up a cache backed by a map, written synchronously
+	 */
+	@Before
+	public void setUp() {
+		entries = new HashMap<>();
+		GeocodingCacheDAO geocodingCacheDAO = new GeocodingCacheDAO() {
+			@Override
+			public GeocodingCacheEntry getFromQueryKey(String queryKey) {
+				return entries.get(queryKey);
+			}
+			
+			@Override
+			public void updateLastAccessTime(String queryKey, long lastAccessTime) {
+				GeocodingCacheEntry entry = entries.get(queryKey);
+				entries.put(queryKey, new GeocodingCacheEntry(queryKey, entry.getCity(), entry.getCountryCode(),
+						  entry.getLatitude(), entry.getLongitude(), entry.getTimeOffset(), entry.getCachedTime(), lastAccessTime));
+			}
+			
+			@Override
+			public void deleteCachedBefore(long oldestCachedTime) {
+				entries.values().removeIf(entry -> entry.getCachedTime() < oldestCachedTime);
+			}
+			
+			@Override
+			public void deleteCachedAfter(long now) {
+				entries.values().removeIf(entry -> entry.getCachedTime() > now);
+			}
+			
+			@Override
+			public void deleteLeastRecentlyUsed(int maxEntries) {
+			}
+			
+			@Override
+			public void insert(GeocodingCacheEntry geocodingCacheEntry) {
+				entries.put(geocodingCacheEntry.getQueryKey(), geocodingCacheEntry);
+			}
+		};
+		
+		geocodingCache = new GeocodingCache(geocodingCacheDAO, Runnable::run, TIME_TO_LIVE, 16);
+	}
+	
+	private static Place getPlace(String city, String countryCode) {
+		return new Place(new Geolocation("place", city, countryCode, new Coordinates(48.8534, 2.3488)),
+				  new Properties(0, 7200, -1, "place"));
+	}
+	
+	/**
+	 * Test that lookups differing only by case and whitespaces share the same key
+	 */
+	@Test
+	public void keyTest() {
+		String key = GeocodingCache.getKey("Paris", "FR");
+		
+		assertEquals(key, GeocodingCache.getKey("  paris ", "fr"));
+		assertEquals(GeocodingCache.getKey("Le Havre", "FR"), GeocodingCache.getKey("le   havre", " Fr"));
+		assertNotEquals(key, GeocodingCache.getKey("Paris", "US"));
+	}
+	
+	/**
+	 * Test that a cached lookup is returned with the canonical name until it expires
+	 */
+	@Test
+	public void timeToLiveTest() {
+		geocodingCache.put("paris", "fr", getPlace("Paris", "FR"), 1000);
+		
+		GeocodingCacheEntry entry = geocodingCache.get("PARIS", "FR", 2000);
+		assertNotNull(entry);
+		assertEquals("Paris", entry.getCity());
+		assertEquals(7200, entry.getTimeOffset());
+		assertEquals(2000, entries.get(GeocodingCache.getKey("paris", "fr")).getLastAccessTime());
+		
+		Place place = entry.toPlace("new", 2000);
+		assertEquals("new", place.getProperties().getPlaceId());
+		assertEquals("new", place.getGeolocation().getPlaceId());
+		assertEquals(48.8534, place.getGeolocation().getCoordinates().getLatitude(), 0);
+		
+		assertNull(geocodingCache.get("paris", "fr", 1000 + TIME_TO_LIVE));
+		//	Cached in the future, the clock has been changed
+		assertNull(geocodingCache.get("paris", "fr", 500));
+	}
+	
+	/**
+	 * Test that places found without a city name are not cached
+	 */
+	@Test
+	public void incompletePlaceTest() {
+		Place place = new Place(new Geolocation("place", new Coordinates(48.8534, 2.3488)),
+				  new Properties(0, 0, -1, "place"));
+		
+		geocodingCache.put("paris", "fr", place, 1000);
+		assertNull(geocodingCache.get("paris", "fr", 2000));
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.weather;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.android.volley.NetworkResponse;
+import com.android.volley.Request;
+import com.android.volley.Response;
+import com.android.volley.VolleyError;
+
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.qgdev.openweather.repositories.places.Coordinates;
+
+public class InFlightRequestsTest {
+	
+	private InFlightRequests<JSONObject> inFlightRequests;
+	
+	/**
+	 * Sets up.
+	 */
+	@Before
+	public void setUp() {
+		inFlightRequests = new InFlightRequests<>();
+	}
+	
+	/**
+	 * Test that close coordinates share the same key but not different endpoints or coordinates
+	 */
+	@Test
+	public void keyTest() {
+		String key = InFlightRequests.getKey("onecall", new Coordinates(48.856614, 2.3522219));
+		
+		assertEquals(key, InFlightRequests.getKey("onecall", new Coordinates(48.85662, 2.35221)));
+		assertNotEquals(key, InFlightRequests.getKey("air_pollution", new Coordinates(48.856614, 2.3522219)));
+		assertNotEquals(key, InFlightRequests.getKey("onecall", new Coordinates(45.764043, 4.835659)));
+	}
+	
+	/**
+	 * Test that only the first caller has to send the request and that every caller receives the response
+	 */
+	@Test
+	public void sharedResponseTest() {
+		List<JSONObject> responses = new ArrayList<>();
+		JSONObject response = new JSONObject();
+		
+		assertTrue(inFlightRequests.attach("key", responses::add, error -> {
+		}));
+		assertFalse(inFlightRequests.attach("key", responses::add, error -> {
+		}));
+		assertTrue(inFlightRequests.attach("other", responses::add, error -> {
+		}));
+		assertEquals(2, inFlightRequests.size());
+		
+		inFlightRequests.dispatchResponse("key", response);
+		
+		assertEquals(2, responses.size());
+		assertSame(response, responses.get(0));
+		assertSame(response, responses.get(1));
+		assertEquals(1, inFlightRequests.size());
+		
+		//	Once released, a new caller has to send the request again
+		assertTrue(inFlightRequests.attach("key", responses::add, error -> {
+		}));
+	}
+	
+	/**
+	 * Test that every caller receives the error
+	 */
+	@Test
+	public void sharedErrorTest() {
+		List<VolleyError> errors = new ArrayList<>();
+		VolleyError error = new VolleyError();
+		
+		inFlightRequests.attach("key", response -> {
+		}, errors::add);
+		inFlightRequests.attach("key", response -> {
+		}, errors::add);
+		
+		inFlightRequests.dispatchError("key", error);
+		
+		assertEquals(2, errors.size());
+		assertSame(error, errors.get(0));
+		assertSame(error, errors.get(1));
+		assertEquals(0, inFlightRequests.size());
+	}
+	
+	/**
+	 * Test that a detached caller isn't called anymore and that the request is only cancelled
+	 * once nobody is waiting for it
+	 */
+	@Test
+	public void detachTest() {
+		List<JSONObject> responses = new ArrayList<>();
+		Object owner = new Object();
+		Request<JSONObject> request = new TestRequest();
+		
+		assertTrue(inFlightRequests.attach("key", owner, response -> responses.add(null), error -> {
+		}));
+		assertFalse(inFlightRequests.attach("key", responses::add, error -> {
+		}));
+		inFlightRequests.bind("key", request);
+		
+		inFlightRequests.detach("key", owner);
+		assertFalse(request.isCanceled());
+		assertEquals(1, inFlightRequests.size());
+		
+		JSONObject response = new JSONObject();
+		inFlightRequests.dispatchResponse("key", response);
+		assertEquals(1, responses.size());
+		assertSame(response, responses.get(0));
+		
+		//	The last caller detached cancels the request
+		inFlightRequests.attach("key", owner, responses::add, error -> {
+		});
+		inFlightRequests.bind("key", request);
+		inFlightRequests.detach("key", owner);
+		assertTrue(request.isCanceled());
+		assertEquals(0, inFlightRequests.size());
+	}
+	
+	/**
+	 * Test that cancelling every request tells every caller
+	 */
+	@Test
+	public void cancelAllTest() {
+		List<VolleyError> errors = new ArrayList<>();
+		VolleyError error = new VolleyError();
+		Request<JSONObject> request = new TestRequest();
+		
+		inFlightRequests.attach("key", response -> {
+		}, errors::add);
+		inFlightRequests.attach("other", response -> {
+		}, errors::add);
+		inFlightRequests.bind("key", request);
+		
+		inFlightRequests.cancelAll(error);
+		
+		assertTrue(request.isCanceled());
+		assertEquals(2, errors.size());
+		assertSame(error, errors.get(0));
+		assertEquals(0, inFlightRequests.size());
+	}
+	
+	/**
+	 * A request that is never sent
+	 */
+	private static class TestRequest extends Request<JSONObject> {
+		
+		TestRequest() {
+			super(Method.GET, "url", error -> {
+			});
+		}
+		
+		@Override
+		protected Response<JSONObject> parseNetworkResponse(NetworkResponse response) {
+			return null;
+		}
+		
+		@Override
+		protected void deliverResponse(JSONObject response) {
+		}
+	}
+}
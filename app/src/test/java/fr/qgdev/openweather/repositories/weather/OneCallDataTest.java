@@ -0,0 +1,245 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.repositories.weather;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import fr.qgdev.openweather.metrics.CurrentWeather;
+import fr.qgdev.openweather.metrics.DailyWeatherForecast;
+import fr.qgdev.openweather.metrics.HourlyWeatherForecast;
+import fr.qgdev.openweather.metrics.MinutelyWeatherForecast;
+import fr.qgdev.openweather.metrics.WeatherAlert;
+import fr.qgdev.openweather.repositories.places.Coordinates;
+import fr.qgdev.openweather.repositories.places.Geolocation;
+import fr.qgdev.openweather.repositories.places.Place;
+import fr.qgdev.openweather.repositories.places.Properties;
+
+public class OneCallDataTest {
+	
+	private JSONObject oneCallJson;
+	
+	/**
+	 * Build a onecall response with every kind of data
+	 */
+	@Before
+	public void setUp() throws JSONException {
+		oneCallJson = new JSONObject();
+		oneCallJson.put("lat", 48.8566);
+		oneCallJson.put("lon", 2.3522);
+		oneCallJson.put("timezone", "Europe/Paris");
+		oneCallJson.put("timezone_offset", 7200);
+		
+		JSONObject current = constructForecastJson(1684929490, 293.13);
+		current.put("sunrise", 1684926645);
+		current.put("sunset", 1684977332);
+		current.put("uvi", 0.16);
+		current.put("rain", new JSONObject().put("1h", 0.27));
+		oneCallJson.put("current", current);
+		
+		JSONArray minutely = new JSONArray();
+		for (int i = 0; i < 3; i++) {
+			minutely.put(new JSONObject()
+					  .put("dt", 1684929540 + i * 60)
+					  .put("precipitation", 0.1 * i));
+		}
+		oneCallJson.put("minutely", minutely);
+		
+		JSONArray hourly = new JSONArray();
+		for (int i = 0; i < 3; i++) {
+			JSONObject hour = constructForecastJson(1684926000 + i * 3600, 292.01 + i * 0.37);
+			hour.put("uvi", 1.89 * i);
+			hour.put("pop", 0.35);
+			if (i == 1) hour.put("snow", new JSONObject().put("1h", 1.12));
+			hourly.put(hour);
+		}
+		oneCallJson.put("hourly", hourly);
+		
+		JSONArray daily = new JSONArray();
+		for (int i = 0; i < 2; i++) {
+			daily.put(new JSONObject()
+					  .put("dt", 1684951200 + i * 86400)
+					  .put("sunrise", 1684926645 + i * 86400)
+					  .put("sunset", 1684977332 + i * 86400)
+					  .put("moonrise", 1684933260 + i * 86400)
+					  .put("moonset", 1684914120 + i * 86400)
+					  .put("moon_phase", 0.16)
+					  .put("summary", "Expect a day of partly cloudy with rain")
+					  .put("temp", new JSONObject()
+								 .put("day", 299.03).put("min", 290.69).put("max", 300.35)
+								 .put("night", 291.45).put("eve", 297.51).put("morn", 292.55))
+					  .put("feels_like", new JSONObject()
+								 .put("day", 299.21).put("night", 291.37).put("eve", 297.86).put("morn", 292.87))
+					  .put("pressure", 1016)
+					  .put("humidity", 59)
+					  .put("dew_point", 290.48)
+					  .put("wind_speed", 3.98)
+					  .put("wind_deg", 76)
+					  .put("wind_gust", 8.92)
+					  .put("weather", new JSONArray().put(new JSONObject()
+								 .put("id", 500).put("main", "Rain").put("description", "light rain").put("icon", "10d")))
+					  .put("clouds", 92)
+					  .put("pop", 0.47)
+					  .put("rain", 0.15)
+					  .put("uvi", 9.23));
+		}
+		oneCallJson.put("daily", daily);
+		
+		oneCallJson.put("alerts", new JSONArray().put(new JSONObject()
+				  .put("sender_name", "METEO-FRANCE")
+				  .put("event", "Moderate thunderstorm warning")
+				  .put("start", 1684952747)
+				  .put("end", 1684988747)
+				  .put("description", "Moderate damages may occur")
+				  .put("tags", new JSONArray().put("Thunderstorm"))));
+	}
+	
+	/**
+	 * Used to construct a current weather or an hourly forecast json object
+	 *
+	 * @param dt          Unix timestamp in seconds
+	 * @param temperature Temperature in Kelvin
+	 * @return A json object with the values shared by current weather and hourly forecasts
+	 * @throws JSONException Throws an exception if the json object cannot be created
+	 */
+	private JSONObject constructForecastJson(long dt, double temperature) throws JSONException {
+		return new JSONObject()
+				  .put("dt", dt)
+				  .put("temp", temperature)
+				  .put("feels_like", temperature - 0.52)
+				  .put("pressure", 1014)
+				  .put("humidity", 91)
+				  .put("dew_point", 291.66)
+				  .put("clouds", 40)
+				  .put("visibility", 10000)
+				  .put("wind_speed", 2.57)
+				  .put("wind_deg", 240)
+				  .put("wind_gust", 5.14)
+				  .put("weather", new JSONArray()
+							 .put(new JSONObject().put("id", 802).put("main", "Clouds").put("description", "scattered clouds").put("icon", "03d"))
+							 .put(new JSONObject().put("id", 500).put("main", "Rain").put("description", "light rain").put("icon", "10d")));
+	}
+	
+	private OneCallData parse(String json) throws IOException {
+		try (JsonReader reader = new JsonReader(new StringReader(json))) {
+			return OneCallData.parse(reader);
+		}
+	}
+	
+	/**
+	 * Test that the streaming parser gives the same entities as the JSONObject constructors
+	 */
+	@Test
+	public void sameAsJSONObjectTest() throws IOException, JSONException {
+		OneCallData oneCallData = parse(oneCallJson.toString());
+		
+		CurrentWeather currentWeather = new CurrentWeather(oneCallJson.getJSONObject("current"));
+		assertEquals(currentWeather.toString(), oneCallData.getCurrentWeather().toString());
+		assertEquals(1684929490, oneCallData.getLastAvailableDataTime());
+		
+		JSONArray minutely = oneCallJson.getJSONArray("minutely");
+		assertEquals(minutely.length(), oneCallData.getMinutelyWeatherForecastList().size());
+		for (int i = 0; i < minutely.length(); i++) {
+			MinutelyWeatherForecast minutelyWeatherForecast = new MinutelyWeatherForecast(minutely.getJSONObject(i));
+			assertEquals(minutelyWeatherForecast.toString(), oneCallData.getMinutelyWeatherForecastList().get(i).toString());
+		}
+		
+		JSONArray hourly = oneCallJson.getJSONArray("hourly");
+		assertEquals(hourly.length(), oneCallData.getHourlyWeatherForecastList().size());
+		for (int i = 0; i < hourly.length(); i++) {
+			HourlyWeatherForecast hourlyWeatherForecast = new HourlyWeatherForecast(hourly.getJSONObject(i));
+			assertEquals(hourlyWeatherForecast.toString(), oneCallData.getHourlyWeatherForecastList().get(i).toString());
+		}
+		
+		JSONArray daily = oneCallJson.getJSONArray("daily");
+		assertEquals(daily.length(), oneCallData.getDailyWeatherForecastList().size());
+		for (int i = 0; i < daily.length(); i++) {
+			DailyWeatherForecast dailyWeatherForecast = new DailyWeatherForecast(daily.getJSONObject(i));
+			assertEquals(dailyWeatherForecast.toString(), oneCallData.getDailyWeatherForecastList().get(i).toString());
+		}
+		
+		WeatherAlert weatherAlert = new WeatherAlert(oneCallJson.getJSONArray("alerts").getJSONObject(0));
+		assertEquals(1, oneCallData.getWeatherAlertsList().size());
+		assertEquals(weatherAlert.toString(), oneCallData.getWeatherAlertsList().get(0).toString());
+	}
+	
+	/**
+	 * Test that a response shared by places at the same coordinates is bound to each of them without being changed
+	 */
+	@Test
+	public void sharedByPlacesTest() throws IOException {
+		OneCallData oneCallData = parse(oneCallJson.toString());
+		Coordinates coordinates = new Coordinates(48.8566, 2.3522);
+		
+		Place firstPlace = new Place.Builder(new Geolocation("place0", coordinates), new Properties(0, 0, 0, "place0"))
+				  .updateWithOWMWeatherData(oneCallData)
+				  .build();
+		Place secondPlace = new Place.Builder(new Geolocation("place1", coordinates), new Properties(0, 0, 1, "place1"))
+				  .updateWithOWMWeatherData(oneCallData)
+				  .build();
+		
+		assertEquals("place0", firstPlace.getCurrentWeather().getPlaceId());
+		assertEquals("place1", secondPlace.getCurrentWeather().getPlaceId());
+		assertEquals("place0", firstPlace.getHourlyWeatherForecast(0).getPlaceId());
+		assertEquals("place1", secondPlace.getHourlyWeatherForecast(0).getPlaceId());
+		assertEquals("place0", firstPlace.getWeatherAlertsList().get(0).getPlaceId());
+		assertEquals("place1", secondPlace.getWeatherAlertsList().get(0).getPlaceId());
+		assertEquals(oneCallData.getHourlyWeatherForecastList().size(), secondPlace.getHourlyWeatherForecastList().size());
+		
+		//	The decoded entities still belong to no place
+		assertEquals("", oneCallData.getCurrentWeather().getPlaceId());
+		assertEquals("", oneCallData.getHourlyWeatherForecastList().get(0).getPlaceId());
+		assertEquals("", oneCallData.getWeatherAlertsList().get(0).getPlaceId());
+	}
+	
+	/**
+	 * Test that optional data can be missing and that required data cannot
+	 */
+	@Test
+	public void missingDataTest() throws IOException, JSONException {
+		oneCallJson.remove("minutely");
+		oneCallJson.remove("alerts");
+		
+		OneCallData oneCallData = parse(oneCallJson.toString());
+		assertEquals(0, oneCallData.getMinutelyWeatherForecastList().size());
+		assertEquals(0, oneCallData.getWeatherAlertsList().size());
+		
+		oneCallJson.getJSONObject("current").remove("wind_speed");
+		assertThrows(MalformedJsonException.class, () -> parse(oneCallJson.toString()));
+		
+		oneCallJson.remove("daily");
+		assertThrows(MalformedJsonException.class, () -> parse(oneCallJson.toString()));
+		
+		assertThrows(IOException.class, () -> parse("{\"current\": "));
+	}
+}
@@ -0,0 +1,253 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import fr.qgdev.openweather.metrics.AirQuality;
+import fr.qgdev.openweather.metrics.CurrentWeather;
+import fr.qgdev.openweather.metrics.DailyWeatherForecast;
+import fr.qgdev.openweather.metrics.HourlyWeatherForecast;
+import fr.qgdev.openweather.metrics.WeatherAlert;
+
+/**
+ * Test metrics.
+ * <p>
+ * Used to build metrics in tests, metrics are immutable so values are changed before they are built.
+ * Every value defaults to a valid one.
+ */
+public class TestMetrics {
+
+	private TestMetrics() {
+	}
+
+	/**
+	 * Build a current weather
+	 *
+	 * @param changes the changes to apply to the default values
+	 * @return the current weather
+	 */
+	public static CurrentWeather currentWeather(Consumer<CurrentWeatherValues> changes) {
+		CurrentWeatherValues values = new CurrentWeatherValues();
+		changes.accept(values);
+		return values.build();
+	}
+
+	/**
+	 * Build an hourly weather forecast
+	 *
+	 * @param changes the changes to apply to the default values
+	 * @return the hourly weather forecast
+	 */
+	public static HourlyWeatherForecast hourlyWeatherForecast(Consumer<HourlyWeatherForecastValues> changes) {
+		HourlyWeatherForecastValues values = new HourlyWeatherForecastValues();
+		changes.accept(values);
+		return values.build();
+	}
+
+	/**
+	 * Build a daily weather forecast
+	 *
+	 * @param changes the changes to apply to the default values
+	 * @return the daily weather forecast
+	 */
+	public static DailyWeatherForecast dailyWeatherForecast(Consumer<DailyWeatherForecastValues> changes) {
+		DailyWeatherForecastValues values = new DailyWeatherForecastValues();
+		changes.accept(values);
+		return values.build();
+	}
+
+	/**
+	 * Build an air quality
+	 *
+	 * @param changes the changes to apply to the default values
+	 * @return the air quality
+	 */
+	public static AirQuality airQuality(Consumer<AirQualityValues> changes) {
+		AirQualityValues values = new AirQualityValues();
+		changes.accept(values);
+		return values.build();
+	}
+
+	/**
+	 * Build a weather alert
+	 *
+	 * @param changes the changes to apply to the default values
+	 * @return the weather alert
+	 */
+	public static WeatherAlert weatherAlert(Consumer<WeatherAlertValues> changes) {
+		WeatherAlertValues values = new WeatherAlertValues();
+		changes.accept(values);
+		return values.build();
+	}
+
+	/**
+	 * Values of a current weather
+	 */
+	public static class CurrentWeatherValues {
+		public String placeId = "";
+		public long dt = 0;
+		public String weather = "";
+		public String weatherDescription = "";
+		public int weatherCode = 0;
+		public float temperature = 0;
+		public float temperatureFeelsLike = 0;
+		public int pressure = 0;
+		public int humidity = 0;
+		public float dewPoint = 0;
+		public int cloudiness = 0;
+		public int uvIndex = 0;
+		public int visibility = 0;
+		public long sunriseDt = 0;
+		public long sunsetDt = 0;
+		public float windSpeed = 0;
+		public float windGustSpeed = 0;
+		public boolean isWindDirectionReadable = false;
+		public short windDirection = 0;
+		public float rain = 0;
+		public float snow = 0;
+
+		public CurrentWeather build() {
+			return new CurrentWeather(placeId, dt, weather, weatherDescription, weatherCode,
+					  temperature, temperatureFeelsLike, pressure, humidity, dewPoint,
+					  cloudiness, uvIndex, visibility, sunriseDt, sunsetDt,
+					  windSpeed, windGustSpeed, isWindDirectionReadable, windDirection, rain, snow);
+		}
+	}
+
+	/**
+	 * Values of an hourly weather forecast
+	 */
+	public static class HourlyWeatherForecastValues {
+		public String placeId = "";
+		public long dt = 0;
+		public String weather = "";
+		public String weatherDescription = "";
+		public int weatherCode = 0;
+		public float temperature = 0;
+		public float temperatureFeelsLike = 0;
+		public int pressure = 0;
+		public int humidity = 0;
+		public float dewPoint = 0;
+		public int cloudiness = 0;
+		public int visibility = 0;
+		public int uvIndex = 0;
+		public float windSpeed = 0;
+		public float windGustSpeed = 0;
+		public short windDirection = 0;
+		public float pop = 0;
+		public float rain = 0;
+		public float snow = 0;
+
+		public HourlyWeatherForecast build() {
+			return new HourlyWeatherForecast(placeId, dt, weather, weatherDescription, weatherCode,
+					  temperature, temperatureFeelsLike, pressure, humidity, dewPoint,
+					  cloudiness, visibility, uvIndex, windSpeed, windGustSpeed, windDirection,
+					  pop, rain, snow);
+		}
+	}
+
+	/**
+	 * Values of a daily weather forecast
+	 */
+	public static class DailyWeatherForecastValues {
+		public String placeId = "";
+		//	The time of a daily forecast can't be null
+		public long dt = 86400000L;
+		public String weather = "";
+		public String weatherDescription = "";
+		public int weatherCode = 0;
+		public float temperatureMorning = 0;
+		public float temperatureDay = 0;
+		public float temperatureEvening = 0;
+		public float temperatureNight = 0;
+		public float temperatureMinimum = 0;
+		public float temperatureMaximum = 0;
+		public float temperatureMorningFeelsLike = 0;
+		public float temperatureDayFeelsLike = 0;
+		public float temperatureEveningFeelsLike = 0;
+		public float temperatureNightFeelsLike = 0;
+		public int pressure = 0;
+		public int humidity = 0;
+		public float dewPoint = 0;
+		public int cloudiness = 0;
+		public long sunriseDt = 0;
+		public long sunsetDt = 0;
+		public int uvIndex = 0;
+		public long moonriseDt = 0;
+		public long moonsetDt = 0;
+		public float moonPhase = 0;
+		public float windSpeed = 0;
+		public float windGustSpeed = 0;
+		public short windDirection = 0;
+		public float pop = 0;
+		public float rain = 0;
+		public float snow = 0;
+
+		public DailyWeatherForecast build() {
+			return new DailyWeatherForecast(placeId, dt, weather, weatherDescription, weatherCode,
+					  temperatureMorning, temperatureDay, temperatureEvening, temperatureNight, temperatureMinimum, temperatureMaximum,
+					  temperatureMorningFeelsLike, temperatureDayFeelsLike, temperatureEveningFeelsLike, temperatureNightFeelsLike,
+					  pressure, humidity, dewPoint, cloudiness, sunriseDt, sunsetDt, uvIndex,
+					  moonriseDt, moonsetDt, moonPhase, windSpeed, windGustSpeed, windDirection,
+					  pop, rain, snow);
+		}
+	}
+
+	/**
+	 * Values of an air quality
+	 */
+	public static class AirQualityValues {
+		public String placeId = "";
+		public int aqi = 1;
+		public float co = 0;
+		public float no = 0;
+		public float no2 = 0;
+		public float o3 = 0;
+		public float so2 = 0;
+		public float pm2_5 = 0;
+		public float pm10 = 0;
+		public float nh3 = 0;
+
+		public AirQuality build() {
+			return new AirQuality(placeId, aqi, co, no, no2, o3, so2, pm2_5, pm10, nh3);
+		}
+	}
+
+	/**
+	 * Values of a weather alert
+	 */
+	public static class WeatherAlertValues {
+		public String placeId = "";
+		public String sender = "";
+		public String event = "";
+		public long startDt = 0;
+		public long endDt = 0;
+		public String description = "";
+		public List<String> tags = new ArrayList<>();
+
+		public WeatherAlert build() {
+			return new WeatherAlert(sender, event, startDt, endDt, description, tags, placeId);
+		}
+	}
+}
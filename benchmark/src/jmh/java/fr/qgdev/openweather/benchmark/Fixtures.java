@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixtures
+ * <p>
+ *    Loads the OpenWeatherMap responses used by benchmarks.
+ *    onecall.json and air_pollution.json follow the shape and size of real responses for Paris:
+ *    60 minutely, 48 hourly and 8 daily forecasts and one weather alert.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+final class Fixtures {
+	
+	static final String ONE_CALL = "onecall.json";
+	static final String AIR_POLLUTION = "air_pollution.json";
+	
+	private Fixtures() {
+	}
+	
+	/**
+	 * Read a fixture
+	 *
+	 * @param name the file name of the fixture
+	 * @return the content of the fixture
+	 * @throws IOException if the fixture cannot be read
+	 */
+	static String read(String name) throws IOException {
+		try (InputStream inputStream = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+			if (inputStream == null) throw new IOException("Cannot find fixture " + name + " !");
+			return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
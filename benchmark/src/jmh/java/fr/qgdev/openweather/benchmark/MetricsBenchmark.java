@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.benchmark;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+import fr.qgdev.openweather.metrics.AirQuality;
+import fr.qgdev.openweather.metrics.CurrentWeather;
+import fr.qgdev.openweather.metrics.DailyWeatherForecast;
+import fr.qgdev.openweather.metrics.HourlyWeatherForecast;
+
+/**
+ * MetricsBenchmark
+ * <p>
+ *    Measures the JSONObject constructors of the metrics.
+ *    JSON objects are built once from the fixtures, only the constructors are measured.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+	
+	private JSONObject currentWeatherJSON;
+	private JSONObject hourlyWeatherForecastJSON;
+	private JSONObject dailyWeatherForecastJSON;
+	private JSONObject airQualityJSON;
+	
+	@Setup
+	public void setUp() throws IOException, JSONException {
+		JSONObject oneCallJSON = new JSONObject(Fixtures.read(Fixtures.ONE_CALL));
+		
+		currentWeatherJSON = oneCallJSON.getJSONObject("current");
+		hourlyWeatherForecastJSON = oneCallJSON.getJSONArray("hourly").getJSONObject(0);
+		dailyWeatherForecastJSON = oneCallJSON.getJSONArray("daily").getJSONObject(0);
+		airQualityJSON = new JSONObject(Fixtures.read(Fixtures.AIR_POLLUTION));
+	}
+	
+	@Benchmark
+	public CurrentWeather currentWeather() throws JSONException {
+		return new CurrentWeather(currentWeatherJSON);
+	}
+	
+	@Benchmark
+	public HourlyWeatherForecast hourlyWeatherForecast() throws JSONException {
+		return new HourlyWeatherForecast(hourlyWeatherForecastJSON);
+	}
+	
+	@Benchmark
+	public DailyWeatherForecast dailyWeatherForecast() throws JSONException {
+		return new DailyWeatherForecast(dailyWeatherForecastJSON);
+	}
+	
+	@Benchmark
+	public AirQuality airQuality() throws JSONException {
+		return new AirQuality(airQualityJSON);
+	}
+}
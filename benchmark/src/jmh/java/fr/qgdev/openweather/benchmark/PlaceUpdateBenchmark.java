@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.benchmark;
+
+import com.google.gson.stream.JsonReader;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import fr.qgdev.openweather.repositories.places.Coordinates;
+import fr.qgdev.openweather.repositories.places.Geolocation;
+import fr.qgdev.openweather.repositories.places.Place;
+import fr.qgdev.openweather.repositories.places.Properties;
+import fr.qgdev.openweather.repositories.weather.OneCallData;
+
+/**
+ * PlaceUpdateBenchmark
+ * <p>
+ *    Measures the update of a place with a whole onecall response.
+ *    The update from an already built JSONObject only measures the walk of the response,
+ *    the update from the raw response also measures the JSONObject construction
+ *    and is the one to compare with the streaming decoding.
+ *    Each update builds a new snapshot of the place, so the base place is never changed.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+@State(Scope.Benchmark)
+public class PlaceUpdateBenchmark {
+	
+	private String oneCallResponse;
+	private JSONObject oneCallJSON;
+	private Place place;
+	
+	@Setup
+	public void setUp() throws IOException, JSONException {
+		oneCallResponse = Fixtures.read(Fixtures.ONE_CALL);
+		oneCallJSON = new JSONObject(oneCallResponse);
+		
+		String placeId = "benchmark";
+		place = new Place(new Geolocation(placeId, "Paris", "FR", new Coordinates(48.8534, 2.3488)),
+				  new Properties(0, 7200, 0, placeId));
+	}
+	
+	@Benchmark
+	public Place updateWithOWMWeatherData() throws JSONException {
+		return place.toBuilder().updateWithOWMWeatherData(oneCallJSON).build();
+	}
+	
+	@Benchmark
+	public Place updateWithOWMWeatherDataFromResponse() throws JSONException {
+		return place.toBuilder().updateWithOWMWeatherData(new JSONObject(oneCallResponse)).build();
+	}
+	
+	@Benchmark
+	public Place updateWithStreamedOneCallData() throws IOException {
+		try (JsonReader reader = new JsonReader(new StringReader(oneCallResponse))) {
+			return place.toBuilder().updateWithOWMWeatherData(OneCallData.parse(reader)).build();
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.qgdev.openweather.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+
+import fr.qgdev.openweather.repositories.places.StringListTypeConverter;
+
+/**
+ * StringListTypeConverterBenchmark
+ * <p>
+ *    Measures the conversions done by Room for every weather alert tags read or written.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+@State(Scope.Benchmark)
+public class StringListTypeConverterBenchmark {
+	
+	private List<String> tags;
+	private String tagsString;
+	
+	@Setup
+	public void setUp() {
+		tags = Arrays.asList("Thunderstorm", "Wind", "Flood");
+		tagsString = StringListTypeConverter.fromList(tags);
+	}
+	
+	@Benchmark
+	public String fromList() {
+		return StringListTypeConverter.fromList(tags);
+	}
+	
+	@Benchmark
+	public List<String> fromString() {
+		return StringListTypeConverter.fromString(tagsString);
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2019 - 2024
+ *  QGdev - Quentin GOMES DOS REIS
+ *
+ *  This file is part of OpenWeather.
+ *
+ *  OpenWeather is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  OpenWeather is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with OpenWeather. If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.qgdev.openweather.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import fr.qgdev.openweather.repositories.UnitFormatter;
+
+/**
+ * UnitFormatterBenchmark
+ * <p>
+ *    Measures the formatting of the temperature labels of an hourly graph, 48 values per invocation.
+ *    The stringFormat benchmarks are the String.format calls done by the FormattingService before UnitFormatter.
+ * </p>
+ *
+ * @author Quentin GOMES DOS REIS
+ * @version 1
+ */
+@State(Scope.Benchmark)
+public class UnitFormatterBenchmark {
+	
+	private static final int HOURLY_FORECASTS = 48;
+	
+	private final Locale locale = Locale.FRANCE;
+	private final StringBuilder stringBuilder = new StringBuilder(16);
+	private float[] temperatures;
+	private UnitFormatter temperatureFormatterInt;
+	private UnitFormatter temperatureFormatterFloat;
+	
+	private static float toCelsius(float temperature) {
+		return temperature - 273.15F;
+	}
+	
+	@Setup
+	public void setUp() {
+		//	A day and night cycle in Kelvin, like the hourly forecasts
+		temperatures = new float[HOURLY_FORECASTS];
+		for (int i = 0; i < HOURLY_FORECASTS; i++) {
+			temperatures[i] = 285.37F + 6.2F * (float) Math.sin(i * Math.PI / 12);
+		}
+		
+		temperatureFormatterInt = UnitFormatter.ofInteger(UnitFormatterBenchmark::toCelsius, "°", "C", locale);
+		temperatureFormatterFloat = UnitFormatter.ofDecimal(UnitFormatterBenchmark::toCelsius, 1, "°", "C", locale);
+	}
+	
+	@Benchmark
+	public void stringFormatInt(Blackhole blackhole) {
+		for (float temperature : temperatures) {
+			blackhole.consume(String.format(locale, "%d%s°%s", BigDecimal.valueOf(toCelsius(temperature)).intValue(), "", "C"));
+		}
+	}
+	
+	@Benchmark
+	public void formatInt(Blackhole blackhole) {
+		for (float temperature : temperatures) {
+			blackhole.consume(temperatureFormatterInt.format(temperature, false, true));
+		}
+	}
+	
+	@Benchmark
+	public void stringFormatFloat(Blackhole blackhole) {
+		for (float temperature : temperatures) {
+			blackhole.consume(String.format(locale, "%.1f%s°%s", toCelsius(temperature), "", "C"));
+		}
+	}
+	
+	@Benchmark
+	public void formatFloat(Blackhole blackhole) {
+		for (float temperature : temperatures) {
+			blackhole.consume(temperatureFormatterFloat.format(temperature, false, true));
+		}
+	}
+	
+	@Benchmark
+	public void renderFloat(Blackhole blackhole) {
+		for (float temperature : temperatures) {
+			blackhole.consume(temperatureFormatterFloat.render(temperature, false, true));
+		}
+	}
+	
+	@Benchmark
+	public void appendFloat(Blackhole blackhole) {
+		for (float temperature : temperatures) {
+			stringBuilder.setLength(0);
+			blackhole.consume(temperatureFormatterFloat.append(stringBuilder, temperature, false, true));
+		}
+	}
+}